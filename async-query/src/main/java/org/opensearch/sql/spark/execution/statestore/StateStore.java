@@ -9,8 +9,11 @@ import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.IOUtils;
@@ -19,6 +22,7 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetRequest;
@@ -27,11 +31,12 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
-import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.regex.Regex;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
@@ -64,6 +69,11 @@ import org.opensearch.transport.client.Client;
 /**
  * State Store maintain the state of Session and Statement. State State create/update/get doc on
  * index regardless user FGAC permissions.
+ *
+ * <p>Writes don't wait for a refresh and docs are read with realtime gets, which see the latest
+ * write without a refresh, so a state transition costs a single write instead of a refresh
+ * interval. Only {@link #count(String, QueryBuilder)} searches the index, it refreshes the indices
+ * written by this store since their last count first, so that counts see the writes of this node.
  */
 @RequiredArgsConstructor
 public class StateStore {
@@ -76,6 +86,9 @@ public class StateStore {
   private final Client client;
   private final ClusterService clusterService;
 
+  /** Indices written since the last refresh by {@link #count(String, QueryBuilder)}. */
+  private final Set<String> unrefreshedIndices = ConcurrentHashMap.newKeySet();
+
   @VisibleForTesting
   public <T extends StateModel> T create(
       String docId, T st, CopyBuilder<T> builder, String indexName) {
@@ -90,11 +103,11 @@ public class StateStore {
               .source(serializer.toXContent(st, ToXContent.EMPTY_PARAMS))
               .setIfSeqNo(getSeqNo(st))
               .setIfPrimaryTerm(getPrimaryTerm(st))
-              .create(true)
-              .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+              .create(true);
       try (ThreadContext.StoredContext ignored =
           client.threadPool().getThreadContext().stashContext()) {
         IndexResponse indexResponse = client.index(indexRequest).actionGet();
+        unrefreshedIndices.add(indexName);
         if (indexResponse.getResult().equals(DocWriteResponse.Result.CREATED)) {
           LOG.debug("Successfully created doc. id: {}", st.getId());
           return builder.of(
@@ -123,7 +136,7 @@ public class StateStore {
         createIndex(indexName);
         return Optional.empty();
       }
-      GetRequest getRequest = new GetRequest().index(indexName).id(sid).refresh(true);
+      GetRequest getRequest = new GetRequest().index(indexName).id(sid).realtime(true);
       try (ThreadContext.StoredContext ignored =
           client.threadPool().getThreadContext().stashContext()) {
         GetResponse getResponse = client.get(getRequest).actionGet();
@@ -160,11 +173,11 @@ public class StateStore {
               .setIfSeqNo(getSeqNo(model))
               .setIfPrimaryTerm(getPrimaryTerm(model))
               .doc(serializer.toXContent(model, ToXContent.EMPTY_PARAMS))
-              .fetchSource(true)
-              .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+              .fetchSource(true);
       try (ThreadContext.StoredContext ignored =
           client.threadPool().getThreadContext().stashContext()) {
         UpdateResponse updateResponse = client.update(updateRequest).actionGet();
+        unrefreshedIndices.add(indexName);
         LOG.debug("Successfully update doc. id: {}", st.getId());
         return builder.of(
             model,
@@ -239,6 +252,7 @@ public class StateStore {
 
   @VisibleForTesting
   public long count(String indexName, QueryBuilder query) {
+    refreshWrittenIndices(indexName);
     SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
     searchSourceBuilder.query(query);
     searchSourceBuilder.size(0);
@@ -264,6 +278,30 @@ public class StateStore {
     }
   }
 
+  /** Refresh the indices matching the index name which have been written since their refresh. */
+  private void refreshWrittenIndices(String indexName) {
+    String[] indices =
+        unrefreshedIndices.stream()
+            .filter(index -> Regex.simpleMatch(indexName, index))
+            .filter(unrefreshedIndices::remove)
+            .toArray(String[]::new);
+    if (indices.length == 0) {
+      return;
+    }
+    try (ThreadContext.StoredContext ignored =
+        client.threadPool().getThreadContext().stashContext()) {
+      client
+          .admin()
+          .indices()
+          .refresh(new RefreshRequest(indices).indicesOptions(IndicesOptions.lenientExpandOpen()))
+          .actionGet();
+    } catch (RuntimeException e) {
+      // The writes are still not visible, the next count refreshes the indices again
+      unrefreshedIndices.addAll(List.of(indices));
+      throw e;
+    }
+  }
+
   private String loadConfigFromResource(String fileName) throws IOException {
     InputStream fileStream = StateStore.class.getClassLoader().getResourceAsStream(fileName);
     return IOUtils.toString(fileStream, StandardCharsets.UTF_8);
@@ -276,7 +276,6 @@ public class AsyncQueryExecutorServiceSpec extends OpenSearchIntegTestCase {
   protected AsyncQueryExecutorService createAsyncQueryExecutorService(
       EMRServerlessClientFactory emrServerlessClientFactory,
       JobExecutionResponseReader jobExecutionResponseReader) {
-    StateStore stateStore = new StateStore(client, clusterService);
     AsyncQueryJobMetadataStorageService asyncQueryJobMetadataStorageService =
         new OpenSearchAsyncQueryJobMetadataStorageService(
             stateStore, new AsyncQueryJobMetadataXContentSerializer());
@@ -488,6 +487,8 @@ public class AsyncQueryExecutorServiceSpec extends OpenSearchIntegTestCase {
   }
 
   int search(QueryBuilder query) {
+    // state store writes don't wait for a refresh
+    client.admin().indices().prepareRefresh(getIndexName(MYS3_DATASOURCE)).get();
     SearchRequest searchRequest = new SearchRequest();
     searchRequest.indices(getIndexName(MYS3_DATASOURCE));
     SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
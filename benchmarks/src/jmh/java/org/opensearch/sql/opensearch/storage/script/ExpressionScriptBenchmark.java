@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
+
+/**
+ * Evaluation of a filter script expression on the documents of a leaf, as the filter and
+ * aggregation scripts do on data nodes.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ExpressionScriptBenchmark {
+
+  private static final int DOCS = 1024;
+
+  private final FakeScriptDocValues age = new FakeScriptDocValues();
+
+  private final FakeScriptDocValues balance = new FakeScriptDocValues();
+
+  private final FakeScriptDocValues name = new FakeScriptDocValues();
+
+  private ExpressionScript.Leaf leaf;
+
+  @Setup
+  public void setUp() {
+    Expression expression =
+        DSL.and(
+            DSL.and(
+                DSL.greater(ref("age", INTEGER), literal(20)),
+                DSL.less(ref("balance", DOUBLE), literal(1000.0))),
+            DSL.equal(ref("name", STRING), literal("John")));
+    Map<String, ScriptDocValues<?>> docValues = new HashMap<>();
+    docValues.put("age", age);
+    docValues.put("balance", balance);
+    docValues.put("name", name);
+    leaf = new ExpressionScript(expression).newLeaf(() -> docValues, Expression::valueOf);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DOCS)
+  public void evaluateLeaf(Blackhole blackhole) {
+    for (int doc = 0; doc < DOCS; doc++) {
+      age.value = (long) doc;
+      balance.value = doc * 1.5;
+      name.value = (doc & 1) == 0 ? "John" : "Jane";
+      blackhole.consume(leaf.execute());
+    }
+  }
+
+  /** Doc values of a single value, which is set by the benchmark for each document. */
+  private static class FakeScriptDocValues extends ScriptDocValues<Object> {
+    private Object value;
+
+    @Override
+    public void setNextDocId(int docId) {}
+
+    @Override
+    public Object get(int index) {
+      return value;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.ppl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.statistics.FieldStatistics;
+
+/**
+ * Index served by {@link InMemoryOpenSearchClient}, with its mapping and documents. The documents
+ * are generated from a fixed seed, so every run of a benchmark reads the same data.
+ */
+final class BenchmarkIndex {
+
+  /** Access logs of web servers. */
+  static final String LOGS = "bench_logs";
+
+  /** Hosts of the access logs, which is small enough to be a lookup table. */
+  static final String HOSTS = "bench_hosts";
+
+  /** Documents of many fields. */
+  static final String WIDE = "bench_wide";
+
+  private static final long SEED = 42L;
+
+  private static final int HOST_COUNT = 50;
+
+  private static final long START = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+  private static final long MINUTE = 60_000L;
+
+  private static final String[] METHODS = {"GET", "GET", "GET", "POST", "PUT", "DELETE"};
+
+  private static final int[] STATUSES = {200, 200, 200, 200, 201, 301, 404, 500, 503};
+
+  private static final String[] RESOURCES = {"users", "orders", "items", "carts", "payments"};
+
+  private static final String[] REGIONS = {"us-east", "us-west", "eu-central", "ap-south"};
+
+  private final String name;
+
+  private final IndexMapping mapping;
+
+  private final List<Map<String, Object>> documents;
+
+  /** Hits of the documents, each sorted by its position for search_after. */
+  private final SearchHit[] hits;
+
+  private BenchmarkIndex(
+      String name, Map<String, Object> properties, List<Map<String, Object>> documents) {
+    this.name = name;
+    this.mapping = new IndexMapping(new MappingMetadata("_doc", Map.of("properties", properties)));
+    this.documents = documents;
+    this.hits = new SearchHit[documents.size()];
+    for (int i = 0; i < hits.length; i++) {
+      hits[i] = new SearchHit(i, String.valueOf(i), Map.of(), Map.of());
+      hits[i].sourceRef(toJson(documents.get(i)));
+      hits[i].sortValues(new Object[] {(long) i}, new DocValueFormat[] {DocValueFormat.RAW});
+    }
+  }
+
+  /**
+   * Access logs of one request per minute.
+   *
+   * @param size number of documents
+   */
+  static BenchmarkIndex logs(int size) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("@timestamp", Map.of("type", "date"));
+    properties.put("host", Map.of("type", "keyword"));
+    properties.put("method", Map.of("type", "keyword"));
+    properties.put("status", Map.of("type", "integer"));
+    properties.put("bytes", Map.of("type", "long"));
+    properties.put("latency", Map.of("type", "double"));
+    properties.put(
+        "message",
+        Map.of("type", "text", "fields", Map.of("keyword", Map.of("type", "keyword"))));
+
+    Random random = new Random(SEED);
+    List<Map<String, Object>> documents = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      String method = METHODS[random.nextInt(METHODS.length)];
+      int status = STATUSES[random.nextInt(STATUSES.length)];
+      double latency = random.nextDouble() * 1000;
+      Map<String, Object> document = new LinkedHashMap<>();
+      document.put("@timestamp", Instant.ofEpochMilli(START + i * MINUTE).toString());
+      document.put("host", "host-" + random.nextInt(HOST_COUNT));
+      document.put("method", method);
+      document.put("status", status);
+      document.put("bytes", (long) random.nextInt(100_000));
+      document.put("latency", latency);
+      document.put(
+          "message",
+          String.format(
+              Locale.ROOT,
+              "%s /api/v1/%s/%d returned %d in %d ms",
+              method,
+              RESOURCES[random.nextInt(RESOURCES.length)],
+              random.nextInt(1000),
+              status,
+              (int) latency));
+      documents.add(document);
+    }
+    return new BenchmarkIndex(LOGS, properties, documents);
+  }
+
+  /** Hosts of {@link #logs(int)}, with their region and rack. */
+  static BenchmarkIndex hosts() {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("host", Map.of("type", "keyword"));
+    properties.put("region", Map.of("type", "keyword"));
+    properties.put("rack", Map.of("type", "integer"));
+
+    List<Map<String, Object>> documents = new ArrayList<>(HOST_COUNT);
+    for (int i = 0; i < HOST_COUNT; i++) {
+      Map<String, Object> document = new LinkedHashMap<>();
+      document.put("host", "host-" + i);
+      document.put("region", REGIONS[i % REGIONS.length]);
+      document.put("rack", i / 10);
+      documents.add(document);
+    }
+    return new BenchmarkIndex(HOSTS, properties, documents);
+  }
+
+  /**
+   * Documents of alternating long and keyword fields, named field_0, field_1 and so on.
+   *
+   * @param size number of documents
+   * @param fields number of fields of each document
+   */
+  static BenchmarkIndex wide(int size, int fields) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    for (int field = 0; field < fields; field++) {
+      properties.put("field_" + field, Map.of("type", field % 2 == 0 ? "long" : "keyword"));
+    }
+
+    Random random = new Random(SEED);
+    List<Map<String, Object>> documents = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Map<String, Object> document = new LinkedHashMap<>();
+      for (int field = 0; field < fields; field++) {
+        document.put(
+            "field_" + field,
+            field % 2 == 0 ? (long) random.nextInt(1000) : "value-" + random.nextInt(100));
+      }
+      documents.add(document);
+    }
+    return new BenchmarkIndex(WIDE, properties, documents);
+  }
+
+  String getName() {
+    return name;
+  }
+
+  IndexMapping getMapping() {
+    return mapping;
+  }
+
+  int size() {
+    return hits.length;
+  }
+
+  /**
+   * @param from position of the first hit
+   * @param size largest number of hits
+   * @return hits of the documents from the given position
+   */
+  SearchHit[] getHits(int from, int size) {
+    int start = Math.min(from, hits.length);
+    return Arrays.copyOfRange(hits, start, Math.min(start + size, hits.length));
+  }
+
+  /**
+   * Statistics of a field, computed from the documents. The keyword sub-field of a text field has
+   * the values of the text field.
+   */
+  FieldStatistics getFieldStatistics(String field, boolean withRange) {
+    String path = field.endsWith(".keyword") ? field.substring(0, field.lastIndexOf('.')) : field;
+    List<Object> values =
+        documents.stream().map(document -> document.get(path)).filter(Objects::nonNull).toList();
+    long distinctCount = values.stream().distinct().count();
+    if (!withRange || values.isEmpty() || !(values.getFirst() instanceof Number)) {
+      return new FieldStatistics(distinctCount, null, null);
+    }
+    DoubleSummaryStatistics range =
+        values.stream().mapToDouble(value -> ((Number) value).doubleValue()).summaryStatistics();
+    return new FieldStatistics(distinctCount, range.getMin(), range.getMax());
+  }
+
+  private static BytesReference toJson(Map<String, Object> document) {
+    try {
+      return BytesReference.bytes(XContentFactory.jsonBuilder().map(document));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
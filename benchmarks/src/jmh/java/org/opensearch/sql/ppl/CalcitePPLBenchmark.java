@@ -0,0 +1,388 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.ppl;
+
+import static org.opensearch.sql.lang.PPLLangSpec.PPL_SPEC;
+
+import com.google.common.collect.ImmutableMap;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.rel.RelNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.analysis.Analyzer;
+import org.opensearch.sql.analysis.ExpressionAnalyzer;
+import org.opensearch.sql.ast.statement.Query;
+import org.opensearch.sql.ast.tree.UnresolvedPlan;
+import org.opensearch.sql.calcite.CalcitePlanContext;
+import org.opensearch.sql.calcite.utils.CalciteToolsHelper.OpenSearchRelRunners;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.datasource.DataSourceService;
+import org.opensearch.sql.datasource.RequestContext;
+import org.opensearch.sql.datasource.model.DataSource;
+import org.opensearch.sql.datasource.model.DataSourceMetadata;
+import org.opensearch.sql.datasource.model.DataSourceType;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.executor.QueryType;
+import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.monitor.AlwaysHealthyMonitor;
+import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
+import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.planner.Planner;
+import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
+import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
+import org.opensearch.sql.ppl.parser.AstBuilder;
+import org.opensearch.sql.ppl.parser.AstStatementBuilder;
+import org.opensearch.sql.ppl.parser.AstStatementBuilder.StatementBuilderContext;
+import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
+import org.opensearch.sql.protocol.response.format.ResponseFormatter;
+import org.opensearch.sql.protocol.response.format.SimpleJsonResponseFormatter;
+import org.opensearch.sql.storage.StorageEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PPL queries run by the Calcite engine on indices served from memory by {@link
+ * InMemoryOpenSearchClient}. Each phase of a query is a benchmark of its own, which only measures
+ * that phase:
+ *
+ * <ul>
+ *   <li>parse: PPL to AST
+ *   <li>analyze: AST to logical plan by {@code CalciteRelNodeVisitor}
+ *   <li>optimize: heuristic rules on the logical plan
+ *   <li>compile: physical planning and code generation of the logical plan
+ *   <li>execute: compile, then read the rows from the generated code
+ *   <li>format: rows to the JSON response
+ * </ul>
+ *
+ * <p>and query runs all of them as the PPL transport action does. Run with {@code -prof gc} for the
+ * allocation rate of each phase, see the README of this module.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+public class CalcitePPLBenchmark {
+
+  private static final Map<String, String> QUERIES =
+      ImmutableMap.<String, String>builder()
+          .put(
+              "scan_filter",
+              "source=bench_logs | where status >= 400 and bytes > 50000"
+                  + " | fields @timestamp, host, status, bytes")
+          .put(
+              "stats_span",
+              "source=bench_logs | stats count() as requests, avg(latency) as latency"
+                  + " by span(@timestamp, 1h)")
+          .put("dedup", "source=bench_logs | dedup host, status | fields host, status, bytes")
+          .put(
+              "join",
+              "source=bench_logs | join left = l right = r on l.host = r.host bench_hosts"
+                  + " | stats count() by region")
+          .put(
+              "lookup",
+              "source=bench_logs | lookup bench_hosts host append region"
+                  + " | fields host, region, status")
+          .put("patterns", "source=bench_logs | patterns message | fields message, patterns_field")
+          .put(
+              "eval",
+              "source=bench_logs | eval kb = bytes / 1024, slow = latency > 500,"
+                  + " kind = if(status >= 500, 'error', if(status >= 400, 'fail', 'ok')),"
+                  + " path = lower(concat(method, ' ', host)), score = abs(bytes - 50000) * 2 +"
+                  + " status | fields kb, slow, kind, path, score")
+          .put("wide", "source=bench_wide | where field_0 > 500")
+          .build();
+
+  /** Engine with the indices of the benchmark, and a query planned up to each phase. */
+  @State(Scope.Benchmark)
+  public static class Pipeline {
+
+    @Param({"scan_filter", "stats_span", "dedup", "join", "lookup", "patterns", "eval", "wide"})
+    public String query;
+
+    /** Number of documents of the logs index. */
+    @Param({"10000"})
+    public int docs;
+
+    private Settings settings;
+
+    private PPLSyntaxParser parser;
+
+    private QueryService queryService;
+
+    private ExecutionEngine executionEngine;
+
+    private ResponseFormatter<QueryResult> formatter;
+
+    private String ppl;
+
+    private UnresolvedPlan plan;
+
+    private CalcitePlanContext context;
+
+    private RelNode analyzed;
+
+    private QueryResponse response;
+
+    @Setup
+    public void setUp() {
+      settings = settings();
+      InMemoryOpenSearchClient client =
+          new InMemoryOpenSearchClient(
+              BenchmarkIndex.logs(docs), BenchmarkIndex.hosts(), BenchmarkIndex.wide(2000, 100));
+      StorageEngine storageEngine = new OpenSearchStorageEngine(client, settings);
+      DataSourceService dataSourceService = new BenchmarkDataSourceService(storageEngine);
+      BuiltinFunctionRepository functionRepository = BuiltinFunctionRepository.getInstance();
+      executionEngine =
+          new OpenSearchExecutionEngine(
+              client,
+              new OpenSearchExecutionProtector(new AlwaysHealthyMonitor()),
+              new PlanSerializer(storageEngine));
+      Analyzer analyzer =
+          new Analyzer(
+              new ExpressionAnalyzer(functionRepository), dataSourceService, functionRepository);
+      queryService =
+          new QueryService(
+              analyzer,
+              executionEngine,
+              new Planner(LogicalPlanOptimizer.create()),
+              dataSourceService,
+              settings);
+      parser = new PPLSyntaxParser();
+      formatter = new SimpleJsonResponseFormatter(JsonResponseFormatter.Style.PRETTY);
+
+      ppl = QUERIES.get(query);
+      plan = parse();
+      context = newContext();
+      analyzed = queryService.analyze(plan, context);
+      // Runs the query once, which also fails the benchmark early if the query is broken
+      response = respond(listener -> queryService.execute(plan, QueryType.PPL, listener));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+      context.connection.close();
+    }
+
+    private UnresolvedPlan parse() {
+      AstStatementBuilder builder =
+          new AstStatementBuilder(
+              new AstBuilder(ppl, settings), StatementBuilderContext.builder().build());
+      return ((Query) parser.parse(ppl).accept(builder)).getPlan();
+    }
+
+    private CalcitePlanContext newContext() {
+      return CalcitePlanContext.create(
+          queryService.buildFrameworkConfig(),
+          settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT),
+          QueryType.PPL);
+    }
+
+    private String format(QueryResponse response) {
+      return formatter.format(
+          new QueryResult(
+              response.getSchema(), response.getResults(), response.getCursor(), PPL_SPEC));
+    }
+  }
+
+  /** Plan of the query up to compilation, which is planned again for every invocation. */
+  @State(Scope.Thread)
+  public static class Plan {
+
+    private CalcitePlanContext context;
+
+    private RelNode rel;
+
+    @Setup(Level.Invocation)
+    public void setUp(Pipeline pipeline) {
+      context = pipeline.newContext();
+      RelNode analyzed = pipeline.queryService.analyze(pipeline.plan, context);
+      rel = QueryService.convertToCalcitePlan(pipeline.queryService.optimize(analyzed));
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() throws SQLException {
+      context.connection.close();
+    }
+  }
+
+  @Benchmark
+  public UnresolvedPlan parse(Pipeline pipeline) {
+    return pipeline.parse();
+  }
+
+  /** Includes the creation of the context, which connects to the Calcite schema. */
+  @Benchmark
+  public RelNode analyze(Pipeline pipeline) throws SQLException {
+    CalcitePlanContext context = pipeline.newContext();
+    try (Connection ignored = context.connection) {
+      return pipeline.queryService.analyze(pipeline.plan, context);
+    }
+  }
+
+  @Benchmark
+  public RelNode optimize(Pipeline pipeline) {
+    return pipeline.queryService.optimize(pipeline.analyzed);
+  }
+
+  @Benchmark
+  public Enumerable<Object> compile(Plan plan) throws SQLException {
+    return OpenSearchRelRunners.bind(plan.context, plan.rel);
+  }
+
+  @Benchmark
+  public QueryResponse execute(Pipeline pipeline, Plan plan) {
+    return respond(listener -> pipeline.executionEngine.execute(plan.rel, plan.context, listener));
+  }
+
+  @Benchmark
+  public String format(Pipeline pipeline) {
+    return pipeline.format(pipeline.response);
+  }
+
+  @Benchmark
+  public String query(Pipeline pipeline) {
+    UnresolvedPlan plan = pipeline.parse();
+    return pipeline.format(
+        respond(listener -> pipeline.queryService.execute(plan, QueryType.PPL, listener)));
+  }
+
+  /** Run an action of the engine, which responds on the calling thread. */
+  private static <T> T respond(Consumer<ResponseListener<T>> action) {
+    AtomicReference<T> response = new AtomicReference<>();
+    action.accept(
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(T value) {
+            response.set(value);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            throw new IllegalStateException("Failed to run the query", e);
+          }
+        });
+    return response.get();
+  }
+
+  /** Settings of the Calcite engine, without pushdown. */
+  private static Settings settings() {
+    Map<Settings.Key, Object> values =
+        ImmutableMap.<Settings.Key, Object>builder()
+            .put(Settings.Key.QUERY_SIZE_LIMIT, 10000)
+            .put(Settings.Key.SQL_CURSOR_KEEP_ALIVE, TimeValue.timeValueMinutes(1))
+            .put(Settings.Key.FIELD_TYPE_TOLERANCE, true)
+            .put(Settings.Key.CALCITE_ENGINE_ENABLED, true)
+            .put(Settings.Key.CALCITE_FALLBACK_ALLOWED, false)
+            .put(Settings.Key.CALCITE_PUSHDOWN_ENABLED, false)
+            .put(Settings.Key.CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR, 0.9)
+            .put(Settings.Key.CALCITE_PUSHDOWN_FEEDBACK_ENABLED, true)
+            .put(Settings.Key.CALCITE_LOOKUP_CACHE_MAX_ROWS, 10000)
+            .put(Settings.Key.CALCITE_CURSOR_MAX_OPEN, 50)
+            .put(Settings.Key.CALCITE_PARALLEL_MAX_THREADS, 1)
+            .put(Settings.Key.PATTERN_METHOD, "SIMPLE_PATTERN")
+            .put(Settings.Key.PATTERN_MODE, "LABEL")
+            .put(Settings.Key.PATTERN_MAX_SAMPLE_COUNT, 10)
+            .put(Settings.Key.PATTERN_BUFFER_LIMIT, 100000)
+            .build();
+    return new Settings() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T> T getSettingValue(Key key) {
+        return (T) values.get(key);
+      }
+
+      @Override
+      public List<?> getSettings() {
+        return List.copyOf(values.entrySet());
+      }
+    };
+  }
+
+  /** Data source service of the default OpenSearch data source only. */
+  private static class BenchmarkDataSourceService implements DataSourceService {
+
+    private final DataSource dataSource;
+
+    BenchmarkDataSourceService(StorageEngine storageEngine) {
+      this.dataSource =
+          new DataSource(
+              DataSourceMetadata.defaultOpenSearchDataSourceMetadata().getName(),
+              DataSourceType.OPENSEARCH,
+              storageEngine);
+    }
+
+    @Override
+    public DataSource getDataSource(String dataSourceName) {
+      return dataSource;
+    }
+
+    @Override
+    public Set<DataSourceMetadata> getDataSourceMetadata(boolean isDefaultDataSourceRequired) {
+      return Set.of(DataSourceMetadata.defaultOpenSearchDataSourceMetadata());
+    }
+
+    @Override
+    public DataSourceMetadata getDataSourceMetadata(String name) {
+      return DataSourceMetadata.defaultOpenSearchDataSourceMetadata();
+    }
+
+    @Override
+    public void createDataSource(DataSourceMetadata metadata) {
+      throw new UnsupportedOperationException("unsupported operation");
+    }
+
+    @Override
+    public void updateDataSource(DataSourceMetadata dataSourceMetadata) {
+      throw new UnsupportedOperationException("unsupported operation");
+    }
+
+    @Override
+    public void patchDataSource(Map<String, Object> dataSourceData) {
+      throw new UnsupportedOperationException("unsupported operation");
+    }
+
+    @Override
+    public void deleteDataSource(String dataSourceName) {
+      throw new UnsupportedOperationException("unsupported operation");
+    }
+
+    @Override
+    public Boolean dataSourceExists(String dataSourceName) {
+      return dataSource.getName().equals(dataSourceName);
+    }
+
+    @Override
+    public DataSourceMetadata verifyDataSourceAccessAndGetRawMetadata(
+        String dataSourceName, RequestContext context) {
+      return DataSourceMetadata.defaultOpenSearchDataSourceMetadata();
+    }
+  }
+}
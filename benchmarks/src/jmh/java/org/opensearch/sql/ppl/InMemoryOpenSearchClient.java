@@ -0,0 +1,196 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.ppl;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.FieldStatistics;
+import org.opensearch.sql.opensearch.storage.lookup.IndexVersion;
+import org.opensearch.transport.client.node.NodeClient;
+
+/**
+ * OpenSearch client which serves {@link BenchmarkIndex} documents from memory, so the query engine
+ * can be benchmarked without a cluster. A search request is answered with the canned page of hits
+ * selected by its from, size or search_after. The query, sorts and aggregations of the request are
+ * not evaluated, so it must be used with pushdown disabled.
+ */
+class InMemoryOpenSearchClient implements OpenSearchClient {
+
+  private static final int DEFAULT_SIZE = 10;
+
+  private static final int MAX_RESULT_WINDOW = 10000;
+
+  private final Map<String, BenchmarkIndex> indices = new LinkedHashMap<>();
+
+  InMemoryOpenSearchClient(BenchmarkIndex... indices) {
+    for (BenchmarkIndex index : indices) {
+      this.indices.put(index.getName(), index);
+    }
+  }
+
+  @Override
+  public boolean exists(String indexName) {
+    return indices.containsKey(indexName);
+  }
+
+  @Override
+  public void createIndex(String indexName, Map<String, Object> mappings) {
+    throw new UnsupportedOperationException("Indices can't be created in memory");
+  }
+
+  @Override
+  public Map<String, IndexMapping> getIndexMappings(String... indexExpression) {
+    Map<String, IndexMapping> mappings = new LinkedHashMap<>();
+    for (String indexName : indexExpression) {
+      mappings.put(indexName, index(indexName).getMapping());
+    }
+    return mappings;
+  }
+
+  @Override
+  public Map<String, Integer> getIndexMaxResultWindows(String... indexExpression) {
+    Map<String, Integer> maxResultWindows = new LinkedHashMap<>();
+    for (String indexName : indexExpression) {
+      maxResultWindows.put(index(indexName).getName(), MAX_RESULT_WINDOW);
+    }
+    return maxResultWindows;
+  }
+
+  @Override
+  public long getIndexDocCount(String... indexExpression) {
+    return Arrays.stream(indexExpression).mapToLong(indexName -> index(indexName).size()).sum();
+  }
+
+  @Override
+  public FieldStatistics getFieldStatistics(
+      String field, boolean withRange, String... indexExpression) {
+    return index(indexExpression[0]).getFieldStatistics(field, withRange);
+  }
+
+  /** The documents never change, so the version only depends on their number. */
+  @Override
+  public IndexVersion getIndexVersion(String... indexExpression) {
+    long docCount = getIndexDocCount(indexExpression);
+    return new IndexVersion(docCount, docCount - 1, docCount * (docCount - 1) / 2.0);
+  }
+
+  @Override
+  public OpenSearchResponse search(OpenSearchRequest request) {
+    return request.search(
+        this::search,
+        scrollRequest -> {
+          throw new UnsupportedOperationException("Scroll is not supported in memory");
+        });
+  }
+
+  private SearchResponse search(SearchRequest request) {
+    SearchSourceBuilder source = request.source();
+    if (source.aggregations() != null) {
+      throw new UnsupportedOperationException(
+          "Aggregations are not supported in memory, pushdown must be disabled");
+    }
+    // A PIT search has no index, but the PIT ID is the index name
+    BenchmarkIndex index =
+        index(
+            request.indices().length > 0
+                ? request.indices()[0]
+                : source.pointInTimeBuilder().getId());
+    int from =
+        source.searchAfter() != null
+            ? ((Number) source.searchAfter()[0]).intValue() + 1
+            : Math.max(source.from(), 0);
+    int size = source.size() >= 0 ? source.size() : DEFAULT_SIZE;
+    SearchHit[] hits = index.getHits(from, size);
+    return new SearchResponse(
+        new InternalSearchResponse(
+            new SearchHits(
+                hits, new TotalHits(index.size(), TotalHits.Relation.EQUAL_TO), Float.NaN),
+            null,
+            null,
+            null,
+            false,
+            false,
+            1),
+        null,
+        1,
+        1,
+        0,
+        0,
+        ShardSearchFailure.EMPTY_ARRAY,
+        SearchResponse.Clusters.EMPTY);
+  }
+
+  @Override
+  public List<String> indices() {
+    return List.copyOf(indices.keySet());
+  }
+
+  @Override
+  public Map<String, String> meta() {
+    return Map.of(META_CLUSTER_NAME, "benchmark");
+  }
+
+  @Override
+  public void cleanup(OpenSearchRequest request) {
+    request.clean(pitId -> {});
+  }
+
+  /** Tasks run on the calling thread, so their time is measured by the benchmark. */
+  @Override
+  public void schedule(Runnable task) {
+    task.run();
+  }
+
+  @Override
+  public void scheduleParallel(Runnable task) {
+    task.run();
+  }
+
+  @Override
+  public Optional<String> getSecurityContext() {
+    return Optional.empty();
+  }
+
+  /** There is no node client, so functions which need one, like geoip, can't be benchmarked. */
+  @Override
+  public NodeClient getNodeClient() {
+    return null;
+  }
+
+  @Override
+  public String createPit(CreatePitRequest createPitRequest) {
+    return String.join(",", createPitRequest.getIndices());
+  }
+
+  @Override
+  public void deletePit(DeletePitRequest deletePitRequest) {}
+
+  private BenchmarkIndex index(String indexName) {
+    BenchmarkIndex index = indices.get(indexName);
+    if (index == null) {
+      throw new IndexNotFoundException(indexName);
+    }
+    return index;
+  }
+}
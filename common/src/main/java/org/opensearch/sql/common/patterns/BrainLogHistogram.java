@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.patterns;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * Mergeable partial state of the Brain algorithm: the distinct preprocessed token lists of log
+ * messages with their number of occurrences and first sample messages. The token histograms of
+ * {@link BrainLogParser} are sums over these occurrences and the group token sets are unions of
+ * their tokens, so partial states built separately, e.g. per slice of the input, and merged give
+ * the same patterns as parsing all the log messages at once, while only holding distinct token
+ * lists in memory. A state holding too many token lists can be compacted into their patterns by
+ * {@link BrainLogParser#compact(BrainLogHistogram)}.
+ */
+public class BrainLogHistogram {
+
+  /** Max number of sample messages kept per distinct token list */
+  @Getter private final int maxSampleCount;
+
+  private final Map<List<String>, TokenSequence> tokenSequences;
+
+  /** Patterns with variables, by number of tokens, counting the log messages which match them */
+  private final Map<Integer, List<TokenSequence>> patternSequences = new HashMap<>();
+
+  /**
+   * -- GETTER -- Get number of log messages added
+   *
+   * @return number of log messages
+   */
+  @Getter private long logCount;
+
+  public BrainLogHistogram(int maxSampleCount) {
+    this.maxSampleCount = maxSampleCount;
+    this.tokenSequences = new LinkedHashMap<>();
+  }
+
+  /**
+   * Add a preprocessed log message
+   *
+   * @param tokens tokens of the preprocessed log message, without logId
+   * @param logMessage original log message, kept as sample
+   */
+  public void add(List<String> tokens, String logMessage) {
+    TokenSequence sequence = tokenSequences.get(tokens);
+    if (sequence == null) {
+      sequence = matchingPattern(tokens);
+    }
+    if (sequence == null) {
+      sequence = newSequence(tokens, false);
+    }
+    sequence.count++;
+    if (sequence.samples.size() < maxSampleCount) {
+      sequence.samples.add(new Sample(logCount, logMessage));
+    }
+    logCount++;
+  }
+
+  /**
+   * Merge another partial state into this one, as if its log messages were added after the ones
+   * of this state.
+   *
+   * @param other partial state to merge
+   */
+  public void merge(BrainLogHistogram other) {
+    for (TokenSequence otherSequence : other.tokenSequences.values()) {
+      TokenSequence sequence = tokenSequences.get(otherSequence.tokens);
+      if (sequence == null) {
+        sequence = newSequence(otherSequence.tokens, otherSequence.pattern);
+      }
+      sequence.count += otherSequence.count;
+      for (Sample sample : otherSequence.samples) {
+        if (sequence.samples.size() >= maxSampleCount) {
+          break;
+        }
+        sequence.samples.add(new Sample(logCount + sample.ordinal(), sample.logMessage()));
+      }
+    }
+    logCount += other.logCount;
+  }
+
+  /**
+   * Replace the distinct token lists by their patterns, adding up the occurrences of the ones of
+   * the same pattern and keeping their first samples. Log messages added later are counted with
+   * the first pattern they match, if any.
+   *
+   * @param patterns pattern of a distinct token list
+   */
+  void replaceByPatterns(Function<List<String>, List<String>> patterns) {
+    List<TokenSequence> sequences = new ArrayList<>(tokenSequences.values());
+    tokenSequences.clear();
+    patternSequences.clear();
+    for (TokenSequence sequence : sequences) {
+      List<String> pattern = patterns.apply(sequence.tokens);
+      TokenSequence replaced = tokenSequences.get(pattern);
+      if (replaced == null) {
+        replaced = newSequence(pattern, true);
+      }
+      replaced.count += sequence.count;
+      replaced.samples.addAll(sequence.samples);
+    }
+    for (TokenSequence sequence : tokenSequences.values()) {
+      sequence.samples.sort(Comparator.comparingLong(Sample::ordinal));
+      if (sequence.samples.size() > maxSampleCount) {
+        sequence.samples.subList(maxSampleCount, sequence.samples.size()).clear();
+      }
+    }
+  }
+
+  private TokenSequence newSequence(List<String> tokens, boolean pattern) {
+    TokenSequence sequence = new TokenSequence(tokens, pattern);
+    tokenSequences.put(tokens, sequence);
+    if (pattern && tokens.contains(BrainLogParser.VARIABLE_DENOTER)) {
+      patternSequences.computeIfAbsent(tokens.size(), size -> new ArrayList<>()).add(sequence);
+    }
+    return sequence;
+  }
+
+  private TokenSequence matchingPattern(List<String> tokens) {
+    for (TokenSequence pattern : patternSequences.getOrDefault(tokens.size(), List.of())) {
+      if (matches(pattern.tokens, tokens)) {
+        return pattern;
+      }
+    }
+    return null;
+  }
+
+  private static boolean matches(List<String> pattern, List<String> tokens) {
+    for (int i = 0; i < tokens.size(); i++) {
+      String token = pattern.get(i);
+      if (!token.equals(BrainLogParser.VARIABLE_DENOTER) && !token.equals(tokens.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** @return number of distinct token lists */
+  public int distinctCount() {
+    return tokenSequences.size();
+  }
+
+  Collection<TokenSequence> tokenSequences() {
+    return tokenSequences.values();
+  }
+
+  /** Distinct token list of log messages */
+  static final class TokenSequence {
+    final List<String> tokens;
+
+    /** True if the tokens are the pattern of log messages, see {@link #replaceByPatterns} */
+    final boolean pattern;
+
+    long count;
+    final List<Sample> samples = new ArrayList<>();
+
+    private TokenSequence(List<String> tokens, boolean pattern) {
+      this.tokens = tokens;
+      this.pattern = pattern;
+    }
+  }
+
+  /**
+   * Sample log message.
+   *
+   * @param ordinal position of the message among all the added log messages
+   * @param logMessage log message
+   */
+  record Sample(long ordinal, String logMessage) {}
+}
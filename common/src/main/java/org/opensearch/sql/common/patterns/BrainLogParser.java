@@ -5,9 +5,9 @@
 
 package org.opensearch.sql.common.patterns;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -15,17 +15,15 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.OptionalLong;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import lombok.Getter;
 
 /** Log parser Brain algorithm implementation. See: https://ieeexplore.ieee.org/document/10109145 */
 public class BrainLogParser {
 
-  private static final String VARIABLE_DENOTER = "<*>";
+  static final String VARIABLE_DENOTER = "<*>";
   public static final Map<Pattern, String> DEFAULT_FILTER_PATTERN_VARIABLE_MAP =
       new LinkedHashMap<>();
 
@@ -64,32 +62,40 @@ public class BrainLogParser {
    */
   public static final float DEFAULT_FREQUENCY_THRESHOLD_PERCENTAGE = 0.3f;
 
-  /**
-   * -- GETTER -- Get token histogram
-   *
-   * @return map of token per position key and its frequency
+  /*
+   * Tokens are interned into int ids, and the histograms below are keyed on pairs of ids packed
+   * into a long, so that counting and looking up a token does not format or box any key.
    */
-  @Getter private final Map<String, Long> tokenFreqMap;
+  private final Map<String, Integer> tokenIds;
+  private final List<String> tokenNames;
 
-  /**
-   * -- GETTER -- Get group per length per position to its token set map
-   *
-   * @return map of pattern group per length per position key and its token set
-   */
-  @Getter private final Map<String, Set<String>> groupTokenSetMap;
+  /** Frequency per packed (position, token id) */
+  private final LongLongHashMap tokenFreqs;
 
-  /**
-   * -- GETTER -- Get logId to its group candidate map
-   *
-   * @return map of logId and group candidate
-   */
-  @Getter private final Map<String, String> logIdGroupCandidateMap;
+  /** Interned group candidates, a group is identified by its index in this list */
+  private final Map<GroupCandidate, Integer> groupIds;
+  private final List<GroupCandidate> groupCandidates;
+
+  /** Slot index per packed (group id, position), a slot holds the distinct tokens of a position */
+  private final LongLongHashMap groupPositionSlots;
+
+  /** Packed (slot, token id) of each distinct token per slot */
+  private final LongLongHashMap groupPositionTokens;
+  private int[] slotTokenCounts;
+
+  private final Map<String, Integer> logIdGroups;
+
+  /** Buffer of token frequencies of the log message being grouped */
+  private long[] freqBuffer;
 
   @Getter private int variableCountThreshold;
   @Getter private float thresholdPercentage;
   private final Map<Pattern, String> filterPatternVariableMap;
   private final List<String> delimiters;
 
+  /** Single character delimiters to split on while tokenizing, null if any is longer */
+  private final String delimiterChars;
+
   /** Creates new Brain log parser with default parameters */
   public BrainLogParser() {
     this(
@@ -150,13 +156,21 @@ public class BrainLogParser {
     if (thresholdPercentage < 0.0f || thresholdPercentage > 1.0f) {
       throw new IllegalArgumentException("Threshold percentage must be between 0.0 and 1.0");
     }
-    this.tokenFreqMap = new HashMap<>();
-    this.groupTokenSetMap = new HashMap<>();
-    this.logIdGroupCandidateMap = new HashMap<>();
+    this.tokenIds = new HashMap<>();
+    this.tokenNames = new ArrayList<>();
+    this.tokenFreqs = new LongLongHashMap();
+    this.groupIds = new HashMap<>();
+    this.groupCandidates = new ArrayList<>();
+    this.groupPositionSlots = new LongLongHashMap();
+    this.groupPositionTokens = new LongLongHashMap();
+    this.slotTokenCounts = new int[16];
+    this.logIdGroups = new HashMap<>();
+    this.freqBuffer = new long[16];
     this.variableCountThreshold = variableCountThreshold;
     this.thresholdPercentage = thresholdPercentage;
     this.filterPatternVariableMap = filterPatternVariableMap;
     this.delimiters = delimiters;
+    this.delimiterChars = delimiterChars(delimiters);
   }
 
   /**
@@ -171,7 +185,9 @@ public class BrainLogParser {
       throw new IllegalArgumentException("log message or logId must not be null");
     }
 
-    List<String> tokens = preprocess(logMessage, this.filterPatternVariableMap, this.delimiters);
+    List<String> tokens =
+        preprocess(logMessage, this.filterPatternVariableMap, this.delimiters, this.delimiterChars);
+    // Append logId/docId to the end of the split tokens
     tokens.add(logId);
 
     return tokens;
@@ -179,7 +195,17 @@ public class BrainLogParser {
 
   public static List<String> preprocess(
       String logMessage, Map<Pattern, String> filterPatternVariableMap, List<String> delimiters) {
-    // match regex and replace it with variable denoter in order
+    return preprocess(
+        logMessage, filterPatternVariableMap, delimiters, delimiterChars(delimiters));
+  }
+
+  private static List<String> preprocess(
+      String logMessage,
+      Map<Pattern, String> filterPatternVariableMap,
+      List<String> delimiters,
+      String delimiterChars) {
+    // match regex and replace it with variable denoter in order, a pattern may match the variable
+    // denoter replaced by a previous one so they cannot be applied in a single pass
     for (Map.Entry<Pattern, String> patternVariablePair : filterPatternVariableMap.entrySet()) {
       logMessage =
           patternVariablePair
@@ -188,14 +214,69 @@ public class BrainLogParser {
               .replaceAll(patternVariablePair.getValue());
     }
 
-    for (String delimiter : delimiters) {
-      logMessage = logMessage.replace(delimiter, " ");
+    if (delimiterChars == null) {
+      for (String delimiter : delimiters) {
+        logMessage = logMessage.replace(delimiter, " ");
+      }
+      delimiterChars = "";
     }
+    return tokenize(logMessage, delimiterChars);
+  }
 
-    // Append logId/docId to the end of the split tokens
-    logMessage = logMessage.trim();
+  /**
+   * Split a log message into tokens in a single pass, with the same result as replacing each
+   * delimiter character with a space, trimming, then splitting by <code>\s+</code>.
+   */
+  private static List<String> tokenize(String logMessage, String delimiterChars) {
+    int start = 0;
+    int end = logMessage.length();
+    while (start < end && isTrimmed(logMessage.charAt(start), delimiterChars)) {
+      start++;
+    }
+    while (end > start && isTrimmed(logMessage.charAt(end - 1), delimiterChars)) {
+      end--;
+    }
+
+    List<String> tokens = new ArrayList<>();
+    if (start == end) {
+      tokens.add("");
+      return tokens;
+    }
+    int tokenStart = start;
+    for (int i = start; i < end; i++) {
+      if (isSeparator(logMessage.charAt(i), delimiterChars)) {
+        if (tokenStart < i) {
+          tokens.add(logMessage.substring(tokenStart, i));
+        }
+        tokenStart = i + 1;
+      }
+    }
+    tokens.add(logMessage.substring(tokenStart, end));
+    return tokens;
+  }
+
+  /** Characters removed by {@link String#trim()} once delimiters are replaced with spaces. */
+  private static boolean isTrimmed(char c, String delimiterChars) {
+    return c <= ' ' || delimiterChars.indexOf(c) >= 0;
+  }
 
-    return new ArrayList<>(Arrays.asList(logMessage.split("\\s+")));
+  /** Characters matched by <code>\s</code> once delimiters are replaced with spaces. */
+  private static boolean isSeparator(char c, String delimiterChars) {
+    return switch (c) {
+      case ' ', '\t', '\n', '\u000B', '\f', '\r' -> true;
+      default -> delimiterChars.indexOf(c) >= 0;
+    };
+  }
+
+  private static String delimiterChars(List<String> delimiters) {
+    StringBuilder chars = new StringBuilder();
+    for (String delimiter : delimiters) {
+      if (delimiter.length() != 1) {
+        return null;
+      }
+      chars.append(delimiter);
+    }
+    return chars.toString();
   }
 
   /**
@@ -205,10 +286,28 @@ public class BrainLogParser {
    */
   public void processTokenHistogram(List<String> tokens) {
     // Ignore last element since it's designed to be appended logId
-    for (int i = 0; i < tokens.size() - 1; i++) {
-      String tokenKey = String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, i, tokens.get(i));
-      tokenFreqMap.compute(tokenKey, (k, v) -> v == null ? 1 : v + 1);
+    countTokens(tokens, tokens.size() - 1, 1);
+  }
+
+  private void countTokens(List<String> tokens, int tokensLen, long occurrences) {
+    for (int i = 0; i < tokensLen; i++) {
+      tokenFreqs.addTo(LongLongHashMap.pack(i, internToken(tokens.get(i))), occurrences);
+    }
+  }
+
+  /**
+   * Preprocess single line of log message into a mergeable partial state
+   *
+   * @param histogram partial state to add the log message to
+   * @param logMessage log message body per log
+   */
+  public void addLog(BrainLogHistogram histogram, String logMessage) {
+    if (logMessage == null) {
+      throw new IllegalArgumentException("log message must not be null");
     }
+    histogram.add(
+        preprocess(logMessage, this.filterPatternVariableMap, this.delimiters, this.delimiterChars),
+        logMessage);
   }
 
   /**
@@ -246,17 +345,9 @@ public class BrainLogParser {
    */
   void calculateGroupTokenFreq(List<List<String>> preprocessedLogs) {
     for (List<String> tokens : preprocessedLogs) {
-      Map<Long, Integer> wordOccurrences = this.getWordOccurrences(tokens);
-      List<WordCombination> sortedWordCombinations =
-          wordOccurrences.entrySet().stream()
-              .map(entry -> new WordCombination(entry.getKey(), entry.getValue()))
-              .sorted()
-              .collect(Collectors.toList());
-      WordCombination candidate = this.findCandidate(sortedWordCombinations);
-      String groupCandidateStr =
-          String.format(Locale.ROOT, "%d,%d", candidate.wordFreq(), candidate.sameFreqCount());
-      this.logIdGroupCandidateMap.put(tokens.get(tokens.size() - 1), groupCandidateStr);
-      this.updateGroupTokenFreqMap(tokens, groupCandidateStr);
+      int groupId = this.findGroup(tokens);
+      this.logIdGroups.put(tokens.get(tokens.size() - 1), groupId);
+      this.updateGroupTokenSets(tokens, groupId);
     }
   }
 
@@ -268,68 +359,48 @@ public class BrainLogParser {
    * @return parsed log pattern that is a list of string
    */
   public List<String> parseLogPattern(List<String> tokens) {
-    return parseLogPattern(
-        tokens,
-        this.tokenFreqMap,
-        this.groupTokenSetMap,
-        this.logIdGroupCandidateMap,
-        this.variableCountThreshold);
-  }
-
-  public static List<String> parseLogPattern(
-      List<String> tokens,
-      Map<String, Long> tokenFreqMap,
-      Map<String, Set<String>> groupTokenSetMap,
-      Map<String, String> logIdGroupCandidateMap,
-      int variableCountThreshold) {
     String logId = tokens.get(tokens.size() - 1);
-    String groupCandidateStr = logIdGroupCandidateMap.get(logId);
-    String[] groupCandidate = groupCandidateStr.split(",");
-    Long repFreq = Long.parseLong(groupCandidate[0]); // representative frequency of the group
-    return IntStream.range(0, tokens.size() - 1)
-        .mapToObj(i -> new AbstractMap.SimpleEntry<>(i, tokens.get(i)))
-        .map(
-            entry -> {
-              int index = entry.getKey();
-              String token = entry.getValue();
-              String tokenKey =
-                  String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, index, token);
-              assert tokenFreqMap.get(tokenKey) != null
-                  : String.format(Locale.ROOT, "Not found token: %s on position %d", token, index);
-
-              boolean isHigherFrequency = tokenFreqMap.get(tokenKey) > repFreq;
-              boolean isLowerFrequency = tokenFreqMap.get(tokenKey) < repFreq;
-              String groupTokenKey =
-                  String.format(
-                      Locale.ROOT,
-                      GROUP_TOKEN_SET_KEY_FORMAT,
-                      tokens.size() - 1,
-                      groupCandidateStr,
-                      index);
-              assert groupTokenSetMap.get(groupTokenKey) != null
-                  : String.format(Locale.ROOT, "Not found any token in group: %s", groupTokenKey);
-
-              if (isHigherFrequency) {
-                // For higher frequency token that doesn't belong to word combination, it's likely
-                // to be constant token only if
-                // it's unique token on that position within the group
-                boolean isUniqueToken = groupTokenSetMap.get(groupTokenKey).size() == 1;
-                if (!isUniqueToken) {
-                  return VARIABLE_DENOTER;
-                }
-              } else if (isLowerFrequency) {
-                // For lower frequency token that doesn't belong to word combination, it's likely to
-                // be constant token only if
-                // it doesn't exceed the preset variable count threshold. For example, some variable
-                // are limited number of enums,
-                // and sometimes they could be treated as constant tokens.
-                if (groupTokenSetMap.get(groupTokenKey).size() >= variableCountThreshold) {
-                  return VARIABLE_DENOTER;
-                }
-              }
-              return token;
-            })
-        .collect(Collectors.toList());
+    int groupId = logIdGroups.get(logId);
+    // representative frequency of the group
+    long repFreq = groupCandidates.get(groupId).wordFreq();
+    int tokensLen = tokens.size() - 1;
+    List<String> logPattern = new ArrayList<>(tokensLen);
+    for (int index = 0; index < tokensLen; index++) {
+      String token = tokens.get(index);
+      Integer tokenId = tokenIds.get(token);
+      assert tokenId != null
+          : String.format(Locale.ROOT, "Not found token: %s on position %d", token, index);
+      long tokenFreq = tokenFreqs.get(LongLongHashMap.pack(index, tokenId), 0);
+
+      boolean isHigherFrequency = tokenFreq > repFreq;
+      boolean isLowerFrequency = tokenFreq < repFreq;
+      long slot = groupPositionSlots.get(LongLongHashMap.pack(groupId, index), -1);
+      assert slot >= 0
+          : String.format(
+              Locale.ROOT, "Not found any token in group: %s", groupTokenSetKey(groupId, index));
+      int groupTokenCount = slotTokenCounts[(int) slot];
+
+      if (isHigherFrequency) {
+        // For higher frequency token that doesn't belong to word combination, it's likely
+        // to be constant token only if
+        // it's unique token on that position within the group
+        boolean isUniqueToken = groupTokenCount == 1;
+        if (!isUniqueToken) {
+          token = VARIABLE_DENOTER;
+        }
+      } else if (isLowerFrequency) {
+        // For lower frequency token that doesn't belong to word combination, it's likely to
+        // be constant token only if
+        // it doesn't exceed the preset variable count threshold. For example, some variable
+        // are limited number of enums,
+        // and sometimes they could be treated as constant tokens.
+        if (groupTokenCount >= variableCountThreshold) {
+          token = VARIABLE_DENOTER;
+        }
+      }
+      logPattern.add(token);
+    }
+    return logPattern;
   }
 
   /**
@@ -374,43 +445,239 @@ public class BrainLogParser {
     return logPatternMap;
   }
 
-  private Map<Long, Integer> getWordOccurrences(List<String> tokens) {
-    Map<Long, Integer> occurrences = new HashMap<>();
-    for (int i = 0; i < tokens.size() - 1; i++) {
-      String tokenKey = String.format(Locale.ROOT, POSITIONED_TOKEN_KEY_FORMAT, i, tokens.get(i));
-      Long tokenFreq = tokenFreqMap.get(tokenKey);
-      occurrences.compute(tokenFreq, (k, v) -> v == null ? 1 : v + 1);
+  /**
+   * Parse all log messages of a partial state, which may be merged from several ones, to generate
+   * the log pattern map. Each distinct token list is parsed once and the patterns are the same as
+   * the ones of {@link #parseAllLogPatterns(List, int)} on all the log messages of the state.
+   *
+   * @param histogram partial state of all lines of log messages
+   * @return log pattern map with log pattern string as key, grouped logIds as value
+   */
+  public Map<String, Map<String, Object>> parseAllLogPatterns(BrainLogHistogram histogram) {
+    List<BrainLogHistogram.TokenSequence> sequences = new ArrayList<>(histogram.tokenSequences());
+    List<List<String>> preprocessedLogs = this.processTokenSequences(sequences);
+
+    Map<String, Map<String, Object>> logPatternMap = new HashMap<>();
+    Map<String, List<BrainLogHistogram.Sample>> patternSamples = new HashMap<>();
+    for (int i = 0; i < sequences.size(); i++) {
+      BrainLogHistogram.TokenSequence sequence = sequences.get(i);
+      String patternKey = String.join(" ", this.parseLogPattern(preprocessedLogs.get(i)));
+      Map<String, Object> stats =
+          logPatternMap.computeIfAbsent(
+              patternKey,
+              key -> {
+                Map<String, Object> newStats = new HashMap<>();
+                newStats.put(PatternUtils.PATTERN, key);
+                newStats.put(PatternUtils.PATTERN_COUNT, 0L);
+                return newStats;
+              });
+      long count = (Long) stats.get(PatternUtils.PATTERN_COUNT) + sequence.count;
+      stats.put(PatternUtils.PATTERN_COUNT, count);
+      patternSamples.computeIfAbsent(patternKey, key -> new ArrayList<>()).addAll(sequence.samples);
+    }
+    // Keep the first samples in the order the log messages were added
+    patternSamples.forEach(
+        (patternKey, samples) ->
+            logPatternMap
+                .get(patternKey)
+                .put(
+                    PatternUtils.SAMPLE_LOGS,
+                    samples.stream()
+                        .sorted(Comparator.comparingLong(BrainLogHistogram.Sample::ordinal))
+                        .limit(histogram.getMaxSampleCount())
+                        .map(BrainLogHistogram.Sample::logMessage)
+                        .collect(Collectors.toCollection(ArrayList::new))));
+    return logPatternMap;
+  }
+
+  /**
+   * Compact a partial state by replacing its distinct token lists by their patterns, so that it
+   * holds one token list per pattern. The patterns later parsed from the state are computed over
+   * the patterns of the log messages added so far rather than over their own tokens.
+   *
+   * @param histogram partial state of log messages
+   */
+  public void compact(BrainLogHistogram histogram) {
+    List<BrainLogHistogram.TokenSequence> sequences = new ArrayList<>(histogram.tokenSequences());
+    List<List<String>> preprocessedLogs = this.processTokenSequences(sequences);
+    Map<List<String>, List<String>> patterns = new HashMap<>();
+    for (int i = 0; i < sequences.size(); i++) {
+      patterns.put(sequences.get(i).tokens, this.parseLogPattern(preprocessedLogs.get(i)));
+    }
+    histogram.replaceByPatterns(patterns::get);
+  }
+
+  /**
+   * Count the tokens and calculate the groups of distinct token lists, weighted by their number
+   * of occurrences.
+   *
+   * @param sequences distinct token lists
+   * @return token lists with the index of the distinct token list appended as logId
+   */
+  private List<List<String>> processTokenSequences(
+      List<BrainLogHistogram.TokenSequence> sequences) {
+    List<List<String>> preprocessedLogs = new ArrayList<>(sequences.size());
+    for (int i = 0; i < sequences.size(); i++) {
+      BrainLogHistogram.TokenSequence sequence = sequences.get(i);
+      List<String> tokens = new ArrayList<>(sequence.tokens.size() + 1);
+      tokens.addAll(sequence.tokens);
+      // Use the index of the distinct token list as logId
+      tokens.add(String.valueOf(i));
+      preprocessedLogs.add(tokens);
+      this.countTokens(tokens, sequence.tokens.size(), sequence.count);
+    }
+
+    this.calculateGroupTokenFreq(preprocessedLogs);
+    return preprocessedLogs;
+  }
+
+  /**
+   * Get token histogram. It is built from the interned histogram on each call, for inspection
+   * only.
+   *
+   * @return map of token per position key and its frequency
+   */
+  public Map<String, Long> getTokenFreqMap() {
+    Map<String, Long> tokenFreqMap = new HashMap<>();
+    tokenFreqs.forEach(
+        (key, freq) ->
+            tokenFreqMap.put(
+                String.format(
+                    Locale.ROOT,
+                    POSITIONED_TOKEN_KEY_FORMAT,
+                    LongLongHashMap.high(key),
+                    tokenNames.get(LongLongHashMap.low(key))),
+                freq));
+    return tokenFreqMap;
+  }
+
+  /**
+   * Get group per length per position to its token set map. It is built from the interned token
+   * sets on each call, for inspection only.
+   *
+   * @return map of pattern group per length per position key and its token set
+   */
+  public Map<String, Set<String>> getGroupTokenSetMap() {
+    String[] slotKeys = new String[groupPositionSlots.size()];
+    groupPositionSlots.forEach(
+        (key, slot) ->
+            slotKeys[(int) slot] =
+                groupTokenSetKey(LongLongHashMap.high(key), LongLongHashMap.low(key)));
+    Map<String, Set<String>> groupTokenSetMap = new HashMap<>();
+    groupPositionTokens.forEach(
+        (key, ignored) ->
+            groupTokenSetMap
+                .computeIfAbsent(slotKeys[LongLongHashMap.high(key)], k -> new HashSet<>())
+                .add(tokenNames.get(LongLongHashMap.low(key))));
+    return groupTokenSetMap;
+  }
+
+  /**
+   * Get logId to its group candidate map. It is built on each call, for inspection only.
+   *
+   * @return map of logId and group candidate
+   */
+  public Map<String, String> getLogIdGroupCandidateMap() {
+    Map<String, String> logIdGroupCandidateMap = new HashMap<>();
+    logIdGroups.forEach(
+        (logId, groupId) ->
+            logIdGroupCandidateMap.put(logId, groupCandidates.get(groupId).toString()));
+    return logIdGroupCandidateMap;
+  }
+
+  private int internToken(String token) {
+    Integer tokenId = tokenIds.get(token);
+    if (tokenId == null) {
+      tokenId = tokenNames.size();
+      tokenIds.put(token, tokenId);
+      tokenNames.add(token);
     }
-    return occurrences;
+    return tokenId;
   }
 
-  private WordCombination findCandidate(List<WordCombination> sortedWordCombinations) {
-    if (sortedWordCombinations.isEmpty()) {
+  /**
+   * Find the group of a log message: the word combination, i.e. the tokens sharing a frequency,
+   * with the most tokens and the highest frequency among those above the threshold frequency.
+   */
+  private int findGroup(List<String> tokens) {
+    int tokensLen = tokens.size() - 1;
+    if (tokensLen <= 0) {
       throw new IllegalArgumentException("Sorted word combinations must be non empty");
     }
-    OptionalLong maxFreqOptional =
-        sortedWordCombinations.stream().mapToLong(WordCombination::wordFreq).max();
-    long maxFreq = maxFreqOptional.getAsLong();
-    float threshold = maxFreq * this.thresholdPercentage;
-    for (WordCombination wordCombination : sortedWordCombinations) {
-      if (wordCombination.wordFreq() > threshold) {
-        return wordCombination;
+    if (freqBuffer.length < tokensLen) {
+      freqBuffer = new long[Math.max(tokensLen, freqBuffer.length * 2)];
+    }
+    long[] freqs = freqBuffer;
+    for (int i = 0; i < tokensLen; i++) {
+      Integer tokenId = tokenIds.get(tokens.get(i));
+      freqs[i] = tokenId == null ? 0 : tokenFreqs.get(LongLongHashMap.pack(i, tokenId), 0);
+    }
+    Arrays.sort(freqs, 0, tokensLen);
+
+    float threshold = freqs[tokensLen - 1] * this.thresholdPercentage;
+    long bestFreq = 0;
+    int bestCount = 0;
+    long candidateFreq = 0;
+    int candidateCount = 0;
+    for (int start = 0, end; start < tokensLen; start = end) {
+      end = start + 1;
+      while (end < tokensLen && freqs[end] == freqs[start]) {
+        end++;
+      }
+      long freq = freqs[start];
+      int count = end - start;
+      if (isBetterCombination(freq, count, bestFreq, bestCount)) {
+        bestFreq = freq;
+        bestCount = count;
       }
+      if (freq > threshold && isBetterCombination(freq, count, candidateFreq, candidateCount)) {
+        candidateFreq = freq;
+        candidateCount = count;
+      }
+    }
+    if (candidateCount == 0) {
+      candidateFreq = bestFreq;
+      candidateCount = bestCount;
+    }
+
+    GroupCandidate candidate = new GroupCandidate(tokensLen, candidateFreq, candidateCount);
+    Integer groupId = groupIds.get(candidate);
+    if (groupId == null) {
+      groupId = groupCandidates.size();
+      groupIds.put(candidate, groupId);
+      groupCandidates.add(candidate);
     }
-    return sortedWordCombinations.get(0);
+    return groupId;
   }
 
-  private void updateGroupTokenFreqMap(List<String> tokens, String groupCandidateStr) {
+  /** Word combinations are ordered by same frequency count, then by word frequency, descending */
+  private static boolean isBetterCombination(long freq, int count, long otherFreq, int otherCount) {
+    return count > otherCount || (count == otherCount && freq > otherFreq);
+  }
+
+  private void updateGroupTokenSets(List<String> tokens, int groupId) {
     int tokensLen = tokens.size() - 1;
     for (int i = 0; i < tokensLen; i++) {
-      String groupTokenFreqKey =
-          String.format(Locale.ROOT, GROUP_TOKEN_SET_KEY_FORMAT, tokensLen, groupCandidateStr, i);
-      this.groupTokenSetMap
-          .computeIfAbsent(groupTokenFreqKey, k -> new HashSet<>())
-          .add(tokens.get(i));
+      int slot =
+          (int)
+              groupPositionSlots.putIfAbsent(
+                  LongLongHashMap.pack(groupId, i), groupPositionSlots.size());
+      if (slot == slotTokenCounts.length) {
+        slotTokenCounts = Arrays.copyOf(slotTokenCounts, slotTokenCounts.length * 2);
+      }
+      long slotToken = LongLongHashMap.pack(slot, internToken(tokens.get(i)));
+      if (groupPositionTokens.addTo(slotToken, 1) == 1) {
+        slotTokenCounts[slot]++;
+      }
     }
   }
 
+  private String groupTokenSetKey(int groupId, int position) {
+    GroupCandidate candidate = groupCandidates.get(groupId);
+    return String.format(
+        Locale.ROOT, GROUP_TOKEN_SET_KEY_FORMAT, candidate.tokensLen(), candidate, position);
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
@@ -432,50 +699,17 @@ public class BrainLogParser {
         variableCountThreshold, thresholdPercentage, filterPatternVariableMap, delimiters);
   }
 
-  private static final class WordCombination implements Comparable<WordCombination> {
-    private final Long wordFreq;
-    private final Integer sameFreqCount;
-
-    public WordCombination(Long wordFreq, Integer sameFreqCount) {
-      this.wordFreq = wordFreq;
-      this.sameFreqCount = sameFreqCount;
-    }
-
-    public Long wordFreq() {
-      return this.wordFreq;
-    }
-
-    public Integer sameFreqCount() {
-      return this.sameFreqCount;
-    }
-
-    @Override
-    public int compareTo(WordCombination other) {
-      // Compare by same frequency count in descending order
-      int wordFreqComparison = other.sameFreqCount.compareTo(this.sameFreqCount);
-      if (wordFreqComparison != 0) {
-        return wordFreqComparison;
-      }
-      // If sameFreqCount are the same, compare by wordFreq in descending order
-      return other.wordFreq.compareTo(this.wordFreq);
-    }
-
-    @Override
-    public boolean equals(Object obj) {
-      if (this == obj) {
-        return true;
-      }
-      if (obj == null || getClass() != obj.getClass()) {
-        return false;
-      }
-      WordCombination other = (WordCombination) obj;
-      return Objects.equals(wordFreq, other.wordFreq)
-          && Objects.equals(sameFreqCount, other.sameFreqCount);
-    }
-
+  /**
+   * Group candidate of a log message.
+   *
+   * @param tokensLen number of tokens of the log message
+   * @param wordFreq representative frequency of the word combination
+   * @param sameFreqCount number of tokens of the word combination
+   */
+  private record GroupCandidate(int tokensLen, long wordFreq, int sameFreqCount) {
     @Override
-    public int hashCode() {
-      return Objects.hash(wordFreq, sameFreqCount);
+    public String toString() {
+      return String.format(Locale.ROOT, "%d,%d", wordFreq, sameFreqCount);
     }
   }
 }
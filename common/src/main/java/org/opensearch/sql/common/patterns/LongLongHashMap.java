@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.patterns;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from non-negative long keys to long values, without boxing either of
+ * them. It backs the token histograms of {@link BrainLogParser}, whose keys are packed pairs of
+ * int ids, so that counting a token does not allocate.
+ */
+final class LongLongHashMap {
+
+  private static final long EMPTY = -1L;
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] keys;
+
+  private long[] values;
+
+  private int size;
+
+  LongLongHashMap() {
+    this(16);
+  }
+
+  LongLongHashMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(2, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+    this.keys = new long[capacity];
+    this.values = new long[capacity];
+    Arrays.fill(keys, EMPTY);
+  }
+
+  /** Pack two non-negative ints into a key. */
+  static long pack(int high, int low) {
+    return ((long) high << 32) | (low & 0xFFFFFFFFL);
+  }
+
+  static int high(long key) {
+    return (int) (key >>> 32);
+  }
+
+  static int low(long key) {
+    return (int) key;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /** @return value of the key, or defaultValue if the key is absent. */
+  long get(long key, long defaultValue) {
+    int slot = find(key);
+    return keys[slot] == EMPTY ? defaultValue : values[slot];
+  }
+
+  /**
+   * Add delta to the value of the key, an absent key starts from 0.
+   *
+   * @return the new value.
+   */
+  long addTo(long key, long delta) {
+    int slot = find(key);
+    if (keys[slot] == EMPTY) {
+      insert(slot, key, delta);
+      return delta;
+    }
+    values[slot] += delta;
+    return values[slot];
+  }
+
+  /**
+   * Put the value only if the key is absent.
+   *
+   * @return the existing value, or the given value if it has been put.
+   */
+  long putIfAbsent(long key, long value) {
+    int slot = find(key);
+    if (keys[slot] == EMPTY) {
+      insert(slot, key, value);
+      return value;
+    }
+    return values[slot];
+  }
+
+  /** Visit all entries, in no particular order. */
+  void forEach(EntryConsumer consumer) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != EMPTY) {
+        consumer.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  private int find(long key) {
+    assert key >= 0 : "Key must be non-negative: " + key;
+    int mask = keys.length - 1;
+    int slot = mix(key) & mask;
+    while (keys[slot] != EMPTY && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void insert(int slot, long key, long value) {
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size > keys.length * LOAD_FACTOR) {
+      rehash();
+    }
+  }
+
+  private void rehash() {
+    long[] oldKeys = keys;
+    long[] oldValues = values;
+    keys = new long[oldKeys.length << 1];
+    values = new long[oldValues.length << 1];
+    Arrays.fill(keys, EMPTY);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != EMPTY) {
+        int slot = find(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  /** Spread both halves of a packed key over the low bits used as slot index. */
+  private static int mix(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  @FunctionalInterface
+  interface EntryConsumer {
+    void accept(long key, long value);
+  }
+}
@@ -36,17 +36,25 @@ public abstract class Settings {
     CALCITE_PUSHDOWN_ENABLED("plugins.calcite.pushdown.enabled"),
     CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR(
         "plugins.calcite.pushdown.rowcount.estimation.factor"),
+    CALCITE_PUSHDOWN_FEEDBACK_ENABLED("plugins.calcite.pushdown.feedback.enabled"),
+    CALCITE_LOOKUP_CACHE_MAX_ROWS("plugins.calcite.lookup.cache.max_rows"),
+    CALCITE_CURSOR_MAX_OPEN("plugins.calcite.cursor.max_open"),
+    CALCITE_PARALLEL_MAX_THREADS("plugins.calcite.parallel.max_threads"),
 
     /** Query Settings. */
     FIELD_TYPE_TOLERANCE("plugins.query.field_type_tolerance"),
+    EXPRESSION_COMPILE_ENABLED("plugins.query.expression.compile.enabled"),
 
     /** Common Settings for SQL and PPL. */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
+    QUERY_MEMORY_BREAKER_LIMIT("plugins.query.memory.breaker.limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
     ENCYRPTION_MASTER_KEY("plugins.query.datasources.encryption.masterkey"),
     DATASOURCES_URI_HOSTS_DENY_LIST("plugins.query.datasources.uri.hosts.denylist"),
     DATASOURCES_LIMIT("plugins.query.datasources.limit"),
     DATASOURCES_ENABLED("plugins.query.datasources.enabled"),
+    DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES(
+        "plugins.query.datasources.prometheus.window_cache.max_samples"),
 
     METRICS_ROLLING_WINDOW("plugins.query.metrics.rolling_window"),
     METRICS_ROLLING_INTERVAL("plugins.query.metrics.rolling_interval"),
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.patterns;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class BrainLogHistogramTest {
+
+  private static final List<String> TEST_LOGS =
+      Arrays.asList(
+          "Verification succeeded for blk_-1547954353065580372",
+          "Verification succeeded for blk_6996194389878584395",
+          "Test succeeded for blk_6996194389878584395",
+          "PacketResponder failed for blk_6996194389878584395",
+          "Verification",
+          "PacketResponder failed for blk_-1547954353065580372",
+          "Verification",
+          "Verification succeeded for blk_-3249711809227781266");
+
+  private final BrainLogParser parser = new BrainLogParser();
+
+  @Test
+  public void testAddDistinctTokenLists() {
+    BrainLogHistogram histogram = histogram(TEST_LOGS, 2);
+    assertEquals(8, histogram.getLogCount());
+    assertEquals(4, histogram.distinctCount());
+  }
+
+  @Test
+  public void testParseSameAsAllLogPatterns() {
+    assertEquals(
+        new BrainLogParser().parseAllLogPatterns(TEST_LOGS, 2),
+        new BrainLogParser().parseAllLogPatterns(histogram(TEST_LOGS, 2)));
+  }
+
+  @Test
+  public void testParseMergedSameAsAllLogPatterns() {
+    BrainLogHistogram merged = histogram(TEST_LOGS.subList(0, 3), 2);
+    merged.merge(histogram(TEST_LOGS.subList(3, 6), 2));
+    merged.merge(histogram(TEST_LOGS.subList(6, TEST_LOGS.size()), 2));
+    assertEquals(TEST_LOGS.size(), merged.getLogCount());
+
+    Map<String, Map<String, Object>> logPatternMap =
+        new BrainLogParser().parseAllLogPatterns(merged);
+    assertEquals(new BrainLogParser().parseAllLogPatterns(TEST_LOGS, 2), logPatternMap);
+    // Samples are the first log messages, in the order they were added before merging
+    assertEquals(
+        Arrays.asList(
+            "Verification succeeded for blk_-1547954353065580372",
+            "Verification succeeded for blk_6996194389878584395"),
+        logPatternMap.get("Verification succeeded for blk_<*>").get(PatternUtils.SAMPLE_LOGS));
+  }
+
+  @Test
+  public void testCompactIntoPatterns() {
+    List<String> logMessages = new ArrayList<>();
+    for (String user : List.of("alice", "bob", "carol", "dave", "erin", "frank")) {
+      logMessages.add("User " + user + " logged in");
+      logMessages.add("Session of " + user + " expired");
+    }
+    BrainLogHistogram histogram = histogram(logMessages, 2);
+    assertEquals(12, histogram.distinctCount());
+
+    new BrainLogParser().compact(histogram);
+    assertEquals(2, histogram.distinctCount());
+    assertEquals(12, histogram.getLogCount());
+    assertEquals(
+        new BrainLogParser().parseAllLogPatterns(logMessages, 2),
+        new BrainLogParser().parseAllLogPatterns(histogram));
+
+    // Log messages added after compaction are counted with the pattern they match
+    parser.addLog(histogram, "User grace logged in");
+    assertEquals(2, histogram.distinctCount());
+    Map<String, Map<String, Object>> logPatternMap =
+        new BrainLogParser().parseAllLogPatterns(histogram);
+    assertEquals(7L, logPatternMap.get("User <*> logged in").get(PatternUtils.PATTERN_COUNT));
+    assertEquals(
+        Arrays.asList("User alice logged in", "User bob logged in"),
+        logPatternMap.get("User <*> logged in").get(PatternUtils.SAMPLE_LOGS));
+  }
+
+  private BrainLogHistogram histogram(List<String> logMessages, int maxSampleCount) {
+    BrainLogHistogram histogram = new BrainLogHistogram(maxSampleCount);
+    logMessages.forEach(logMessage -> parser.addLog(histogram, logMessage));
+    return histogram;
+  }
+}
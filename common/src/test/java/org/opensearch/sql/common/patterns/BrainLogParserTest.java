@@ -104,6 +104,25 @@ public class BrainLogParserTest {
     assertEquals(expectedResult, result);
   }
 
+  @Test
+  public void testPreprocessWithWhitespacesAndDelimiters() {
+    assertEquals(
+        Arrays.asList("GET", "/index", "a", "b", "<*>", "ok", "0"),
+        parser.preprocess(" \tGET /index,a+b\n200  ok\r\n", "0"));
+    assertEquals(Arrays.asList("", "0"), parser.preprocess("   ", "0"));
+    assertEquals(Arrays.asList("x", "y", "z", "0"), parser.preprocess("x, y , z", "0"));
+  }
+
+  @Test
+  public void testPreprocessWithMultiCharDelimiters() {
+    assertEquals(
+        Arrays.asList("a", "b,c", "d"),
+        BrainLogParser.preprocess(
+            "a, b,c -> d",
+            BrainLogParser.DEFAULT_FILTER_PATTERN_VARIABLE_MAP,
+            Arrays.asList(", ", "->")));
+  }
+
   @Test
   public void testPreprocessWithIllegalInput() {
     String logMessage = "127.0.0.1 - 1234 something";
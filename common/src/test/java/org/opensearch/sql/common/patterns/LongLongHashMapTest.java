@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.patterns;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class LongLongHashMapTest {
+
+  @Test
+  public void testAddToAndGet() {
+    LongLongHashMap map = new LongLongHashMap();
+    assertEquals(-1L, map.get(LongLongHashMap.pack(0, 0), -1L));
+    assertEquals(1L, map.addTo(LongLongHashMap.pack(0, 0), 1));
+    assertEquals(3L, map.addTo(LongLongHashMap.pack(0, 0), 2));
+    assertEquals(3L, map.get(LongLongHashMap.pack(0, 0), -1L));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void testPutIfAbsent() {
+    LongLongHashMap map = new LongLongHashMap();
+    assertEquals(5L, map.putIfAbsent(7L, 5L));
+    assertEquals(5L, map.putIfAbsent(7L, 6L));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void testGrowBeyondInitialCapacity() {
+    LongLongHashMap map = new LongLongHashMap(2);
+    Map<Long, Long> expected = new HashMap<>();
+    for (int high = 0; high < 100; high++) {
+      for (int low = 0; low < 100; low++) {
+        long key = LongLongHashMap.pack(high, low);
+        map.addTo(key, high + low);
+        expected.put(key, (long) high + low);
+      }
+    }
+    assertEquals(expected.size(), map.size());
+
+    Map<Long, Long> actual = new HashMap<>();
+    map.forEach(actual::put);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testPackAndUnpack() {
+    long key = LongLongHashMap.pack(12, Integer.MAX_VALUE);
+    assertEquals(12, LongLongHashMap.high(key));
+    assertEquals(Integer.MAX_VALUE, LongLongHashMap.low(key));
+  }
+}
@@ -36,6 +36,12 @@ public class CalcitePlanContext {
   public final QueryType queryType;
   public final Integer querySizeLimit;
 
+  /** Number of rows in a page of a paginated query, or 0 if the query is not paginated. */
+  @Getter @Setter private int fetchSize = 0;
+
+  /** Largest number of threads running the operators of the query in parallel. */
+  @Getter @Setter private int maxParallelism = 1;
+
   @Getter @Setter private boolean isResolvingJoinCondition = false;
   @Getter @Setter private boolean isResolvingSubquery = false;
 
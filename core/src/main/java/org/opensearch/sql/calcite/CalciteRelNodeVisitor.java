@@ -703,6 +703,7 @@ public class CalciteRelNodeVisitor extends AbstractNodeVisitor<RelNode, CalciteP
 
     // 2. resolve lookup table
     analyze(node.getLookupRelation(), context);
+    JoinAndLookupUtils.addLookupTableHint(context);
 
     // 3. Add projection for lookup table if needed
     JoinAndLookupUtils.addProjectionIfNecessary(node, context);
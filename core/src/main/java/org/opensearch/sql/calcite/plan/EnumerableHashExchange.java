@@ -0,0 +1,460 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import com.google.common.base.Throwables;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.ParameterExpression;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.AbstractRelNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.util.ImmutableIntList;
+import org.opensearch.sql.monitor.ExprValueSizeEstimator;
+import org.opensearch.sql.monitor.MemoryTracker;
+
+/**
+ * Exchange running an operator, like a hash join or a hash aggregation, on several threads. The
+ * rows of each input are split by the hash of their keys into partitions, so that the rows which
+ * the operator combines, because their keys are equal, are in the same partition. A copy of the
+ * operator runs on each partition, and the exchange returns the rows of all the copies. So it
+ * doesn't keep the order of the rows.
+ *
+ * <p>The inputs are read and partitioned on the thread reading the exchange, and the rows of the
+ * partitions are reserved on the memory tracker of the query until the exchange is closed. Then the
+ * partitions are taken one by one by that thread and by the tasks it schedules on the executor.
+ * The rows of the operator are returned as they come: the thread returns the rows of its own
+ * partition, and of the batches which the tasks queue. The queue is bounded, so the tasks wait for
+ * the thread rather than buffering their rows. The thread never waits for a task which didn't
+ * start, so the partitions are processed even when there is no thread available to run the tasks.
+ *
+ * <p>The first input of the exchange is the operator, of which the inputs are {@link
+ * EnumerableHashPartition}s, and the next ones are the inputs which are partitioned.
+ */
+public class EnumerableHashExchange extends AbstractRelNode implements EnumerableRel {
+
+  /** Rows of the operator queued at once by a task. */
+  static final int BATCH_SIZE = 256;
+
+  /** Batches queued per task, before the tasks wait for the thread reading the exchange. */
+  static final int BATCHES_PER_TASK = 4;
+
+  /** Time waited for a batch or for space in the queue, before checking the state again. */
+  private static final long POLL_MILLIS = 10;
+
+  /** Operator of which a copy runs on each partition. */
+  @Getter private final RelNode operator;
+
+  private final List<RelNode> inputs;
+
+  /** Keys of the rows of each input, by which they are partitioned. */
+  @Getter private final List<ImmutableIntList> keys;
+
+  /** Number of partitions. */
+  @Getter private final int parallelism;
+
+  private final Executor executor;
+
+  /** Tracker of the memory of the query, on which the rows of the partitions are reserved. */
+  private final MemoryTracker memoryTracker;
+
+  private EnumerableHashExchange(
+      RelOptCluster cluster,
+      RelTraitSet traitSet,
+      RelNode operator,
+      List<RelNode> inputs,
+      List<ImmutableIntList> keys,
+      int parallelism,
+      Executor executor,
+      MemoryTracker memoryTracker) {
+    super(cluster, traitSet);
+    this.operator = operator;
+    this.inputs = List.copyOf(inputs);
+    this.keys = List.copyOf(keys);
+    this.parallelism = parallelism;
+    this.executor = executor;
+    this.memoryTracker = memoryTracker;
+  }
+
+  /**
+   * Create an exchange running an operator on partitions of its inputs.
+   *
+   * @param operator operator of which each input is partitioned
+   * @param keys keys of each input of the operator
+   * @param parallelism number of partitions
+   * @param executor executor of the tasks processing partitions
+   * @param memoryTracker tracker of the memory of the query
+   * @return exchange
+   */
+  public static EnumerableHashExchange create(
+      RelNode operator,
+      List<ImmutableIntList> keys,
+      int parallelism,
+      Executor executor,
+      MemoryTracker memoryTracker) {
+    RelOptCluster cluster = operator.getCluster();
+    RelMetadataQuery mq = cluster.getMetadataQuery();
+    List<RelNode> partitions = new ArrayList<>();
+    for (int i = 0; i < operator.getInputs().size(); i++) {
+      RelNode input = operator.getInput(i);
+      partitions.add(
+          new EnumerableHashPartition(
+              cluster, input.getRowType(), i, mq.getRowCount(input) / parallelism));
+    }
+    return new EnumerableHashExchange(
+        cluster,
+        operator.getTraitSet(),
+        operator.copy(operator.getTraitSet(), partitions),
+        operator.getInputs(),
+        keys,
+        parallelism,
+        executor,
+        memoryTracker);
+  }
+
+  @Override
+  public List<RelNode> getInputs() {
+    List<RelNode> all = new ArrayList<>(inputs.size() + 1);
+    all.add(operator);
+    all.addAll(inputs);
+    return all;
+  }
+
+  @Override
+  public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+    return new EnumerableHashExchange(
+        getCluster(),
+        traitSet,
+        inputs.getFirst(),
+        inputs.subList(1, inputs.size()),
+        keys,
+        parallelism,
+        executor,
+        memoryTracker);
+  }
+
+  @Override
+  protected RelDataType deriveRowType() {
+    return operator.getRowType();
+  }
+
+  @Override
+  public double estimateRowCount(RelMetadataQuery mq) {
+    return mq.getRowCount(operator) * parallelism;
+  }
+
+  @Override
+  public RelWriter explainTerms(RelWriter pw) {
+    super.explainTerms(pw).item("keys", keys).item("parallelism", parallelism);
+    pw.input("operator", operator);
+    for (int i = 0; i < inputs.size(); i++) {
+      pw.input("input#" + i, inputs.get(i));
+    }
+    return pw;
+  }
+
+  @Override
+  public Result implement(EnumerableRelImplementor implementor, Prefer pref) {
+    BlockBuilder builder = new BlockBuilder();
+    ParameterExpression partitions = Expressions.parameter(Enumerable[].class, "partitions");
+    List<Expression> inputEnumerables = new ArrayList<>();
+    List<Expression> keySelectors = new ArrayList<>();
+    for (int i = 0; i < inputs.size(); i++) {
+      Result input = implementor.visitChild(this, i + 1, (EnumerableRel) inputs.get(i), pref);
+      inputEnumerables.add(builder.append("input" + i, input.block));
+      keySelectors.add(input.physType.generateAccessor(keys.get(i)));
+      // The operator reads the rows of a partition as they are returned by the input
+      ((EnumerableHashPartition) operator.getInput(i))
+          .implementAs(
+              implementor.result(
+                  input.physType,
+                  Blocks.toBlock(Expressions.arrayIndex(partitions, Expressions.constant(i)))));
+    }
+
+    // The operator is implemented as a function of the partitions of the inputs
+    Result output = implementor.visitChild(this, 0, (EnumerableRel) operator, pref);
+    BlockBuilder pipeline = new BlockBuilder();
+    pipeline.add(Expressions.return_(null, pipeline.append("output", output.block)));
+
+    builder.add(
+        Expressions.return_(
+            null,
+            Expressions.call(
+                implementor.stash(this, EnumerableHashExchange.class),
+                "execute",
+                Expressions.newArrayInit(Enumerable.class, inputEnumerables),
+                Expressions.newArrayInit(Function1.class, keySelectors),
+                Expressions.lambda(Function1.class, pipeline.toBlock(), partitions))));
+    return implementor.result(output.physType, builder.toBlock());
+  }
+
+  /**
+   * Run the operator on the partitions of the inputs, called by the generated code.
+   *
+   * @param inputs rows of each input
+   * @param keySelectors key of a row, for each input
+   * @param operator rows of the operator, from the rows of a partition of each input
+   * @return rows of the operator on all partitions
+   */
+  public Enumerable<Object> execute(
+      Enumerable<Object>[] inputs,
+      Function1<Object, Object>[] keySelectors,
+      Function1<Enumerable<Object>[], Enumerable<Object>> operator) {
+    return new AbstractEnumerable<>() {
+      @Override
+      public Enumerator<Object> enumerator() {
+        return new ExchangeEnumerator(inputs, keySelectors, operator);
+      }
+    };
+  }
+
+  private int partitionOf(Object key) {
+    int hash = Objects.hashCode(key);
+    // Spread the high bits, which differ the most for small integer or string keys
+    return Math.floorMod(hash ^ (hash >>> 16), parallelism);
+  }
+
+  /**
+   * Rows of the operator on all partitions. The inputs are partitioned on the first move, then the
+   * rows are returned as soon as a partition returns them, either the partition processed by the
+   * reading thread or the batches of rows queued by the tasks. Closing the enumerator stops the
+   * tasks, so a limit above the exchange doesn't process the rest of the partitions.
+   */
+  private class ExchangeEnumerator implements Enumerator<Object> {
+
+    private final Enumerable<Object>[] inputs;
+
+    private final Function1<Object, Object>[] keySelectors;
+
+    private final Function1<Enumerable<Object>[], Enumerable<Object>> operator;
+
+    /** Batches of rows returned by the tasks, bounded so the tasks wait for the reading thread. */
+    private final BlockingQueue<List<Object>> batches =
+        new ArrayBlockingQueue<>(parallelism * BATCHES_PER_TASK);
+
+    /** Next partition to process. */
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final AtomicInteger runningTasks = new AtomicInteger();
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private volatile boolean closed;
+
+    /** Rows of each input of each partition, null until the first move. */
+    private List<Object>[][] partitions;
+
+    /** Bytes reserved for the rows of the partitions. */
+    private long reservedBytes;
+
+    /** Rows of the partition processed by the reading thread. */
+    private Enumerator<Object> partition;
+
+    private Iterator<Object> batch = Collections.emptyIterator();
+
+    private Object current;
+
+    ExchangeEnumerator(
+        Enumerable<Object>[] inputs,
+        Function1<Object, Object>[] keySelectors,
+        Function1<Enumerable<Object>[], Enumerable<Object>> operator) {
+      this.inputs = inputs;
+      this.keySelectors = keySelectors;
+      this.operator = operator;
+    }
+
+    @Override
+    public Object current() {
+      return current;
+    }
+
+    @Override
+    public boolean moveNext() {
+      if (partitions == null) {
+        start();
+      }
+      while (true) {
+        if (partition != null) {
+          if (partition.moveNext()) {
+            current = partition.current();
+            return true;
+          }
+          partition.close();
+          partition = null;
+        }
+        if (batch.hasNext()) {
+          current = batch.next();
+          return true;
+        }
+        rethrowFailure();
+        List<Object> rows = batches.poll();
+        if (rows == null && next.get() < parallelism) {
+          int p = next.getAndIncrement();
+          if (p < parallelism) {
+            // The partition left is processed by this thread rather than waiting for a task
+            partition = process(partitions, p).enumerator();
+            continue;
+          }
+        }
+        if (rows == null) {
+          // The tasks put their last batch before they stop
+          if (runningTasks.get() == 0 && batches.isEmpty()) {
+            rethrowFailure();
+            return false;
+          }
+          rows = poll();
+        }
+        if (rows != null) {
+          batch = rows.iterator();
+        }
+      }
+    }
+
+    /** Partition the inputs and schedule the tasks processing partitions. */
+    private void start() {
+      List<Object>[][] partitioned = partition();
+      partitions = partitioned;
+      for (int i = 1; i < parallelism; i++) {
+        runningTasks.incrementAndGet();
+        try {
+          executor.execute(() -> runTask(partitioned));
+        } catch (RejectedExecutionException e) {
+          // The partitions left are processed by the reading thread
+          runningTasks.decrementAndGet();
+          break;
+        }
+      }
+    }
+
+    /** @return rows of each input of each partition, reserved on the memory tracker */
+    @SuppressWarnings("unchecked")
+    private List<Object>[][] partition() {
+      List<Object>[][] partitions = new List[parallelism][inputs.length];
+      for (int i = 0; i < inputs.length; i++) {
+        for (List<Object>[] partition : partitions) {
+          partition[i] = new ArrayList<>();
+        }
+        try (Enumerator<Object> rows = inputs[i].enumerator()) {
+          while (rows.moveNext()) {
+            Object row = rows.current();
+            long bytes = ExprValueSizeEstimator.estimateRow(row);
+            memoryTracker.reserve(bytes, "hash_exchange");
+            reservedBytes += bytes;
+            partitions[partitionOf(keySelectors[i].apply(row))][i].add(row);
+          }
+        }
+      }
+      return partitions;
+    }
+
+    /** @return rows of the operator on a partition, of which the rows are then dropped */
+    @SuppressWarnings("unchecked")
+    private Enumerable<Object> process(List<Object>[][] partitions, int p) {
+      Enumerable<Object>[] rows = new Enumerable[partitions[p].length];
+      for (int i = 0; i < rows.length; i++) {
+        rows[i] = Linq4j.asEnumerable(partitions[p][i]);
+      }
+      partitions[p] = null;
+      return operator.apply(rows);
+    }
+
+    /** Process partitions until there are none left, and queue their rows in batches. */
+    private void runTask(List<Object>[][] partitions) {
+      try {
+        for (int p = next.getAndIncrement(); p < parallelism; p = next.getAndIncrement()) {
+          if (closed || failure.get() != null) {
+            break;
+          }
+          try (Enumerator<Object> rows = process(partitions, p).enumerator()) {
+            List<Object> rowBatch = new ArrayList<>(BATCH_SIZE);
+            while (!closed && rows.moveNext()) {
+              rowBatch.add(rows.current());
+              if (rowBatch.size() == BATCH_SIZE) {
+                put(rowBatch);
+                rowBatch = new ArrayList<>(BATCH_SIZE);
+              }
+            }
+            if (!rowBatch.isEmpty()) {
+              put(rowBatch);
+            }
+          }
+        }
+      } catch (Throwable t) {
+        failure.compareAndSet(null, t);
+      } finally {
+        runningTasks.decrementAndGet();
+      }
+    }
+
+    /** Queue a batch, unless the enumerator is closed while waiting for space in the queue. */
+    private void put(List<Object> rowBatch) throws InterruptedException {
+      while (!closed && !batches.offer(rowBatch, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        // Wait for the reading thread
+      }
+    }
+
+    private List<Object> poll() {
+      try {
+        return batches.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for partitions", e);
+      }
+    }
+
+    private void rethrowFailure() {
+      Throwable t = failure.get();
+      if (t != null) {
+        Throwables.throwIfUnchecked(t);
+        throw new IllegalStateException("Failed to process partition", t);
+      }
+    }
+
+    @Override
+    public void reset() {
+      throw new UnsupportedOperationException("Rows of a hash exchange can't be read again");
+    }
+
+    /** Stop the tasks, they drop their partitions once they see the enumerator is closed. */
+    @Override
+    public void close() {
+      closed = true;
+      if (partition != null) {
+        partition.close();
+        partition = null;
+      }
+      batches.clear();
+      memoryTracker.release(reservedBytes);
+      reservedBytes = 0;
+    }
+  }
+}
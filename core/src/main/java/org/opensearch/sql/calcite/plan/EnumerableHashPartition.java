@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.util.Objects;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.rel.AbstractRelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Rows of one partition of an input of an {@link EnumerableHashExchange}, which are read by the
+ * copy of the partitioned operator running on that partition.
+ */
+public class EnumerableHashPartition extends AbstractRelNode implements EnumerableRel {
+
+  private final RelDataType inputRowType;
+
+  /** Position of the partitioned input among the inputs of the operator. */
+  private final int input;
+
+  private final double rowCount;
+
+  /** Implementation set by the exchange once its input is implemented. */
+  private @Nullable Result result;
+
+  EnumerableHashPartition(
+      RelOptCluster cluster, RelDataType inputRowType, int input, double rowCount) {
+    super(cluster, cluster.traitSetOf(EnumerableConvention.INSTANCE));
+    this.inputRowType = inputRowType;
+    this.input = input;
+    this.rowCount = rowCount;
+  }
+
+  @Override
+  protected RelDataType deriveRowType() {
+    return inputRowType;
+  }
+
+  @Override
+  public double estimateRowCount(RelMetadataQuery mq) {
+    return rowCount;
+  }
+
+  @Override
+  public RelWriter explainTerms(RelWriter pw) {
+    return super.explainTerms(pw).item("input", input);
+  }
+
+  /** Implement the partition as reading the given rows, of the physical type of its input. */
+  void implementAs(Result result) {
+    this.result = result;
+  }
+
+  @Override
+  public Result implement(EnumerableRelImplementor implementor, Prefer pref) {
+    return Objects.requireNonNull(result, "Partition is implemented by its exchange");
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableAggregate;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.plan.RelOptLattice;
+import org.apache.calcite.plan.RelOptMaterialization;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelHomogeneousShuttle;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.runtime.Hook;
+import org.apache.calcite.tools.Program;
+import org.apache.calcite.tools.Programs;
+import org.apache.calcite.util.Holder;
+import org.apache.calcite.util.ImmutableIntList;
+import org.opensearch.sql.monitor.MemoryTracker;
+
+/**
+ * Program run after the physical plan is chosen, which runs the hash joins and the hash
+ * aggregations of large inputs on several threads, see {@link EnumerableHashExchange}. The number
+ * of threads of an operator is the number of rows of its inputs divided by the least number of
+ * rows worth a thread, up to the largest number of threads of the query.
+ *
+ * <p>Operators of which the output is expected to be sorted, or which use correlation variables,
+ * are left as they are.
+ */
+@RequiredArgsConstructor
+public class HashExchangeProgram implements Program {
+
+  /** Least number of estimated rows of a partition. */
+  public static final double DEFAULT_MIN_PARTITION_ROWS = 10_000;
+
+  private final int maxParallelism;
+
+  private final double minPartitionRows;
+
+  private final Executor executor;
+
+  private final MemoryTracker memoryTracker;
+
+  /**
+   * Run the program after the standard programs on the plans prepared by the current thread, until
+   * the returned hook is closed.
+   *
+   * @param maxParallelism largest number of threads of a query, 1 or less to disable the program
+   * @param executor executor of the tasks processing partitions
+   * @param memoryTracker tracker of the memory of the query, until its rows are closed
+   * @return hook to close once the plan is prepared
+   */
+  public static Hook.Closeable install(
+      int maxParallelism, Executor executor, MemoryTracker memoryTracker) {
+    Program program =
+        Programs.sequence(
+            Programs.standard(),
+            new HashExchangeProgram(
+                maxParallelism, DEFAULT_MIN_PARTITION_ROWS, executor, memoryTracker));
+    return Hook.PROGRAM.addThread((Consumer<Holder<Program>>) holder -> holder.set(program));
+  }
+
+  @Override
+  public RelNode run(
+      RelOptPlanner planner,
+      RelNode rel,
+      RelTraitSet requiredOutputTraits,
+      List<RelOptMaterialization> materializations,
+      List<RelOptLattice> lattices) {
+    if (maxParallelism <= 1) {
+      return rel;
+    }
+    return rel.accept(
+        new RelHomogeneousShuttle() {
+          @Override
+          public RelNode visit(RelNode other) {
+            return exchange(super.visit(other));
+          }
+        });
+  }
+
+  private RelNode exchange(RelNode rel) {
+    List<ImmutableIntList> keys = partitionKeys(rel);
+    if (keys.isEmpty() || !isUnordered(rel) || !RelOptUtil.getVariablesUsed(rel).isEmpty()) {
+      return rel;
+    }
+    RelMetadataQuery mq = rel.getCluster().getMetadataQuery();
+    double rowCount = 0;
+    for (RelNode input : rel.getInputs()) {
+      rowCount += mq.getRowCount(input);
+    }
+    int parallelism = (int) Math.min(maxParallelism, rowCount / minPartitionRows);
+    return parallelism > 1
+        ? EnumerableHashExchange.create(rel, keys, parallelism, executor, memoryTracker)
+        : rel;
+  }
+
+  /**
+   * Rows with equal keys are combined by the operator, so they must be in the same partition. The
+   * keys of a hash join are its equi-join keys, and the ones of a hash aggregation are its group by
+   * fields, unless it has grouping sets.
+   *
+   * @return keys of each input of the operator, empty if it can't be partitioned
+   */
+  private static List<ImmutableIntList> partitionKeys(RelNode rel) {
+    if (rel instanceof EnumerableAggregate aggregate
+        && aggregate.getGroupType() == Aggregate.Group.SIMPLE
+        && aggregate.getGroupCount() > 0) {
+      return List.of(ImmutableIntList.copyOf(aggregate.getGroupSet().asList()));
+    }
+    if (rel instanceof EnumerableHashJoin join) {
+      JoinInfo joinInfo = join.analyzeCondition();
+      if (!joinInfo.leftKeys.isEmpty()) {
+        return List.of(joinInfo.leftKeys, joinInfo.rightKeys);
+      }
+    }
+    return List.of();
+  }
+
+  /** The rows of the partitions are concatenated, which only keeps the order of one partition. */
+  private static boolean isUnordered(RelNode rel) {
+    RelCollation collation = rel.getTraitSet().getCollation();
+    return collation == null || collation.getFieldCollations().isEmpty();
+  }
+}
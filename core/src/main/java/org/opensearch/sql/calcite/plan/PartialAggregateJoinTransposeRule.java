@@ -0,0 +1,255 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.immutables.value.Value;
+
+/**
+ * Planner rule that pre-aggregates the left side of an inner or left join when the aggregate above
+ * the join only aggregates fields of that side, e.g. <code>
+ * source=orders | lookup customers id | stats sum(amount) by region</code>. The left side is
+ * grouped by the fields of the join condition and its own group keys, and the aggregate above the
+ * join combines the partial results. When the left side is an index scan, the partial aggregate is
+ * then pushed down to it, so the join reads buckets instead of rows.
+ *
+ * <p>Each left row joins with the same right rows as the partial group it belongs to, or with a
+ * single null row for a left join, so combining partial SUM, COUNT, MIN and MAX over the joined
+ * groups gives the same results as aggregating the joined rows.
+ *
+ * <p>The buckets of a pushed down aggregation are not paged, so the rule only fires when the
+ * estimated number of partial groups is known and well below the number of buckets of a response.
+ */
+@Value.Enclosing
+public class PartialAggregateJoinTransposeRule
+    extends RelRule<PartialAggregateJoinTransposeRule.Config> {
+
+  /**
+   * Largest estimated number of partial groups, half of the 1000 buckets of a pushed down
+   * aggregation, as the distinct counts of the index fields are approximate.
+   */
+  public static final int MAX_PARTIAL_GROUPS = 500;
+
+  protected PartialAggregateJoinTransposeRule(Config config) {
+    super(config);
+  }
+
+  @Override
+  public void onMatch(RelOptRuleCall call) {
+    final Aggregate aggregate = call.rel(0);
+    final Join join = call.rel(call.rels.length - 1);
+    final int[] inputMap =
+        call.rels.length == 3
+            ? fieldsOf(call.rel(1))
+            : ImmutableBitSet.range(fieldCount(join)).toArray();
+    if (inputMap == null) {
+      return;
+    }
+    final int leftCount = fieldCount(join.getLeft());
+
+    // Partial group keys: left group keys and left fields of the join condition
+    ImmutableBitSet.Builder partialKeysBuilder = ImmutableBitSet.builder();
+    for (int key : aggregate.getGroupSet()) {
+      if (inputMap[key] < leftCount) {
+        partialKeysBuilder.set(inputMap[key]);
+      }
+    }
+    partialKeysBuilder.addAll(RelOptUtil.InputFinder.bits(join.getCondition()).get(0, leftCount));
+    final ImmutableBitSet partialKeys = partialKeysBuilder.build();
+    final Double partialGroups =
+        call.getMetadataQuery().getDistinctRowCount(join.getLeft(), partialKeys, null);
+    if (partialGroups == null || partialGroups > MAX_PARTIAL_GROUPS) {
+      return;
+    }
+
+    final RelBuilder builder = call.builder();
+    builder.push(join.getLeft());
+    List<RelBuilder.AggCall> partialCalls = new ArrayList<>();
+    for (AggregateCall aggCall : aggregate.getAggCallList()) {
+      List<RexNode> args = new ArrayList<>();
+      for (int arg : aggCall.getArgList()) {
+        if (inputMap[arg] >= leftCount) {
+          return;
+        }
+        args.add(builder.field(inputMap[arg]));
+      }
+      partialCalls.add(
+          builder.aggregateCall(aggCall.getAggregation(), args).as(aggCall.getName()));
+    }
+    builder.aggregate(builder.groupKey(partialKeys), partialCalls);
+    final int partialCount = partialKeys.cardinality() + partialCalls.size();
+
+    // Join fields after the left side is replaced by the partial aggregate
+    final int[] joinMap = new int[fieldCount(join)];
+    for (int i = 0; i < joinMap.length; i++) {
+      joinMap[i] = i < leftCount ? partialKeys.indexOf(i) : partialCount + i - leftCount;
+    }
+    RexNode condition =
+        join.getCondition()
+            .accept(
+                new RexShuttle() {
+                  @Override
+                  public RexNode visitInputRef(RexInputRef inputRef) {
+                    return new RexInputRef(joinMap[inputRef.getIndex()], inputRef.getType());
+                  }
+                });
+    builder.push(
+        join.copy(
+            join.getTraitSet(),
+            condition,
+            builder.build(),
+            join.getRight(),
+            join.getJoinType(),
+            join.isSemiJoinDone()));
+
+    // Final aggregate over the joined partial results
+    List<Integer> groupFields = new ArrayList<>();
+    for (int key : aggregate.getGroupSet()) {
+      groupFields.add(joinMap[inputMap[key]]);
+    }
+    final ImmutableBitSet groupSet = ImmutableBitSet.of(groupFields);
+    List<RelBuilder.AggCall> finalCalls = new ArrayList<>();
+    for (int i = 0; i < partialCalls.size(); i++) {
+      AggregateCall aggCall = aggregate.getAggCallList().get(i);
+      finalCalls.add(
+          builder
+              .aggregateCall(finalFunction(aggCall), builder.field(partialKeys.cardinality() + i))
+              .as(aggCall.getName()));
+    }
+    builder.aggregate(builder.groupKey(groupSet), finalCalls);
+
+    // Restore the order, names and types of the original aggregate output
+    List<RexNode> fields = new ArrayList<>();
+    for (int field : groupFields) {
+      fields.add(builder.field(groupSet.indexOf(field)));
+    }
+    for (int i = 0; i < finalCalls.size(); i++) {
+      fields.add(builder.field(groupSet.cardinality() + i));
+    }
+    builder.project(fields).convert(aggregate.getRowType(), true);
+    call.transformTo(builder.build());
+  }
+
+  /** Function combining partial results of an aggregate call. */
+  private static SqlAggFunction finalFunction(AggregateCall aggCall) {
+    return switch (aggCall.getAggregation().getKind()) {
+      case SUM -> SqlStdOperatorTable.SUM;
+      case SUM0, COUNT -> SqlStdOperatorTable.SUM0;
+      case MIN -> SqlStdOperatorTable.MIN;
+      case MAX -> SqlStdOperatorTable.MAX;
+      default -> throw new IllegalArgumentException("Unsupported aggregation: " + aggCall);
+    };
+  }
+
+  private static boolean isSplittable(AggregateCall aggCall) {
+    return switch (aggCall.getAggregation().getKind()) {
+      case SUM, SUM0, COUNT, MIN, MAX ->
+          !aggCall.isDistinct()
+              && !aggCall.hasFilter()
+              && !aggCall.isApproximate()
+              && aggCall.getCollation().getFieldCollations().isEmpty();
+      default -> false;
+    };
+  }
+
+  private static boolean isSplittable(Aggregate aggregate) {
+    return aggregate.getGroupType() == Aggregate.Group.SIMPLE
+        && aggregate.getAggCallList().stream()
+            .allMatch(PartialAggregateJoinTransposeRule::isSplittable);
+  }
+
+  /** Only pre-aggregate a left side which reads an index, so that the aggregate can be pushed. */
+  private static boolean isLeftSideScan(Join join) {
+    if (join.getJoinType() != JoinRelType.INNER && join.getJoinType() != JoinRelType.LEFT) {
+      return false;
+    }
+    RelNode node = join.getLeft().stripped();
+    while (node instanceof Project || node instanceof Filter) {
+      node = node.getInput(0).stripped();
+    }
+    return node instanceof TableScan;
+  }
+
+  /** @return input fields of a project of field references, or null if it computes fields. */
+  private static int[] fieldsOf(Project project) {
+    int[] fields = new int[project.getProjects().size()];
+    for (int i = 0; i < fields.length; i++) {
+      if (!(project.getProjects().get(i) instanceof RexInputRef ref)) {
+        return null;
+      }
+      fields[i] = ref.getIndex();
+    }
+    return fields;
+  }
+
+  private static int fieldCount(RelNode node) {
+    return node.getRowType().getFieldCount();
+  }
+
+  /** Rule configuration. */
+  @Value.Immutable
+  public interface Config extends RelRule.Config {
+    /** Config matching an aggregate directly above a join. */
+    PartialAggregateJoinTransposeRule.Config DEFAULT =
+        ImmutablePartialAggregateJoinTransposeRule.Config.builder()
+            .build()
+            .withOperandSupplier(
+                b0 ->
+                    b0.operand(LogicalAggregate.class)
+                        .predicate(PartialAggregateJoinTransposeRule::isSplittable)
+                        .oneInput(
+                            b1 ->
+                                b1.operand(LogicalJoin.class)
+                                    .predicate(PartialAggregateJoinTransposeRule::isLeftSideScan)
+                                    .anyInputs()));
+
+    /** Config matching an aggregate above a project of the join fields. */
+    PartialAggregateJoinTransposeRule.Config PROJECT =
+        ImmutablePartialAggregateJoinTransposeRule.Config.builder()
+            .build()
+            .withOperandSupplier(
+                b0 ->
+                    b0.operand(LogicalAggregate.class)
+                        .predicate(PartialAggregateJoinTransposeRule::isSplittable)
+                        .oneInput(
+                            b1 ->
+                                b1.operand(LogicalProject.class)
+                                    .oneInput(
+                                        b2 ->
+                                            b2.operand(LogicalJoin.class)
+                                                .predicate(
+                                                    PartialAggregateJoinTransposeRule
+                                                        ::isLeftSideScan)
+                                                .anyInputs())));
+
+    @Override
+    default PartialAggregateJoinTransposeRule toRule() {
+      return new PartialAggregateJoinTransposeRule(this);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.calcite.plan;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.immutables.value.Value;
+
+/**
+ * Planner rule that removes a {@link LogicalSort} without fetch and offset directly beneath another
+ * sort with a collation whose keys cover the keys of the inner sort, e.g. <code>
+ * source=t | sort a | sort b, a</code>, since the outer sort reorders all the rows anyway. The
+ * inner sort is kept otherwise, e.g. <code>source=t | sort a | sort b</code>, because it decides
+ * the order of the rows that tie on the outer keys.
+ */
+@Value.Enclosing
+public class SortRemoveRedundantRule extends RelRule<SortRemoveRedundantRule.Config> {
+
+  protected SortRemoveRedundantRule(Config config) {
+    super(config);
+  }
+
+  @Override
+  public void onMatch(RelOptRuleCall call) {
+    final Sort sort = call.rel(0);
+    final Sort input = call.rel(1);
+    if (!ImmutableBitSet.of(sort.getCollation().getKeys())
+        .contains(ImmutableBitSet.of(input.getCollation().getKeys()))) {
+      return;
+    }
+    call.transformTo(
+        sort.copy(
+            sort.getTraitSet(), input.getInput(), sort.getCollation(), sort.offset, sort.fetch));
+  }
+
+  private static boolean isPureSort(Sort sort) {
+    return sort.fetch == null && sort.offset == null;
+  }
+
+  /** Rule configuration. */
+  @Value.Immutable
+  public interface Config extends RelRule.Config {
+    SortRemoveRedundantRule.Config DEFAULT =
+        ImmutableSortRemoveRedundantRule.Config.builder()
+            .build()
+            .withOperandSupplier(
+                b0 ->
+                    b0.operand(LogicalSort.class)
+                        .predicate(sort -> !sort.getCollation().getFieldCollations().isEmpty())
+                        .oneInput(
+                            b1 ->
+                                b1.operand(LogicalSort.class)
+                                    .predicate(SortRemoveRedundantRule::isPureSort)
+                                    .anyInputs()));
+
+    @Override
+    default SortRemoveRedundantRule toRule() {
+      return new SortRemoveRedundantRule(this);
+    }
+  }
+}
@@ -10,16 +10,17 @@ package org.opensearch.sql.calcite.udf.udaf;
 
 import com.google.common.collect.ImmutableMap;
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.opensearch.sql.calcite.udf.UserDefinedAggFunction;
 import org.opensearch.sql.calcite.udf.udaf.LogPatternAggFunction.LogParserAccumulator;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.common.patterns.BrainLogHistogram;
 import org.opensearch.sql.common.patterns.BrainLogParser;
 import org.opensearch.sql.common.patterns.PatternUtils;
 import org.opensearch.sql.common.patterns.PatternUtils.ParseResult;
@@ -83,10 +84,9 @@ public class LogPatternAggFunction implements UserDefinedAggFunction<LogParserAc
     this.maxSampleCount = maxSampleCount;
     this.variableCountThreshold = variableCountThreshold;
     this.thresholdPercentage = thresholdPercentage;
-    acc.evaluate(field);
-    if (bufferLimit > 0 && acc.size() == bufferLimit) {
-      acc.partialMerge(maxSampleCount, variableCountThreshold, thresholdPercentage);
-      acc.clearBuffer();
+    acc.evaluate(field, maxSampleCount);
+    if (bufferLimit > 0 && acc.distinctCount() >= bufferLimit) {
+      acc.compact(bufferLimit, variableCountThreshold, thresholdPercentage);
     }
     return acc;
   }
@@ -127,46 +127,59 @@ public class LogPatternAggFunction implements UserDefinedAggFunction<LogParserAc
         this.variableCountThreshold);
   }
 
+  /**
+   * Accumulator of the Brain algorithm. Log messages are preprocessed as they are added into a
+   * {@link BrainLogHistogram} holding distinct token lists only, and patterns are computed once over
+   * all the log messages. The buffer limit bounds the number of distinct token lists: when it is
+   * reached, the token lists are replaced by their patterns, so from then on the patterns are
+   * computed over the patterns of the earlier log messages rather than over their own tokens.
+   */
   public static class LogParserAccumulator implements Accumulator {
-    private final List<String> logMessages;
-    public Map<String, Map<String, Object>> patternGroupMap = new HashMap<>();
+    private final BrainLogParser preprocessor = new BrainLogParser();
+    private BrainLogHistogram histogram;
 
-    public int size() {
-      return logMessages.size();
+    public long size() {
+      return histogram == null ? 0 : histogram.getLogCount();
     }
 
-    public LogParserAccumulator() {
-      this.logMessages = new ArrayList<>();
+    public int distinctCount() {
+      return histogram == null ? 0 : histogram.distinctCount();
     }
 
-    public void evaluate(String value) {
-      logMessages.add(value);
-    }
-
-    public void clearBuffer() {
-      logMessages.clear();
+    public void evaluate(String value, int maxSampleCount) {
+      if (histogram == null) {
+        histogram = new BrainLogHistogram(maxSampleCount);
+      }
+      preprocessor.addLog(histogram, value);
     }
 
-    public void partialMerge(Object... argList) {
-      if (logMessages.isEmpty()) {
-        return;
+    /**
+     * Replace the distinct token lists of the histogram by their patterns.
+     *
+     * @param bufferLimit max number of distinct token lists
+     * @param variableCountThreshold variable count threshold of the Brain algorithm
+     * @param thresholdPercentage frequency threshold percentage of the Brain algorithm
+     * @throws IllegalStateException if the patterns alone are too many to leave room for new
+     *     token lists
+     */
+    public void compact(int bufferLimit, int variableCountThreshold, double thresholdPercentage) {
+      new BrainLogParser(variableCountThreshold, (float) thresholdPercentage).compact(histogram);
+      if (histogram.distinctCount() > bufferLimit / 2) {
+        throw new IllegalStateException(
+            String.format(
+                Locale.ROOT,
+                "Log messages have %d distinct patterns, more than half of the buffer_limit %d",
+                histogram.distinctCount(),
+                bufferLimit));
       }
-      assert argList.length == 3 : "partialMerge of LogParserAccumulator requires 3 parameters";
-      int maxSampleCount = (int) argList[0];
-      BrainLogParser logParser =
-          new BrainLogParser((int) argList[1], ((Double) argList[2]).floatValue());
-      Map<String, Map<String, Object>> partialPatternGroupMap =
-          logParser.parseAllLogPatterns(logMessages, maxSampleCount);
-      patternGroupMap =
-          PatternUtils.mergePatternGroups(patternGroupMap, partialPatternGroupMap, maxSampleCount);
     }
 
     @Override
     public Object value(Object... argList) {
-      partialMerge(argList);
-      clearBuffer();
-
-      return patternGroupMap.values().stream()
+      assert argList.length == 3 : "value of LogParserAccumulator requires 3 parameters";
+      BrainLogParser logParser =
+          new BrainLogParser((int) argList[1], ((Double) argList[2]).floatValue());
+      return logParser.parseAllLogPatterns(histogram).values().stream()
           .sorted(
               Comparator.comparing(
                   m -> (Long) m.get(PatternUtils.PATTERN_COUNT),
@@ -31,20 +31,30 @@ import com.google.common.collect.ImmutableList;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.avatica.AvaticaConnection;
 import org.apache.calcite.avatica.AvaticaFactory;
 import org.apache.calcite.avatica.UnregisteredDriver;
 import org.apache.calcite.config.CalciteConnectionProperty;
 import org.apache.calcite.interpreter.Bindables;
+import org.apache.calcite.jdbc.CalciteConnection;
 import org.apache.calcite.jdbc.CalciteFactory;
 import org.apache.calcite.jdbc.CalciteJdbc41Factory;
 import org.apache.calcite.jdbc.CalcitePrepare;
 import org.apache.calcite.jdbc.CalciteSchema;
 import org.apache.calcite.jdbc.Driver;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.QueryProvider;
 import org.apache.calcite.plan.Context;
 import org.apache.calcite.plan.Contexts;
 import org.apache.calcite.plan.RelOptCluster;
@@ -73,6 +83,7 @@ import org.apache.calcite.tools.RelBuilder;
 import org.apache.calcite.tools.RelRunner;
 import org.apache.calcite.util.Holder;
 import org.apache.calcite.util.Util;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.opensearch.sql.calcite.CalcitePlanContext;
 import org.opensearch.sql.calcite.udf.udaf.NullableSqlAvgAggFunction;
 
@@ -222,6 +233,44 @@ public class CalciteToolsHelper {
      * org.apache.calcite.tools.RelRunners#run(RelNode)}
      */
     public static PreparedStatement run(CalcitePlanContext context, RelNode rel) {
+      rel = replaceLogicalTableScans(rel);
+      try (Connection connection = context.connection) {
+        final RelRunner runner = connection.unwrap(RelRunner.class);
+        return runner.prepareStatement(rel);
+      } catch (SQLException e) {
+        throw Util.throwAsRuntime(e);
+      }
+    }
+
+    /**
+     * Prepares a relational expression like {@link #run(CalcitePlanContext, RelNode)}, but binds
+     * the compiled plan and returns its rows instead of a JDBC statement. The rows are in Calcite's
+     * internal representation, an array per row or the value itself for single column rows, so
+     * they are not converted by the Avatica accessors. The connection of the context must be
+     * closed once the rows have been read.
+     */
+    public static Enumerable<@Nullable Object> bind(CalcitePlanContext context, RelNode rel)
+        throws SQLException {
+      rel = replaceLogicalTableScans(rel);
+      final CalciteConnection connection = context.connection.unwrap(CalciteConnection.class);
+      final CalcitePrepare.CalciteSignature<Object> signature;
+      // The statement is only used to prepare the plan, the rows are read from the connection
+      try (Statement statement = connection.createStatement()) {
+        final CalcitePrepare.Context prepareContext =
+            statement.unwrap(CalciteServerStatement.class).createPrepareContext();
+        CalcitePrepare.Dummy.push(prepareContext);
+        try {
+          signature =
+              new CalcitePrepareImpl()
+                  .prepareSql(prepareContext, CalcitePrepare.Query.of(rel), Object[].class, -1);
+        } finally {
+          CalcitePrepare.Dummy.pop(prepareContext);
+        }
+      }
+      return signature.enumerable(new OpenSearchDataContext(connection, signature));
+    }
+
+    private static RelNode replaceLogicalTableScans(RelNode rel) {
       final RelShuttle shuttle =
           new RelHomogeneousShuttle() {
             @Override
@@ -236,14 +285,65 @@ public class CalciteToolsHelper {
               return super.visit(scan);
             }
           };
-      rel = rel.accept(shuttle);
-      // the line we changed here
-      try (Connection connection = context.connection) {
-        final RelRunner runner = connection.unwrap(RelRunner.class);
-        return runner.prepareStatement(rel);
-      } catch (SQLException e) {
-        throw Util.throwAsRuntime(e);
-      }
+      return rel.accept(shuttle);
+    }
+  }
+
+  /**
+   * {@link DataContext} of a plan bound by {@link OpenSearchRelRunners#bind(CalcitePlanContext,
+   * RelNode)}. It provides the same variables as the data context created by Calcite connections
+   * when executing a statement, including the query time set by {@link Hook#CURRENT_TIME}.
+   */
+  static class OpenSearchDataContext implements DataContext {
+    private final CalciteConnection connection;
+    private final SchemaPlus rootSchema;
+    private final Map<String, Object> variables = new HashMap<>();
+
+    OpenSearchDataContext(
+        CalciteConnection connection, CalcitePrepare.CalciteSignature<?> signature) {
+      this.connection = connection;
+      this.rootSchema =
+          signature.rootSchema == null ? connection.getRootSchema() : signature.rootSchema.plus();
+      // The time at which the query started, so that the current time is the same for all rows
+      final Holder<Long> timeHolder = Holder.of(System.currentTimeMillis());
+      Hook.CURRENT_TIME.run(timeHolder);
+      final long time = timeHolder.get();
+      final String timeZoneName = connection.config().timeZone();
+      final TimeZone timeZone =
+          timeZoneName == null ? TimeZone.getDefault() : TimeZone.getTimeZone(timeZoneName);
+      final long offset = timeZone.getOffset(time);
+      final String localeName = connection.config().locale();
+      variables.put(Variable.UTC_TIMESTAMP.camelName, time);
+      variables.put(Variable.CURRENT_TIMESTAMP.camelName, time + offset);
+      variables.put(Variable.LOCAL_TIMESTAMP.camelName, time + offset);
+      variables.put(Variable.TIME_ZONE.camelName, timeZone);
+      variables.put(
+          Variable.LOCALE.camelName,
+          localeName == null ? Locale.ROOT : Util.parseLocale(localeName));
+      variables.put(Variable.USER.camelName, "sa");
+      variables.put(Variable.SYSTEM_USER.camelName, System.getProperty("user.name"));
+      variables.put(Variable.CANCEL_FLAG.camelName, new AtomicBoolean());
+      variables.putAll(signature.internalParameters);
+    }
+
+    @Override
+    public SchemaPlus getRootSchema() {
+      return rootSchema;
+    }
+
+    @Override
+    public JavaTypeFactory getTypeFactory() {
+      return connection.getTypeFactory();
+    }
+
+    @Override
+    public QueryProvider getQueryProvider() {
+      return connection;
+    }
+
+    @Override
+    public @Nullable Object get(String name) {
+      return variables.get(name);
     }
   }
 }
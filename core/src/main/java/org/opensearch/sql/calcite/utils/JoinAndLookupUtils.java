@@ -11,14 +11,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.Pair;
 import org.opensearch.sql.ast.tree.Join;
 import org.opensearch.sql.ast.tree.Lookup;
 import org.opensearch.sql.calcite.CalcitePlanContext;
+import org.opensearch.sql.calcite.plan.AbstractOpenSearchTable;
 
 public interface JoinAndLookupUtils {
 
+  /** Hint of the scans of lookup tables, which may be cached since they are small and reused. */
+  String LOOKUP_TABLE_HINT = "lookup_table";
+
   static JoinRelType translateJoinType(Join.JoinType joinType) {
     switch (joinType) {
       case LEFT:
@@ -52,6 +58,14 @@ public interface JoinAndLookupUtils {
         .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
   }
 
+  /** Mark the scan of an OpenSearch lookup table with {@link #LOOKUP_TABLE_HINT}. */
+  static void addLookupTableHint(CalcitePlanContext context) {
+    if (context.relBuilder.peek() instanceof TableScan scan
+        && scan.getTable().unwrap(AbstractOpenSearchTable.class) != null) {
+      context.relBuilder.hints(RelHint.builder(LOOKUP_TABLE_HINT).build());
+    }
+  }
+
   /**
    * For lookup table, if the output fields are specified, try to add a project list for it. Note,
    * join will fail if the mapping fields are excluded.
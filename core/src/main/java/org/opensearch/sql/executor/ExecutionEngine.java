@@ -51,6 +51,15 @@ public interface ExecutionEngine {
   default void execute(
       RelNode plan, CalcitePlanContext context, ResponseListener<QueryResponse> listener) {}
 
+  /**
+   * Fetch the next page of a paginated Calcite query by its cursor and call back response
+   * listener.
+   */
+  default void fetch(Cursor cursor, ResponseListener<QueryResponse> listener) {}
+
+  /** Close a paginated Calcite query by its cursor and call back response listener. */
+  default void close(Cursor cursor, ResponseListener<QueryResponse> listener) {}
+
   default void explain(
       RelNode plan,
       Explain.ExplainFormat format,
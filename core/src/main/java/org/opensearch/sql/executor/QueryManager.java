@@ -8,6 +8,7 @@
 
 package org.opensearch.sql.executor;
 
+import java.time.Duration;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 
 /**
@@ -32,4 +33,16 @@ public interface QueryManager {
   default boolean cancel(QueryId queryId) {
     throw new UnsupportedOperationException();
   }
+
+  /**
+   * Run a task repeatedly, the first time after the delay and then the delay after the end of
+   * each run, without holding a thread between runs.
+   *
+   * @param task task to run.
+   * @param delay delay between runs.
+   * @return {@link ScheduledTask} stopping the runs.
+   */
+  default ScheduledTask scheduleWithFixedDelay(Runnable task, Duration delay) {
+    throw new UnsupportedOperationException();
+  }
 }
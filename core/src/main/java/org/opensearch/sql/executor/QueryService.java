@@ -32,6 +32,9 @@ import org.apache.calcite.tools.Programs;
 import org.opensearch.sql.analysis.AnalysisContext;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.statement.Explain;
+import org.opensearch.sql.ast.tree.CloseCursor;
+import org.opensearch.sql.ast.tree.FetchCursor;
+import org.opensearch.sql.ast.tree.Paginate;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.calcite.CalcitePlanContext;
 import org.opensearch.sql.calcite.CalciteRelNodeVisitor;
@@ -42,6 +45,7 @@ import org.opensearch.sql.common.setting.Settings.Key;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.exception.CalciteUnsupportedException;
 import org.opensearch.sql.exception.NonFallbackCalciteException;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPaginate;
@@ -68,7 +72,9 @@ public class QueryService {
       UnresolvedPlan plan,
       QueryType queryType,
       ResponseListener<ExecutionEngine.QueryResponse> listener) {
-    if (shouldUseCalcite(queryType)) {
+    if (isCalciteCursor(plan)) {
+      executeCalciteCursor(plan, listener);
+    } else if (shouldUseCalcite(queryType)) {
       executeWithCalcite(plan, queryType, listener);
     } else {
       executeWithLegacy(plan, queryType, listener, Optional.empty());
@@ -101,7 +107,13 @@ public class QueryService {
                         buildFrameworkConfig(),
                         settings.getSettingValue(Key.QUERY_SIZE_LIMIT),
                         queryType);
-                RelNode relNode = analyze(plan, context);
+                context.setMaxParallelism(getMaxParallelism());
+                UnresolvedPlan query = plan;
+                if (plan instanceof Paginate paginate) {
+                  context.setFetchSize(paginate.getPageSize());
+                  query = (UnresolvedPlan) paginate.getChild().getFirst();
+                }
+                RelNode relNode = analyze(query, context);
                 RelNode optimized = optimize(relNode);
                 RelNode calcitePlan = convertToCalcitePlan(optimized);
                 executionEngine.execute(calcitePlan, context, listener);
@@ -122,6 +134,24 @@ public class QueryService {
     }
   }
 
+  /**
+   * Fetch the next page of, or close, a paginated Calcite query. The query is resumed by the
+   * execution engine rather than planned again, so there is no fallback to the v2 engine.
+   */
+  private void executeCalciteCursor(
+      UnresolvedPlan plan, ResponseListener<ExecutionEngine.QueryResponse> listener) {
+    try {
+      if (plan instanceof CloseCursor closeCursor) {
+        FetchCursor fetchCursor = (FetchCursor) closeCursor.getChild().getFirst();
+        executionEngine.close(new Cursor(fetchCursor.getCursor()), listener);
+      } else {
+        executionEngine.fetch(new Cursor(((FetchCursor) plan).getCursor()), listener);
+      }
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
   public void explainWithCalcite(
       UnresolvedPlan plan,
       QueryType queryType,
@@ -134,6 +164,7 @@ public class QueryService {
                 CalcitePlanContext context =
                     CalcitePlanContext.create(
                         buildFrameworkConfig(), getQuerySizeLimit(), queryType);
+                context.setMaxParallelism(getMaxParallelism());
                 RelNode relNode = analyze(plan, context);
                 RelNode optimized = optimize(relNode);
                 RelNode calcitePlan = convertToCalcitePlan(optimized);
@@ -256,6 +287,19 @@ public class QueryService {
     return planner.customOptimize(plan);
   }
 
+  /** @return true if a paginated query of the given type is executed by Calcite. */
+  public boolean canPaginateWithCalcite(QueryType queryType) {
+    return shouldUseCalcite(queryType);
+  }
+
+  private static boolean isCalciteCursor(UnresolvedPlan plan) {
+    if (plan instanceof CloseCursor closeCursor) {
+      plan = (UnresolvedPlan) closeCursor.getChild().getFirst();
+    }
+    return plan instanceof FetchCursor fetchCursor
+        && Cursor.isCalciteCursor(fetchCursor.getCursor());
+  }
+
   private boolean isCalciteFallbackAllowed() {
     if (settings != null) {
       return settings.getSettingValue(Settings.Key.CALCITE_FALLBACK_ALLOWED);
@@ -276,13 +320,20 @@ public class QueryService {
     return settings == null ? null : settings.getSettingValue(Key.QUERY_SIZE_LIMIT);
   }
 
+  private int getMaxParallelism() {
+    Integer maxThreads =
+        settings == null ? null : settings.getSettingValue(Key.CALCITE_PARALLEL_MAX_THREADS);
+    return maxThreads == null ? 1 : maxThreads;
+  }
+
   // TODO https://github.com/opensearch-project/sql/issues/3457
   // Calcite is not available for SQL query now. Maybe release in 3.1.0?
   private boolean shouldUseCalcite(QueryType queryType) {
     return isCalciteEnabled(settings) && queryType == QueryType.PPL;
   }
 
-  private FrameworkConfig buildFrameworkConfig() {
+  /** @return config of the Calcite framework, in which indices are resolved as tables. */
+  public FrameworkConfig buildFrameworkConfig() {
     // Use simple calcite schema since we don't compute tables in advance of the query.
     final SchemaPlus rootSchema = CalciteSchema.createRootSchema(true, false).plus();
     final SchemaPlus opensearchSchema =
@@ -304,7 +355,7 @@ public class QueryService {
    *
    * @param osPlan Logical Plan derived from OpenSearch PPL
    */
-  private static RelNode convertToCalcitePlan(RelNode osPlan) {
+  public static RelNode convertToCalcitePlan(RelNode osPlan) {
     RelNode calcitePlan = osPlan;
     /* Calcite only ensures collation of the final result produced from the root sort operator.
      * While we expect that the collation can be preserved through the pipes over PPL, we need to
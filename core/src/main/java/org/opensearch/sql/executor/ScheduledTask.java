@@ -0,0 +1,17 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+/** Handle of a task run repeatedly by a {@link QueryManager}, until it is cancelled. */
+public interface ScheduledTask {
+
+  /**
+   * Stop running the task. A run in progress completes, no other run starts.
+   *
+   * @return false if the task was already cancelled.
+   */
+  boolean cancel();
+}
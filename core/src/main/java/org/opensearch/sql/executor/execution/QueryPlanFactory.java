@@ -84,6 +84,30 @@ public class QueryPlanFactory
         : plan;
   }
 
+  /**
+   * Creates a continuous query, which reads the documents appended to its source every interval
+   * and sends its results to the listener as they come, until the execution is cancelled.
+   *
+   * @param query query statement
+   * @param execution schedules the reads of the source, and stops them once cancelled
+   * @param maxDelayMillis longest time documents can be appended after their timestamp
+   * @param queryListener listener of the results
+   */
+  public AbstractPlan createContinuousQuery(
+      Query query,
+      StreamingQueryPlan.FixedDelayExecution execution,
+      long maxDelayMillis,
+      ResponseListener<ExecutionEngine.QueryResponse> queryListener) {
+    return new StreamingQueryPlan(
+        QueryId.queryId(),
+        query.getQueryType(),
+        query.getPlan(),
+        queryService,
+        queryListener,
+        execution,
+        maxDelayMillis);
+  }
+
   boolean canConvertToCursor(UnresolvedPlan plan) {
     return plan.accept(new CanPaginateVisitor(), null);
   }
@@ -110,7 +134,8 @@ public class QueryPlanFactory
           context) {
     requireNonNull(context.getLeft(), "[BUG] query listener must be not null");
     if (node.getFetchSize() > 0) {
-      if (canConvertToCursor(node.getPlan())) {
+      if (queryService.canPaginateWithCalcite(node.getQueryType())
+          || canConvertToCursor(node.getPlan())) {
         return new QueryPlan(
             QueryId.queryId(),
             node.getQueryType(),
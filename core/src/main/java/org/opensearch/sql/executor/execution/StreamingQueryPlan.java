@@ -7,6 +7,7 @@ package org.opensearch.sql.executor.execution;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
@@ -14,24 +15,40 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
+import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.QueryType;
+import org.opensearch.sql.executor.ScheduledTask;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.streaming.DefaultMetadataLog;
 import org.opensearch.sql.executor.streaming.MicroBatchStreamingExecution;
 import org.opensearch.sql.executor.streaming.StreamingSource;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+import org.opensearch.sql.planner.logical.LogicalProject;
 import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.streaming.WindowedAggregation;
 
 /** Streaming Query Plan. */
 public class StreamingQueryPlan extends QueryPlan {
 
   private static final Logger log = LogManager.getLogger(StreamingQueryPlan.class);
 
+  /** Field of the source which orders its documents, unless the query aggregates by another. */
+  static final String DEFAULT_TIME_FIELD = "@timestamp";
+
   private final ExecutionStrategy executionStrategy;
 
+  /** Longest time documents can be indexed after their timestamp and still be read. */
+  private final long maxDelayMillis;
+
   private MicroBatchStreamingExecution streamingExecution;
 
   /** constructor. */
@@ -42,23 +59,61 @@ public class StreamingQueryPlan extends QueryPlan {
       QueryService queryService,
       ResponseListener<ExecutionEngine.QueryResponse> listener,
       ExecutionStrategy executionStrategy) {
+    this(queryId, queryType, plan, queryService, listener, executionStrategy, 0L);
+  }
+
+  /** constructor. */
+  public StreamingQueryPlan(
+      QueryId queryId,
+      QueryType queryType,
+      UnresolvedPlan plan,
+      QueryService queryService,
+      ResponseListener<ExecutionEngine.QueryResponse> listener,
+      ExecutionStrategy executionStrategy,
+      long maxDelayMillis) {
     super(queryId, queryType, plan, queryService, listener);
 
     this.executionStrategy = executionStrategy;
+    this.maxDelayMillis = maxDelayMillis;
   }
 
+  /**
+   * Execute the query on the documents appended to its source. A query ending with {@code stats
+   * ... by span(field, interval)} aggregates the new documents of each batch into the state of
+   * their window, and sends the results of a window once it is complete. Other queries send the
+   * results of each batch.
+   */
   @Override
   public void execute() {
     try {
       LogicalPlan logicalPlan = queryService.analyze(plan, queryType);
-      StreamingSource streamingSource = buildStreamingSource(logicalPlan);
+      LogicalPlan batchPlan = logicalPlan;
+      String timeField = DEFAULT_TIME_FIELD;
+      ResponseListener<ExecutionEngine.QueryResponse> sink = listener;
+      if (logicalPlan instanceof LogicalProject project
+          && project.getChild().getFirst() instanceof LogicalAggregation aggregation) {
+        WindowedAggregation windowedAggregation = WindowedAggregation.create(aggregation);
+        if (!(windowedAggregation.getTimestamp() instanceof ReferenceExpression field)) {
+          throw new UnsupportedOperationException(
+              "Continuous query can only aggregate by a span of a field of the source");
+        }
+        batchPlan = aggregation.getChild().getFirst();
+        timeField = field.getAttr();
+        sink = new WindowedAggregationSink(windowedAggregation, project, listener);
+      }
+      if (hasAggregation(batchPlan)) {
+        throw new UnsupportedOperationException(
+            "Continuous query can only aggregate with its last command");
+      }
+      StreamingSource streamingSource = buildStreamingSource(batchPlan, timeField);
       streamingExecution =
           new MicroBatchStreamingExecution(
               streamingSource,
-              logicalPlan,
+              batchPlan,
               queryService,
               new DefaultMetadataLog<>(),
-              new DefaultMetadataLog<>());
+              new DefaultMetadataLog<>(),
+              sink);
       executionStrategy.execute(streamingExecution::execute);
     } catch (UnsupportedOperationException | IllegalArgumentException e) {
       listener.onFailure(e);
@@ -99,13 +154,99 @@ public class StreamingQueryPlan extends QueryPlan {
     }
   }
 
-  private StreamingSource buildStreamingSource(LogicalPlan logicalPlan) {
-    return logicalPlan.accept(new StreamingSourceBuilder(), null);
+  /**
+   * execute task on the threads of the {@link QueryManager}, with a fixed delay between the end of
+   * a run and the start of the next one, until it is cancelled. No thread is held between runs.
+   */
+  @RequiredArgsConstructor
+  public static class FixedDelayExecution implements ExecutionStrategy, ScheduledTask {
+
+    private final QueryManager queryManager;
+
+    private final long intervalInSeconds;
+
+    private ScheduledTask scheduledTask;
+
+    private boolean cancelled;
+
+    @Override
+    public synchronized void execute(Runnable runnable) {
+      if (!cancelled) {
+        scheduledTask =
+            queryManager.scheduleWithFixedDelay(runnable, Duration.ofSeconds(intervalInSeconds));
+      }
+    }
+
+    @Override
+    public synchronized boolean cancel() {
+      if (cancelled) {
+        return false;
+      }
+      cancelled = true;
+      return scheduledTask == null || scheduledTask.cancel();
+    }
+  }
+
+  private static boolean hasAggregation(LogicalPlan plan) {
+    return plan instanceof LogicalAggregation
+        || plan.getChild().stream().anyMatch(StreamingQueryPlan::hasAggregation);
+  }
+
+  private StreamingSource buildStreamingSource(LogicalPlan logicalPlan, String timeField) {
+    return logicalPlan.accept(new StreamingSourceBuilder(maxDelayMillis), timeField);
   }
 
-  static class StreamingSourceBuilder extends LogicalPlanNodeVisitor<StreamingSource, Void> {
+  /** Sends the rows of the complete windows of a {@link WindowedAggregation} after each batch. */
+  @RequiredArgsConstructor
+  static class WindowedAggregationSink implements ResponseListener<ExecutionEngine.QueryResponse> {
+
+    private final WindowedAggregation aggregation;
+
+    /** Projection of the aggregation results. */
+    private final LogicalProject project;
+
+    private final ResponseListener<ExecutionEngine.QueryResponse> listener;
+
+    @Override
+    public void onResponse(ExecutionEngine.QueryResponse response) {
+      response.getResults().forEach(aggregation::add);
+      List<ExprValue> results = aggregation.fire().stream().map(this::project).toList();
+      if (!results.isEmpty()) {
+        listener.onResponse(new ExecutionEngine.QueryResponse(schema(), results, Cursor.None));
+      }
+    }
+
+    @Override
+    public void onFailure(Exception e) {
+      listener.onFailure(e);
+    }
+
+    private ExprValue project(ExprValue row) {
+      LinkedHashMap<String, ExprValue> values = new LinkedHashMap<>();
+      for (NamedExpression expr : project.getProjectList()) {
+        values.put(expr.getNameOrAlias(), expr.valueOf(row.bindingTuples()));
+      }
+      return ExprTupleValue.fromExprValueMap(values);
+    }
+
+    private ExecutionEngine.Schema schema() {
+      return new ExecutionEngine.Schema(
+          project.getProjectList().stream()
+              .map(
+                  expr ->
+                      new ExecutionEngine.Schema.Column(
+                          expr.getName(), expr.getAlias(), expr.type()))
+              .toList());
+    }
+  }
+
+  @RequiredArgsConstructor
+  static class StreamingSourceBuilder extends LogicalPlanNodeVisitor<StreamingSource, String> {
+
+    private final long maxDelayMillis;
+
     @Override
-    public StreamingSource visitNode(LogicalPlan plan, Void context) {
+    public StreamingSource visitNode(LogicalPlan plan, String context) {
       List<LogicalPlan> children = plan.getChild();
       if (children.isEmpty()) {
         String errorMsg =
@@ -119,9 +260,9 @@ public class StreamingQueryPlan extends QueryPlan {
     }
 
     @Override
-    public StreamingSource visitRelation(LogicalRelation plan, Void context) {
+    public StreamingSource visitRelation(LogicalRelation plan, String context) {
       try {
-        return plan.getTable().asStreamingSource();
+        return plan.getTable().asStreamingSource(context, maxDelayMillis);
       } catch (UnsupportedOperationException e) {
         String errorMsg =
             String.format(
@@ -14,8 +14,16 @@ import lombok.RequiredArgsConstructor;
 public class Cursor {
   public static final Cursor None = new Cursor(null);
 
+  /** Prefix of the cursors of Calcite queries, which are kept open on the node between pages. */
+  public static final String CALCITE_CURSOR_PREFIX = "c:";
+
   @Getter private final String data;
 
+  /** @return true if the cursor resumes a Calcite query rather than a serialized plan. */
+  public static boolean isCalciteCursor(String cursor) {
+    return cursor != null && cursor.startsWith(CALCITE_CURSOR_PREFIX);
+  }
+
   public String toString() {
     return data;
   }
@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.executor.pagination;
 
-import com.google.common.hash.HashCode;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -14,9 +13,11 @@ import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Base64;
 import java.util.zip.Deflater;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.planner.SerializablePlan;
@@ -31,6 +32,11 @@ import org.opensearch.sql.storage.StorageEngine;
 public class PlanSerializer {
   public static final String CURSOR_PREFIX = "n:";
 
+  /** Version of the encoding of cursors, to reject cursors of another encoding. */
+  static final byte FORMAT_VERSION = 1;
+
+  private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
   private final StorageEngine engine;
 
   /** Converts a physical plan tree to a cursor. */
@@ -45,34 +51,29 @@ public class PlanSerializer {
   }
 
   /**
-   * Serializes and compresses the object.
+   * Serializes and compresses the object. The encoded data is the {@link #FORMAT_VERSION} byte
+   * followed by the raw deflated stream, in unpadded base64url.
    *
    * @param object The object.
    * @return Encoded binary data.
    */
   protected String serialize(Serializable object) throws NotSerializableException {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
     try {
-      ByteArrayOutputStream output = new ByteArrayOutputStream();
-      ObjectOutputStream objectOutput = new ObjectOutputStream(output);
-      objectOutput.writeObject(object);
-      objectOutput.flush();
-
       ByteArrayOutputStream out = new ByteArrayOutputStream();
-      // GZIP provides 35-45%, lzma from apache commons-compress has few % better compression
-      GZIPOutputStream gzip =
-          new GZIPOutputStream(out) {
-            {
-              this.def.setLevel(Deflater.BEST_COMPRESSION);
-            }
-          };
-      gzip.write(output.toByteArray());
-      gzip.close();
-
-      return HashCode.fromBytes(out.toByteArray()).toString();
+      out.write(FORMAT_VERSION);
+      // Cursors are created for every page, so favor speed over compression ratio
+      try (ObjectOutputStream objectOutput =
+          new ObjectOutputStream(new DeflaterOutputStream(out, deflater))) {
+        objectOutput.writeObject(object);
+      }
+      return BASE64.encodeToString(out.toByteArray());
     } catch (NotSerializableException e) {
       throw e;
     } catch (IOException e) {
       throw new IllegalStateException("Failed to serialize: " + object, e);
+    } finally {
+      deflater.end();
     }
   }
 
@@ -83,14 +84,21 @@ public class PlanSerializer {
    * @return An object.
    */
   protected Serializable deserialize(String code) {
+    Inflater inflater = new Inflater(true);
     try {
-      GZIPInputStream gzip =
-          new GZIPInputStream(new ByteArrayInputStream(HashCode.fromString(code).asBytes()));
-      ObjectInputStream objectInput =
-          new CursorDeserializationStream(new ByteArrayInputStream(gzip.readAllBytes()));
-      return (Serializable) objectInput.readObject();
+      byte[] bytes = Base64.getUrlDecoder().decode(code);
+      if (bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+        throw new IllegalArgumentException("Unsupported cursor format");
+      }
+      InputStream input =
+          new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1), inflater);
+      try (ObjectInputStream objectInput = new CursorDeserializationStream(input)) {
+        return (Serializable) objectInput.readObject();
+      }
     } catch (Exception e) {
       throw new IllegalStateException("Failed to deserialize object", e);
+    } finally {
+      inflater.end();
     }
   }
 
@@ -10,6 +10,7 @@ package org.opensearch.sql.executor.streaming;
 
 import com.google.common.base.Preconditions;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -44,32 +45,58 @@ public class MicroBatchStreamingExecution {
   /** keep track the latest commit batchId. */
   private final MetadataLog<Offset> committedLog;
 
+  /** Receives the result of each batch, before the batch is committed. */
+  private final ResponseListener<ExecutionEngine.QueryResponse> sink;
+
+  /** True while a batch is executed, which may be after {@link #execute()} returned. */
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
   /** Constructor. */
   public MicroBatchStreamingExecution(
       StreamingSource source,
       LogicalPlan batchPlan,
       QueryService queryService,
       MetadataLog<Offset> offsetLog,
-      MetadataLog<Offset> committedLog) {
+      MetadataLog<Offset> committedLog,
+      ResponseListener<ExecutionEngine.QueryResponse> sink) {
     this.source = source;
     this.batchPlan = batchPlan;
     this.queryService = queryService;
-    // todo. add offsetLog and committedLog offset recovery.
     this.offsetLog = offsetLog;
     this.committedLog = committedLog;
+    this.sink = sink;
   }
 
-  /** Pull the {@link Batch} from {@link StreamingSource} and execute the {@link Batch}. */
+  /**
+   * Pull the {@link Batch} from {@link StreamingSource} and execute the {@link Batch}. The offsets
+   * are recovered from the logs, so a batch which was not committed is executed again with the
+   * same offsets. Nothing is done if the previous batch is still executing.
+   */
   public void execute() {
+    if (!running.compareAndSet(false, true)) {
+      log.debug("previous batch is still executing, exit. source = {}", source);
+      return;
+    }
+    try {
+      executeNextBatch();
+    } catch (RuntimeException e) {
+      running.set(false);
+      throw e;
+    }
+  }
+
+  private void executeNextBatch() {
     Long latestBatchId = offsetLog.getLatest().map(Pair::getKey).orElse(INITIAL_LATEST_BATCH_ID);
     Long latestCommittedBatchId =
         committedLog.getLatest().map(Pair::getKey).orElse(INITIAL_LATEST_BATCH_ID);
     Optional<Offset> committedOffset = offsetLog.get(latestCommittedBatchId);
     AtomicLong currentBatchId = new AtomicLong(INITIAL_LATEST_BATCH_ID);
+    Optional<Offset> availableOffsets;
 
     if (latestBatchId.equals(latestCommittedBatchId)) {
       // there are no unhandled Offset.
       currentBatchId.set(latestCommittedBatchId + 1L);
+      availableOffsets = source.getLatestOffset();
     } else {
       Preconditions.checkArgument(
           latestBatchId.equals(latestCommittedBatchId + 1L),
@@ -78,31 +105,38 @@ public class MicroBatchStreamingExecution {
           latestBatchId,
           latestCommittedBatchId);
 
-      // latestBatchId is not committed yet.
+      // latestBatchId is not committed yet, execute it again with the offsets in the log.
       currentBatchId.set(latestBatchId);
+      availableOffsets = offsetLog.get(latestBatchId);
     }
 
-    Optional<Offset> availableOffsets = source.getLatestOffset();
-    if (hasNewData(availableOffsets, committedOffset)) {
-      Batch batch = source.getBatch(committedOffset, availableOffsets.get());
-      offsetLog.add(currentBatchId.get(), availableOffsets.get());
-      queryService.executePlan(
-          batchPlan,
-          new PlanContext(batch.getSplit()),
-          new ResponseListener<>() {
-            @Override
-            public void onResponse(ExecutionEngine.QueryResponse response) {
-              long finalBatchId = currentBatchId.get();
-              Offset finalAvailableOffsets = availableOffsets.get();
-              committedLog.add(finalBatchId, finalAvailableOffsets);
-            }
-
-            @Override
-            public void onFailure(Exception e) {
-              log.error("streaming processing failed. source = {} {}", source, e);
-            }
-          });
+    if (!hasNewData(availableOffsets, committedOffset)) {
+      running.set(false);
+      return;
     }
+    Offset endOffset = availableOffsets.get();
+    Batch batch = source.getBatch(committedOffset, endOffset);
+    offsetLog.add(currentBatchId.get(), endOffset);
+    queryService.executePlan(
+        batchPlan,
+        new PlanContext(batch.getSplit()),
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExecutionEngine.QueryResponse response) {
+            try {
+              sink.onResponse(response);
+              committedLog.add(currentBatchId.get(), endOffset);
+            } finally {
+              running.set(false);
+            }
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            running.set(false);
+            log.error("streaming processing failed. source = {} {}", source, e);
+          }
+        });
   }
 
   private boolean hasNewData(Optional<Offset> availableOffsets, Optional<Offset> committedOffset) {
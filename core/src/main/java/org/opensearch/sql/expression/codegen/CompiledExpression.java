@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.codegen;
+
+import java.io.Serial;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Expression evaluated by a class generated by {@link ExpressionCompiler}. It is the same as the
+ * expression it was compiled from for everything but evaluation, i.e. visitors see the original
+ * tree and it is serialized as the original expression. It only equals the compiled expressions of
+ * an equal expression, so that equality stays symmetric, use {@link #getOriginal()} to compare it
+ * with other expressions.
+ */
+public final class CompiledExpression implements Expression {
+
+  /** Evaluator of an expression, which is implemented by the generated classes. */
+  public interface Evaluator {
+    ExprValue evaluate(Environment<Expression, ExprValue> env);
+  }
+
+  /** Expression which is compiled. */
+  private final Expression expression;
+
+  private final transient Evaluator evaluator;
+
+  CompiledExpression(Expression expression, Evaluator evaluator) {
+    this.expression = expression;
+    this.evaluator = evaluator;
+  }
+
+  /** @return expression which is compiled. */
+  public Expression getOriginal() {
+    return expression;
+  }
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    return evaluator.evaluate(valueEnv);
+  }
+
+  @Override
+  public ExprType type() {
+    return expression.type();
+  }
+
+  @Override
+  public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+    return expression.accept(visitor, context);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof CompiledExpression other && expression.equals(other.expression);
+  }
+
+  @Override
+  public int hashCode() {
+    return expression.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return expression.toString();
+  }
+
+  /** Generated classes only exist on the node, so the original expression is serialized. */
+  @Serial
+  private Object writeReplace() {
+    return expression;
+  }
+}
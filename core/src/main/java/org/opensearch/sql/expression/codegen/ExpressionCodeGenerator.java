@@ -0,0 +1,426 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.codegen;
+
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ADD;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ADDFUNCTION;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.AND;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.DIVIDE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.DIVIDEFUNCTION;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.EQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GREATER;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ISNULL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.IS_NOT_NULL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.IS_NULL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LESS;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MOD;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MODULUS;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MODULUSFUNCTION;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MULTIPLY;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MULTIPLYFUNCTION;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.NOT;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.NOTEQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.OR;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SUBTRACT;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SUBTRACTFUNCTION;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * Generates the Java source of an {@link CompiledExpression.Evaluator} for an expression tree.
+ *
+ * <p>Every node of the tree is evaluated into two locals, its state, i.e. {@link #VALUE}, {@link
+ * #NULL} or {@link #MISSING}, and its value as a primitive or a String, so that only the result is
+ * boxed into an ExprValue. Logical, comparison and arithmetic operators on INTEGER, LONG, FLOAT,
+ * DOUBLE, BOOLEAN and STRING values are generated with the same NULL and MISSING handling as their
+ * function implementations. Any other subtree is an operand of the generated class, which is
+ * evaluated by its valueOf, and so are references. Literals are operands unboxed once when the
+ * class is instantiated.
+ *
+ * <p>The source does not contain the values of literals or the operands, so that it is a digest of
+ * the expression which is shared by the expressions of the same shape and types.
+ */
+class ExpressionCodeGenerator {
+
+  /** Name of the generated class. */
+  static final String CLASS_NAME = "GeneratedEvaluator";
+
+  static final int VALUE = 0;
+
+  static final int NULL = 1;
+
+  static final int MISSING = 2;
+
+  /** Source of a generated class and its operands, which are passed to its constructor. */
+  record GeneratedCode(String source, Object[] operands) {}
+
+  @RequiredArgsConstructor
+  @Getter
+  private enum JavaType {
+    INT(
+        ExprCoreType.INTEGER,
+        "int",
+        "0",
+        "integerValue().intValue()",
+        "integerValue(Integer.valueOf(%s))"),
+    LONG(ExprCoreType.LONG, "long", "0L", "longValue().longValue()", "longValue(Long.valueOf(%s))"),
+    FLOAT(
+        ExprCoreType.FLOAT,
+        "float",
+        "0F",
+        "floatValue().floatValue()",
+        "floatValue(Float.valueOf(%s))"),
+    DOUBLE(
+        ExprCoreType.DOUBLE,
+        "double",
+        "0D",
+        "doubleValue().doubleValue()",
+        "doubleValue(Double.valueOf(%s))"),
+    BOOLEAN(
+        ExprCoreType.BOOLEAN,
+        "boolean",
+        "false",
+        "booleanValue().booleanValue()",
+        "booleanValue(Boolean.valueOf(%s))"),
+    STRING(ExprCoreType.STRING, "String", "null", "stringValue()", "stringValue(%s)");
+
+    private final ExprCoreType exprType;
+
+    private final String typeName;
+
+    private final String defaultValue;
+
+    /** Unboxing of a non-null ExprValue. */
+    private final String unboxing;
+
+    /** Boxing into an ExprValue by ExprValueUtils. */
+    private final String boxing;
+
+    static Optional<JavaType> of(ExprType type) {
+      for (JavaType javaType : values()) {
+        if (javaType.exprType == type) {
+          return Optional.of(javaType);
+        }
+      }
+      return Optional.empty();
+    }
+
+    boolean isNumber() {
+      return this == INT || this == LONG || this == FLOAT || this == DOUBLE;
+    }
+
+    /** Comparison of two values, whose sign is the same as that of ExprValue#compareTo. */
+    String compare(String left, String right) {
+      return switch (this) {
+        case INT -> String.format("Integer.compare(%s, %s)", left, right);
+        case LONG -> String.format("Long.compare(%s, %s)", left, right);
+        case FLOAT -> String.format("Float.compare(%s, %s)", left, right);
+        case DOUBLE -> String.format("Double.compare(%s, %s)", left, right);
+        case BOOLEAN -> String.format("Boolean.compare(%s, %s)", left, right);
+        case STRING -> String.format("%s.compareTo(%s)", left, right);
+      };
+    }
+  }
+
+  private enum Operator {
+    AND,
+    OR,
+    NOT,
+    IS_NULL,
+    IS_NOT_NULL,
+    EQUAL("== 0"),
+    NOT_EQUAL("!= 0"),
+    LESS("< 0"),
+    LESS_OR_EQUAL("<= 0"),
+    GREATER("> 0"),
+    GREATER_OR_EQUAL(">= 0"),
+    ADD,
+    SUBTRACT,
+    MULTIPLY,
+    DIVIDE,
+    MODULUS;
+
+    /** Test of the comparison of the arguments, if this is a comparison operator. */
+    private final String comparison;
+
+    Operator() {
+      this(null);
+    }
+
+    Operator(String comparison) {
+      this.comparison = comparison;
+    }
+  }
+
+  private static final Map<FunctionName, Operator> OPERATORS =
+      ImmutableMap.<FunctionName, Operator>builder()
+          .put(AND.getName(), Operator.AND)
+          .put(OR.getName(), Operator.OR)
+          .put(NOT.getName(), Operator.NOT)
+          .put(IS_NULL.getName(), Operator.IS_NULL)
+          .put(ISNULL.getName(), Operator.IS_NULL)
+          .put(IS_NOT_NULL.getName(), Operator.IS_NOT_NULL)
+          .put(EQUAL.getName(), Operator.EQUAL)
+          .put(NOTEQUAL.getName(), Operator.NOT_EQUAL)
+          .put(LESS.getName(), Operator.LESS)
+          .put(LTE.getName(), Operator.LESS_OR_EQUAL)
+          .put(GREATER.getName(), Operator.GREATER)
+          .put(GTE.getName(), Operator.GREATER_OR_EQUAL)
+          .put(ADD.getName(), Operator.ADD)
+          .put(ADDFUNCTION.getName(), Operator.ADD)
+          .put(SUBTRACT.getName(), Operator.SUBTRACT)
+          .put(SUBTRACTFUNCTION.getName(), Operator.SUBTRACT)
+          .put(MULTIPLY.getName(), Operator.MULTIPLY)
+          .put(MULTIPLYFUNCTION.getName(), Operator.MULTIPLY)
+          .put(DIVIDE.getName(), Operator.DIVIDE)
+          .put(DIVIDEFUNCTION.getName(), Operator.DIVIDE)
+          .put(MOD.getName(), Operator.MODULUS)
+          .put(MODULUS.getName(), Operator.MODULUS)
+          .put(MODULUSFUNCTION.getName(), Operator.MODULUS)
+          .build();
+
+  private final List<Object> operands = new ArrayList<>();
+
+  private final StringBuilder fields = new StringBuilder();
+
+  private final StringBuilder constructor = new StringBuilder();
+
+  private final StringBuilder body = new StringBuilder();
+
+  private int nodes = 0;
+
+  /**
+   * Generate the evaluator of an expression.
+   *
+   * @param expression expression
+   * @return generated code, or empty if the expression is not an operator which can be generated
+   */
+  static Optional<GeneratedCode> generate(Expression expression) {
+    if (!isGenerated(expression)) {
+      return Optional.empty();
+    }
+    return Optional.of(new ExpressionCodeGenerator().generateClass(expression));
+  }
+
+  private GeneratedCode generateClass(Expression expression) {
+    int result = generateNode(expression);
+    JavaType type = JavaType.of(expression.type()).orElseThrow();
+    String source =
+        String.join(
+            "\n",
+            "import org.opensearch.sql.data.model.ExprValue;",
+            "import org.opensearch.sql.data.model.ExprValueUtils;",
+            "import org.opensearch.sql.expression.Expression;",
+            "import org.opensearch.sql.expression.codegen.CompiledExpression;",
+            "import org.opensearch.sql.expression.env.Environment;",
+            "public final class " + CLASS_NAME + " implements CompiledExpression.Evaluator {",
+            fields.toString(),
+            "  public " + CLASS_NAME + "(Object[] operands) {",
+            constructor.toString(),
+            "  }",
+            "  public ExprValue evaluate(Environment env) {",
+            body.toString(),
+            String.format(
+                "    if (s%d == %d) return ExprValueUtils.missingValue();", result, MISSING),
+            String.format("    if (s%d == %d) return ExprValueUtils.nullValue();", result, NULL),
+            String.format(
+                "    return ExprValueUtils.%s;", String.format(type.getBoxing(), "v" + result)),
+            "  }",
+            "}");
+    return new GeneratedCode(source, operands.toArray());
+  }
+
+  /** @return index of the locals of the node. */
+  private int generateNode(Expression node) {
+    if (node instanceof LiteralExpression) {
+      return generateLiteral(node);
+    } else if (isGenerated(node)) {
+      return generateOperator((FunctionExpression) node);
+    } else {
+      return generateOperand(node);
+    }
+  }
+
+  private int generateLiteral(Expression literal) {
+    int operand = addOperand(literal.valueOf());
+    int node = nodes++;
+    JavaType type = javaType(literal);
+    fields.append(String.format("  private final int ls%d;%n", node));
+    fields.append(String.format("  private final %s lv%d;%n", type.getTypeName(), node));
+    constructor.append(
+        String.format("    ExprValue l%d = (ExprValue) operands[%d];%n", node, operand));
+    constructor.append(String.format("    ls%1$d = %2$s;%n", node, state("l" + node)));
+    constructor.append(
+        String.format(
+            "    lv%1$d = ls%1$d == %2$d ? l%1$d.%3$s : %4$s;%n",
+            node, VALUE, type.getUnboxing(), type.getDefaultValue()));
+    body.append(String.format("    int s%1$d = ls%1$d;%n", node));
+    body.append(String.format("    %2$s v%1$d = lv%1$d;%n", node, type.getTypeName()));
+    return node;
+  }
+
+  private int generateOperand(Expression expression) {
+    int operand = addOperand(expression);
+    int node = nodes++;
+    JavaType type = javaType(expression);
+    fields.append(String.format("  private final Expression o%d;%n", node));
+    constructor.append(String.format("    o%d = (Expression) operands[%d];%n", node, operand));
+    body.append(String.format("    ExprValue e%1$d = o%1$d.valueOf(env);%n", node));
+    body.append(String.format("    int s%d = %s;%n", node, state("e" + node)));
+    body.append(
+        String.format(
+            "    %2$s v%1$d = s%1$d == %3$d ? e%1$d.%4$s : %5$s;%n",
+            node, type.getTypeName(), VALUE, type.getUnboxing(), type.getDefaultValue()));
+    return node;
+  }
+
+  private int generateOperator(FunctionExpression function) {
+    Operator operator = OPERATORS.get(function.getFunctionName());
+    List<Expression> arguments = function.getArguments();
+    int left = generateNode(arguments.get(0));
+    int right = arguments.size() > 1 ? generateNode(arguments.get(1)) : -1;
+    int node = nodes++;
+    JavaType type = javaType(function);
+    body.append(String.format("    int s%d = %d;%n", node, VALUE));
+    body.append(
+        String.format("    %s v%d = %s;%n", type.getTypeName(), node, type.getDefaultValue()));
+    switch (operator) {
+      case AND ->
+          // FALSE over MISSING over NULL, see BinaryPredicateOperators
+          body.append(
+                  String.format(
+                      "    if ((s%2$d == %3$d && !v%2$d) || (s%4$d == %3$d && !v%4$d)) {"
+                          + " s%1$d = %3$d; v%1$d = false; }%n",
+                      node, left, VALUE, right))
+              .append(propagate("else if", node, left, right, MISSING, NULL))
+              .append(String.format("    else { s%1$d = %2$d; v%1$d = true; }%n", node, VALUE));
+      case OR ->
+          // TRUE over NULL over MISSING, see BinaryPredicateOperators
+          body.append(
+                  String.format(
+                      "    if ((s%2$d == %3$d && v%2$d) || (s%4$d == %3$d && v%4$d)) {"
+                          + " s%1$d = %3$d; v%1$d = true; }%n",
+                      node, left, VALUE, right))
+              .append(propagate("else if", node, left, right, NULL, MISSING))
+              .append(String.format("    else { s%1$d = %2$d; v%1$d = false; }%n", node, VALUE));
+      case NOT ->
+          body.append(
+              String.format(
+                  "    s%1$d = s%2$d;%n    if (s%1$d == %3$d) v%1$d = !v%2$d;%n",
+                  node, left, VALUE));
+      case IS_NULL, IS_NOT_NULL ->
+          body.append(
+              String.format(
+                  "    s%1$d = %3$d;%n    v%1$d = s%2$d %4$s %5$d;%n",
+                  node, left, VALUE, operator == Operator.IS_NULL ? "==" : "!=", NULL));
+      default -> {
+        // MISSING over NULL, see FunctionDSL#nullMissingHandling
+        body.append(propagate("if", node, left, right, MISSING, NULL));
+        if (operator == Operator.DIVIDE || operator == Operator.MODULUS) {
+          body.append(String.format("    else if (v%d == 0) s%d = %d;%n", right, node, NULL));
+        }
+        body.append(
+            String.format(
+                "    else { s%1$d = %2$d; v%1$d = %3$s; }%n",
+                node, VALUE, operation(operator, javaType(arguments.get(0)), left, right)));
+      }
+    }
+    return node;
+  }
+
+  /** Java expression of a comparison or an arithmetic operator on the values of two nodes. */
+  private static String operation(Operator operator, JavaType type, int left, int right) {
+    String l = "v" + left;
+    String r = "v" + right;
+    if (operator.comparison != null) {
+      return type.compare(l, r) + " " + operator.comparison;
+    }
+    // Integral overflow fails as in ArithmeticFunctions
+    boolean exact = type == JavaType.INT || type == JavaType.LONG;
+    return switch (operator) {
+      case ADD -> exact ? String.format("Math.addExact(%s, %s)", l, r) : l + " + " + r;
+      case SUBTRACT -> exact ? String.format("Math.subtractExact(%s, %s)", l, r) : l + " - " + r;
+      case MULTIPLY -> exact ? String.format("Math.multiplyExact(%s, %s)", l, r) : l + " * " + r;
+      case DIVIDE -> l + " / " + r;
+      default -> l + " % " + r;
+    };
+  }
+
+  /** Branches setting the state of a node to either state of its arguments, in order. */
+  private static String propagate(
+      String keyword, int node, int left, int right, int first, int second) {
+    return String.format(
+        "    %1$s (s%3$d == %5$d || s%4$d == %5$d) s%2$d = %5$d;%n"
+            + "    else if (s%3$d == %6$d || s%4$d == %6$d) s%2$d = %6$d;%n",
+        keyword, node, left, right, first, second);
+  }
+
+  private static String state(String value) {
+    return String.format(
+        "%1$s.isMissing() ? %2$d : %1$s.isNull() ? %3$d : %4$d", value, MISSING, NULL, VALUE);
+  }
+
+  private int addOperand(Object operand) {
+    operands.add(operand);
+    return operands.size() - 1;
+  }
+
+  private static JavaType javaType(Expression expression) {
+    return JavaType.of(expression.type()).orElseThrow();
+  }
+
+  /**
+   * @return true if the expression is an operator which is generated, i.e. the operator and the
+   *     types of it and its arguments are supported, and every argument is generated or is an
+   *     operand of a supported type.
+   */
+  private static boolean isGenerated(Expression expression) {
+    if (!(expression instanceof FunctionExpression function)
+        || !OPERATORS.containsKey(function.getFunctionName())
+        || JavaType.of(function.type()).isEmpty()) {
+      return false;
+    }
+    Operator operator = OPERATORS.get(function.getFunctionName());
+    List<Expression> arguments = function.getArguments();
+    int arity =
+        switch (operator) {
+          case NOT, IS_NULL, IS_NOT_NULL -> 1;
+          default -> 2;
+        };
+    if (arguments.size() != arity
+        || arguments.stream().anyMatch(arg -> JavaType.of(arg.type()).isEmpty())) {
+      return false;
+    }
+    JavaType argumentType = JavaType.of(arguments.get(0).type()).get();
+    return switch (operator) {
+      case AND, OR, NOT -> argumentType == JavaType.BOOLEAN && sameTypes(arguments);
+      case IS_NULL, IS_NOT_NULL -> true;
+      case ADD, SUBTRACT, MULTIPLY, DIVIDE, MODULUS ->
+          argumentType.isNumber()
+              && sameTypes(arguments)
+              && argumentType == JavaType.of(function.type()).get();
+      default -> sameTypes(arguments);
+    };
+  }
+
+  private static boolean sameTypes(List<Expression> arguments) {
+    return arguments.stream().map(Expression::type).distinct().count() == 1;
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.codegen;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.lang.reflect.Constructor;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.codehaus.janino.SimpleCompiler;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.codegen.CompiledExpression.Evaluator;
+import org.opensearch.sql.expression.codegen.ExpressionCodeGenerator.GeneratedCode;
+
+/**
+ * Compiler of resolved expressions into classes generated by Janino, which evaluate the logical,
+ * comparison and arithmetic operators of the expression on primitive values instead of through the
+ * closures of their function implementations. See {@link ExpressionCodeGenerator} for what is
+ * compiled.
+ *
+ * <p>The generated classes are cached by their source, i.e. by the shape and the types of the
+ * expression, so the expressions which only differ in their literals share a class. An expression
+ * is returned as is if compilation is disabled, if it can't be compiled, or if compilation fails.
+ */
+public class ExpressionCompiler {
+  private static final Logger LOG = LogManager.getLogger(ExpressionCompiler.class);
+
+  private static final int MAX_CACHED_CLASSES = 1024;
+
+  /** Compiler which never compiles. */
+  public static final ExpressionCompiler DISABLED = new ExpressionCompiler(() -> false);
+
+  private final Cache<String, Constructor<? extends Evaluator>> classes =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_CLASSES).build();
+
+  /** Whether expressions are compiled, which is checked for every expression. */
+  private final BooleanSupplier enabled;
+
+  public ExpressionCompiler(BooleanSupplier enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Compile an expression if enabled.
+   *
+   * @param expression resolved expression
+   * @return compiled expression, or the given expression if it is not compiled
+   */
+  public Expression compile(Expression expression) {
+    if (expression instanceof CompiledExpression || !enabled.getAsBoolean()) {
+      return expression;
+    }
+    Optional<GeneratedCode> code = ExpressionCodeGenerator.generate(expression);
+    if (code.isEmpty()) {
+      return expression;
+    }
+    try {
+      Constructor<? extends Evaluator> constructor = classes.getIfPresent(code.get().source());
+      if (constructor == null) {
+        constructor = compileClass(code.get().source());
+        classes.put(code.get().source(), constructor);
+      }
+      return new CompiledExpression(
+          expression, constructor.newInstance((Object) code.get().operands()));
+    } catch (Exception e) {
+      LOG.warn("Failed to compile expression {}, which is interpreted instead", expression, e);
+      return expression;
+    }
+  }
+
+  private static Constructor<? extends Evaluator> compileClass(String source) {
+    return AccessController.doPrivileged(
+        (PrivilegedAction<Constructor<? extends Evaluator>>)
+            () -> {
+              try {
+                SimpleCompiler compiler = new SimpleCompiler();
+                compiler.setParentClassLoader(ExpressionCompiler.class.getClassLoader());
+                compiler.cook(source);
+                return compiler
+                    .getClassLoader()
+                    .loadClass(ExpressionCodeGenerator.CLASS_NAME)
+                    .asSubclass(Evaluator.class)
+                    .getConstructor(Object[].class);
+              } catch (Exception e) {
+                throw new IllegalStateException("Failed to compile generated class:\n" + source, e);
+              }
+            });
+  }
+}
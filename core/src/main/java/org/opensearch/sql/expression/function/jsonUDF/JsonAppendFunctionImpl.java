@@ -63,7 +63,7 @@ public class JsonAppendFunctionImpl extends ImplementorUDF {
     JsonNode root = convertInputToJsonNode(args[0]);
     List<Object> expands = new ArrayList<>();
     for (int i = 0; i < keys.size(); i += 2) {
-      List<String> expandedPaths = expandJsonPath(root, convertToJsonPath(keys.get(i).toString()));
+      List<String> expandedPaths = expandJsonPath(root, cachedJsonPath(keys.get(i).toString()));
       for (String expandedPath : expandedPaths) {
         expands.add(
             expandedPath
@@ -56,7 +56,7 @@ public class JsonDeleteFunctionImpl extends ImplementorUDF {
     String[] pathSpecs =
         jsonPaths.stream()
             .map(Object::toString)
-            .map(JsonUtils::convertToJsonPath)
+            .map(JsonUtils::cachedJsonPath)
             .toArray(String[]::new);
     return jsonRemove(args[0].toString(), pathSpecs);
   }
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function.jsonUDF;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Remembers the last json document parsed on the current thread. Rows are evaluated one at a time
+ * per thread, so several json_* calls over the same field of a row, e.g. {@code eval
+ * a=json_extract(msg, 'a'), b=json_extract(msg, 'b.c')}, share a single parse of the document.
+ *
+ * <p>The cached representations must be treated as read-only by callers.
+ */
+@UtilityClass
+public class JsonDocumentCache {
+  private static final ThreadLocal<Entry> LAST = ThreadLocal.withInitial(Entry::new);
+
+  /**
+   * @param json raw json document
+   * @return true if the document is already parsed into java objects on this thread
+   */
+  public static boolean isParsed(String json) {
+    Entry entry = LAST.get();
+    return entry.matches(json) && entry.value != null;
+  }
+
+  /**
+   * Parse a document into maps, lists and scalars, the same representation used by the Calcite json
+   * functions.
+   *
+   * @param json raw json document
+   * @return parsed document
+   * @throws JsonProcessingException if the document is not valid json
+   */
+  public static Object parse(String json) throws JsonProcessingException {
+    Entry entry = reset(json);
+    if (entry.value == null) {
+      entry.value = JsonUtils.objectMapper.readValue(json, Object.class);
+    }
+    return entry.value;
+  }
+
+  /**
+   * Parse a document into a Jackson tree.
+   *
+   * @param json raw json document
+   * @return parsed tree
+   * @throws JsonProcessingException if the document is not valid json
+   */
+  public static JsonNode parseTree(String json) throws JsonProcessingException {
+    Entry entry = reset(json);
+    if (entry.tree == null) {
+      entry.tree = JsonUtils.objectMapper.readTree(json);
+    }
+    return entry.tree;
+  }
+
+  private static Entry reset(String json) {
+    Entry entry = LAST.get();
+    if (!entry.matches(json)) {
+      entry.json = json;
+      entry.value = null;
+      entry.tree = null;
+    }
+    return entry;
+  }
+
+  private static class Entry {
+    private String json;
+    private Object value;
+    private JsonNode tree;
+
+    private boolean matches(String other) {
+      return json == other || (json != null && json.equals(other));
+    }
+  }
+}
@@ -10,6 +10,7 @@ import static org.apache.calcite.sql.SqlJsonQueryWrapperBehavior.WITHOUT_ARRAY;
 import static org.opensearch.sql.calcite.utils.PPLReturnTypes.STRING_FORCE_NULLABLE;
 import static org.opensearch.sql.expression.function.jsonUDF.JsonUtils.*;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -60,30 +61,65 @@ public class JsonExtractFunctionImpl extends ImplementorUDF {
     if (args.length < 2) {
       return null;
     }
-    JsonFunctions.StatefulFunction a = new JsonFunctions.StatefulFunction();
     String jsonStr = (String) args[0];
-    List<Object> jsonPaths = Arrays.asList(args).subList(1, args.length);
-    List<String> pathSpecs =
-        jsonPaths.stream().map(Object::toString).map(JsonUtils::convertToJsonPath).toList();
+    List<JsonPathNavigator> navigators =
+        Arrays.asList(args).subList(1, args.length).stream()
+            .map(Object::toString)
+            .map(JsonPathNavigator::of)
+            .toList();
+    JsonFunctions.StatefulFunction a = null;
     List<Object> results = new ArrayList<>();
-    for (String pathSpec : pathSpecs) {
-      Object queryResult = a.jsonQuery(jsonStr, pathSpec, WITHOUT_ARRAY, NULL, NULL, false);
-      Object valueResult =
-          a.jsonValue(
-              jsonStr,
-              pathSpec,
-              SqlJsonValueEmptyOrErrorBehavior.NULL,
-              null,
-              SqlJsonValueEmptyOrErrorBehavior.NULL,
-              null);
-      results.add(queryResult != null ? queryResult : valueResult);
+    for (JsonPathNavigator navigator : navigators) {
+      Object result = navigate(jsonStr, navigator, navigators.size() == 1);
+      if (result == JsonPathNavigator.NOT_FOUND) {
+        if (a == null) {
+          a = new JsonFunctions.StatefulFunction();
+        }
+        result = query(a, jsonStr, navigator.getJsonPath());
+      }
+      results.add(result);
     }
-    if (jsonPaths.size() == 1) {
+    if (navigators.size() == 1) {
       return doJsonize(results.getFirst());
     }
     return doJsonize(results);
   }
 
+  /**
+   * Resolve a definite path without going through the Calcite json functions. A single path over a
+   * document that is not parsed yet is resolved with a streaming scan, otherwise the document is
+   * parsed once and shared with other paths and json_* calls on the same row.
+   *
+   * @return the value at the path, or {@link JsonPathNavigator#NOT_FOUND} if the Calcite json
+   *     functions have to decide the result
+   */
+  private static Object navigate(String jsonStr, JsonPathNavigator navigator, boolean singlePath) {
+    if (!navigator.isDefinite()) {
+      return JsonPathNavigator.NOT_FOUND;
+    }
+    if (singlePath && !JsonDocumentCache.isParsed(jsonStr)) {
+      return navigator.extract(jsonStr);
+    }
+    try {
+      return navigator.navigate(JsonDocumentCache.parse(jsonStr));
+    } catch (JsonProcessingException e) {
+      return JsonPathNavigator.NOT_FOUND;
+    }
+  }
+
+  private static Object query(JsonFunctions.StatefulFunction a, String jsonStr, String pathSpec) {
+    Object queryResult = a.jsonQuery(jsonStr, pathSpec, WITHOUT_ARRAY, NULL, NULL, false);
+    Object valueResult =
+        a.jsonValue(
+            jsonStr,
+            pathSpec,
+            SqlJsonValueEmptyOrErrorBehavior.NULL,
+            null,
+            SqlJsonValueEmptyOrErrorBehavior.NULL,
+            null);
+    return queryResult != null ? queryResult : valueResult;
+  }
+
   private static boolean isScalarObject(Object obj) {
     if (obj instanceof Collection) {
       return false;
@@ -0,0 +1,221 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function.jsonUDF;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * A json path compiled once into navigation steps. Paths are usually literals in a query, so the
+ * compiled form is cached by the raw path and shared by every row that evaluates it.
+ *
+ * <p>Only definite paths made of plain field names and non-negative array indices can be
+ * navigated directly. Anything else (wildcards, negative indices, quoted or special field names)
+ * is reported as not {@link #isDefinite() definite} and callers fall back to the Calcite json
+ * functions, which keeps the result identical to the non-compiled evaluation.
+ */
+public class JsonPathNavigator {
+  private static final int MAX_CACHED_PATHS = 1024;
+
+  private static final Cache<String, JsonPathNavigator> CACHE =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PATHS).build();
+
+  private static final JsonFactory JSON_FACTORY = JsonUtils.objectMapper.getFactory();
+
+  /** Returned by navigation when the path does not resolve to a non-null value. */
+  public static final Object NOT_FOUND = new Object();
+
+  /** The path in the normalized form accepted by the Calcite json functions, e.g. $.a[2].b. */
+  @Getter private final String jsonPath;
+
+  /** Steps of a definite path, each either a {@link String} field name or an {@link Integer}. */
+  private final Object[] steps;
+
+  private JsonPathNavigator(String jsonPath, Object[] steps) {
+    this.jsonPath = jsonPath;
+    this.steps = steps;
+  }
+
+  /**
+   * Get the compiled navigator for a user path like a.b{}.c{2}.
+   *
+   * @param path candidate json path
+   * @return compiled navigator, shared across calls
+   */
+  public static JsonPathNavigator of(String path) {
+    JsonPathNavigator navigator = CACHE.getIfPresent(path);
+    if (navigator == null) {
+      navigator = compile(path);
+      CACHE.put(path, navigator);
+    }
+    return navigator;
+  }
+
+  static JsonPathNavigator compile(String path) {
+    String jsonPath = JsonUtils.convertToJsonPath(path);
+    return new JsonPathNavigator(jsonPath, parseSteps(jsonPath));
+  }
+
+  /** @return true if the path can be navigated without falling back to Calcite. */
+  public boolean isDefinite() {
+    return steps != null;
+  }
+
+  /**
+   * Navigate a document already parsed into maps, lists and scalars.
+   *
+   * @param root parsed document
+   * @return the non-null value at the path, or {@link #NOT_FOUND}
+   */
+  public Object navigate(Object root) {
+    Object current = root;
+    for (Object step : steps) {
+      if (step instanceof String field) {
+        if (!(current instanceof Map<?, ?> map)) {
+          return NOT_FOUND;
+        }
+        current = map.get(field);
+      } else {
+        int index = (Integer) step;
+        if (!(current instanceof List<?> list) || index >= list.size()) {
+          return NOT_FOUND;
+        }
+        current = list.get(index);
+      }
+      if (current == null) {
+        return NOT_FOUND;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Extract the value at the path from a raw json string with a streaming parser. Subtrees that are
+   * not on the path are skipped without being materialized.
+   *
+   * @param json raw json document
+   * @return the non-null value at the path, or {@link #NOT_FOUND} if it is absent or the document
+   *     cannot be parsed
+   */
+  public Object extract(String json) {
+    try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+      if (parser.nextToken() == null) {
+        return NOT_FOUND;
+      }
+      for (Object step : steps) {
+        boolean found =
+            step instanceof String field ? seekField(parser, field) : seekIndex(parser, (int) step);
+        if (!found) {
+          return NOT_FOUND;
+        }
+      }
+      if (parser.currentToken() == JsonToken.VALUE_NULL) {
+        return NOT_FOUND;
+      }
+      Object value = JsonUtils.objectMapper.readValue(parser, Object.class);
+      // Finish the enclosing containers so a malformed document is rejected as it is by a full
+      // parse.
+      while (!parser.getParsingContext().inRoot()) {
+        if (parser.nextToken() == null) {
+          return NOT_FOUND;
+        }
+      }
+      return value;
+    } catch (IOException e) {
+      return NOT_FOUND;
+    }
+  }
+
+  /** Move the parser from a START_OBJECT onto the value of the given field. */
+  private static boolean seekField(JsonParser parser, String field) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      return false;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      if (field.equals(name)) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+    return false;
+  }
+
+  /** Move the parser from a START_ARRAY onto the element at the given index. */
+  private static boolean seekIndex(JsonParser parser, int index) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      return false;
+    }
+    for (int i = 0; ; i++) {
+      JsonToken token = parser.nextToken();
+      if (token == null || token == JsonToken.END_ARRAY) {
+        return false;
+      }
+      if (i == index) {
+        return true;
+      }
+      parser.skipChildren();
+    }
+  }
+
+  /**
+   * Split a normalized path like $.a[2].b into steps.
+   *
+   * @return the steps, or null if the path is not definite
+   */
+  private static Object[] parseSteps(String jsonPath) {
+    if (!jsonPath.startsWith("$")) {
+      return null;
+    }
+    List<Object> steps = new ArrayList<>();
+    int i = 1;
+    int length = jsonPath.length();
+    while (i < length) {
+      char c = jsonPath.charAt(i);
+      if (c == '.') {
+        int start = ++i;
+        while (i < length && isFieldChar(jsonPath.charAt(i))) {
+          i++;
+        }
+        if (i < length && jsonPath.charAt(i) != '.' && jsonPath.charAt(i) != '[') {
+          return null;
+        }
+        if (i > start) {
+          steps.add(jsonPath.substring(start, i));
+        } else if (i == length || jsonPath.charAt(i) != '[') {
+          return null;
+        }
+      } else if (c == '[') {
+        int end = jsonPath.indexOf(']', i);
+        if (end == -1) {
+          return null;
+        }
+        String index = jsonPath.substring(i + 1, end);
+        if (index.isEmpty() || !index.chars().allMatch(Character::isDigit) || index.length() > 9) {
+          return null;
+        }
+        steps.add(Integer.parseInt(index));
+        i = end + 1;
+      } else {
+        return null;
+      }
+    }
+    return steps.toArray();
+  }
+
+  private static boolean isFieldChar(char c) {
+    return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '@';
+  }
+}
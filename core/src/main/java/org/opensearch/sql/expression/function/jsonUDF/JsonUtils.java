@@ -56,7 +56,19 @@ public class JsonUtils {
   }
 
   /**
-   * Transfer the object input to json node
+   * Same as {@link #convertToJsonPath(String)}, but served from the compiled path cache of {@link
+   * JsonPathNavigator} so that a literal path is only converted once per query.
+   *
+   * @param input candidate json path like a.b{}.c{2}
+   * @return the normalized json path like $.a.b[*].c[2]
+   */
+  public static String cachedJsonPath(String input) {
+    return JsonPathNavigator.of(input).getJsonPath();
+  }
+
+  /**
+   * Transfer the object input to json node. String inputs are parsed through {@link
+   * JsonDocumentCache}, so the returned node must not be modified.
    *
    * @param input
    * @return
@@ -65,7 +77,7 @@ public class JsonUtils {
     try {
       JsonNode root;
       if (input instanceof String) {
-        root = objectMapper.readTree(input.toString());
+        root = JsonDocumentCache.parseTree(input.toString());
       } else {
         root = objectMapper.valueToTree(input);
       }
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+import java.util.Collection;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Estimates the heap size of an {@link ExprValue} for {@link MemoryTracker}. It is a rough
+ * estimate of the objects holding the value, good enough to account buffered rows without walking
+ * the object graph.
+ */
+@UtilityClass
+public class ExprValueSizeEstimator {
+
+  /** Header and fields of a scalar value object. */
+  static final long VALUE_SIZE = 24;
+
+  /** Value object, String object and header of its byte array. */
+  static final long STRING_OVERHEAD = 56;
+
+  /** Value object, LinkedHashMap and its table. */
+  static final long TUPLE_OVERHEAD = 96;
+
+  /** LinkedHashMap entry, the key is shared by all the rows. */
+  static final long TUPLE_ENTRY_OVERHEAD = 40;
+
+  /** Value object and list. */
+  static final long COLLECTION_OVERHEAD = 56;
+
+  /** Reference in the list. */
+  static final long COLLECTION_ELEMENT_OVERHEAD = 8;
+
+  /** Header and length of an array. */
+  static final long ARRAY_OVERHEAD = 16;
+
+  /**
+   * Estimate the heap size of a value.
+   *
+   * @param value value
+   * @return estimated number of bytes.
+   */
+  public static long estimate(ExprValue value) {
+    if (value instanceof ExprNullValue || value instanceof ExprMissingValue) {
+      // Singletons
+      return 0;
+    } else if (value instanceof ExprStringValue) {
+      return STRING_OVERHEAD + 2L * value.stringValue().length();
+    } else if (value instanceof ExprTupleValue) {
+      long size = TUPLE_OVERHEAD;
+      for (ExprValue field : value.tupleValue().values()) {
+        size += TUPLE_ENTRY_OVERHEAD + estimate(field);
+      }
+      return size;
+    } else if (value instanceof ExprCollectionValue) {
+      long size = COLLECTION_OVERHEAD;
+      for (ExprValue element : value.collectionValue()) {
+        size += COLLECTION_ELEMENT_OVERHEAD + estimate(element);
+      }
+      return size;
+    }
+    return VALUE_SIZE;
+  }
+
+  /**
+   * Estimate the heap size of a row of a Calcite enumerable, which is the array of the values of
+   * its fields, or the value itself for rows of a single field.
+   *
+   * @param row row
+   * @return estimated number of bytes.
+   */
+  public static long estimateRow(Object row) {
+    if (row == null) {
+      return 0;
+    } else if (row instanceof Object[] fields) {
+      long size = ARRAY_OVERHEAD;
+      for (Object field : fields) {
+        size += COLLECTION_ELEMENT_OVERHEAD + estimateRow(field);
+      }
+      return size;
+    } else if (row instanceof String string) {
+      return STRING_OVERHEAD + 2L * string.length();
+    } else if (row instanceof ExprValue value) {
+      return estimate(value);
+    } else if (row instanceof Collection<?> elements) {
+      long size = COLLECTION_OVERHEAD;
+      for (Object element : elements) {
+        size += COLLECTION_ELEMENT_OVERHEAD + estimateRow(element);
+      }
+      return size;
+    } else if (row instanceof Map<?, ?> map) {
+      long size = TUPLE_OVERHEAD;
+      for (Object value : map.values()) {
+        size += TUPLE_ENTRY_OVERHEAD + estimateRow(value);
+      }
+      return size;
+    }
+    return VALUE_SIZE;
+  }
+}
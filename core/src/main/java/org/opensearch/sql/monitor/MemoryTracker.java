@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.monitor;
+
+/**
+ * Memory accounting of a single query. Operators buffering rows reserve the estimated size of the
+ * rows before holding them and release it once they are dropped. A reservation exceeding the
+ * memory available to the query fails it, so the query asking for too much memory is the one
+ * which fails, whatever the heap usage of other queries.
+ */
+public interface MemoryTracker extends AutoCloseable {
+
+  /** Tracker which doesn't account any memory. */
+  MemoryTracker NO_OP =
+      new MemoryTracker() {
+        @Override
+        public void reserve(long bytes, String label) {}
+
+        @Override
+        public void release(long bytes) {}
+
+        @Override
+        public long getReservedBytes() {
+          return 0;
+        }
+
+        @Override
+        public void close() {}
+      };
+
+  /**
+   * Reserve memory for the query.
+   *
+   * @param bytes estimated number of bytes
+   * @param label what the memory is used for, reported if the reservation fails.
+   * @throws RuntimeException if the memory is not available.
+   */
+  void reserve(long bytes, String label);
+
+  /**
+   * Release memory reserved before.
+   *
+   * @param bytes number of bytes
+   */
+  void release(long bytes);
+
+  /**
+   * @return number of bytes reserved and not released yet.
+   */
+  long getReservedBytes();
+
+  /** Release all the memory reserved by the query. */
+  @Override
+  void close();
+}
@@ -11,7 +11,17 @@ import com.facebook.presto.matching.Match;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.hep.HepMatchOrder;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.rules.CoreRules;
+import org.apache.calcite.rel.rules.ProjectMergeRule;
+import org.apache.calcite.rel.rules.ProjectRemoveRule;
+import org.opensearch.sql.calcite.plan.PartialAggregateJoinTransposeRule;
+import org.opensearch.sql.calcite.plan.SortRemoveRedundantRule;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.rule.EvalPushDown;
 import org.opensearch.sql.planner.optimizer.rule.MergeFilterAndFilter;
@@ -32,6 +42,61 @@ import org.opensearch.sql.planner.optimizer.rule.write.CreateTableWriteBuilder;
  */
 public class LogicalPlanOptimizer {
 
+  /** Merges projects, except windowed ones which must be evaluated after their input. */
+  private static final RelOptRule PROJECT_MERGE =
+      ProjectMergeRule.Config.DEFAULT
+          .withOperandSupplier(
+              b0 ->
+                  b0.operand(LogicalProject.class)
+                      .predicate(project -> !project.containsOver())
+                      .oneInput(
+                          b1 ->
+                              b1.operand(LogicalProject.class)
+                                  .predicate(project -> !project.containsOver())
+                                  .anyInputs()))
+          .as(ProjectMergeRule.Config.class)
+          .toRule();
+
+  /** Removes identity projects, except the ones renaming fields such as PPL rename. */
+  private static final RelOptRule PROJECT_REMOVE =
+      ProjectRemoveRule.Config.DEFAULT
+          .withOperandSupplier(
+              b0 ->
+                  b0.operand(LogicalProject.class)
+                      .predicate(
+                          project ->
+                              ProjectRemoveRule.isTrivial(project)
+                                  && project
+                                      .getRowType()
+                                      .getFieldNames()
+                                      .equals(project.getInput().getRowType().getFieldNames()))
+                      .anyInputs())
+          .as(ProjectRemoveRule.Config.class)
+          .toRule();
+
+  /**
+   * Heuristic phase run on Calcite plans before the cost based pushdown rules: constant folding,
+   * filter and project merging, filter pushing below projects, identity project and redundant sort
+   * removal. It simplifies the stacked filters and projections of PPL pipelines so that the
+   * pushdown rules match more of them, with a smaller search space. Aggregates above joins are
+   * also split so that the left side of the join is pre-aggregated and pushed down as buckets.
+   */
+  private static final HepProgram CALCITE_PROGRAM =
+      HepProgram.builder()
+          .addMatchOrder(HepMatchOrder.BOTTOM_UP)
+          .addRuleCollection(
+              List.of(
+                  CoreRules.FILTER_REDUCE_EXPRESSIONS,
+                  CoreRules.PROJECT_REDUCE_EXPRESSIONS,
+                  CoreRules.FILTER_MERGE,
+                  CoreRules.FILTER_PROJECT_TRANSPOSE,
+                  PROJECT_MERGE,
+                  PROJECT_REMOVE,
+                  SortRemoveRedundantRule.Config.DEFAULT.toRule(),
+                  PartialAggregateJoinTransposeRule.Config.DEFAULT.toRule(),
+                  PartialAggregateJoinTransposeRule.Config.PROJECT.toRule()))
+          .build();
+
   private final List<Rule<?>> rules;
 
   /** Create {@link LogicalPlanOptimizer} with customized rules. */
@@ -72,9 +137,11 @@ public class LogicalPlanOptimizer {
     return internalOptimize(optimized);
   }
 
+  /** Optimize Calcite {@link RelNode} with the heuristic rules of {@link #CALCITE_PROGRAM}. */
   public RelNode customOptimize(RelNode plan) {
-    // TODO
-    return plan;
+    HepPlanner planner = new HepPlanner(CALCITE_PROGRAM);
+    planner.setRoot(plan);
+    return planner.findBestExp();
   }
 
   private LogicalPlan internalOptimize(LogicalPlan plan) {
@@ -16,6 +16,8 @@ import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.monitor.ExprValueSizeEstimator;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.planner.physical.collector.Collector;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -35,6 +37,11 @@ public class AggregationOperator extends PhysicalPlan {
 
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryTracker memoryTracker;
+
+  /** Bytes reserved for the buffered results. */
+  @EqualsAndHashCode.Exclude private long reservedBytes;
+
   /**
    * AggregationOperator Constructor.
    *
@@ -46,10 +53,27 @@ public class AggregationOperator extends PhysicalPlan {
       PhysicalPlan input,
       List<NamedAggregator> aggregatorList,
       List<NamedExpression> groupByExprList) {
+    this(input, aggregatorList, groupByExprList, MemoryTracker.NO_OP);
+  }
+
+  /**
+   * AggregationOperator Constructor.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param aggregatorList List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryTracker {@link MemoryTracker} of the query, charged with one row per group
+   */
+  public AggregationOperator(
+      PhysicalPlan input,
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByExprList,
+      MemoryTracker memoryTracker) {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
     this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList);
+    this.memoryTracker = memoryTracker;
   }
 
   @Override
@@ -78,6 +102,19 @@ public class AggregationOperator extends PhysicalPlan {
     while (input.hasNext()) {
       collector.collect(input.next().bindingTuples());
     }
-    iterator = collector.results().iterator();
+    List<ExprValue> results = collector.results();
+    for (ExprValue result : results) {
+      long bytes = ExprValueSizeEstimator.estimate(result);
+      memoryTracker.reserve(bytes, "aggregation");
+      reservedBytes += bytes;
+    }
+    iterator = results.iterator();
+  }
+
+  @Override
+  public void close() {
+    memoryTracker.release(reservedBytes);
+    reservedBytes = 0;
+    super.close();
   }
 }
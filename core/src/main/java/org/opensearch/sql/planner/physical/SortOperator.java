@@ -17,6 +17,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.ExprValueSizeEstimator;
+import org.opensearch.sql.monitor.MemoryTracker;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
@@ -31,6 +33,10 @@ public class SortOperator extends PhysicalPlan {
   @Getter private final List<Pair<SortOption, Expression>> sortList;
   @EqualsAndHashCode.Exclude private final Comparator<ExprValue> sorter;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final MemoryTracker memoryTracker;
+
+  /** Bytes reserved for the buffered rows. */
+  @EqualsAndHashCode.Exclude private long reservedBytes;
 
   /**
    * Sort Operator Constructor.
@@ -40,9 +46,25 @@ public class SortOperator extends PhysicalPlan {
    *     with {@link SortOption}
    */
   public SortOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, MemoryTracker.NO_OP);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param memoryTracker {@link MemoryTracker} of the query, charged with the buffered rows
+   */
+  public SortOperator(
+      PhysicalPlan input,
+      List<Pair<SortOption, Expression>> sortList,
+      MemoryTracker memoryTracker) {
     this.input = input;
     this.sortList = sortList;
     this.sorter = SortHelper.constructExprComparator(sortList);
+    this.memoryTracker = memoryTracker;
   }
 
   @Override
@@ -55,12 +77,23 @@ public class SortOperator extends PhysicalPlan {
     super.open();
     PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
     while (input.hasNext()) {
-      sorted.add(input.next());
+      ExprValue row = input.next();
+      long bytes = ExprValueSizeEstimator.estimate(row);
+      memoryTracker.reserve(bytes, "sort");
+      reservedBytes += bytes;
+      sorted.add(row);
     }
 
     iterator = iterator(sorted);
   }
 
+  @Override
+  public void close() {
+    memoryTracker.release(reservedBytes);
+    reservedBytes = 0;
+    super.close();
+  }
+
   @Override
   public List<PhysicalPlan> getChild() {
     return Collections.singletonList(input);
@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.streaming;
+
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.span.SpanExpression;
+import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.physical.collector.Collector;
+import org.opensearch.sql.planner.physical.collector.Rounding;
+import org.opensearch.sql.planner.streaming.watermark.BoundedOutOfOrderWatermarkGenerator;
+import org.opensearch.sql.planner.streaming.watermark.WatermarkGenerator;
+import org.opensearch.sql.planner.streaming.windowing.Window;
+import org.opensearch.sql.planner.streaming.windowing.assigner.TumblingWindowAssigner;
+import org.opensearch.sql.planner.streaming.windowing.assigner.WindowAssigner;
+import org.opensearch.sql.planner.streaming.windowing.trigger.AfterWatermarkWindowTrigger;
+import org.opensearch.sql.planner.streaming.windowing.trigger.TriggerResult;
+import org.opensearch.sql.planner.streaming.windowing.trigger.WindowTrigger;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Incremental aggregation of a stream by the time windows of its rows. The rows of each batch are
+ * aggregated into the state of their window, and the results of a window are output once the
+ * watermark passes its end, after which its state is discarded. So a batch costs work in proportion
+ * to its own rows, instead of the whole time range of the stream.
+ */
+public class WindowedAggregation {
+
+  /** Timestamp of a row, which assigns it to its windows. */
+  @Getter private final Expression timestamp;
+
+  private final WindowAssigner windowAssigner;
+
+  private final WatermarkGenerator watermarkGenerator;
+
+  /** Builds the state of a window, which aggregates its rows by all the group by fields. */
+  private final Supplier<Collector> collectorSupplier;
+
+  /** Stream context of which the watermark is the one of the last output. */
+  private final StreamContext context = new StreamContext();
+
+  private final WindowTrigger trigger = new AfterWatermarkWindowTrigger(context);
+
+  /** State of the windows which are not output yet, by start time. */
+  private final SortedMap<Window, Collector> windows =
+      new TreeMap<>(Comparator.comparingLong(Window::getStartTime));
+
+  /** Watermark of the rows added so far, which is applied on the next output. */
+  private long watermark = Long.MIN_VALUE;
+
+  /** Constructor. */
+  public WindowedAggregation(
+      Expression timestamp,
+      WindowAssigner windowAssigner,
+      WatermarkGenerator watermarkGenerator,
+      Supplier<Collector> collectorSupplier) {
+    this.timestamp = timestamp;
+    this.windowAssigner = windowAssigner;
+    this.watermarkGenerator = watermarkGenerator;
+    this.collectorSupplier = collectorSupplier;
+    context.setWatermark(Long.MIN_VALUE);
+  }
+
+  /**
+   * Create the incremental aggregation of {@code stats ... by span(field, interval)}, which
+   * aggregates by tumbling windows of the span. The rows must be added in batches of increasing
+   * timestamps, so that no row of a batch is older than a row of a previous batch, and the
+   * watermark is the latest timestamp without delay.
+   *
+   * @param aggregation aggregation of which the first group by field is a span of a timestamp
+   * @return windowed aggregation
+   */
+  public static WindowedAggregation create(LogicalAggregation aggregation) {
+    List<NamedExpression> groupByList = aggregation.getGroupByList();
+    if (groupByList.isEmpty()
+        || !(groupByList.getFirst().getDelegated() instanceof SpanExpression span)
+        || !isTimestamp(span.type())) {
+      throw new UnsupportedOperationException(
+          "Continuous query can only aggregate by a span of a timestamp field");
+    }
+    return new WindowedAggregation(
+        span.getField(),
+        new TumblingWindowAssigner(windowSize(span)),
+        new BoundedOutOfOrderWatermarkGenerator(0),
+        () -> Collector.Builder.build(groupByList, aggregation.getAggregatorList()));
+  }
+
+  /**
+   * Aggregate a row into the state of its windows. A row of a window which was output already is
+   * dropped, as is a row without timestamp.
+   *
+   * @param row input row
+   */
+  public void add(ExprValue row) {
+    BindingTuple tuple = row.bindingTuples();
+    ExprValue value = timestamp.valueOf(tuple);
+    if (value.isNull() || value.isMissing()) {
+      return;
+    }
+    long time = value.timestampValue().toEpochMilli();
+    watermark = watermarkGenerator.generate(time);
+    for (Window window : windowAssigner.assign(time)) {
+      if (!trigger.trigger(window).isFire()) {
+        windows.computeIfAbsent(window, w -> collectorSupplier.get()).collect(tuple);
+      }
+    }
+  }
+
+  /**
+   * Output the results of the windows which the watermark passed, and discard their state.
+   *
+   * @return results of the windows in time order
+   */
+  public List<ExprValue> fire() {
+    context.setWatermark(watermark);
+    List<ExprValue> results = new ArrayList<>();
+    Iterator<Map.Entry<Window, Collector>> iterator = windows.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Window, Collector> entry = iterator.next();
+      TriggerResult result = trigger.trigger(entry.getKey());
+      if (!result.isFire()) {
+        // Windows are of the same size, so the later ones end after this one
+        break;
+      }
+      results.addAll(entry.getValue().results());
+      if (result.isPurge()) {
+        iterator.remove();
+      }
+    }
+    return results;
+  }
+
+  private static boolean isTimestamp(ExprType type) {
+    return type.equals(TIMESTAMP) || type.typeName().equalsIgnoreCase(TIMESTAMP.typeName());
+  }
+
+  /** Months and years vary in length and weeks don't start on epoch, so they are not windows. */
+  private static long windowSize(SpanExpression span) {
+    long unit =
+        switch (Rounding.DateTimeUnit.resolve(span.getUnit().getName())) {
+          case MILLISECOND -> 1L;
+          case SECOND -> TimeUnit.SECONDS.toMillis(1);
+          case MINUTE -> TimeUnit.MINUTES.toMillis(1);
+          case HOUR -> TimeUnit.HOURS.toMillis(1);
+          case DAY -> TimeUnit.DAYS.toMillis(1);
+          default ->
+              throw new UnsupportedOperationException(
+                  "Continuous query can't aggregate by a span of " + span.getUnit().getName());
+        };
+    return span.getValue().valueOf().integerValue() * unit;
+  }
+}
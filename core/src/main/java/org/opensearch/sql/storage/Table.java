@@ -89,4 +89,15 @@ public interface Table {
   default StreamingSource asStreamingSource() {
     throw new UnsupportedOperationException();
   }
+
+  /**
+   * Translate {@link Table} to a {@link StreamingSource} of which the offsets are the values of a
+   * timestamp field, if possible.
+   *
+   * @param timeField timestamp field, in the order of which documents are appended
+   * @param maxDelayMillis longest time documents can be appended after their timestamp
+   */
+  default StreamingSource asStreamingSource(String timeField, long maxDelayMillis) {
+    return asStreamingSource();
+  }
 }
@@ -7,6 +7,7 @@ package org.opensearch.sql.storage;
 
 import java.util.Collections;
 import java.util.List;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 
@@ -26,6 +27,14 @@ public abstract class TableScanOperator extends PhysicalPlan {
     return Collections.emptyList();
   }
 
+  /**
+   * Set the memory tracker of the query, charged with the results the scan holds in memory. It is
+   * set before the scan is opened, scans which don't hold their results ignore it.
+   *
+   * @param memoryTracker memory tracker of the query.
+   */
+  public void setMemoryTracker(MemoryTracker memoryTracker) {}
+
   /**
    * Explain the execution plan.
    *
@@ -15,6 +15,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -24,6 +27,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.statement.Explain;
+import org.opensearch.sql.ast.tree.CloseCursor;
+import org.opensearch.sql.ast.tree.FetchCursor;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
@@ -62,6 +67,8 @@ class QueryServiceTest {
 
   @Mock private Split split;
 
+  @Mock private ResponseListener<ExecutionEngine.QueryResponse> listener;
+
   private final Explain.ExplainFormat format = Explain.ExplainFormat.STANDARD;
 
   @Test
@@ -94,6 +101,35 @@ class QueryServiceTest {
     queryService().analyzeFail().handledByOnFailure();
   }
 
+  @Test
+  public void fetchCalciteCursorShouldResumeQuery() {
+    queryService();
+    FetchCursor cursor = new FetchCursor(Cursor.CALCITE_CURSOR_PREFIX + "id");
+    queryService.execute(cursor, queryType, listener);
+
+    verify(executionEngine).fetch(new Cursor(cursor.getCursor()), listener);
+    verifyNoInteractions(analyzer);
+  }
+
+  @Test
+  public void closeCalciteCursorShouldCloseQuery() {
+    queryService();
+    FetchCursor cursor = new FetchCursor(Cursor.CALCITE_CURSOR_PREFIX + "id");
+    queryService.execute(new CloseCursor().attach(cursor), queryType, listener);
+
+    verify(executionEngine).close(new Cursor(cursor.getCursor()), listener);
+    verifyNoInteractions(analyzer);
+  }
+
+  @Test
+  public void fetchV2CursorShouldAnalyzePlan() {
+    queryService().executeSuccess();
+    queryService.execute(new FetchCursor("n:serialized"), queryType, listener);
+
+    verify(executionEngine, never()).fetch(any(), any());
+    verify(analyzer).analyze(any(), any());
+  }
+
   Helper queryService() {
     return new Helper();
   }
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.execution;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.ScheduledTask;
+
+@ExtendWith(MockitoExtension.class)
+class FixedDelayExecutionTest {
+
+  @Mock private QueryManager queryManager;
+
+  @Mock private ScheduledTask scheduledTask;
+
+  @Test
+  void scheduleTaskWithDelay() {
+    Runnable task = () -> {};
+    when(queryManager.scheduleWithFixedDelay(task, Duration.ofSeconds(2)))
+        .thenReturn(scheduledTask);
+
+    new StreamingQueryPlan.FixedDelayExecution(queryManager, 2).execute(task);
+
+    verify(queryManager).scheduleWithFixedDelay(task, Duration.ofSeconds(2));
+  }
+
+  @Test
+  void cancelScheduledTask() {
+    when(queryManager.scheduleWithFixedDelay(any(), any())).thenReturn(scheduledTask);
+    when(scheduledTask.cancel()).thenReturn(true);
+    StreamingQueryPlan.FixedDelayExecution execution =
+        new StreamingQueryPlan.FixedDelayExecution(queryManager, 2);
+    execution.execute(() -> {});
+
+    assertTrue(execution.cancel());
+    assertFalse(execution.cancel());
+    verify(scheduledTask).cancel();
+  }
+
+  @Test
+  void noTaskScheduledOnceCancelled() {
+    StreamingQueryPlan.FixedDelayExecution execution =
+        new StreamingQueryPlan.FixedDelayExecution(queryManager, 2);
+
+    assertTrue(execution.cancel());
+    execution.execute(() -> {});
+
+    verifyNoInteractions(queryManager);
+  }
+}
@@ -7,12 +7,17 @@ package org.opensearch.sql.executor.execution;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -26,6 +31,7 @@ import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.QueryType;
 import org.opensearch.sql.executor.streaming.StreamingSource;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.storage.Table;
 
@@ -69,6 +75,19 @@ class StreamingQueryPlanTest {
         .shouldFail(String.format("table %s could not been used as streaming source.", tableName));
   }
 
+  @Test
+  void aggregationReadsSourceByTimeFieldOfSpan() throws InterruptedException {
+    streamingQuery().aggregationBySpan().shouldSuccess();
+    verify(table).asStreamingSource(eq("time"), anyLong());
+  }
+
+  @Test
+  void failIfAggregationIsNotLastCommand() throws InterruptedException {
+    streamingQuery()
+        .aggregationNotLast()
+        .shouldFail("Continuous query can only aggregate with its last command");
+  }
+
   @Test
   void taskExecutionShouldNotCallListener() throws InterruptedException {
     streamingQuery().streamingSource().taskExecutionShouldNotCallListener();
@@ -89,7 +108,8 @@ class StreamingQueryPlanTest {
     }
 
     Helper streamingSource() {
-      when(table.asStreamingSource()).thenReturn(streamingSource);
+      when(table.asStreamingSource(eq(StreamingQueryPlan.DEFAULT_TIME_FIELD), anyLong()))
+          .thenReturn(streamingSource);
       when(queryService.analyze(any(), any(QueryType.class)))
           .thenReturn(
               LogicalPlanDSL.project(
@@ -99,13 +119,44 @@ class StreamingQueryPlanTest {
     }
 
     Helper nonStreamingSource() {
-      when(table.asStreamingSource()).thenThrow(UnsupportedOperationException.class);
+      when(table.asStreamingSource(anyString(), anyLong()))
+          .thenThrow(UnsupportedOperationException.class);
       when(queryService.analyze(any(), any(QueryType.class)))
           .thenReturn(LogicalPlanDSL.relation(tableName, table));
 
       return this;
     }
 
+    Helper aggregationBySpan() {
+      when(table.asStreamingSource(anyString(), anyLong())).thenReturn(streamingSource);
+      when(queryService.analyze(any(), any(QueryType.class)))
+          .thenReturn(
+              LogicalPlanDSL.project(
+                  countBySpan(LogicalPlanDSL.relation(tableName, table)),
+                  DSL.named("count()", DSL.ref("count()", INTEGER))));
+      return this;
+    }
+
+    Helper aggregationNotLast() {
+      when(queryService.analyze(any(), any(QueryType.class)))
+          .thenReturn(
+              LogicalPlanDSL.project(
+                  LogicalPlanDSL.filter(
+                      countBySpan(LogicalPlanDSL.relation(tableName, table)),
+                      DSL.greater(DSL.ref("count()", INTEGER), DSL.literal(1))),
+                  DSL.named("count()", DSL.ref("count()", INTEGER))));
+      return this;
+    }
+
+    private LogicalPlan countBySpan(LogicalPlan input) {
+      return LogicalPlanDSL.aggregation(
+          input,
+          List.of(DSL.named("count()", DSL.count(DSL.literal(1)))),
+          List.of(
+              DSL.named(
+                  "span(time,1m)", DSL.span(DSL.ref("time", TIMESTAMP), DSL.literal(1), "m"))));
+    }
+
     Helper withoutSource() {
       when(queryService.analyze(any(), any(QueryType.class))).thenReturn(LogicalPlanDSL.values());
 
@@ -17,6 +17,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Base64;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -56,8 +57,8 @@ public class PlanSerializerTest {
     var compressed = serialize(input);
     assertEquals(input, deserialize(compressed));
     if (input.length() > 200) {
-      // Compression of short strings isn't profitable, because encoding into string and gzip
-      // headers add more bytes than input string has.
+      // Compression of short strings isn't profitable, because encoding into string and
+      // serialization headers add more bytes than input string has.
       assertTrue(compressed.length() < input.length());
     }
   }
@@ -100,10 +101,20 @@ public class PlanSerializerTest {
   @Test
   void deserialize_throws() {
     assertAll(
-        // from gzip - damaged header
+        // unsupported format version
         () -> assertThrows(Throwable.class, () -> deserialize("00")),
-        // from HashCode::fromString
-        () -> assertThrows(Throwable.class, () -> deserialize("000")));
+        // from Base64.Decoder::decode
+        () -> assertThrows(Throwable.class, () -> deserialize("0")),
+        // damaged deflate stream
+        () -> assertThrows(Throwable.class, () -> deserialize("AQAA")));
+  }
+
+  @Test
+  void serialize_to_versioned_base64url() {
+    var code = serialize("a".repeat(1000));
+    assertTrue(code.matches("[A-Za-z0-9_-]+"));
+    assertEquals(PlanSerializer.FORMAT_VERSION, Base64.getUrlDecoder().decode(code)[0]);
+    assertTrue(code.length() < 100);
   }
 
   @Test
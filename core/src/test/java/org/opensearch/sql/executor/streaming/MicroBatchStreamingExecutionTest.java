@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -40,12 +42,45 @@ class MicroBatchStreamingExecutionTest {
         .addData()
         .executeSuccess(0L)
         .latestOffsetLogShouldBe(0L)
-        .latestCommittedLogShouldBe(0L);
+        .latestCommittedLogShouldBe(0L)
+        .batchResultsSent(1);
   }
 
   @Test
   void executedFailed() {
-    streamingQuery().addData().executeFailed().latestOffsetLogShouldBe(0L).noCommittedLog();
+    streamingQuery()
+        .addData()
+        .executeFailed()
+        .latestOffsetLogShouldBe(0L)
+        .noCommittedLog()
+        .batchResultsSent(0);
+  }
+
+  @Test
+  void executeUncommittedBatchAgainWithSameOffsets() {
+    streamingQuery()
+        .addData()
+        .executeFailed()
+        .latestOffsetLogShouldBe(0L)
+        .noCommittedLog()
+        .addData()
+        .executeSuccess(0L)
+        .latestOffsetLogShouldBe(0L)
+        .latestCommittedLogShouldBe(0L)
+        .executeSuccess(1L)
+        .latestOffsetLogShouldBe(1L)
+        .latestCommittedLogShouldBe(1L);
+  }
+
+  @Test
+  void notExecuteWhilePreviousBatchIsExecuting() {
+    streamingQuery()
+        .addData()
+        .executeWithoutResponse()
+        .addData()
+        .neverProcess()
+        .latestOffsetLogShouldBe(0L)
+        .noCommittedLog();
   }
 
   @Test
@@ -126,16 +161,20 @@ class MicroBatchStreamingExecutionTest {
 
     private final QueryService queryService;
 
+    private final ResponseListener<ExecutionEngine.QueryResponse> sink;
+
     private final TestStreamingSource source = new TestStreamingSource();
 
+    @SuppressWarnings("unchecked")
     public Helper() {
       this.offsetLog = new DefaultMetadataLog<>();
       this.committedLog = new DefaultMetadataLog<>();
       this.batchPlan = Mockito.mock(LogicalPlan.class);
       this.queryService = Mockito.mock(QueryService.class);
+      this.sink = Mockito.mock(ResponseListener.class);
       this.execution =
           new MicroBatchStreamingExecution(
-              source, batchPlan, queryService, offsetLog, committedLog);
+              source, batchPlan, queryService, offsetLog, committedLog, sink);
     }
 
     Helper addData() {
@@ -195,6 +234,18 @@ class MicroBatchStreamingExecutionTest {
       return this;
     }
 
+    Helper executeWithoutResponse() {
+      lenient().doNothing().when(queryService).executePlan(any(), any(), any());
+      execution.execute();
+
+      return this;
+    }
+
+    Helper batchResultsSent(int times) {
+      verify(sink, times(times)).onResponse(any());
+      return this;
+    }
+
     Helper noCommittedLog() {
       assertTrue(committedLog.getLatest().isEmpty());
       return this;
@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_MISSING_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_NULL_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.DOUBLE_TYPE_MISSING_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.INT_TYPE_MISSING_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.INT_TYPE_NULL_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.STRING_TYPE_NULL_VALUE_FIELD;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionTestBase;
+import org.opensearch.sql.expression.FunctionExpression;
+
+class ExpressionCompilerTest extends ExpressionTestBase {
+
+  private final ExpressionCompiler compiler = new ExpressionCompiler(() -> true);
+
+  private static Stream<Expression> compiledExpressions() {
+    Expression trueValue = ref("boolean_value", BOOLEAN);
+    Expression nullBool = ref(BOOL_TYPE_NULL_VALUE_FIELD, BOOLEAN);
+    Expression missingBool = ref(BOOL_TYPE_MISSING_VALUE_FIELD, BOOLEAN);
+    Expression integer = ref("integer_value", INTEGER);
+    Expression nullInteger = ref(INT_TYPE_NULL_VALUE_FIELD, INTEGER);
+    Expression missingInteger = ref(INT_TYPE_MISSING_VALUE_FIELD, INTEGER);
+    return Stream.of(
+        DSL.and(trueValue, nullBool),
+        DSL.and(trueValue, missingBool),
+        DSL.and(nullBool, missingBool),
+        DSL.and(literal(false), missingBool),
+        DSL.or(literal(false), nullBool),
+        DSL.or(literal(false), missingBool),
+        DSL.or(nullBool, missingBool),
+        DSL.or(trueValue, missingBool),
+        DSL.not(nullBool),
+        DSL.not(trueValue),
+        DSL.isnull(nullInteger),
+        DSL.isnull(missingInteger),
+        DSL.isnotnull(integer),
+        DSL.equal(integer, literal(1)),
+        DSL.notequal(ref("long_value", LONG), literal(2L)),
+        DSL.less(ref("float_value", FLOAT), literal(2F)),
+        DSL.gte(ref("double_value", DOUBLE), literal(Double.NaN)),
+        DSL.lte(ref("string_value", STRING), literal("abc")),
+        DSL.greater(ref(STRING_TYPE_NULL_VALUE_FIELD, STRING), literal("abc")),
+        DSL.add(integer, literal(2)),
+        DSL.subtract(nullInteger, missingInteger),
+        DSL.multiply(ref("double_value", DOUBLE), literal(2.5)),
+        DSL.divide(integer, literal(0)),
+        DSL.divide(ref("double_value", DOUBLE), ref(DOUBLE_TYPE_MISSING_VALUE_FIELD, DOUBLE)),
+        DSL.modulus(literal(7L), literal(3L)),
+        DSL.and(
+            DSL.greater(DSL.add(integer, literal(1)), literal(1)),
+            DSL.or(DSL.equal(ref("string_value", STRING), literal("str")), nullBool)),
+        // abs is not compiled but evaluated as an operand
+        DSL.greater(DSL.abs(literal(-3)), integer));
+  }
+
+  @ParameterizedTest
+  @MethodSource("compiledExpressions")
+  void evaluate_compiled_expression_as_interpreted(Expression expression) {
+    Expression compiled = compiler.compile(expression);
+
+    assertInstanceOf(CompiledExpression.class, compiled);
+    assertEquals(expression.valueOf(valueEnv()), compiled.valueOf(valueEnv()));
+  }
+
+  @Test
+  void integer_overflow_fails_as_interpreted() {
+    Expression compiled =
+        compiler.compile(DSL.add(ref("integer_value", INTEGER), literal(Integer.MAX_VALUE)));
+
+    assertThrows(ArithmeticException.class, () -> compiled.valueOf(valueEnv()));
+  }
+
+  @Test
+  void evaluate_literals_of_expressions_of_same_shape() {
+    Expression greaterThanZero = compiler.compile(DSL.greater(literal(1), literal(0)));
+    Expression greaterThanTwo = compiler.compile(DSL.greater(literal(1), literal(2)));
+
+    assertEquals(literal(true).valueOf(), greaterThanZero.valueOf());
+    assertEquals(literal(false).valueOf(), greaterThanTwo.valueOf());
+  }
+
+  @Test
+  void not_compile_if_disabled() {
+    Expression expression = DSL.equal(ref("integer_value", INTEGER), literal(1));
+
+    assertSame(expression, ExpressionCompiler.DISABLED.compile(expression));
+  }
+
+  @Test
+  void not_compile_expression_which_is_not_an_operator() {
+    Expression expression = DSL.abs(ref("integer_value", INTEGER));
+
+    assertSame(expression, compiler.compile(expression));
+    assertSame(literal(1), compiler.compile(literal(1)));
+  }
+
+  @Test
+  void not_compile_operator_on_unsupported_types() {
+    Expression expression = DSL.equal(ref("start", TIMESTAMP), ref("end", TIMESTAMP));
+
+    assertSame(expression, compiler.compile(expression));
+  }
+
+  @Test
+  void compiled_expression_is_same_as_original() throws Exception {
+    Expression expression = DSL.equal(ref("integer_value", INTEGER), literal(1));
+    Expression compiled = compiler.compile(expression);
+
+    assertEquals(expression, ((CompiledExpression) compiled).getOriginal());
+    assertEquals(compiler.compile(expression), compiled);
+    assertNotEquals(compiled, expression);
+    assertNotEquals(expression, compiled);
+    assertEquals(expression.hashCode(), compiled.hashCode());
+    assertEquals(expression.toString(), compiled.toString());
+    assertEquals(expression.type(), compiled.type());
+    assertSame(compiled, compiler.compile(compiled));
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(compiled);
+    }
+    try (ObjectInputStream input =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      Object deserialized = input.readObject();
+      assertInstanceOf(FunctionExpression.class, deserialized);
+      assertEquals(expression, deserialized);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.expression.function.jsonUDF.JsonPathNavigator.NOT_FOUND;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.function.jsonUDF.JsonDocumentCache;
+import org.opensearch.sql.expression.function.jsonUDF.JsonExtractFunctionImpl;
+import org.opensearch.sql.expression.function.jsonUDF.JsonPathNavigator;
+
+class JsonPathNavigatorTest {
+  private static final String DOC =
+      "{\"a\": {\"b\": [10, {\"c\": \"x\"}, 2.5]}, \"d\": null, \"e\": true, \"f\": [[1, 2], [3]]}";
+
+  @Test
+  void compiled_path_is_cached() {
+    assertSame(JsonPathNavigator.of("a.b{1}.c"), JsonPathNavigator.of("a.b{1}.c"));
+    assertEquals("$.a.b[1].c", JsonPathNavigator.of("a.b{1}.c").getJsonPath());
+  }
+
+  @Test
+  void definite_paths() {
+    assertTrue(JsonPathNavigator.of("a.b{1}.c").isDefinite());
+    assertTrue(JsonPathNavigator.of("{2}.Bridges{0}").isDefinite());
+    assertTrue(JsonPathNavigator.of("@timestamp").isDefinite());
+    assertFalse(JsonPathNavigator.of("a.b{}.c").isDefinite());
+    assertFalse(JsonPathNavigator.of("a{-1}").isDefinite());
+    assertFalse(JsonPathNavigator.of("a b").isDefinite());
+  }
+
+  @Test
+  void invalid_path_throws() {
+    IllegalArgumentException e =
+        assertThrows(IllegalArgumentException.class, () -> JsonPathNavigator.of("a.{"));
+    assertEquals("Unmatched { in input when converting json path", e.getMessage());
+  }
+
+  @Test
+  void streaming_extract_matches_navigation() throws Exception {
+    Object root = JsonDocumentCache.parse(DOC);
+    for (String path : List.of("a", "a.b", "a.b{0}", "a.b{1}.c", "a.b{2}", "e", "f{0}{1}")) {
+      JsonPathNavigator navigator = JsonPathNavigator.of(path);
+      assertEquals(navigator.navigate(root), navigator.extract(DOC), path);
+    }
+    assertEquals(Map.of("c", "x"), JsonPathNavigator.of("a.b{1}").extract(DOC));
+    assertEquals(2.5, JsonPathNavigator.of("a.b{2}").extract(DOC));
+  }
+
+  @Test
+  void missing_or_null_values_are_not_found() throws Exception {
+    Object root = JsonDocumentCache.parse(DOC);
+    for (String path : List.of("d", "x", "a.b{5}", "a.b.c", "e.x", "f{0}{2}")) {
+      JsonPathNavigator navigator = JsonPathNavigator.of(path);
+      assertSame(NOT_FOUND, navigator.navigate(root), path);
+      assertSame(NOT_FOUND, navigator.extract(DOC), path);
+    }
+  }
+
+  @Test
+  void malformed_document_is_not_found() {
+    assertSame(NOT_FOUND, JsonPathNavigator.of("a").extract("{\"a\": 1, \"b\": "));
+    assertSame(NOT_FOUND, JsonPathNavigator.of("a").extract("not json"));
+  }
+
+  @Test
+  void json_extract_uses_compiled_and_fallback_paths() {
+    String doc = "{\"a\": [{\"t\": 1}, {\"t\": 2}], \"b\": {\"c\": 8981.0}}";
+    assertEquals("8981.0", JsonExtractFunctionImpl.eval(doc, "b.c"));
+    assertEquals("{\"c\":8981.0}", JsonExtractFunctionImpl.eval(doc, "b"));
+    assertEquals("[1,2]", JsonExtractFunctionImpl.eval(doc, "a{}.t"));
+    assertEquals("[[1,2],8981.0]", JsonExtractFunctionImpl.eval(doc, "a{}.t", "b.c"));
+  }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.Frameworks;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.calcite.tools.RelRunners;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CalciteLogicalPlanOptimizerTest {
+
+  private final LogicalPlanOptimizer optimizer = LogicalPlanOptimizer.create();
+
+  private RelNode scan;
+
+  private RexBuilder rexBuilder;
+
+  private RelBuilder builder;
+
+  @BeforeEach
+  void setUp() {
+    SchemaPlus schema = Frameworks.createRootSchema(true);
+    // Null values, left rows without right rows, and duplicate keys on both sides of the join
+    schema.add(
+        "t",
+        new RowsTable(
+            List.of("a", "b"),
+            List.of(SqlTypeName.INTEGER, SqlTypeName.INTEGER),
+            new Object[] {1, 10},
+            new Object[] {1, null},
+            new Object[] {2, 5},
+            new Object[] {2, 5},
+            new Object[] {3, null},
+            new Object[] {4, 1},
+            new Object[] {null, 7}));
+    schema.add(
+        "d",
+        new RowsTable(
+            List.of("id", "region"),
+            List.of(SqlTypeName.INTEGER, SqlTypeName.VARCHAR),
+            new Object[] {1, "east"},
+            new Object[] {1, "west"},
+            new Object[] {2, "east"},
+            new Object[] {3, "north"},
+            new Object[] {5, "south"},
+            new Object[] {null, "none"}));
+    // More distinct join keys than the buckets of a pushed down aggregation
+    schema.add(
+        "large",
+        new RowsTable(
+            List.of("a", "b"),
+            List.of(SqlTypeName.INTEGER, SqlTypeName.INTEGER),
+            IntStream.range(0, 1500).mapToObj(i -> new Object[] {i, i}).toList()));
+    builder =
+        RelBuilder.create(Frameworks.newConfigBuilder().defaultSchema(schema).build());
+    scan = builder.scan("t").build();
+    rexBuilder = scan.getCluster().getRexBuilder();
+    scan.getCluster().setMetadataProvider(RowsTable.METADATA_PROVIDER);
+    scan.getCluster().invalidateMetadataQuery();
+  }
+
+  /** Filter - Project - Filter --> Project - Filter, with constants folded. */
+  @Test
+  void fold_constants_and_merge_filters_below_project() {
+    RelNode bottom = LogicalFilter.create(scan, call(SqlStdOperatorTable.GREATER_THAN, 0, 1));
+    RelNode project =
+        LogicalProject.create(
+            bottom,
+            List.of(),
+            List.of(
+                ref(0),
+                ref(1),
+                rexBuilder.makeCall(SqlStdOperatorTable.PLUS, literal(1), literal(2))),
+            List.of("a", "b", "c"),
+            Set.of());
+    RelNode plan = LogicalFilter.create(project, call(SqlStdOperatorTable.LESS_THAN, 1, 10));
+
+    LogicalProject optimized =
+        assertInstanceOf(LogicalProject.class, optimizer.customOptimize(plan));
+    assertEquals(List.of("a", "b", "c"), optimized.getRowType().getFieldNames());
+    RexLiteral constant = assertInstanceOf(RexLiteral.class, optimized.getProjects().get(2));
+    assertEquals(3, constant.getValueAs(Integer.class));
+    LogicalFilter filter = assertInstanceOf(LogicalFilter.class, optimized.getInput());
+    assertInstanceOf(TableScan.class, filter.getInput());
+  }
+
+  /** Project - Project --> Project. */
+  @Test
+  void merge_projects() {
+    RelNode plan = project(project(scan, List.of(1, 0), "b", "a"), List.of(1), "a");
+
+    LogicalProject optimized =
+        assertInstanceOf(LogicalProject.class, optimizer.customOptimize(plan));
+    assertEquals(List.of(ref(0)), optimized.getProjects());
+    assertInstanceOf(TableScan.class, optimized.getInput());
+  }
+
+  @Test
+  void remove_identity_project_but_keep_rename() {
+    assertInstanceOf(
+        TableScan.class, optimizer.customOptimize(project(scan, List.of(0, 1), "a", "b")));
+
+    RelNode optimized = optimizer.customOptimize(project(scan, List.of(0, 1), "x", "y"));
+    assertEquals(List.of("x", "y"), optimized.getRowType().getFieldNames());
+  }
+
+  /** Sort - Sort --> Sort. */
+  @Test
+  void remove_sort_beneath_sort() {
+    RelNode plan =
+        LogicalSort.create(
+            LogicalSort.create(scan, RelCollations.of(0), null, null),
+            RelCollations.of(1, 0),
+            null,
+            null);
+
+    LogicalSort optimized = assertInstanceOf(LogicalSort.class, optimizer.customOptimize(plan));
+    assertEquals(RelCollations.of(1, 0), optimized.getCollation());
+    assertInstanceOf(TableScan.class, optimized.getInput());
+  }
+
+  /** Sort - Sort is kept when the inner sort keys are not covered, they decide the tie order. */
+  @Test
+  void keep_sort_deciding_ties_beneath_sort() {
+    RelNode plan =
+        LogicalSort.create(
+            LogicalSort.create(scan, RelCollations.of(0), null, null),
+            RelCollations.of(1),
+            null,
+            null);
+
+    LogicalSort optimized = assertInstanceOf(LogicalSort.class, optimizer.customOptimize(plan));
+    assertEquals(RelCollations.of(1), optimized.getCollation());
+    assertInstanceOf(LogicalSort.class, optimized.getInput());
+  }
+
+  /** Sort - Sort with fetch is kept, the inner sort decides which rows are fetched. */
+  @Test
+  void keep_sort_with_fetch_beneath_sort() {
+    RelNode plan =
+        LogicalSort.create(
+            LogicalSort.create(
+                scan, RelCollations.of(0), null, rexBuilder.makeExactLiteral(BigDecimal.TEN)),
+            RelCollations.of(1),
+            null,
+            null);
+
+    LogicalSort optimized = assertInstanceOf(LogicalSort.class, optimizer.customOptimize(plan));
+    assertInstanceOf(LogicalSort.class, optimized.getInput());
+  }
+
+  /** Aggregate - Join --> Aggregate - Join - Aggregate, for a left join such as PPL lookup. */
+  @Test
+  void pre_aggregate_left_side_of_join() {
+    RelNode plan =
+        joinOnId(JoinRelType.LEFT)
+            .aggregate(
+                builder.groupKey("region"),
+                builder.sum(builder.field("b")).as("s"),
+                builder.count().as("c"))
+            .build();
+
+    RelNode optimized = optimizer.customOptimize(plan);
+    assertEquals(plan.getRowType(), optimized.getRowType());
+    LogicalAggregate partial =
+        assertInstanceOf(LogicalAggregate.class, findJoin(optimized).getLeft());
+    assertEquals(ImmutableBitSet.of(0), partial.getGroupSet());
+    assertInstanceOf(TableScan.class, partial.getInput());
+  }
+
+  @Test
+  void keep_aggregate_of_right_side_above_join() {
+    RelNode plan =
+        joinOnId(JoinRelType.INNER)
+            .aggregate(builder.groupKey("b"), builder.max(builder.field("region")).as("m"))
+            .build();
+
+    assertInstanceOf(TableScan.class, findJoin(optimizer.customOptimize(plan)).getLeft());
+  }
+
+  @Test
+  void keep_distinct_aggregate_above_join() {
+    RelNode plan =
+        joinOnId(JoinRelType.LEFT)
+            .aggregate(builder.groupKey("region"), builder.count(true, "c", builder.field("b")))
+            .build();
+
+    assertInstanceOf(TableScan.class, findJoin(optimizer.customOptimize(plan)).getLeft());
+  }
+
+  @Test
+  void pre_aggregated_left_join_returns_same_rows() {
+    assertSameRowsWithPartialAggregate(
+        joinOnId(JoinRelType.LEFT)
+            .aggregate(builder.groupKey("region"), splittableCalls())
+            .build());
+  }
+
+  @Test
+  void pre_aggregated_inner_join_returns_same_rows() {
+    assertSameRowsWithPartialAggregate(
+        joinOnId(JoinRelType.INNER)
+            .aggregate(builder.groupKey("region"), splittableCalls())
+            .build());
+  }
+
+  @Test
+  void pre_aggregated_join_by_left_and_right_keys_returns_same_rows() {
+    assertSameRowsWithPartialAggregate(
+        joinOnId(JoinRelType.LEFT)
+            .aggregate(builder.groupKey("a", "region"), splittableCalls())
+            .build());
+  }
+
+  @Test
+  void pre_aggregated_join_without_group_keys_returns_same_rows() {
+    assertSameRowsWithPartialAggregate(
+        joinOnId(JoinRelType.INNER).aggregate(builder.groupKey(), splittableCalls()).build());
+  }
+
+  @Test
+  void keep_aggregate_above_join_with_too_many_left_keys() {
+    RelNode plan =
+        builder
+            .scan("large")
+            .scan("d")
+            .join(
+                JoinRelType.LEFT,
+                builder.equals(builder.field(2, 0, "a"), builder.field(2, 1, "id")))
+            .aggregate(builder.groupKey("region"), splittableCalls())
+            .build();
+
+    assertInstanceOf(TableScan.class, findJoin(optimizer.customOptimize(plan)).getLeft());
+  }
+
+  /** SUM, COUNT, MIN and MAX over a field with null values, and COUNT of the rows. */
+  private List<RelBuilder.AggCall> splittableCalls() {
+    return List.of(
+        builder.sum(builder.field("b")).as("s"),
+        builder.count().as("c"),
+        builder.count(builder.field("b")).as("cb"),
+        builder.min(builder.field("b")).as("mn"),
+        builder.max(builder.field("b")).as("mx"));
+  }
+
+  private void assertSameRowsWithPartialAggregate(RelNode plan) {
+    RelNode optimized = optimizer.customOptimize(plan);
+
+    assertInstanceOf(LogicalAggregate.class, findJoin(optimized).getLeft());
+    assertEquals(execute(plan), execute(optimized));
+  }
+
+  /** @return rows returned by the plan, in string form and sorted. */
+  private static List<String> execute(RelNode plan) {
+    try (PreparedStatement statement = RelRunners.run(plan);
+        ResultSet resultSet = statement.executeQuery()) {
+      List<String> rows = new ArrayList<>();
+      int columns = resultSet.getMetaData().getColumnCount();
+      while (resultSet.next()) {
+        List<Object> row = new ArrayList<>();
+        for (int i = 1; i <= columns; i++) {
+          row.add(resultSet.getObject(i));
+        }
+        rows.add(row.toString());
+      }
+      Collections.sort(rows);
+      return rows;
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private RelBuilder joinOnId(JoinRelType joinType) {
+    return builder
+        .scan("t")
+        .scan("d")
+        .join(joinType, builder.equals(builder.field(2, 0, "a"), builder.field(2, 1, "id")));
+  }
+
+  private LogicalJoin findJoin(RelNode node) {
+    if (node instanceof LogicalJoin join) {
+      return join;
+    }
+    return findJoin(node.getInput(0));
+  }
+
+  private RelNode project(RelNode input, List<Integer> fields, String... names) {
+    return LogicalProject.create(
+        input, List.of(), fields.stream().map(this::ref).toList(), List.of(names), Set.of());
+  }
+
+  private RexNode call(SqlOperator operator, int field, int value) {
+    return rexBuilder.makeCall(operator, ref(field), literal(value));
+  }
+
+  private RexNode ref(int field) {
+    return rexBuilder.makeInputRef(scan, field);
+  }
+
+  private RexNode literal(int value) {
+    return rexBuilder.makeExactLiteral(BigDecimal.valueOf(value));
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ChainedRelMetadataProvider;
+import org.apache.calcite.rel.metadata.DefaultRelMetadataProvider;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.ScannableTable;
+import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/** Table of nullable fields and the given rows, whose distinct row counts are exact. */
+public class RowsTable extends AbstractTable implements ScannableTable {
+  /** Metadata provider with the distinct row counts of the scans of these tables. */
+  public static final RelMetadataProvider METADATA_PROVIDER =
+      ChainedRelMetadataProvider.of(
+          ImmutableList.of(
+              ReflectiveRelMetadataProvider.reflectiveSource(
+                  new DistinctRowCount(), BuiltInMetadata.DistinctRowCount.Handler.class),
+              DefaultRelMetadataProvider.INSTANCE));
+
+  private final List<String> fields;
+  private final List<SqlTypeName> types;
+  private final List<Object[]> rows;
+
+  public RowsTable(List<String> fields, List<SqlTypeName> types, List<Object[]> rows) {
+    this.fields = fields;
+    this.types = types;
+    this.rows = rows;
+  }
+
+  public RowsTable(List<String> fields, List<SqlTypeName> types, Object[]... rows) {
+    this(fields, types, List.of(rows));
+  }
+
+  @Override
+  public RelDataType getRowType(RelDataTypeFactory typeFactory) {
+    RelDataTypeFactory.Builder builder = typeFactory.builder();
+    for (int i = 0; i < fields.size(); i++) {
+      builder.add(fields.get(i), types.get(i)).nullable(true);
+    }
+    return builder.build();
+  }
+
+  @Override
+  public Enumerable<@Nullable Object[]> scan(DataContext root) {
+    return Linq4j.asEnumerable(rows);
+  }
+
+  /** Distinct row counts of scans of {@link RowsTable}, counted over their rows. */
+  public static class DistinctRowCount extends RelMdDistinctRowCount {
+    public Double getDistinctRowCount(
+        TableScan scan, RelMetadataQuery mq, ImmutableBitSet groupKey, RexNode predicate) {
+      RowsTable table = scan.getTable().unwrap(RowsTable.class);
+      if (table == null) {
+        return super.getDistinctRowCount((RelNode) scan, mq, groupKey, predicate);
+      }
+      int[] keys = groupKey.toArray();
+      return (double)
+          table.rows.stream()
+              .map(row -> Arrays.asList(Arrays.stream(keys).mapToObj(i -> row[i]).toArray()))
+              .distinct()
+              .count();
+    }
+  }
+}
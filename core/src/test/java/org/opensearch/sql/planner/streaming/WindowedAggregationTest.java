@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalPlanDSL;
+
+class WindowedAggregationTest {
+
+  private static final long MINUTE = 60_000L;
+
+  private static final String SPAN = "span(@timestamp,1m)";
+
+  @Test
+  void output_window_once_watermark_passes_its_end() {
+    WindowedAggregation aggregation =
+        WindowedAggregation.create(aggregationBy(DSL.literal(1), "m"));
+
+    aggregation.add(row(10_000L));
+    aggregation.add(row(50_000L));
+    assertEquals(List.of(), aggregation.fire());
+
+    aggregation.add(row(MINUTE + 1));
+    aggregation.add(row(MINUTE + 2));
+    assertEquals(List.of(result(0L, 2)), aggregation.fire());
+    assertEquals(List.of(), aggregation.fire());
+
+    aggregation.add(row(3 * MINUTE));
+    assertEquals(List.of(result(MINUTE, 2)), aggregation.fire());
+  }
+
+  @Test
+  void drop_row_of_window_which_was_output() {
+    WindowedAggregation aggregation =
+        WindowedAggregation.create(aggregationBy(DSL.literal(1), "m"));
+
+    aggregation.add(row(10_000L));
+    aggregation.add(row(MINUTE));
+    assertEquals(List.of(result(0L, 1)), aggregation.fire());
+
+    aggregation.add(row(20_000L));
+    aggregation.add(row(2 * MINUTE));
+    assertEquals(List.of(result(MINUTE, 1)), aggregation.fire());
+  }
+
+  @Test
+  void aggregate_only_by_fixed_span_of_timestamp() {
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> WindowedAggregation.create(aggregationBy(DSL.literal(1), "M")));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () ->
+            WindowedAggregation.create(
+                (LogicalAggregation)
+                    LogicalPlanDSL.aggregation(
+                        LogicalPlanDSL.values(),
+                        List.of(DSL.named("count()", DSL.count(DSL.literal(1)))),
+                        List.of(DSL.named("host", DSL.ref("host", STRING))))));
+  }
+
+  private static LogicalAggregation aggregationBy(Expression interval, String unit) {
+    return (LogicalAggregation)
+        LogicalPlanDSL.aggregation(
+            LogicalPlanDSL.values(),
+            List.of(DSL.named("count()", DSL.count(DSL.literal(1)))),
+            List.of(
+                DSL.named(SPAN, DSL.span(DSL.ref("@timestamp", TIMESTAMP), interval, unit))));
+  }
+
+  private static ExprValue row(long timestamp) {
+    return ExprTupleValue.fromExprValueMap(
+        Map.of("@timestamp", new ExprTimestampValue(Instant.ofEpochMilli(timestamp))));
+  }
+
+  private static ExprValue result(long windowStart, int count) {
+    LinkedHashMap<String, ExprValue> values = new LinkedHashMap<>();
+    values.put(SPAN, new ExprTimestampValue(Instant.ofEpochMilli(windowStart)));
+    values.put("count()", new ExprIntegerValue(count));
+    return ExprTupleValue.fromExprValueMap(values);
+  }
+}
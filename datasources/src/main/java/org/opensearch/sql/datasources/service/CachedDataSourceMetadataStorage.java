@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.datasources.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Optional;
+import org.opensearch.sql.datasource.model.DataSourceMetadata;
+
+/**
+ * {@link DataSourceMetadataStorage} caching the metadata read by name, with decrypted credentials,
+ * so that queries on a datasource don't search and decrypt its metadata every time. Every lookup
+ * reads the version of the stored metadata, see {@link
+ * DataSourceMetadataStorage#getDataSourceVersion(String)}, and only returns the cached metadata if
+ * it was read at that version. Changes made on any node are thus seen by the next lookup on every
+ * node. Datasources without a version, e.g. missing ones, are not cached.
+ */
+public class CachedDataSourceMetadataStorage implements DataSourceMetadataStorage {
+
+  private static final long MAX_CACHED_ENTRIES = 1000;
+
+  private final DataSourceMetadataStorage delegate;
+
+  private final Cache<String, VersionedMetadata> cache;
+
+  public CachedDataSourceMetadataStorage(DataSourceMetadataStorage delegate) {
+    this.delegate = delegate;
+    this.cache = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_ENTRIES).build();
+  }
+
+  @Override
+  public List<DataSourceMetadata> getDataSourceMetadata() {
+    return delegate.getDataSourceMetadata();
+  }
+
+  @Override
+  public Optional<DataSourceMetadata> getDataSourceMetadata(String datasourceName) {
+    Optional<String> version = delegate.getDataSourceVersion(datasourceName);
+    if (version.isEmpty()) {
+      cache.invalidate(datasourceName);
+      return delegate.getDataSourceMetadata(datasourceName);
+    }
+    VersionedMetadata cached = cache.getIfPresent(datasourceName);
+    if (cached != null && cached.version().equals(version.get())) {
+      return Optional.of(cached.metadata());
+    }
+    // Read at this version or a later one, a later one is read again by the next lookup.
+    Optional<DataSourceMetadata> metadata = delegate.getDataSourceMetadata(datasourceName);
+    metadata.ifPresent(m -> cache.put(datasourceName, new VersionedMetadata(version.get(), m)));
+    return metadata;
+  }
+
+  @Override
+  public Optional<String> getDataSourceVersion(String datasourceName) {
+    return delegate.getDataSourceVersion(datasourceName);
+  }
+
+  @Override
+  public void createDataSourceMetadata(DataSourceMetadata dataSourceMetadata) {
+    try {
+      delegate.createDataSourceMetadata(dataSourceMetadata);
+    } finally {
+      invalidate(dataSourceMetadata.getName());
+    }
+  }
+
+  @Override
+  public void updateDataSourceMetadata(DataSourceMetadata dataSourceMetadata) {
+    try {
+      delegate.updateDataSourceMetadata(dataSourceMetadata);
+    } finally {
+      invalidate(dataSourceMetadata.getName());
+    }
+  }
+
+  @Override
+  public void deleteDataSourceMetadata(String datasourceName) {
+    try {
+      delegate.deleteDataSourceMetadata(datasourceName);
+    } finally {
+      invalidate(datasourceName);
+    }
+  }
+
+  /** Drop the cached metadata of a datasource written through this storage. */
+  private void invalidate(String datasourceName) {
+    cache.invalidate(datasourceName);
+  }
+
+  /** Metadata of a datasource and the version it was read at. */
+  private record VersionedMetadata(String version, DataSourceMetadata metadata) {}
+}
@@ -33,6 +33,19 @@ public interface DataSourceMetadataStorage {
    */
   Optional<DataSourceMetadata> getDataSourceMetadata(String datasourceName);
 
+  /**
+   * Gets the version of the stored {@link DataSourceMetadata} of the datasourceName. The version
+   * changes on every write of the metadata, and is read with every write acknowledged so far.
+   * {@link #getDataSourceMetadata(String)} called after it returns the metadata of this version, or
+   * of a later one.
+   *
+   * @param datasourceName name of the {@link DataSource}.
+   * @return version, or empty if the datasource doesn't exist or the storage doesn't keep versions.
+   */
+  default Optional<String> getDataSourceVersion(String datasourceName) {
+    return Optional.empty();
+  }
+
   /**
    * Stores {@link DataSourceMetadata} in underlying storage.
    *
@@ -24,6 +24,8 @@ import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
@@ -41,6 +43,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.datasources.encryptor.Encryptor;
@@ -105,13 +108,31 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
       createDataSourcesIndex();
       return Optional.empty();
     }
-    // todo, in case docId == datasourceName, could read doc directly.
+    GetResponse getResponse = getFromDataSourcesIndex(datasourceName, true);
+    if (getResponse.isExists()) {
+      DataSourceMetadata dataSourceMetadata = toDataSourceMetadata(getResponse.getSourceAsString());
+      return Optional.of(encryptDecryptAuthenticationData(dataSourceMetadata, false));
+    }
+    // The document id of a datasource is its name, unless it was written some other way.
     return searchInDataSourcesIndex(QueryBuilders.termQuery("name.keyword", datasourceName))
         .stream()
         .findFirst()
         .map(x -> this.encryptDecryptAuthenticationData(x, false));
   }
 
+  @Override
+  public Optional<String> getDataSourceVersion(String datasourceName) {
+    if (!isEnabled()
+        || !this.clusterService.state().routingTable().hasIndex(DATASOURCE_INDEX_NAME)) {
+      return Optional.empty();
+    }
+    GetResponse getResponse = getFromDataSourcesIndex(datasourceName, false);
+    if (!getResponse.isExists()) {
+      return Optional.empty();
+    }
+    return Optional.of(getResponse.getPrimaryTerm() + ":" + getResponse.getSeqNo());
+  }
+
   @Override
   public void createDataSourceMetadata(DataSourceMetadata dataSourceMetadata) {
     if (!isEnabled()) {
@@ -241,6 +262,24 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
     }
   }
 
+  /**
+   * Read the document of a datasource in real time from the primary shard, so that every write
+   * acknowledged on any node is seen, and later reads never see older writes.
+   */
+  private GetResponse getFromDataSourcesIndex(String datasourceName, boolean fetchSource) {
+    GetRequest getRequest = new GetRequest(DATASOURCE_INDEX_NAME, datasourceName);
+    getRequest.realtime(true);
+    getRequest.preference("_primary");
+    getRequest.fetchSourceContext(
+        fetchSource ? FetchSourceContext.FETCH_SOURCE : FetchSourceContext.DO_NOT_FETCH_SOURCE);
+    ActionFuture<GetResponse> getResponseActionFuture;
+    try (ThreadContext.StoredContext ignored =
+        client.threadPool().getThreadContext().stashContext()) {
+      getResponseActionFuture = client.get(getRequest);
+    }
+    return getResponseActionFuture.actionGet();
+  }
+
   private List<DataSourceMetadata> searchInDataSourcesIndex(QueryBuilder query) {
     SearchRequest searchRequest = new SearchRequest();
     searchRequest.indices(DATASOURCE_INDEX_NAME);
@@ -263,19 +302,20 @@ public class OpenSearchDataSourceMetadataStorage implements DataSourceMetadataSt
     } else {
       List<DataSourceMetadata> list = new ArrayList<>();
       for (SearchHit searchHit : searchResponse.getHits().getHits()) {
-        String sourceAsString = searchHit.getSourceAsString();
-        DataSourceMetadata dataSourceMetadata;
-        try {
-          dataSourceMetadata = XContentParserUtils.toDataSourceMetadata(sourceAsString);
-        } catch (IOException e) {
-          throw new RuntimeException(e);
-        }
-        list.add(dataSourceMetadata);
+        list.add(toDataSourceMetadata(searchHit.getSourceAsString()));
       }
       return list;
     }
   }
 
+  private DataSourceMetadata toDataSourceMetadata(String sourceAsString) {
+    try {
+      return XContentParserUtils.toDataSourceMetadata(sourceAsString);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   // Encrypt and Decrypt irrespective of auth type.If properties name ends in username, password,
   // secret_key and access_key.
   private DataSourceMetadata encryptDecryptAuthenticationData(
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.datasources.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.datasource.model.DataSourceMetadata;
+import org.opensearch.sql.datasource.model.DataSourceType;
+
+@ExtendWith(MockitoExtension.class)
+class CachedDataSourceMetadataStorageTest {
+
+  @Mock private DataSourceMetadataStorage delegate;
+
+  private CachedDataSourceMetadataStorage storage;
+
+  @BeforeEach
+  void setUp() {
+    storage = new CachedDataSourceMetadataStorage(delegate);
+  }
+
+  @Test
+  void readMetadataOnceAtVersion() {
+    DataSourceMetadata metadata = metadata();
+    when(delegate.getDataSourceVersion("testDS")).thenReturn(Optional.of("1:0"));
+    when(delegate.getDataSourceMetadata("testDS")).thenReturn(Optional.of(metadata));
+
+    assertSame(metadata, storage.getDataSourceMetadata("testDS").get());
+    assertSame(metadata, storage.getDataSourceMetadata("testDS").get());
+    verify(delegate, times(1)).getDataSourceMetadata("testDS");
+  }
+
+  @Test
+  void metadataWrittenOnAnotherNodeIsReadAgain() {
+    DataSourceMetadata metadata = metadata();
+    DataSourceMetadata updated = metadata();
+    when(delegate.getDataSourceVersion("testDS"))
+        .thenReturn(Optional.of("1:0"), Optional.of("1:1"), Optional.of("1:1"));
+    when(delegate.getDataSourceMetadata("testDS"))
+        .thenReturn(Optional.of(metadata), Optional.of(updated));
+
+    assertSame(metadata, storage.getDataSourceMetadata("testDS").get());
+    assertSame(updated, storage.getDataSourceMetadata("testDS").get());
+    assertSame(updated, storage.getDataSourceMetadata("testDS").get());
+    verify(delegate, times(2)).getDataSourceMetadata("testDS");
+  }
+
+  @Test
+  void metadataWithoutVersionIsNotCached() {
+    when(delegate.getDataSourceVersion("testDS")).thenReturn(Optional.empty());
+    when(delegate.getDataSourceMetadata("testDS")).thenReturn(Optional.of(metadata()));
+
+    storage.getDataSourceMetadata("testDS");
+    storage.getDataSourceMetadata("testDS");
+    verify(delegate, times(2)).getDataSourceMetadata("testDS");
+  }
+
+  @Test
+  void deletedDataSourceIsNotReturned() {
+    when(delegate.getDataSourceVersion("testDS"))
+        .thenReturn(Optional.of("1:0"), Optional.empty());
+    when(delegate.getDataSourceMetadata("testDS"))
+        .thenReturn(Optional.of(metadata()), Optional.empty());
+
+    assertTrue(storage.getDataSourceMetadata("testDS").isPresent());
+    assertTrue(storage.getDataSourceMetadata("testDS").isEmpty());
+  }
+
+  @Test
+  void updateInvalidatesMetadata() {
+    DataSourceMetadata metadata = metadata();
+    when(delegate.getDataSourceVersion("testDS")).thenReturn(Optional.of("1:0"));
+    when(delegate.getDataSourceMetadata("testDS")).thenReturn(Optional.of(metadata));
+    storage.getDataSourceMetadata("testDS");
+
+    storage.updateDataSourceMetadata(metadata);
+    storage.getDataSourceMetadata("testDS");
+
+    verify(delegate).updateDataSourceMetadata(metadata);
+    verify(delegate, times(2)).getDataSourceMetadata("testDS");
+  }
+
+  @Test
+  void failedDeleteInvalidatesMetadata() {
+    when(delegate.getDataSourceVersion("testDS")).thenReturn(Optional.of("1:0"));
+    when(delegate.getDataSourceMetadata("testDS")).thenReturn(Optional.of(metadata()));
+    doThrow(new RuntimeException("delete failed"))
+        .when(delegate)
+        .deleteDataSourceMetadata("testDS");
+    storage.getDataSourceMetadata("testDS");
+
+    RuntimeException exception =
+        assertThrows(RuntimeException.class, () -> storage.deleteDataSourceMetadata("testDS"));
+    assertEquals("delete failed", exception.getMessage());
+    storage.getDataSourceMetadata("testDS");
+
+    verify(delegate, times(2)).getDataSourceMetadata("testDS");
+  }
+
+  private DataSourceMetadata metadata() {
+    return new DataSourceMetadata.Builder()
+        .setName("testDS")
+        .setConnector(DataSourceType.OPENSEARCH)
+        .build();
+  }
+}
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -34,6 +35,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateResponse;
@@ -80,6 +83,8 @@ public class OpenSearchDataSourceMetadataStorageTest {
   @Mock private ActionFuture<DeleteResponse> deleteResponseActionFuture;
   @Mock private DeleteResponse deleteResponse;
   @Mock private SearchHit searchHit;
+  @Mock private ActionFuture<GetResponse> getResponseActionFuture;
+  @Mock private GetResponse getResponse;
   @InjectMocks private OpenSearchDataSourceMetadataStorage openSearchDataSourceMetadataStorage;
 
   @SneakyThrows
@@ -316,6 +321,67 @@ public class OpenSearchDataSourceMetadataStorageTest {
     Assertions.assertFalse(dataSourceMetadataOptional.isPresent());
   }
 
+  @SneakyThrows
+  @Test
+  public void testGetDataSourceMetadataByRealtimeGet() {
+    setDataSourcesEnabled(true);
+    Mockito.when(clusterService.state().routingTable().hasIndex(DATASOURCE_INDEX_NAME))
+        .thenReturn(true);
+    Mockito.when(client.get(ArgumentMatchers.any())).thenReturn(getResponseActionFuture);
+    Mockito.when(getResponseActionFuture.actionGet()).thenReturn(getResponse);
+    Mockito.when(getResponse.isExists()).thenReturn(true);
+    Mockito.when(getResponse.getSourceAsString()).thenReturn(getBasicDataSourceMetadataString());
+    Mockito.when(encryptor.decrypt("password")).thenReturn("password");
+    Mockito.when(encryptor.decrypt("username")).thenReturn("username");
+
+    DataSourceMetadata dataSourceMetadata =
+        openSearchDataSourceMetadataStorage.getDataSourceMetadata(TEST_DATASOURCE_INDEX_NAME).get();
+
+    Assertions.assertEquals(TEST_DATASOURCE_INDEX_NAME, dataSourceMetadata.getName());
+    Assertions.assertEquals(
+        "password", dataSourceMetadata.getProperties().get("prometheus.auth.password"));
+    ArgumentCaptor<GetRequest> getRequest = ArgumentCaptor.forClass(GetRequest.class);
+    Mockito.verify(client).get(getRequest.capture());
+    Assertions.assertEquals(TEST_DATASOURCE_INDEX_NAME, getRequest.getValue().id());
+    Assertions.assertTrue(getRequest.getValue().realtime());
+    Assertions.assertEquals("_primary", getRequest.getValue().preference());
+    Mockito.verify(client, Mockito.never()).search(ArgumentMatchers.any());
+  }
+
+  @Test
+  public void testGetDataSourceVersion() {
+    setDataSourcesEnabled(true);
+    Mockito.when(clusterService.state().routingTable().hasIndex(DATASOURCE_INDEX_NAME))
+        .thenReturn(true);
+    Mockito.when(client.get(ArgumentMatchers.any())).thenReturn(getResponseActionFuture);
+    Mockito.when(getResponseActionFuture.actionGet()).thenReturn(getResponse);
+    Mockito.when(getResponse.isExists()).thenReturn(true);
+    Mockito.when(getResponse.getPrimaryTerm()).thenReturn(2L);
+    Mockito.when(getResponse.getSeqNo()).thenReturn(5L);
+
+    Assertions.assertEquals(
+        Optional.of("2:5"),
+        openSearchDataSourceMetadataStorage.getDataSourceVersion(TEST_DATASOURCE_INDEX_NAME));
+    ArgumentCaptor<GetRequest> getRequest = ArgumentCaptor.forClass(GetRequest.class);
+    Mockito.verify(client).get(getRequest.capture());
+    Assertions.assertFalse(getRequest.getValue().fetchSourceContext().fetchSource());
+  }
+
+  @Test
+  public void testGetVersionOfMissingDataSource() {
+    setDataSourcesEnabled(true);
+    Mockito.when(clusterService.state().routingTable().hasIndex(DATASOURCE_INDEX_NAME))
+        .thenReturn(true);
+    Mockito.when(client.get(ArgumentMatchers.any())).thenReturn(getResponseActionFuture);
+    Mockito.when(getResponseActionFuture.actionGet()).thenReturn(getResponse);
+    Mockito.when(getResponse.isExists()).thenReturn(false);
+
+    Assertions.assertTrue(
+        openSearchDataSourceMetadataStorage
+            .getDataSourceVersion(TEST_DATASOURCE_INDEX_NAME)
+            .isEmpty());
+  }
+
   @Test
   public void testCreateDataSourceMetadata() {
     setDataSourcesEnabled(true);
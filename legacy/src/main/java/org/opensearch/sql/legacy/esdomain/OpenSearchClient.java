@@ -13,6 +13,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
 import org.opensearch.transport.client.Client;
 
@@ -27,17 +28,48 @@ public class OpenSearchClient {
   }
 
   public MultiSearchResponse.Item[] multiSearch(MultiSearchRequest multiSearchRequest) {
-    MultiSearchResponse.Item[] responses =
-        new MultiSearchResponse.Item[multiSearchRequest.requests().size()];
-    multiSearchRetry(
-        responses,
-        multiSearchRequest,
-        IntStream.range(0, multiSearchRequest.requests().size())
-            .boxed()
-            .collect(Collectors.toList()),
-        0);
+    return multiSearchAsync(multiSearchRequest).get();
+  }
 
-    return responses;
+  /**
+   * Send a multi search without waiting for its responses, so that the caller can prepare or
+   * process other searches meanwhile. Failed searches are retried when the responses are read.
+   */
+  public PendingMultiSearch multiSearchAsync(MultiSearchRequest multiSearchRequest) {
+    return new PendingMultiSearch(multiSearchRequest, client.multiSearch(multiSearchRequest));
+  }
+
+  /** Multi search sent to the cluster and whose responses are not read yet. */
+  public class PendingMultiSearch {
+    private final MultiSearchRequest multiSearchRequest;
+    private final ActionFuture<MultiSearchResponse> future;
+
+    private PendingMultiSearch(
+        MultiSearchRequest multiSearchRequest, ActionFuture<MultiSearchResponse> future) {
+      this.multiSearchRequest = multiSearchRequest;
+      this.future = future;
+    }
+
+    public int size() {
+      return multiSearchRequest.requests().size();
+    }
+
+    /** Drop the responses, which are not needed anymore, without waiting for them. */
+    public void cancel() {
+      future.cancel(false);
+    }
+
+    /** Wait for the responses, retrying failed searches. */
+    public MultiSearchResponse.Item[] get() {
+      MultiSearchResponse.Item[] responses = new MultiSearchResponse.Item[size()];
+      collectResponses(
+          responses,
+          multiSearchRequest,
+          IntStream.range(0, size()).boxed().collect(Collectors.toList()),
+          future.actionGet().getResponses(),
+          0);
+      return responses;
+    }
   }
 
   private void multiSearchRetry(
@@ -51,6 +83,15 @@ public class OpenSearchClient {
     }
     MultiSearchResponse.Item[] res =
         client.multiSearch(multiSearchRequestRetry).actionGet().getResponses();
+    collectResponses(responses, multiSearchRequest, indices, res, retry);
+  }
+
+  private void collectResponses(
+      MultiSearchResponse.Item[] responses,
+      MultiSearchRequest multiSearchRequest,
+      List<Integer> indices,
+      MultiSearchResponse.Item[] res,
+      int retry) {
     List<Integer> indicesFailure = new ArrayList<>();
     // Could get EsRejectedExecutionException and OpenSearchException as getCause
     for (int i = 0; i < res.length; i++) {
@@ -24,6 +24,7 @@ import org.opensearch.sql.legacy.domain.Condition;
 import org.opensearch.sql.legacy.domain.Select;
 import org.opensearch.sql.legacy.domain.Where;
 import org.opensearch.sql.legacy.esdomain.OpenSearchClient;
+import org.opensearch.sql.legacy.esdomain.OpenSearchClient.PendingMultiSearch;
 import org.opensearch.sql.legacy.exception.SqlParseException;
 import org.opensearch.sql.legacy.query.DefaultQueryAction;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
@@ -39,9 +40,12 @@ public class NestedLoopsElasticExecutor extends ElasticJoinExecutor {
 
   private final NestedLoopsElasticRequestBuilder nestedLoopsRequest;
 
+  private final OpenSearchClient openSearchClient;
+
   public NestedLoopsElasticExecutor(Client client, NestedLoopsElasticRequestBuilder nestedLoops) {
     super(client, nestedLoops);
     this.nestedLoopsRequest = nestedLoops;
+    this.openSearchClient = new OpenSearchClient(client);
   }
 
   @Override
@@ -70,33 +74,53 @@ public class NestedLoopsElasticExecutor extends ElasticJoinExecutor {
     while (totalLimit > currentCombinedResults && !finishedWithFirstTable) {
 
       SearchHit[] hits = firstTableResponse.getHits().getHits();
-      boolean finishedMultiSearches = hits.length == 0;
       int currentHitsIndex = 0;
-
-      while (!finishedMultiSearches) {
-        MultiSearchRequest multiSearchRequest =
-            createMultiSearchRequest(
-                multiSearchMaxSize,
-                nestedLoopsRequest.getConnectedWhere(),
-                hits,
-                secondTableSelect,
-                originalSecondTableWhere,
-                currentHitsIndex);
-        int multiSearchSize = multiSearchRequest.requests().size();
-        if (!BackOffRetryStrategy.isHealthy()) {
-          throw new IllegalStateException("Memory circuit is broken");
+      PendingMultiSearch pendingSearch =
+          hits.length == 0
+              ? null
+              : sendMultiSearch(
+                  multiSearchMaxSize,
+                  hits,
+                  secondTableSelect,
+                  originalSecondTableWhere,
+                  currentHitsIndex);
+
+      while (pendingSearch != null) {
+        int nextHitsIndex = currentHitsIndex + pendingSearch.size();
+        // Send the searches for the next hits before merging the responses of the current ones,
+        // so that the cluster executes them while this thread merges.
+        PendingMultiSearch nextSearch = null;
+        try {
+          if (nextHitsIndex < hits.length - 1) {
+            nextSearch =
+                sendMultiSearch(
+                    multiSearchMaxSize,
+                    hits,
+                    secondTableSelect,
+                    originalSecondTableWhere,
+                    nextHitsIndex);
+          }
+          currentCombinedResults =
+              combineResultsFromMultiResponses(
+                  combinedResults,
+                  totalLimit,
+                  currentCombinedResults,
+                  hits,
+                  currentHitsIndex,
+                  pendingSearch.get());
+        } catch (SqlParseException | RuntimeException e) {
+          cancel(pendingSearch);
+          cancel(nextSearch);
+          throw e;
+        }
+        currentHitsIndex = nextHitsIndex;
+        if (currentCombinedResults >= totalLimit) {
+          // The limit is reached, the responses of the next hits would be dropped anyway.
+          cancel(nextSearch);
+          pendingSearch = null;
+        } else {
+          pendingSearch = nextSearch;
         }
-        currentCombinedResults =
-            combineResultsFromMultiResponses(
-                combinedResults,
-                totalLimit,
-                currentCombinedResults,
-                hits,
-                currentHitsIndex,
-                multiSearchRequest);
-        currentHitsIndex += multiSearchSize;
-        finishedMultiSearches =
-            currentHitsIndex >= hits.length - 1 || currentCombinedResults >= totalLimit;
       }
 
       if (hits.length < MAX_RESULTS_ON_ONE_FETCH) {
@@ -136,15 +160,40 @@ public class NestedLoopsElasticExecutor extends ElasticJoinExecutor {
     return combinedResults;
   }
 
+  private PendingMultiSearch sendMultiSearch(
+      int multiSearchMaxSize,
+      SearchHit[] hits,
+      Select secondTableSelect,
+      Where originalSecondTableWhere,
+      int currentIndex)
+      throws SqlParseException {
+    MultiSearchRequest multiSearchRequest =
+        createMultiSearchRequest(
+            multiSearchMaxSize,
+            nestedLoopsRequest.getConnectedWhere(),
+            hits,
+            secondTableSelect,
+            originalSecondTableWhere,
+            currentIndex);
+    if (!BackOffRetryStrategy.isHealthy()) {
+      throw new IllegalStateException("Memory circuit is broken");
+    }
+    return openSearchClient.multiSearchAsync(multiSearchRequest);
+  }
+
+  private static void cancel(PendingMultiSearch search) {
+    if (search != null) {
+      search.cancel();
+    }
+  }
+
   private int combineResultsFromMultiResponses(
       List<SearchHit> combinedResults,
       int totalLimit,
       int currentCombinedResults,
       SearchHit[] hits,
       int currentIndex,
-      MultiSearchRequest multiSearchRequest) {
-    MultiSearchResponse.Item[] responses =
-        new OpenSearchClient(client).multiSearch(multiSearchRequest);
+      MultiSearchResponse.Item[] responses) {
     String t1Alias = nestedLoopsRequest.getFirstTable().getAlias();
     String t2Alias = nestedLoopsRequest.getSecondTable().getAlias();
 
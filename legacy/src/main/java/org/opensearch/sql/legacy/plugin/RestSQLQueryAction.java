@@ -14,6 +14,7 @@ import java.util.function.BiConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.inject.Injector;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -28,6 +29,7 @@ import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.ArrowResponseFormatter;
 import org.opensearch.sql.protocol.response.format.CommandResponseFormatter;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
 import org.opensearch.sql.protocol.response.format.Format;
@@ -177,18 +179,23 @@ public class RestSQLQueryAction extends BaseRestHandler {
       formatter = new CsvResponseFormatter(request.sanitize());
     } else if (format.equals(Format.RAW)) {
       formatter = new RawResponseFormatter(request.pretty());
+    } else if (format.equals(Format.ARROW)) {
+      formatter = new ArrowResponseFormatter();
     } else {
       formatter = new JdbcResponseFormatter(PRETTY);
     }
     return new ResponseListener<QueryResponse>() {
       @Override
       public void onResponse(QueryResponse response) {
-        sendResponse(
-            channel,
-            OK,
-            formatter.format(
-                new QueryResult(response.getSchema(), response.getResults(), response.getCursor())),
-            formatter.contentType());
+        QueryResult result =
+            new QueryResult(response.getSchema(), response.getResults(), response.getCursor());
+        try {
+          BytesStreamOutput output = new BytesStreamOutput();
+          formatter.format(result, output);
+          channel.sendResponse(new BytesRestResponse(OK, formatter.contentType(), output.bytes()));
+        } catch (Exception e) {
+          onFailure(e);
+        }
       }
 
       @Override
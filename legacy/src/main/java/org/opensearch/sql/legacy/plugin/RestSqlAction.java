@@ -155,6 +155,10 @@ public class RestSqlAction extends BaseRestHandler {
                   QueryContext.getRequestId(),
                   newSqlRequest);
               LOG.info("Request Query: {}", QueryDataAnonymizer.anonymizeData(sqlRequest.getSql()));
+              if (format == Format.ARROW) {
+                throw new IllegalArgumentException(
+                    "arrow format is not supported by the legacy SQL engine");
+              }
               QueryAction queryAction = explainRequest(client, sqlRequest, format);
               executeSqlRequest(request, queryAction, client, restChannel);
             } catch (Exception e) {
@@ -5,9 +5,11 @@
 
 package org.opensearch.sql.legacy.query.planner.core;
 
+import org.opensearch.sql.legacy.query.planner.resource.Stats;
 import org.opensearch.sql.legacy.query.planner.resource.blocksize.AdaptiveBlockSize;
 import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
 import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize.FixedBlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.monitor.TotalMemoryMonitor;
 
 /** Query planner configuration */
 public class Config {
@@ -18,8 +20,8 @@ public class Config {
   public static final double[] DEFAULT_BACK_OFF_RETRY_INTERVALS = {4, 8 + 4, 16 + 4};
   public static final int DEFAULT_TIME_OUT = 60;
 
-  /** Block size for join algorithm */
-  private BlockSize blockSize = new FixedBlockSize(DEFAULT_BLOCK_SIZE);
+  /** Block size for join algorithm, adapted to the memory left unless a size is hinted */
+  private BlockSize blockSize = adaptiveBlockSize();
 
   /** Page size for scroll on each index */
   private Integer[] scrollPageSizes = {DEFAULT_SCROLL_PAGE_SIZE, DEFAULT_SCROLL_PAGE_SIZE};
@@ -51,14 +53,16 @@ public class Config {
   public void configureBlockSize(Object[] params) {
     if (params.length > 0) {
       Integer size = (Integer) params[0];
-      if (size > 0) {
-        blockSize = new FixedBlockSize(size);
-      } else {
-        blockSize = new AdaptiveBlockSize(0);
-      }
+      blockSize = size > 0 ? new FixedBlockSize(size) : adaptiveBlockSize();
     }
   }
 
+  private BlockSize adaptiveBlockSize() {
+    // Memory stats are collected from the JVM, no client is needed
+    TotalMemoryMonitor monitor = new TotalMemoryMonitor(new Stats(null), this);
+    return new AdaptiveBlockSize(DEFAULT_BLOCK_SIZE, monitor);
+  }
+
   public Integer[] scrollPageSize() {
     return scrollPageSizes;
   }
@@ -5,19 +5,31 @@
 
 package org.opensearch.sql.legacy.query.planner.resource.blocksize;
 
-/** Adaptive block size calculator based on resource usage dynamically. */
+import org.opensearch.sql.legacy.query.planner.resource.monitor.TotalMemoryMonitor;
+
+/**
+ * Adaptive block size calculator based on resource usage dynamically. The size is recalculated on
+ * each call and shrinks with the memory headroom left below the circuit break limit, so fewer left
+ * rows are held in the hash table when the node is under memory pressure.
+ */
 public class AdaptiveBlockSize implements BlockSize {
 
+  /** Smallest block size so that the join still makes progress under memory pressure */
+  public static final int MIN_BLOCK_SIZE = 100;
+
   private final int upperLimit;
 
-  public AdaptiveBlockSize(int upperLimit) {
+  private final TotalMemoryMonitor monitor;
+
+  public AdaptiveBlockSize(int upperLimit, TotalMemoryMonitor monitor) {
     this.upperLimit = upperLimit;
+    this.monitor = monitor;
   }
 
   @Override
   public int size() {
-    // TODO: calculate dynamically on each call
-    return upperLimit;
+    int size = (int) (upperLimit * monitor.headroom());
+    return Math.max(Math.min(MIN_BLOCK_SIZE, upperLimit), size);
   }
 
   @Override
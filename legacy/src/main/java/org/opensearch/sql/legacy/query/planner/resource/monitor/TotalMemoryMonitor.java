@@ -19,18 +19,19 @@ public class TotalMemoryMonitor implements Monitor {
   /** Statistic collector */
   private final Stats stats;
 
-  /** Upper limit for memory usage percentage */
-  private final int limit;
+  /** Configuration with the upper limit for memory usage percentage */
+  private final Config config;
 
   public TotalMemoryMonitor(Stats stats, Config config) {
     this.stats = stats;
-    this.limit = config.circuitBreakLimit();
+    this.config = config;
   }
 
   @Override
   public boolean isHealthy() {
     MemStats memStats = stats.collectMemStats();
     int usage = percentage(memUsage(memStats));
+    int limit = config.circuitBreakLimit();
 
     if (LOG.isDebugEnabled()) {
       LOG.debug("Memory usage and limit: {}%, {}%", usage, limit);
@@ -39,6 +40,17 @@ public class TotalMemoryMonitor implements Monitor {
     return usage < limit;
   }
 
+  /**
+   * Fraction of memory still available before the usage reaches the limit.
+   *
+   * @return 1.0 if no memory is used, 0.0 if the usage is at or above the limit
+   */
+  public double headroom() {
+    double limit = config.circuitBreakLimit() / 100.0;
+    double usage = memUsage(stats.collectMemStats());
+    return Math.max(0.0, Math.min(1.0, (limit - usage) / limit));
+  }
+
   private int percentage(double usage) {
     return (int) Math.round(usage * 100);
   }
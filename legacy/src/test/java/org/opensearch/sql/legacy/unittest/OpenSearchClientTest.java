@@ -7,6 +7,8 @@ package org.opensearch.sql.legacy.unittest;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.Assert;
@@ -64,4 +66,29 @@ public class OpenSearchClientTest {
     Assert.assertFalse(res[0].isFailure());
     Assert.assertFalse(res[1].isFailure());
   }
+
+  @Test
+  public void multiSearchAsyncRetryWhenResponsesAreRead() {
+    OpenSearchClient openSearchClient = new OpenSearchClient(client);
+    OpenSearchClient.PendingMultiSearch pending =
+        openSearchClient.multiSearchAsync(
+            new MultiSearchRequest().add(new SearchRequest()).add(new SearchRequest()));
+    Assert.assertEquals(2, pending.size());
+    verify(client, times(1)).multiSearch(any());
+
+    MultiSearchResponse.Item[] res = pending.get();
+    Assert.assertFalse(res[0].isFailure());
+    Assert.assertFalse(res[1].isFailure());
+    verify(client, times(2)).multiSearch(any());
+  }
+
+  @Test
+  public void cancelMultiSearchAsync() {
+    ActionFuture<MultiSearchResponse> future = mock(ActionFuture.class);
+    when(client.multiSearch(any())).thenReturn(future);
+    OpenSearchClient openSearchClient = new OpenSearchClient(client);
+
+    openSearchClient.multiSearchAsync(new MultiSearchRequest().add(new SearchRequest())).cancel();
+    verify(future).cancel(false);
+  }
 }
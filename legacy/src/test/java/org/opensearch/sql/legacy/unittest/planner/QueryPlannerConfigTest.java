@@ -11,9 +11,11 @@ import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.opensearch.sql.legacy.util.MatcherUtils.featureValueOf;
 
 import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.opensearch.sql.legacy.domain.hints.Hint;
 import org.opensearch.sql.legacy.domain.hints.HintFactory;
@@ -21,6 +23,9 @@ import org.opensearch.sql.legacy.domain.hints.HintType;
 import org.opensearch.sql.legacy.exception.SqlParseException;
 import org.opensearch.sql.legacy.query.planner.HashJoinQueryPlanRequestBuilder;
 import org.opensearch.sql.legacy.query.planner.core.Config;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.AdaptiveBlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize.FixedBlockSize;
 
 /** Hint & Configuring Ability Test Cases */
 public class QueryPlannerConfigTest extends QueryPlannerTest {
@@ -105,7 +110,7 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
             "SELECT /*! JOIN_SCROLL_PAGE_SIZE(50, 20) */ "
                 + "  d.name FROM employee e JOIN department d ON d.id = e.departmentId "),
         config(
-            blockSize(Config.DEFAULT_BLOCK_SIZE),
+            adaptiveBlockSize(),
             scrollPageSize(50, 20),
             circuitBreakLimit(Config.DEFAULT_CIRCUIT_BREAK_LIMIT),
             backOffRetryIntervals(Config.DEFAULT_BACK_OFF_RETRY_INTERVALS),
@@ -120,7 +125,7 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
             "SELECT /*! JOIN_CIRCUIT_BREAK_LIMIT(60) */ "
                 + "  d.name FROM employee e JOIN department d ON d.id = e.departmentId "),
         config(
-            blockSize(Config.DEFAULT_BLOCK_SIZE),
+            adaptiveBlockSize(),
             scrollPageSize(Config.DEFAULT_SCROLL_PAGE_SIZE, Config.DEFAULT_SCROLL_PAGE_SIZE),
             circuitBreakLimit(60),
             backOffRetryIntervals(Config.DEFAULT_BACK_OFF_RETRY_INTERVALS),
@@ -135,7 +140,7 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
             "SELECT /*! JOIN_BACK_OFF_RETRY_INTERVALS(1, 3, 5, 10) */ "
                 + "  d.name FROM employee e JOIN department d ON d.id = e.departmentId "),
         config(
-            blockSize(Config.DEFAULT_BLOCK_SIZE),
+            adaptiveBlockSize(),
             scrollPageSize(Config.DEFAULT_SCROLL_PAGE_SIZE, Config.DEFAULT_SCROLL_PAGE_SIZE),
             circuitBreakLimit(Config.DEFAULT_CIRCUIT_BREAK_LIMIT),
             backOffRetryIntervals(new double[] {1, 3, 5, 10}),
@@ -150,7 +155,7 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
             "SELECT /*! JOIN_TABLES_LIMIT(10, 20) */ "
                 + "  d.name FROM employee e JOIN department d ON d.id = e.departmentId LIMIT 50"),
         config(
-            blockSize(Config.DEFAULT_BLOCK_SIZE),
+            adaptiveBlockSize(),
             scrollPageSize(Config.DEFAULT_SCROLL_PAGE_SIZE, Config.DEFAULT_SCROLL_PAGE_SIZE),
             circuitBreakLimit(Config.DEFAULT_CIRCUIT_BREAK_LIMIT),
             backOffRetryIntervals(Config.DEFAULT_BACK_OFF_RETRY_INTERVALS),
@@ -165,7 +170,7 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
             "SELECT /*! JOIN_TIME_OUT(120) */ "
                 + "  d.name FROM employee e JOIN department d ON d.id = e.departmentId"),
         config(
-            blockSize(Config.DEFAULT_BLOCK_SIZE),
+            adaptiveBlockSize(),
             scrollPageSize(Config.DEFAULT_SCROLL_PAGE_SIZE, Config.DEFAULT_SCROLL_PAGE_SIZE),
             circuitBreakLimit(Config.DEFAULT_CIRCUIT_BREAK_LIMIT),
             backOffRetryIntervals(Config.DEFAULT_BACK_OFF_RETRY_INTERVALS),
@@ -223,14 +228,14 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
   }
 
   private Matcher<Config> config(
-      Matcher<Integer> blockSizeMatcher,
+      Matcher<BlockSize> blockSizeMatcher,
       Matcher<Integer[]> scrollPageSizeMatcher,
       Matcher<Integer> circuitBreakLimitMatcher,
       Matcher<double[]> backOffRetryIntervalsMatcher,
       Matcher<Integer[]> totalAndTableLimitMatcher,
       Matcher<Integer> timeOutMatcher) {
     return allOf(
-        featureValueOf("Block size", blockSizeMatcher, (cfg -> cfg.blockSize().size())),
+        featureValueOf("Block size", blockSizeMatcher, Config::blockSize),
         featureValueOf("Scroll page size", scrollPageSizeMatcher, Config::scrollPageSize),
         featureValueOf("Circuit break limit", circuitBreakLimitMatcher, Config::circuitBreakLimit),
         featureValueOf(
@@ -244,8 +249,14 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
         featureValueOf("Time out", timeOutMatcher, Config::timeout));
   }
 
-  private Matcher<Integer> blockSize(int size) {
-    return is(size);
+  private Matcher<BlockSize> blockSize(int size) {
+    return both(Matchers.<BlockSize>instanceOf(FixedBlockSize.class))
+        .and(featureValueOf("Size", is(size), BlockSize::size));
+  }
+
+  private Matcher<BlockSize> adaptiveBlockSize() {
+    return both(Matchers.<BlockSize>instanceOf(AdaptiveBlockSize.class))
+        .and(featureValueOf("Size", lessThanOrEqualTo(Config.DEFAULT_BLOCK_SIZE), BlockSize::size));
   }
 
   @SuppressWarnings("unchecked")
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.planner.resource;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.opensearch.sql.legacy.query.planner.core.Config;
+import org.opensearch.sql.legacy.query.planner.resource.Stats;
+import org.opensearch.sql.legacy.query.planner.resource.Stats.MemStats;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.AdaptiveBlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.monitor.TotalMemoryMonitor;
+
+public class AdaptiveBlockSizeTest {
+
+  private final Stats stats = mock(Stats.class);
+
+  /** Circuit break limit is 80% */
+  private final AdaptiveBlockSize blockSize = blockSize(80);
+
+  @Test
+  public void fullSizeWithoutMemoryUsage() {
+    when(stats.collectMemStats()).thenReturn(new MemStats(100, 100));
+    assertEquals(10000, blockSize.size());
+  }
+
+  @Test
+  public void shrinkWithMemoryHeadroom() {
+    // 40% used, half of the memory below the limit is left
+    when(stats.collectMemStats()).thenReturn(new MemStats(60, 100));
+    assertEquals(5000, blockSize.size());
+  }
+
+  @Test
+  public void minimumSizeAtCircuitBreakLimit() {
+    when(stats.collectMemStats()).thenReturn(new MemStats(10, 100));
+    assertEquals(AdaptiveBlockSize.MIN_BLOCK_SIZE, blockSize.size());
+  }
+
+  @Test
+  public void recalculateOnEachCall() {
+    when(stats.collectMemStats()).thenReturn(new MemStats(100, 100), new MemStats(60, 100));
+    assertEquals(10000, blockSize.size());
+    assertEquals(5000, blockSize.size());
+  }
+
+  private AdaptiveBlockSize blockSize(int circuitBreakLimit) {
+    Config config = new Config();
+    config.configureCircuitBreakLimit(new Object[] {circuitBreakLimit});
+    return new AdaptiveBlockSize(10000, new TotalMemoryMonitor(stats, config));
+  }
+}
@@ -7,11 +7,14 @@ package org.opensearch.sql.opensearch.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.FieldStatistics;
+import org.opensearch.sql.opensearch.storage.lookup.IndexVersion;
 import org.opensearch.transport.client.node.NodeClient;
 
 /**
@@ -54,6 +57,33 @@ public interface OpenSearchClient {
    */
   Map<String, Integer> getIndexMaxResultWindows(String... indexExpression);
 
+  /**
+   * Fetch the number of documents according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return number of top level documents of all matched indices, as counted by the count API
+   */
+  long getIndexDocCount(String... indexExpression);
+
+  /**
+   * Fetch the statistics of a field by aggregations according to index expression given, within
+   * {@link FieldStatistics#TIMEOUT}. The distinct count is estimated from a sample.
+   *
+   * @param field field name
+   * @param withRange true to fetch the min and max values, only for numeric and date fields
+   * @param indexExpression index expression
+   * @return field statistics
+   */
+  FieldStatistics getFieldStatistics(String field, boolean withRange, String... indexExpression);
+
+  /**
+   * Fetch the version of the searchable content according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return version of the visible documents of all matched indices
+   */
+  IndexVersion getIndexVersion(String... indexExpression);
+
   /**
    * Perform search query in the search request.
    *
@@ -90,6 +120,21 @@ public interface OpenSearchClient {
    */
   void schedule(Runnable task);
 
+  /**
+   * Schedule a task to run in parallel with the running task, which doesn't wait for it to start.
+   *
+   * @param task task
+   */
+  void scheduleParallel(Runnable task);
+
+  /**
+   * Get the security context of the user running the current request, i.e. the user and its roles,
+   * which decide the documents and fields the user can read.
+   *
+   * @return security context, empty if the documents read don't depend on the user
+   */
+  Optional<String> getSecurityContext();
+
   NodeClient getNodeClient();
 
   /**
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -28,10 +29,14 @@ import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.FieldStatistics;
+import org.opensearch.sql.opensearch.storage.lookup.IndexVersion;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.node.NodeClient;
 
 /** OpenSearch connection by node client. */
@@ -40,6 +45,11 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   public static final Function<String, Predicate<String>> ALL_FIELDS =
       (anyIndex -> (anyField -> true));
 
+  private static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
+
+  /** Thread context transient of the security plugin with the user info of the request. */
+  private static final String SECURITY_USER_INFO_TRANSIENT = "_opendistro_security_user_info";
+
   /** Node client provided by OpenSearch container. */
   private final NodeClient client;
 
@@ -127,6 +137,47 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public long getIndexDocCount(String... indexExpression) {
+    try {
+      // Count like a count request, index stats would also count deleted and nested documents.
+      SearchRequest request =
+          new SearchRequest(indexExpression)
+              .source(new SearchSourceBuilder().size(0).trackTotalHits(true));
+      return client.search(request).actionGet().getHits().getTotalHits().value();
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read document count for index pattern ["
+              + String.join(",", indexExpression)
+              + "]",
+          e);
+    }
+  }
+
+  @Override
+  public FieldStatistics getFieldStatistics(
+      String field, boolean withRange, String... indexExpression) {
+    try {
+      SearchRequest request =
+          new SearchRequest(indexExpression).source(FieldStatistics.searchSource(field, withRange));
+      return FieldStatistics.of(client.search(request).actionGet(FieldStatistics.WAIT_TIMEOUT));
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to read statistics of field [" + field + "]", e);
+    }
+  }
+
+  @Override
+  public IndexVersion getIndexVersion(String... indexExpression) {
+    try {
+      SearchRequest request =
+          new SearchRequest(indexExpression).source(IndexVersion.searchSource());
+      return IndexVersion.of(client.search(request).actionGet());
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read version of index pattern [" + String.join(",", indexExpression) + "]", e);
+    }
+  }
+
   /** TODO: Scroll doesn't work for aggregation. Support aggregation later. */
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
@@ -193,6 +244,22 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     task.run();
   }
 
+  /** The task runs on another thread of the sql-worker ThreadPool, in the same thread context. */
+  @Override
+  public void scheduleParallel(Runnable task) {
+    ThreadPool threadPool = client.threadPool();
+    threadPool
+        .executor(SQL_WORKER_THREAD_POOL_NAME)
+        .execute(threadPool.getThreadContext().preserveContext(task));
+  }
+
+  /** The security plugin sets the user info of the request in the thread context. */
+  @Override
+  public Optional<String> getSecurityContext() {
+    return Optional.ofNullable(
+        client.threadPool().getThreadContext().getTransient(SECURITY_USER_INFO_TRANSIENT));
+  }
+
   @Override
   public NodeClient getNodeClient() {
     return client;
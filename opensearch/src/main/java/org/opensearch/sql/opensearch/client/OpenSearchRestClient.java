@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.*;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.core.CountRequest;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.GetIndexRequest;
 import org.opensearch.client.indices.GetIndexResponse;
@@ -33,6 +35,8 @@ import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.FieldStatistics;
+import org.opensearch.sql.opensearch.storage.lookup.IndexVersion;
 import org.opensearch.transport.client.node.NodeClient;
 
 /**
@@ -110,6 +114,38 @@ public class OpenSearchRestClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public long getIndexDocCount(String... indexExpression) {
+    try {
+      return client.count(new CountRequest(indexExpression), RequestOptions.DEFAULT).getCount();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to get document count for " + indexExpression, e);
+    }
+  }
+
+  @Override
+  public FieldStatistics getFieldStatistics(
+      String field, boolean withRange, String... indexExpression) {
+    SearchRequest request =
+        new SearchRequest(indexExpression).source(FieldStatistics.searchSource(field, withRange));
+    try {
+      return FieldStatistics.of(client.search(request, RequestOptions.DEFAULT));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to get statistics of field " + field, e);
+    }
+  }
+
+  @Override
+  public IndexVersion getIndexVersion(String... indexExpression) {
+    SearchRequest request = new SearchRequest(indexExpression).source(IndexVersion.searchSource());
+    try {
+      return IndexVersion.of(client.search(request, RequestOptions.DEFAULT));
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          "Failed to get version of index " + String.join(",", indexExpression), e);
+    }
+  }
+
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
     return request.search(
@@ -203,6 +239,17 @@ public class OpenSearchRestClient implements OpenSearchClient {
     task.run();
   }
 
+  @Override
+  public void scheduleParallel(Runnable task) {
+    task.run();
+  }
+
+  /** All the requests are sent with the credentials of the REST client. */
+  @Override
+  public Optional<String> getSecurityContext() {
+    return Optional.empty();
+  }
+
   @Override
   public NodeClient getNodeClient() {
     throw new UnsupportedOperationException("Unsupported method.");
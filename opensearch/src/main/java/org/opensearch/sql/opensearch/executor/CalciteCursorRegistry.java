@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+/**
+ * Paginated Calcite queries suspended on the node between pages. Unlike a v2 cursor, which
+ * serializes the whole physical plan into every page, a Calcite cursor is a short ID of the rows
+ * kept open here, so the next page resumes the running query, i.e. its point in time and search
+ * after state, without planning and compiling it again.
+ *
+ * <p>A suspended query is closed if it is not fetched within {@link
+ * Settings.Key#SQL_CURSOR_KEEP_ALIVE}, which is also the keep-alive of its point in time, or if it
+ * is the least recently suspended one when more than {@link Settings.Key#CALCITE_CURSOR_MAX_OPEN}
+ * queries are open. Expired queries are closed by {@link #closeExpired()}, run every {@link
+ * #REAP_INTERVAL} on the thread pool, so that queries which are never fetched again release their
+ * point in time, and the memory reserved by their operators, without waiting for another query.
+ *
+ * <p>A suspended query is kept with the security context of the user who ran it, and only that
+ * user can fetch or close it. A cursor of another user is reported as not found, so that it can't
+ * be told apart from a cursor which doesn't exist.
+ */
+public class CalciteCursorRegistry {
+  private static final Logger LOG = LogManager.getLogger(CalciteCursorRegistry.class);
+
+  static final TimeValue DEFAULT_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+  static final int DEFAULT_MAX_OPEN = 50;
+
+  /** Interval between two runs of {@link #closeExpired()}. */
+  public static final TimeValue REAP_INTERVAL = TimeValue.timeValueSeconds(10);
+
+  private final Supplier<TimeValue> keepAlive;
+
+  private final IntSupplier maxOpen;
+
+  /** Current time in nanoseconds. */
+  private final LongSupplier clock;
+
+  /** Suspended queries by cursor ID, in the order they were suspended. */
+  private final Map<String, Suspended> queries = new LinkedHashMap<>();
+
+  /** Registry with the default keep-alive and number of open queries. */
+  public CalciteCursorRegistry() {
+    this(() -> DEFAULT_KEEP_ALIVE, () -> DEFAULT_MAX_OPEN, System::nanoTime);
+  }
+
+  public CalciteCursorRegistry(Settings settings) {
+    this(
+        () -> settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE),
+        () -> settings.getSettingValue(Settings.Key.CALCITE_CURSOR_MAX_OPEN),
+        System::nanoTime);
+  }
+
+  CalciteCursorRegistry(Supplier<TimeValue> keepAlive, IntSupplier maxOpen, LongSupplier clock) {
+    this.keepAlive = keepAlive;
+    this.maxOpen = maxOpen;
+    this.clock = clock;
+  }
+
+  /**
+   * Suspend the rest rows of a paginated query.
+   *
+   * @param rows rows of which a page was read
+   * @param user security context of the user running the query, null without security
+   * @return cursor to fetch the next page
+   */
+  Cursor register(CalciteRows rows, String user) {
+    String id = UUIDs.randomBase64UUID();
+    List<CalciteRows> closed = new ArrayList<>();
+    synchronized (this) {
+      long now = clock.getAsLong();
+      closed.addAll(removeExpired(now));
+      queries.put(id, new Suspended(rows, user, now + keepAlive.get().nanos()));
+      Iterator<Suspended> eldest = queries.values().iterator();
+      while (queries.size() > maxOpen.getAsInt()) {
+        closed.add(eldest.next().rows());
+        eldest.remove();
+      }
+    }
+    closed.forEach(CalciteCursorRegistry::closeQuietly);
+    return new Cursor(Cursor.CALCITE_CURSOR_PREFIX + id);
+  }
+
+  /**
+   * Take the suspended query of a cursor out of the registry, to read its next page.
+   *
+   * @param cursor cursor returned with the previous page
+   * @param user security context of the user fetching the page, null without security
+   * @return rows of the query
+   * @throws IllegalArgumentException if there is no such query of the user on the node
+   */
+  CalciteRows take(Cursor cursor, String user) {
+    Suspended suspended;
+    List<CalciteRows> closed;
+    synchronized (this) {
+      closed = removeExpired(clock.getAsLong());
+      suspended = queries.get(id(cursor));
+      if (suspended != null && Objects.equals(suspended.user(), user)) {
+        queries.remove(id(cursor));
+      } else {
+        suspended = null;
+      }
+    }
+    closed.forEach(CalciteCursorRegistry::closeQuietly);
+    if (suspended == null) {
+      throw new IllegalArgumentException(
+          "Cursor is not found. It was closed, expired after the keep-alive, or was returned by"
+              + " another node");
+    }
+    return suspended.rows();
+  }
+
+  /** Close the suspended query of a cursor, see {@link #take(Cursor, String)}. */
+  void close(Cursor cursor, String user) {
+    take(cursor, user).close();
+  }
+
+  /** Close the suspended queries which were not fetched within the keep-alive. */
+  public void closeExpired() {
+    List<CalciteRows> closed;
+    synchronized (this) {
+      closed = removeExpired(clock.getAsLong());
+    }
+    closed.forEach(CalciteCursorRegistry::closeQuietly);
+  }
+
+  /** @return number of open queries. */
+  synchronized int size() {
+    return queries.size();
+  }
+
+  private List<CalciteRows> removeExpired(long now) {
+    List<CalciteRows> expired = new ArrayList<>();
+    Iterator<Suspended> iterator = queries.values().iterator();
+    while (iterator.hasNext()) {
+      Suspended suspended = iterator.next();
+      if (suspended.deadline() - now <= 0) {
+        expired.add(suspended.rows());
+        iterator.remove();
+      }
+    }
+    return expired;
+  }
+
+  private static String id(Cursor cursor) {
+    return cursor.getData().substring(Cursor.CALCITE_CURSOR_PREFIX.length());
+  }
+
+  private static void closeQuietly(CalciteRows rows) {
+    try {
+      rows.close();
+    } catch (Exception e) {
+      LOG.warn("Failed to close a suspended query", e);
+    }
+  }
+
+  private record Suspended(CalciteRows rows, String user, long deadline) {}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.convertRelDataTypeToExprType;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.Getter;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
+import org.opensearch.sql.monitor.ExprValueSizeEstimator;
+import org.opensearch.sql.monitor.MemoryTracker;
+import org.opensearch.sql.opensearch.util.CalciteExprValueConvertor;
+
+/**
+ * Rows of a running Calcite query, read page by page. The rows of a paginated query stay open
+ * between pages, together with the connection the query was prepared on, and the memory reserved by
+ * the operators of the query, until they are closed.
+ */
+class CalciteRows implements AutoCloseable {
+
+  private final Enumerator<@Nullable Object> enumerator;
+
+  private final Connection connection;
+
+  /** Memory reserved by the operators of the query, e.g. the hash exchanges. */
+  private final MemoryTracker memoryTracker;
+
+  private final List<String> columnNames;
+
+  private final List<RelDataType> fieldTypes;
+
+  private final List<Function<Object, ExprValue>> convertors;
+
+  /** Largest number of rows in a page, or null if unlimited. */
+  private final Integer pageSize;
+
+  /** Whether the rest rows are kept open after a page, for its cursor to fetch them. */
+  @Getter private final boolean paginated;
+
+  /** Schema of the first page, which is used for all the pages. */
+  private Schema schema;
+
+  /** Whether the enumerator is on a row which is not read yet. */
+  private boolean hasCurrent;
+
+  CalciteRows(
+      Enumerator<@Nullable Object> enumerator,
+      Connection connection,
+      MemoryTracker memoryTracker,
+      RelDataType rowType,
+      Integer pageSize,
+      boolean paginated) {
+    this.enumerator = enumerator;
+    this.connection = connection;
+    this.memoryTracker = memoryTracker;
+    this.columnNames = rowType.getFieldNames();
+    this.fieldTypes = rowType.getFieldList().stream().map(RelDataTypeField::getType).toList();
+    this.convertors =
+        fieldTypes.stream().map(CalciteExprValueConvertor::getExprValueConvertor).toList();
+    this.pageSize = pageSize;
+    this.paginated = paginated;
+  }
+
+  /** @return true if there are rows not read yet. */
+  boolean hasNext() {
+    if (!hasCurrent) {
+      hasCurrent = enumerator.moveNext();
+    }
+    return hasCurrent;
+  }
+
+  /** Read the next page of rows, whose memory is reserved by the given tracker. */
+  List<ExprValue> next(MemoryTracker memoryTracker) {
+    int columnCount = columnNames.size();
+    List<ExprValue> values = new ArrayList<>();
+    while ((pageSize == null || values.size() < pageSize) && hasNext()) {
+      hasCurrent = false;
+      // Rows of a single column are the value itself
+      Object current = enumerator.current();
+      Map<String, ExprValue> row = new LinkedHashMap<String, ExprValue>();
+      for (int i = 0; i < columnCount; i++) {
+        Object cell = columnCount == 1 ? current : ((Object[]) current)[i];
+        row.put(columnNames.get(i), convertors.get(i).apply(cell));
+      }
+      ExprValue value = ExprTupleValue.fromExprValueMap(row);
+      memoryTracker.reserve(ExprValueSizeEstimator.estimate(value), "result");
+      values.add(value);
+    }
+    return values;
+  }
+
+  /** @return schema of the rows, with the runtime types of the given page for columns of ANY. */
+  Schema schema(List<ExprValue> values) {
+    if (schema != null) {
+      return schema;
+    }
+    List<Column> columns = new ArrayList<>(columnNames.size());
+    for (int i = 0; i < columnNames.size(); ++i) {
+      String columnName = columnNames.get(i);
+      RelDataType fieldType = fieldTypes.get(i);
+      // TODO: Correct this after fixing issue github.com/opensearch-project/sql/issues/3751
+      //  The element type of struct and array is currently set to ANY.
+      //  We set them using the runtime type as a workaround.
+      ExprType exprType;
+      if (fieldType.getSqlTypeName() == SqlTypeName.ANY) {
+        if (!values.isEmpty()) {
+          exprType = values.getFirst().tupleValue().get(columnName).type();
+        } else {
+          // Using UNDEFINED instead of UNKNOWN to avoid throwing exception
+          exprType = ExprCoreType.UNDEFINED;
+        }
+      } else {
+        exprType = convertRelDataTypeToExprType(fieldType);
+      }
+      columns.add(new Column(columnName, null, exprType));
+    }
+    schema = new Schema(columns);
+    return schema;
+  }
+
+  @Override
+  public void close() {
+    try (Connection ignored = connection;
+        MemoryTracker ignoredTracker = memoryTracker) {
+      enumerator.close();
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to close the connection of the query", e);
+    }
+  }
+}
@@ -5,50 +5,44 @@
 
 package org.opensearch.sql.opensearch.executor;
 
-import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.convertRelDataTypeToExprType;
 import static org.opensearch.sql.calcite.utils.UserDefinedFunctionUtils.TransferUserDefinedAggFunction;
 import static org.opensearch.sql.expression.function.BuiltinFunctionName.DISTINCT_COUNT_APPROX;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelRoot;
-import org.apache.calcite.rel.type.RelDataType;
-import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.runtime.Hook;
 import org.apache.calcite.sql.SqlExplainLevel;
 import org.apache.calcite.sql.type.ReturnTypes;
-import org.apache.calcite.sql.type.SqlTypeName;
 import org.opensearch.sql.ast.statement.Explain.ExplainFormat;
 import org.opensearch.sql.calcite.CalcitePlanContext;
+import org.opensearch.sql.calcite.plan.HashExchangeProgram;
 import org.opensearch.sql.calcite.utils.CalciteToolsHelper.OpenSearchRelRunners;
 import org.opensearch.sql.common.response.ResponseListener;
-import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.type.ExprCoreType;
-import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
-import org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
 import org.opensearch.sql.executor.Explain;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.PPLFuncImpTable;
+import org.opensearch.sql.monitor.ExprValueSizeEstimator;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.functions.DistinctCountApproxAggFunction;
 import org.opensearch.sql.opensearch.functions.GeoIpFunction;
-import org.opensearch.sql.opensearch.util.JdbcOpenSearchDataTypeConvertor;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -60,13 +54,38 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
   private final ExecutionProtector executionProtector;
   private final PlanSerializer planSerializer;
 
+  /** Breaker accounting the memory of queries, null if memory is not accounted. */
+  private final OpenSearchMemoryBreaker memoryBreaker;
+
+  /** Paginated Calcite queries suspended between pages. */
+  private final CalciteCursorRegistry cursorRegistry;
+
   public OpenSearchExecutionEngine(
       OpenSearchClient client,
       ExecutionProtector executionProtector,
       PlanSerializer planSerializer) {
+    this(client, executionProtector, planSerializer, null);
+  }
+
+  public OpenSearchExecutionEngine(
+      OpenSearchClient client,
+      ExecutionProtector executionProtector,
+      PlanSerializer planSerializer,
+      OpenSearchMemoryBreaker memoryBreaker) {
+    this(client, executionProtector, planSerializer, memoryBreaker, new CalciteCursorRegistry());
+  }
+
+  public OpenSearchExecutionEngine(
+      OpenSearchClient client,
+      ExecutionProtector executionProtector,
+      PlanSerializer planSerializer,
+      OpenSearchMemoryBreaker memoryBreaker,
+      CalciteCursorRegistry cursorRegistry) {
     this.client = client;
     this.executionProtector = executionProtector;
     this.planSerializer = planSerializer;
+    this.memoryBreaker = memoryBreaker;
+    this.cursorRegistry = cursorRegistry;
     registerOpenSearchFunctions();
   }
 
@@ -80,7 +99,14 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
       PhysicalPlan physicalPlan,
       ExecutionContext context,
       ResponseListener<QueryResponse> listener) {
-    PhysicalPlan plan = executionProtector.protect(physicalPlan);
+    MemoryTracker memoryTracker;
+    try {
+      memoryTracker = newMemoryTracker();
+    } catch (RuntimeException e) {
+      listener.onFailure(e);
+      return;
+    }
+    PhysicalPlan plan = executionProtector.protect(physicalPlan, memoryTracker);
     client.schedule(
         () -> {
           try {
@@ -91,7 +117,9 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
 
             Integer querySizeLimit = context.getQuerySizeLimit();
             while (plan.hasNext() && (querySizeLimit == null || result.size() < querySizeLimit)) {
-              result.add(plan.next());
+              ExprValue row = plan.next();
+              memoryTracker.reserve(ExprValueSizeEstimator.estimate(row), "result");
+              result.add(row);
             }
 
             QueryResponse response =
@@ -102,6 +130,7 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
             listener.onFailure(e);
           } finally {
             plan.close();
+            memoryTracker.close();
           }
         });
   }
@@ -169,7 +198,8 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
               String logical = RelOptUtil.toString(rel, level);
               AtomicReference<String> physical = new AtomicReference<>();
               AtomicReference<String> javaCode = new AtomicReference<>();
-              try (Hook.Closeable closeable = getPhysicalPlanInHook(physical, level)) {
+              try (Hook.Closeable closeable = getPhysicalPlanInHook(physical, level);
+                  Hook.Closeable parallel = parallelize(context, MemoryTracker.NO_OP)) {
                 if (format == ExplainFormat.EXTENDED) {
                   getCodegenInHook(javaCode);
                 }
@@ -196,67 +226,121 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
             AccessController.doPrivileged(
                 (PrivilegedAction<Void>)
                     () -> {
-                      try (PreparedStatement statement = OpenSearchRelRunners.run(context, rel)) {
-                        ResultSet result = statement.executeQuery();
-                        buildResultSet(result, rel.getRowType(), context.querySizeLimit, listener);
+                      CalciteRows rows;
+                      MemoryTracker memoryTracker = null;
+                      try {
+                        // Released once the rows are closed, after the last page
+                        memoryTracker = newMemoryTracker();
+                        try (Hook.Closeable parallel = parallelize(context, memoryTracker)) {
+                          boolean paginated = context.getFetchSize() > 0;
+                          rows =
+                              new CalciteRows(
+                                  OpenSearchRelRunners.bind(context, rel).enumerator(),
+                                  context.connection,
+                                  memoryTracker,
+                                  rel.getRowType(),
+                                  // The query size limit doesn't apply to pages
+                                  paginated ? context.getFetchSize() : context.querySizeLimit,
+                                  paginated);
+                        }
                       } catch (SQLException e) {
+                        closeQuietly(context.connection, memoryTracker);
                         throw new RuntimeException(e);
+                      } catch (RuntimeException e) {
+                        closeQuietly(context.connection, memoryTracker);
+                        throw e;
                       }
+                      nextPage(rows, listener);
                       return null;
                     }));
   }
 
-  private void buildResultSet(
-      ResultSet resultSet,
-      RelDataType rowTypes,
-      Integer querySizeLimit,
-      ResponseListener<QueryResponse> listener)
-      throws SQLException {
-    // Get the ResultSet metadata to know about columns
-    ResultSetMetaData metaData = resultSet.getMetaData();
-    int columnCount = metaData.getColumnCount();
-    List<RelDataType> fieldTypes =
-        rowTypes.getFieldList().stream().map(RelDataTypeField::getType).toList();
-    List<ExprValue> values = new ArrayList<>();
-    // Iterate through the ResultSet
-    while (resultSet.next() && (querySizeLimit == null || values.size() < querySizeLimit)) {
-      Map<String, ExprValue> row = new LinkedHashMap<String, ExprValue>();
-      // Loop through each column
-      for (int i = 1; i <= columnCount; i++) {
-        String columnName = metaData.getColumnName(i);
-        int sqlType = metaData.getColumnType(i);
-        RelDataType fieldType = fieldTypes.get(i - 1);
-        ExprValue exprValue =
-            JdbcOpenSearchDataTypeConvertor.getExprValueFromSqlType(
-                resultSet, i, sqlType, fieldType, columnName);
-        row.put(columnName, exprValue);
+  @Override
+  public void fetch(Cursor cursor, ResponseListener<QueryResponse> listener) {
+    client.schedule(
+        () -> {
+          try {
+            CalciteRows rows = cursorRegistry.take(cursor, currentUser());
+            AccessController.doPrivileged(
+                (PrivilegedAction<Void>)
+                    () -> {
+                      nextPage(rows, listener);
+                      return null;
+                    });
+          } catch (Exception e) {
+            listener.onFailure(e);
+          }
+        });
+  }
+
+  @Override
+  public void close(Cursor cursor, ResponseListener<QueryResponse> listener) {
+    client.schedule(
+        () -> {
+          try {
+            AccessController.doPrivileged(
+                (PrivilegedAction<Void>)
+                    () -> {
+                      cursorRegistry.close(cursor, currentUser());
+                      return null;
+                    });
+            listener.onResponse(new QueryResponse(new Schema(List.of()), List.of(), Cursor.None));
+          } catch (Exception e) {
+            listener.onFailure(e);
+          }
+        });
+  }
+
+  /** @return security context of the user of the request, null without security. */
+  private String currentUser() {
+    return client.getSecurityContext().orElse(null);
+  }
+
+  /**
+   * Respond with the next page of rows. The rows of a paginated query are suspended in the cursor
+   * registry if there are more, otherwise they are closed.
+   */
+  private void nextPage(CalciteRows rows, ResponseListener<QueryResponse> listener) {
+    boolean suspended = false;
+    try (MemoryTracker memoryTracker = newMemoryTracker()) {
+      List<ExprValue> values = rows.next(memoryTracker);
+      Cursor cursor =
+          rows.isPaginated() && rows.hasNext()
+              ? cursorRegistry.register(rows, currentUser())
+              : Cursor.None;
+      suspended = cursor != Cursor.None;
+      listener.onResponse(new QueryResponse(rows.schema(values), values, cursor));
+    } finally {
+      if (!suspended) {
+        rows.close();
       }
-      values.add(ExprTupleValue.fromExprValueMap(row));
     }
+  }
 
-    List<Column> columns = new ArrayList<>(metaData.getColumnCount());
-    for (int i = 1; i <= columnCount; ++i) {
-      String columnName = metaData.getColumnName(i);
-      RelDataType fieldType = fieldTypes.get(i - 1);
-      // TODO: Correct this after fixing issue github.com/opensearch-project/sql/issues/3751
-      //  The element type of struct and array is currently set to ANY.
-      //  We set them using the runtime type as a workaround.
-      ExprType exprType;
-      if (fieldType.getSqlTypeName() == SqlTypeName.ANY) {
-        if (!values.isEmpty()) {
-          exprType = values.getFirst().tupleValue().get(columnName).type();
-        } else {
-          // Using UNDEFINED instead of UNKNOWN to avoid throwing exception
-          exprType = ExprCoreType.UNDEFINED;
-        }
-      } else {
-        exprType = convertRelDataTypeToExprType(fieldType);
-      }
-      columns.add(new Column(columnName, null, exprType));
+  /**
+   * Run the joins and aggregations of the plans prepared by the current thread on several threads
+   * of the sql-worker thread pool, see {@link HashExchangeProgram}. The rows they hold are reserved
+   * on the given memory tracker.
+   */
+  private Hook.Closeable parallelize(CalcitePlanContext context, MemoryTracker memoryTracker) {
+    return HashExchangeProgram.install(
+        context.getMaxParallelism(), client::scheduleParallel, memoryTracker);
+  }
+
+  private static void closeQuietly(Connection connection, MemoryTracker memoryTracker) {
+    if (memoryTracker != null) {
+      memoryTracker.close();
     }
-    Schema schema = new Schema(columns);
-    QueryResponse response = new QueryResponse(schema, values, null);
-    listener.onResponse(response);
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      // The failure of the query is reported instead
+    }
+  }
+
+  /** Tracker of the memory of a query, charged to the breaker if there is one. */
+  private MemoryTracker newMemoryTracker() {
+    return memoryBreaker == null ? MemoryTracker.NO_OP : memoryBreaker.newTracker();
   }
 
   /** Registers opensearch-dependent functions */
@@ -8,13 +8,16 @@
 
 package org.opensearch.sql.opensearch.executor;
 
+import java.time.Duration;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.ThreadContext;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.ScheduledTask;
 import org.opensearch.sql.executor.execution.AbstractPlan;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.node.NodeClient;
 
@@ -33,6 +36,18 @@ public class OpenSearchQueryManager implements QueryManager {
     return queryPlan.getQueryId();
   }
 
+  @Override
+  public ScheduledTask scheduleWithFixedDelay(Runnable task, Duration delay) {
+    Scheduler.Cancellable cancellable =
+        nodeClient
+            .threadPool()
+            .scheduleWithFixedDelay(
+                withCurrentContext(task),
+                TimeValue.timeValueMillis(delay.toMillis()),
+                SQL_WORKER_THREAD_POOL_NAME);
+    return cancellable::cancel;
+  }
+
   private void schedule(NodeClient client, Runnable task) {
     ThreadPool threadPool = client.threadPool();
     threadPool.schedule(withCurrentContext(task), new TimeValue(0), SQL_WORKER_THREAD_POOL_NAME);
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 
@@ -13,4 +14,12 @@ public abstract class ExecutionProtector extends PhysicalPlanNodeVisitor<Physica
 
   /** Decorated the PhysicalPlan to run in resource sensitive mode. */
   public abstract PhysicalPlan protect(PhysicalPlan physicalPlan);
+
+  /**
+   * Decorated the PhysicalPlan to run in resource sensitive mode, with the operators buffering rows
+   * accounting their memory on the tracker of the query.
+   */
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, MemoryTracker memoryTracker) {
+    return protect(physicalPlan);
+  }
 }
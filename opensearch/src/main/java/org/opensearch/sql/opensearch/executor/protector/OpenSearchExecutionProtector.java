@@ -5,7 +5,13 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.codegen.ExpressionCompiler;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
@@ -37,10 +43,23 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   /** OpenSearch resource monitor. */
   private final ResourceMonitor resourceMonitor;
 
+  /** Compiler of the expressions evaluated by the operators. */
+  private final ExpressionCompiler expressionCompiler;
+
+  public OpenSearchExecutionProtector(ResourceMonitor resourceMonitor) {
+    this(resourceMonitor, ExpressionCompiler.DISABLED);
+  }
+
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan.accept(this, null);
   }
 
+  /** The memory tracker is passed down as visitor context. */
+  @Override
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, MemoryTracker memoryTracker) {
+    return physicalPlan.accept(this, memoryTracker);
+  }
+
   /**
    * Don't protect {@link CursorCloseOperator} and entire nested tree, because {@link
    * CursorCloseOperator} as designed as no-op.
@@ -52,13 +71,17 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
 
   @Override
   public PhysicalPlan visitFilter(FilterOperator node, Object context) {
-    return new FilterOperator(visitInput(node.getInput(), context), node.getConditions());
+    return new FilterOperator(
+        visitInput(node.getInput(), context), expressionCompiler.compile(node.getConditions()));
   }
 
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
     return new AggregationOperator(
-        visitInput(node.getInput(), context), node.getAggregatorList(), node.getGroupByExprList());
+        visitInput(node.getInput(), context),
+        node.getAggregatorList(),
+        node.getGroupByExprList(),
+        memoryTracker(context));
   }
 
   @Override
@@ -76,9 +99,10 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new RenameOperator(visitInput(node.getInput(), context), node.getMapping());
   }
 
-  /** Decorate with {@link ResourceMonitorPlan}. */
+  /** Decorate with {@link ResourceMonitorPlan}, and charge the scan to the memory tracker. */
   @Override
   public PhysicalPlan visitTableScan(TableScanOperator node, Object context) {
+    node.setMemoryTracker(memoryTracker(context));
     return doProtect(node);
   }
 
@@ -101,10 +125,18 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
       return doProtect(
           new OpenSearchEvalOperator(
               visitInput(evalOperator.getInput(), context),
-              evalOperator.getExpressionList(),
+              compile(evalOperator.getExpressionList()),
               evalOperator.getNodeClient()));
     }
-    return new EvalOperator(visitInput(node.getInput(), context), node.getExpressionList());
+    return new EvalOperator(
+        visitInput(node.getInput(), context), compile(node.getExpressionList()));
+  }
+
+  private List<Pair<ReferenceExpression, Expression>> compile(
+      List<Pair<ReferenceExpression, Expression>> expressionList) {
+    return expressionList.stream()
+        .map(pair -> Pair.of(pair.getKey(), expressionCompiler.compile(pair.getValue())))
+        .toList();
   }
 
   @Override
@@ -137,7 +169,9 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   /** Decorate with {@link ResourceMonitorPlan}. */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
-    return doProtect(new SortOperator(visitInput(node.getInput(), context), node.getSortList()));
+    return doProtect(
+        new SortOperator(
+            visitInput(node.getInput(), context), node.getSortList(), memoryTracker(context)));
   }
 
   /** Decorate with {@link ResourceMonitorPlan}. */
@@ -210,6 +244,10 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     }
   }
 
+  private static MemoryTracker memoryTracker(Object context) {
+    return context instanceof MemoryTracker tracker ? tracker : MemoryTracker.NO_OP;
+  }
+
   protected PhysicalPlan doProtect(PhysicalPlan node) {
     if (isProtected(node)) {
       return node;
@@ -17,6 +17,7 @@ import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.storage.split.Split;
 
 /** A PhysicalPlan which will run the delegate plan in resource protection manner. */
 @ToString
@@ -59,6 +60,11 @@ public class ResourceMonitorPlan extends PhysicalPlan implements SerializablePla
     return delegate.getChild();
   }
 
+  @Override
+  public void add(Split split) {
+    delegate.add(split);
+  }
+
   @Override
   public boolean hasNext() {
     return delegate.hasNext();
@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.sql.monitor.MemoryTracker;
+
+/**
+ * Per query memory accounting on the sql {@link CircuitBreaker} of the node. Each query gets its
+ * own {@link MemoryTracker} which reserves memory from the breaker, so the memory buffered by all
+ * the running queries is bounded by the breaker limit and visible in the node breaker stats.
+ *
+ * <p>Which query fails is deterministic: a query can't hold more than {@link #MAX_QUERY_SHARE} of
+ * the limit, so a single large query fails on its own reservation rather than starving the others,
+ * and new queries are rejected up front when less than {@link #ADMISSION_SHARE} of the limit is
+ * free, before they start buffering rows.
+ */
+@RequiredArgsConstructor
+public class OpenSearchMemoryBreaker {
+
+  /** Name of the breaker. */
+  public static final String NAME = "sql";
+
+  /** Max share of the breaker limit a single query can reserve. */
+  static final double MAX_QUERY_SHARE = 0.5;
+
+  /** Share of the breaker limit above which new queries are rejected. */
+  static final double ADMISSION_SHARE = 0.9;
+
+  /** Granularity of the reservations on the breaker, to not update it on every row. */
+  static final long RESERVATION_CHUNK = 1024 * 1024;
+
+  private final CircuitBreaker breaker;
+
+  /**
+   * Create the tracker of a new query.
+   *
+   * @return memory tracker of the query, to be closed once the query is done.
+   * @throws CircuitBreakingException if the memory used by the running queries is too high to
+   *     admit another one.
+   */
+  public MemoryTracker newTracker() {
+    long limit = breaker.getLimit();
+    if (limit > 0 && breaker.getUsed() >= limit * ADMISSION_SHARE) {
+      throw new CircuitBreakingException(
+          String.format(
+              "[%s] Too many queries in progress, memory used by queries [%d] is above [%d]",
+              NAME, breaker.getUsed(), (long) (limit * ADMISSION_SHARE)),
+          0,
+          limit,
+          breaker.getDurability());
+    }
+    return new Tracker(limit > 0 ? (long) (limit * MAX_QUERY_SHARE) : Long.MAX_VALUE);
+  }
+
+  /**
+   * Create the tracker of memory held by the node across queries, e.g. by caches. It is only
+   * bounded by the breaker limit, and can be shared by threads.
+   *
+   * @return memory tracker, to be closed once the memory is dropped.
+   */
+  public MemoryTracker newNodeTracker() {
+    return new NodeTracker();
+  }
+
+  /** Tracker of a query, it reserves memory from the breaker in chunks. */
+  @RequiredArgsConstructor
+  private class Tracker implements MemoryTracker {
+
+    private final long queryLimit;
+
+    /** Bytes reserved by the operators of the query. */
+    private long used;
+
+    /** Bytes reserved on the breaker, at least {@link #used}. */
+    private long reserved;
+
+    @Override
+    public void reserve(long bytes, String label) {
+      long wanted = used + bytes;
+      if (wanted > queryLimit) {
+        throw new CircuitBreakingException(
+            String.format(
+                "[%s] Query memory limit exceeded by [%s], query would use [%d] bytes which is"
+                    + " above the limit of [%d] bytes per query",
+                NAME, label, wanted, queryLimit),
+            wanted,
+            queryLimit,
+            breaker.getDurability());
+      }
+      if (wanted > reserved) {
+        long chunk = Math.max(wanted - reserved, RESERVATION_CHUNK);
+        breaker.addEstimateBytesAndMaybeBreak(chunk, NAME + ":" + label);
+        reserved += chunk;
+      }
+      used = wanted;
+    }
+
+    @Override
+    public void release(long bytes) {
+      used = Math.max(0, used - bytes);
+      long excess = reserved - used;
+      if (excess > RESERVATION_CHUNK) {
+        breaker.addWithoutBreaking(-excess);
+        reserved = used;
+      }
+    }
+
+    @Override
+    public long getReservedBytes() {
+      return used;
+    }
+
+    @Override
+    public void close() {
+      breaker.addWithoutBreaking(-reserved);
+      reserved = 0;
+      used = 0;
+    }
+  }
+
+  /** Tracker of memory held across queries, it reserves the exact memory from the breaker. */
+  private class NodeTracker implements MemoryTracker {
+
+    private final AtomicLong used = new AtomicLong();
+
+    @Override
+    public void reserve(long bytes, String label) {
+      breaker.addEstimateBytesAndMaybeBreak(bytes, NAME + ":" + label);
+      used.addAndGet(bytes);
+    }
+
+    @Override
+    public void release(long bytes) {
+      breaker.addWithoutBreaking(-bytes);
+      used.addAndGet(-bytes);
+    }
+
+    @Override
+    public long getReservedBytes() {
+      return used.get();
+    }
+
+    @Override
+    public void close() {
+      breaker.addWithoutBreaking(-used.getAndSet(0));
+    }
+  }
+}
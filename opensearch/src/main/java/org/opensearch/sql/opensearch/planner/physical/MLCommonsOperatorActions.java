@@ -9,24 +9,37 @@ import static org.opensearch.sql.utils.MLCommonsConstants.MODELID;
 import static org.opensearch.sql.utils.MLCommonsConstants.STATUS;
 import static org.opensearch.sql.utils.MLCommonsConstants.TASKID;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Predicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataframe.BooleanValue;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
 import org.opensearch.ml.common.dataframe.ColumnValue;
+import org.opensearch.ml.common.dataframe.ColumnValueBuilder;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataframe.DoubleValue;
+import org.opensearch.ml.common.dataframe.FloatValue;
+import org.opensearch.ml.common.dataframe.IntValue;
+import org.opensearch.ml.common.dataframe.LongValue;
 import org.opensearch.ml.common.dataframe.Row;
+import org.opensearch.ml.common.dataframe.ShortValue;
+import org.opensearch.ml.common.dataframe.StringValue;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
@@ -50,6 +63,14 @@ import org.opensearch.transport.client.node.NodeClient;
 /** Common method actions for ml-commons related operators. */
 public abstract class MLCommonsOperatorActions extends PhysicalPlan {
 
+  /** Largest number of input rows of a request, for the requests which can be sent in batches. */
+  protected static final int BATCH_SIZE = 10_000;
+
+  /** Largest number of requests sent to ml-commons before the result of the first one is read. */
+  protected static final int MAX_REQUESTS_IN_FLIGHT = 2;
+
+  private static final long REQUEST_TIMEOUT_SECONDS = 30;
+
   /**
    * generate ml-commons request input dataset.
    *
@@ -57,7 +78,7 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
    * @return ml-commons dataframe
    */
   protected DataFrame generateInputDataset(PhysicalPlan input) {
-    MLInputRows inputData = new MLInputRows();
+    MLInputRows inputData = new MLInputRows(null);
     while (input.hasNext()) {
       inputData.addTupleValue(input.next().tupleValue());
     }
@@ -65,6 +86,32 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
     return inputData.toDataFrame();
   }
 
+  /**
+   * Generate ml-commons request input datasets of at most {@link #BATCH_SIZE} input rows. The rows
+   * of a batch are read from the input only when the batch is iterated to, and batches without any
+   * row left are skipped.
+   *
+   * @param input physical input
+   * @return iterator of ml-commons dataframes
+   */
+  protected Iterator<DataFrame> generateInputBatches(PhysicalPlan input) {
+    return new AbstractIterator<>() {
+      @Override
+      protected DataFrame computeNext() {
+        while (input.hasNext()) {
+          MLInputRows inputData = new MLInputRows(null);
+          for (int i = 0; i < BATCH_SIZE && input.hasNext(); i++) {
+            inputData.addTupleValue(input.next().tupleValue());
+          }
+          if (inputData.size() > 0) {
+            return inputData.toDataFrame();
+          }
+        }
+        return endOfData();
+      }
+    };
+  }
+
   /**
    * Generate ml-commons request input dataset per each category based on a given category field.
    * Each category value will be a {@link DataFrame} pair, where the left one contains all fields
@@ -81,21 +128,49 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
     while (input.hasNext()) {
       Map<String, ExprValue> tupleValue = input.next().tupleValue();
       ExprValue categoryValue = categoryField == null ? null : tupleValue.get(categoryField);
-      MLInputRows inputData = inputMap.computeIfAbsent(categoryValue, k -> new MLInputRows());
+      // categoryField should be excluded for ml-commons predictions
+      MLInputRows inputData =
+          inputMap.computeIfAbsent(categoryValue, k -> new MLInputRows(categoryField));
       inputData.addTupleValue(tupleValue);
     }
 
-    // categoryField should be excluded for ml-commons predictions
     return inputMap.values().stream()
         .filter(inputData -> inputData.size() > 0)
         .map(
             inputData ->
-                new ImmutablePair<>(
-                    inputData.toDataFrame(),
-                    inputData.toFilteredDataFrame(e -> !e.getKey().equals(categoryField))))
+                new ImmutablePair<>(inputData.toDataFrame(), inputData.toFilteredDataFrame()))
         .collect(Collectors.toList());
   }
 
+  /**
+   * Send a request for each input and return the inputs with their results. The requests are sent
+   * ahead of the results being read, so that ml-commons processes up to {@link
+   * #MAX_REQUESTS_IN_FLIGHT} of them while the result of a previous one is iterated.
+   *
+   * @param inputs inputs of the requests
+   * @param request sends the request of an input
+   * @return iterator of the inputs and their results, in the order of the inputs
+   */
+  protected <T> Iterator<Pair<T, MLOutput>> pipelineRequests(
+      Iterator<T> inputs, Function<T, ActionFuture<MLOutput>> request) {
+    Deque<Pair<T, ActionFuture<MLOutput>>> inFlight = new ArrayDeque<>();
+    return new AbstractIterator<>() {
+      @Override
+      protected Pair<T, MLOutput> computeNext() {
+        while (inFlight.size() < MAX_REQUESTS_IN_FLIGHT && inputs.hasNext()) {
+          T input = inputs.next();
+          inFlight.add(new ImmutablePair<>(input, request.apply(input)));
+        }
+        if (inFlight.isEmpty()) {
+          return endOfData();
+        }
+        Pair<T, ActionFuture<MLOutput>> next = inFlight.poll();
+        return new ImmutablePair<>(
+            next.getLeft(), next.getRight().actionGet(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+      }
+    };
+  }
+
   /**
    * covert result schema into ExprValue.
    *
@@ -217,6 +292,25 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
       MLAlgoParams mlAlgoParams,
       DataFrame inputDataFrame,
       NodeClient nodeClient) {
+    return (MLPredictionOutput)
+        sendTrainAndPredictRequest(functionName, mlAlgoParams, inputDataFrame, nodeClient)
+            .actionGet(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * send ml-commons train and predict request.
+   *
+   * @param functionName ml-commons algorithm name
+   * @param mlAlgoParams ml-commons algorithm parameters
+   * @param inputDataFrame input data frame
+   * @param nodeClient node client
+   * @return future of ml-commons train and predict result
+   */
+  protected ActionFuture<MLOutput> sendTrainAndPredictRequest(
+      FunctionName functionName,
+      MLAlgoParams mlAlgoParams,
+      DataFrame inputDataFrame,
+      NodeClient nodeClient) {
     MLInput mlinput =
         MLInput.builder()
             .algorithm(functionName)
@@ -226,8 +320,7 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
 
     MachineLearningNodeClient machineLearningClient = MLClient.getMLClient(nodeClient);
 
-    return (MLPredictionOutput)
-        machineLearningClient.trainAndPredict(mlinput).actionGet(30, TimeUnit.SECONDS);
+    return machineLearningClient.trainAndPredict(mlinput);
   }
 
   /**
@@ -240,6 +333,20 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
    */
   protected MLOutput getMLOutput(
       DataFrame inputDataFrame, Map<String, Object> arguments, NodeClient nodeClient) {
+    return sendMLRequest(inputDataFrame, arguments, nodeClient)
+        .actionGet(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * send ml-commons train, predict or trainandpredict request.
+   *
+   * @param inputDataFrame input data frame
+   * @param arguments ml parameters
+   * @param nodeClient node client
+   * @return future of ml-commons result
+   */
+  protected ActionFuture<MLOutput> sendMLRequest(
+      DataFrame inputDataFrame, Map<String, Object> arguments, NodeClient nodeClient) {
     MLInput mlinput =
         MLInput.builder()
             .inputDataset(new DataFrameInputDataset(inputDataFrame))
@@ -251,7 +358,7 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
 
     MachineLearningNodeClient machineLearningClient = MLClient.getMLClient(nodeClient);
 
-    return machineLearningClient.run(mlinput, arguments).actionGet(30, TimeUnit.SECONDS);
+    return machineLearningClient.run(mlinput, arguments);
   }
 
   /**
@@ -286,19 +393,64 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
     return ExprTupleValue.fromExprValueMap(resultBuilder.build());
   }
 
-  private static class MLInputRows extends LinkedList<Map<String, Object>> {
+  /**
+   * Rows of ml-commons input, which are built from the typed values of the input tuples without
+   * converting them to Java objects first. The columns are the fields of the first row.
+   */
+  private static class MLInputRows {
+    /** Field which is not a column of the filtered data frame, or null if there is none. */
+    private final String excludedField;
+
+    private ColumnMeta[] columnMetas;
+
+    private int excludedColumn = -1;
+
+    private DataFrame dataFrame;
+
+    /** Data frame without the excluded field, which shares the column values of the other. */
+    private DataFrame filteredDataFrame;
+
+    MLInputRows(String excludedField) {
+      this.excludedField = excludedField;
+    }
+
     /**
-     * Add tuple value to input map, skip if any value is null.
+     * Add tuple value to input rows, skip if any value is null.
      *
      * @param tupleValue a row in input data.
      */
     public void addTupleValue(Map<String, ExprValue> tupleValue) {
-      if (tupleValue.values().stream().anyMatch(e -> e.isNull() || e.isMissing())) {
-        return;
+      for (ExprValue value : tupleValue.values()) {
+        if (value.isNull() || value.isMissing()) {
+          return;
+        }
+      }
+      if (dataFrame == null) {
+        initColumns(tupleValue);
+      }
+
+      Row row = new Row(columnMetas.length);
+      for (int i = 0; i < columnMetas.length; i++) {
+        ExprValue value = tupleValue.get(columnMetas[i].getName());
+        if (value == null) {
+          return;
+        }
+        row.setValue(i, toColumnValue(value));
+      }
+      dataFrame.appendRow(row);
+      if (excludedColumn >= 0) {
+        Row filteredRow = new Row(columnMetas.length - 1);
+        for (int i = 0, j = 0; i < columnMetas.length; i++) {
+          if (i != excludedColumn) {
+            filteredRow.setValue(j++, row.getValue(i));
+          }
+        }
+        filteredDataFrame.appendRow(filteredRow);
       }
-      this.add(
-          tupleValue.entrySet().stream()
-              .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().value())));
+    }
+
+    public int size() {
+      return dataFrame == null ? 0 : dataFrame.size();
     }
 
     /**
@@ -307,24 +459,51 @@ public abstract class MLCommonsOperatorActions extends PhysicalPlan {
      * @return DataFrame
      */
     public DataFrame toDataFrame() {
-      return DataFrameBuilder.load(this);
+      // Without any row there are no columns, which ml-commons handles as for any empty input
+      return dataFrame == null ? DataFrameBuilder.load(Collections.emptyList()) : dataFrame;
     }
 
     /**
-     * Filter each row and convert to DataFrame.
+     * Convert to DataFrame without the excluded field.
      *
-     * @param filter used to filter fields in each row
      * @return DataFrame
      */
-    public DataFrame toFilteredDataFrame(Predicate<Map.Entry<String, Object>> filter) {
-      return DataFrameBuilder.load(
-          this.stream()
-              .map(
-                  row ->
-                      row.entrySet().stream()
-                          .filter(filter)
-                          .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
-              .collect(Collectors.toList()));
+    public DataFrame toFilteredDataFrame() {
+      return dataFrame == null ? toDataFrame() : filteredDataFrame;
+    }
+
+    private void initColumns(Map<String, ExprValue> tupleValue) {
+      columnMetas = new ColumnMeta[tupleValue.size()];
+      List<ColumnMeta> filteredColumnMetas = new ArrayList<>(tupleValue.size());
+      int i = 0;
+      for (Map.Entry<String, ExprValue> entry : tupleValue.entrySet()) {
+        columnMetas[i] =
+            new ColumnMeta(entry.getKey(), toColumnValue(entry.getValue()).columnType());
+        if (entry.getKey().equals(excludedField)) {
+          excludedColumn = i;
+        } else {
+          filteredColumnMetas.add(columnMetas[i]);
+        }
+        i++;
+      }
+      dataFrame = DataFrameBuilder.emptyDataFrame(columnMetas);
+      filteredDataFrame =
+          excludedColumn < 0
+              ? dataFrame
+              : DataFrameBuilder.emptyDataFrame(filteredColumnMetas.toArray(new ColumnMeta[0]));
+    }
+
+    private static ColumnValue toColumnValue(ExprValue value) {
+      return switch (value) {
+        case ExprIntegerValue v -> new IntValue(v.integerValue());
+        case ExprLongValue v -> new LongValue(v.longValue());
+        case ExprShortValue v -> new ShortValue(v.shortValue());
+        case ExprFloatValue v -> new FloatValue(v.floatValue());
+        case ExprDoubleValue v -> new DoubleValue(v.doubleValue());
+        case ExprBooleanValue v -> new BooleanValue(v.booleanValue());
+        case ExprStringValue v -> new StringValue(v.stringValue());
+        default -> ColumnValueBuilder.build(value.value());
+      };
     }
   }
 }
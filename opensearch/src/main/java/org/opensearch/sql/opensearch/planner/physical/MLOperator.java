@@ -5,6 +5,9 @@
 
 package org.opensearch.sql.opensearch.planner.physical;
 
+import static org.opensearch.sql.utils.MLCommonsConstants.ACTION;
+import static org.opensearch.sql.utils.MLCommonsConstants.PREDICT;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -14,6 +17,7 @@ import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.common.output.MLOutput;
@@ -42,8 +46,13 @@ public class MLOperator extends MLCommonsOperatorActions {
   @Override
   public void open() {
     super.open();
-    DataFrame inputDataFrame = generateInputDataset(input);
     Map<String, Object> args = processArgs(arguments);
+    if (PREDICT.equals(args.get(ACTION))) {
+      iterator = predictInBatches(args);
+      return;
+    }
+
+    DataFrame inputDataFrame = generateInputDataset(input);
 
     MLOutput mlOutput = getMLOutput(inputDataFrame, args, nodeClient);
     final Iterator<Row> inputRowIter = inputDataFrame.iterator();
@@ -81,6 +90,39 @@ public class MLOperator extends MLCommonsOperatorActions {
         };
   }
 
+  /**
+   * Predict with a trained model, which scores each row on its own. So the input is sent in
+   * batches, and the next batch is read and sent while the result of the previous one is returned.
+   */
+  private Iterator<ExprValue> predictInBatches(Map<String, Object> args) {
+    Iterator<Pair<DataFrame, MLOutput>> results =
+        pipelineRequests(
+            generateInputBatches(input), batch -> sendMLRequest(batch, args, nodeClient));
+    return new Iterator<ExprValue>() {
+      private DataFrame inputDataFrame = null;
+      private Iterator<Row> inputRowIter = null;
+      private MLPredictionOutput predictionResult = null;
+      private Iterator<Row> resultRowIter = null;
+
+      @Override
+      public boolean hasNext() {
+        return inputRowIter != null && inputRowIter.hasNext() || results.hasNext();
+      }
+
+      @Override
+      public ExprValue next() {
+        if (inputRowIter == null || !inputRowIter.hasNext()) {
+          Pair<DataFrame, MLOutput> result = results.next();
+          inputDataFrame = result.getLeft();
+          inputRowIter = inputDataFrame.iterator();
+          predictionResult = (MLPredictionOutput) result.getRight();
+          resultRowIter = predictionResult.getPredictionResult().iterator();
+        }
+        return buildResult(inputRowIter, inputDataFrame, predictionResult, resultRowIter);
+      }
+    };
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitML(this, context);
@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.opensearch.request;
 
-import static org.opensearch.core.xcontent.DeprecationHandler.IGNORE_DEPRECATIONS;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
 import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_ID;
@@ -18,14 +17,14 @@ import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import org.opensearch.Version;
 import org.opensearch.action.search.*;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
-import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
-import org.opensearch.core.xcontent.NamedXContentRegistry;
-import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchModule;
@@ -127,17 +126,17 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
    * @throws IOException thrown if reading from input {@code in} fails.
    */
   public OpenSearchQueryRequest(StreamInput in, OpenSearchStorageEngine engine) throws IOException {
-    // Deserialize the SearchSourceBuilder from the string representation
-    String sourceBuilderString = in.readString();
-
-    NamedXContentRegistry xContentRegistry =
-        new NamedXContentRegistry(
-            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents());
-    XContentParser parser =
-        XContentType.JSON
-            .xContent()
-            .createParser(xContentRegistry, IGNORE_DEPRECATIONS, sourceBuilderString);
-    this.sourceBuilder = SearchSourceBuilder.fromXContent(parser);
+    // Deserialize the SearchSourceBuilder from its binary representation, of the version of the
+    // node which wrote it
+    Version version = in.getVersion();
+    in.setVersion(Version.readVersion(in));
+    try {
+      this.sourceBuilder =
+          new SearchSourceBuilder(
+              new NamedWriteableAwareStreamInput(in, SearchWriteables.REGISTRY));
+    } finally {
+      in.setVersion(version);
+    }
 
     cursorKeepAlive = in.readTimeValue();
     pitId = in.readString();
@@ -236,8 +235,11 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
   @Override
   public void writeTo(StreamOutput out) throws IOException {
     if (this.pitId != null) {
-      // Convert SearchSourceBuilder to XContent and write it as a string
-      out.writeString(sourceBuilder.toString());
+      // Write SearchSourceBuilder in its binary representation, which is smaller and faster to
+      // read than its JSON. The representation depends on the version it is written for, so the
+      // version is written first for the cursor to be read by a node of another version.
+      Version.writeVersion(out.getVersion(), out);
+      sourceBuilder.writeTo(out);
 
       out.writeTimeValue(sourceBuilder.timeout());
       out.writeString(sourceBuilder.pointInTimeBuilder().getId());
@@ -257,4 +259,11 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
           "OpenSearchQueryRequest serialization is not implemented.");
     }
   }
+
+  /** Queries and aggregations which may be in a search source read from a cursor. */
+  private static class SearchWriteables {
+    private static final NamedWriteableRegistry REGISTRY =
+        new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables());
+  }
 }
@@ -50,10 +50,13 @@ import java.util.Map;
 import java.util.Set;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.rex.RexVisitorImpl;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.sql.SqlSyntax;
@@ -141,6 +144,31 @@ public class PredicateAnalyzer {
     }
   }
 
+  /**
+   * Expands the SEARCH calls on ranges, e.g. <code>SEARCH($0, Sarg[(30..40)])</code> built by
+   * Calcite when it merges filters, into comparisons which can be translated to range queries. The
+   * SEARCH calls on points are kept, they are translated to terms queries.
+   *
+   * @param rexBuilder builder of the comparisons
+   * @param expression expression to expand
+   * @return expression without SEARCH calls on ranges
+   */
+  public static RexNode expandRangeSearch(RexBuilder rexBuilder, RexNode expression) {
+    RexNode expanded =
+        expression.accept(
+            new RexShuttle() {
+              @Override
+              public RexNode visitCall(RexCall call) {
+                if (call.getKind() == SqlKind.SEARCH
+                    && !Visitor.canBeTranslatedToTermsQuery(call)) {
+                  return RexUtil.expandSearch(rexBuilder, null, call);
+                }
+                return super.visitCall(call);
+              }
+            });
+    return RexUtil.flatten(rexBuilder, expanded);
+  }
+
   /** Traverses {@link RexNode} tree and builds OpenSearch query. */
   private static class Visitor extends RexVisitorImpl<Expression> {
 
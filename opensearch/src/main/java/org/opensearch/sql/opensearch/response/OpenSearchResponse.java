@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.core.common.text.Text;
@@ -48,6 +49,9 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
   /** List of requested include fields. */
   private final List<String> includes;
 
+  /** Time the search took on the shards, in milliseconds, 0 if unknown. */
+  @EqualsAndHashCode.Exclude @Getter private final long tookMillis;
+
   /** OpenSearchExprValueFactory used to build ExprValue from search result. */
   @EqualsAndHashCode.Exclude private final OpenSearchExprValueFactory exprValueFactory;
 
@@ -60,6 +64,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = searchResponse.getAggregations();
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.tookMillis = searchResponse.getTook() == null ? 0 : searchResponse.getTook().millis();
   }
 
   /** Constructor of OpenSearchResponse with SearchHits. */
@@ -69,6 +74,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = null;
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.tookMillis = 0;
   }
 
   /**
@@ -85,6 +91,19 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     return aggregations != null;
   }
 
+  /** @return bytes of the sources of the hits. */
+  public long getSourceBytes() {
+    long bytes = 0;
+    if (hits != null && hits.getHits() != null) {
+      for (SearchHit hit : hits.getHits()) {
+        if (hit.getSourceRef() != null) {
+          bytes += hit.getSourceRef().length();
+        }
+      }
+    }
+    return bytes;
+  }
+
   /**
    * Make response iterable without need to return internal data structure explicitly.
    *
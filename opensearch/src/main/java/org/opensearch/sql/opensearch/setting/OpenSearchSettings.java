@@ -27,6 +27,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.SecureSetting;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.common.setting.Settings;
 
@@ -127,6 +128,37 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> CALCITE_PUSHDOWN_FEEDBACK_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.CALCITE_PUSHDOWN_FEEDBACK_ENABLED.getKeyValue(),
+          true,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> CALCITE_LOOKUP_CACHE_MAX_ROWS_SETTING =
+      Setting.intSetting(
+          Key.CALCITE_LOOKUP_CACHE_MAX_ROWS.getKeyValue(),
+          10000,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> CALCITE_CURSOR_MAX_OPEN_SETTING =
+      Setting.intSetting(
+          Key.CALCITE_CURSOR_MAX_OPEN.getKeyValue(),
+          50,
+          1,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> CALCITE_PARALLEL_MAX_THREADS_SETTING =
+      Setting.intSetting(
+          Key.CALCITE_PARALLEL_MAX_THREADS.getKeyValue(),
+          1,
+          1,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> QUERY_MEMORY_LIMIT_SETTING =
       Setting.memorySizeSetting(
           Key.QUERY_MEMORY_LIMIT.getKeyValue(),
@@ -134,6 +166,11 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  /** Limit of the sql circuit breaker, which accounts the memory buffered by queries. */
+  public static final Setting<ByteSizeValue> QUERY_MEMORY_BREAKER_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_MEMORY_BREAKER_LIMIT.getKeyValue(), "10%", Setting.Property.NodeScope);
+
   public static final Setting<?> QUERY_SIZE_LIMIT_SETTING =
       Setting.intSetting(
           Key.QUERY_SIZE_LIMIT.getKeyValue(),
@@ -254,6 +291,14 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES_SETTING =
+      Setting.intSetting(
+          Key.DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES.getKeyValue(),
+          1_000_000,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<Long> SESSION_INACTIVITY_TIMEOUT_MILLIS_SETTING =
       Setting.longSetting(
           Key.SESSION_INACTIVITY_TIMEOUT_MILLIS.getKeyValue(),
@@ -275,6 +320,13 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> EXPRESSION_COMPILE_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.EXPRESSION_COMPILE_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   /** Construct OpenSearchSetting. The OpenSearchSetting must be singleton. */
   @SuppressWarnings("unchecked")
   public OpenSearchSettings(ClusterSettings clusterSettings) {
@@ -351,6 +403,30 @@ public class OpenSearchSettings extends Settings {
         Key.CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR,
         CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR_SETTING,
         new Updater(Key.CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_PUSHDOWN_FEEDBACK_ENABLED,
+        CALCITE_PUSHDOWN_FEEDBACK_ENABLED_SETTING,
+        new Updater(Key.CALCITE_PUSHDOWN_FEEDBACK_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_LOOKUP_CACHE_MAX_ROWS,
+        CALCITE_LOOKUP_CACHE_MAX_ROWS_SETTING,
+        new Updater(Key.CALCITE_LOOKUP_CACHE_MAX_ROWS));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_CURSOR_MAX_OPEN,
+        CALCITE_CURSOR_MAX_OPEN_SETTING,
+        new Updater(Key.CALCITE_CURSOR_MAX_OPEN));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.CALCITE_PARALLEL_MAX_THREADS,
+        CALCITE_PARALLEL_MAX_THREADS_SETTING,
+        new Updater(Key.CALCITE_PARALLEL_MAX_THREADS));
     register(
         settingBuilder,
         clusterSettings,
@@ -447,6 +523,12 @@ public class OpenSearchSettings extends Settings {
         Key.DATASOURCES_LIMIT,
         DATASOURCES_LIMIT_SETTING,
         new Updater(Key.DATASOURCES_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES,
+        DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES_SETTING,
+        new Updater(Key.DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES));
     registerNonDynamicSettings(
         settingBuilder, clusterSettings, Key.CLUSTER_NAME, ClusterName.CLUSTER_NAME_SETTING);
     register(
@@ -467,6 +549,12 @@ public class OpenSearchSettings extends Settings {
         Key.FIELD_TYPE_TOLERANCE,
         FIELD_TYPE_TOLERANCE_SETTING,
         new Updater(Key.FIELD_TYPE_TOLERANCE));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.EXPRESSION_COMPILE_ENABLED,
+        EXPRESSION_COMPILE_ENABLED_SETTING,
+        new Updater(Key.EXPRESSION_COMPILE_ENABLED));
     defaultSettings = settingBuilder.build();
   }
 
@@ -527,6 +615,10 @@ public class OpenSearchSettings extends Settings {
         .add(CALCITE_FALLBACK_ALLOWED_SETTING)
         .add(CALCITE_PUSHDOWN_ENABLED_SETTING)
         .add(CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR_SETTING)
+        .add(CALCITE_PUSHDOWN_FEEDBACK_ENABLED_SETTING)
+        .add(CALCITE_LOOKUP_CACHE_MAX_ROWS_SETTING)
+        .add(CALCITE_CURSOR_MAX_OPEN_SETTING)
+        .add(CALCITE_PARALLEL_MAX_THREADS_SETTING)
         .add(DEFAULT_PATTERN_METHOD_SETTING)
         .add(DEFAULT_PATTERN_MODE_SETTING)
         .add(DEFAULT_PATTERN_MAX_SAMPLE_COUNT_SETTING)
@@ -547,9 +639,11 @@ public class OpenSearchSettings extends Settings {
         .add(RESULT_INDEX_TTL_SETTING)
         .add(AUTO_INDEX_MANAGEMENT_ENABLED_SETTING)
         .add(DATASOURCES_LIMIT_SETTING)
+        .add(DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES_SETTING)
         .add(SESSION_INACTIVITY_TIMEOUT_MILLIS_SETTING)
         .add(STREAMING_JOB_HOUSEKEEPER_INTERVAL_SETTING)
         .add(FIELD_TYPE_TOLERANCE_SETTING)
+        .add(EXPRESSION_COMPILE_ENABLED_SETTING)
         .build();
   }
 
@@ -558,6 +652,7 @@ public class OpenSearchSettings extends Settings {
     return new ImmutableList.Builder<Setting<?>>()
         .add(DATASOURCE_MASTER_SECRET_KEY)
         .add(DATASOURCE_CONFIG)
+        .add(QUERY_MEMORY_BREAKER_LIMIT_SETTING)
         .build();
   }
 
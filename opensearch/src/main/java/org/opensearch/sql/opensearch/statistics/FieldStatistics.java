@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.sampler.Sampler;
+import org.opensearch.search.aggregations.metrics.Cardinality;
+import org.opensearch.search.aggregations.metrics.Max;
+import org.opensearch.search.aggregations.metrics.Min;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/**
+ * Statistics of a field of an index.
+ *
+ * @param distinctCount approximate number of distinct values.
+ * @param min minimum value of a numeric or date field, null if unknown.
+ * @param max maximum value of a numeric or date field, null if unknown.
+ */
+public record FieldStatistics(long distinctCount, Double min, Double max) {
+
+  private static final String SAMPLE = "sample";
+  private static final String DISTINCT = "distinct";
+  private static final String MIN = "min";
+  private static final String MAX = "max";
+
+  /** Cardinality precision, low since only the order of magnitude matters to the planner. */
+  private static final int PRECISION_THRESHOLD = 100;
+
+  /** Number of documents per shard whose values are counted for the distinct count. */
+  static final int SAMPLE_SIZE = 10_000;
+
+  /** Time the shards collect the statistics for, they are unknown past it. */
+  public static final TimeValue TIMEOUT = TimeValue.timeValueSeconds(1);
+
+  /** Longest wait for the statistics, including the time the search is queued. */
+  public static final TimeValue WAIT_TIMEOUT = TimeValue.timeValueSeconds(2);
+
+  /**
+   * Build the search collecting the statistics of a field, it returns aggregations only. The
+   * distinct values are counted over a sample of {@link #SAMPLE_SIZE} documents per shard, while
+   * min and max of indexed fields are read from the index structures by OpenSearch.
+   *
+   * @param field field name
+   * @param withRange true to collect min and max, only for numeric and date fields.
+   */
+  public static SearchSourceBuilder searchSource(String field, boolean withRange) {
+    SearchSourceBuilder source =
+        new SearchSourceBuilder()
+            .size(0)
+            .trackTotalHits(true)
+            .timeout(TIMEOUT)
+            .aggregation(
+                AggregationBuilders.sampler(SAMPLE)
+                    .shardSize(SAMPLE_SIZE)
+                    .subAggregation(
+                        AggregationBuilders.cardinality(DISTINCT)
+                            .field(field)
+                            .precisionThreshold(PRECISION_THRESHOLD)));
+    if (withRange) {
+      source
+          .aggregation(AggregationBuilders.min(MIN).field(field))
+          .aggregation(AggregationBuilders.max(MAX).field(field));
+    }
+    return source;
+  }
+
+  /**
+   * Read the statistics from the response of {@link #searchSource(String, boolean)}.
+   *
+   * @throws IllegalStateException if the search timed out, partial statistics could be wrong.
+   */
+  public static FieldStatistics of(SearchResponse response) {
+    if (response.isTimedOut()) {
+      throw new IllegalStateException("Timed out collecting field statistics");
+    }
+    Aggregations aggregations = response.getAggregations();
+    Sampler sample = aggregations.get(SAMPLE);
+    Cardinality distinct = sample.getAggregations().get(DISTINCT);
+    Min min = aggregations.get(MIN);
+    Max max = aggregations.get(MAX);
+    return new FieldStatistics(
+        estimateDistinctCount(
+            distinct.getValue(), sample.getDocCount(), response.getHits().getTotalHits().value()),
+        min == null || Double.isInfinite(min.getValue()) ? null : min.getValue(),
+        max == null || Double.isInfinite(max.getValue()) ? null : max.getValue());
+  }
+
+  /**
+   * Scale the distinct count of a sample up to all the documents, by the ratio of the number of
+   * documents to the sample size raised to the share of distinct values in the sample: the count
+   * of a field of few values is about kept, the count of a field of unique values is scaled up to
+   * the number of documents.
+   *
+   * @param distinct distinct count of the sample.
+   * @param sampled number of documents of the sample.
+   * @param total number of documents.
+   */
+  static long estimateDistinctCount(long distinct, long sampled, long total) {
+    if (sampled == 0 || sampled >= total) {
+      return distinct;
+    }
+    double share = Math.min(1.0, (double) distinct / sampled);
+    return Math.min(total, Math.round(distinct * Math.pow((double) total / sampled, share)));
+  }
+
+  /** @return true if both min and max are known. */
+  public boolean hasRange() {
+    return min != null && max != null;
+  }
+}
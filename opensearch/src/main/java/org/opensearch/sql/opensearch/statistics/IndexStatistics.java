@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+/**
+ * Statistics of OpenSearch indices for the cost based optimizer: document counts and per field
+ * distinct count, min and max from aggregations, see {@link FieldStatistics}. They are fetched
+ * lazily, only for the indices and fields a plan refers to, and cached for {@link #TTL} since
+ * estimates only need to be roughly up to date. Failures, e.g. on fields which are not
+ * aggregatable or statistics timing out, are cached as unknown statistics so they are not retried
+ * on every estimate.
+ */
+public class IndexStatistics {
+  private static final Logger LOG = LogManager.getLogger(IndexStatistics.class);
+
+  static final Duration TTL = Duration.ofMinutes(1);
+
+  private static final long MAX_CACHED_ENTRIES = 10_000;
+
+  private final OpenSearchClient client;
+
+  private final Cache<String, Optional<Long>> docCounts;
+
+  private final Cache<String, Optional<FieldStatistics>> fieldStatistics;
+
+  public IndexStatistics(OpenSearchClient client) {
+    this.client = client;
+    this.docCounts =
+        CacheBuilder.newBuilder().maximumSize(MAX_CACHED_ENTRIES).expireAfterWrite(TTL).build();
+    this.fieldStatistics =
+        CacheBuilder.newBuilder().maximumSize(MAX_CACHED_ENTRIES).expireAfterWrite(TTL).build();
+  }
+
+  /**
+   * Get the number of documents of an index.
+   *
+   * @param indexName index name
+   * @return number of documents, or empty if it cannot be fetched.
+   */
+  public Optional<Long> docCount(OpenSearchRequest.IndexName indexName) {
+    return get(
+        docCounts,
+        indexName.toString(),
+        () -> client.getIndexDocCount(indexName.getIndexNames()));
+  }
+
+  /**
+   * Get the statistics of a field of an index.
+   *
+   * @param indexName index name
+   * @param field aggregatable field name
+   * @param withRange true to fetch the min and max values, only for numeric fields.
+   * @return field statistics, or empty if they cannot be fetched.
+   */
+  public Optional<FieldStatistics> fieldStatistics(
+      OpenSearchRequest.IndexName indexName, String field, boolean withRange) {
+    return get(
+        fieldStatistics,
+        indexName + "/" + field,
+        () -> client.getFieldStatistics(field, withRange, indexName.getIndexNames()));
+  }
+
+  private static <T> Optional<T> get(
+      Cache<String, Optional<T>> cache, String key, Supplier<T> loader) {
+    try {
+      return cache.get(
+          key,
+          () -> {
+            try {
+              return Optional.of(loader.get());
+            } catch (Exception e) {
+              LOG.debug("Failed to fetch statistics of {}", key, e);
+              return Optional.empty();
+            }
+          });
+    } catch (ExecutionException e) {
+      return Optional.empty();
+    }
+  }
+}
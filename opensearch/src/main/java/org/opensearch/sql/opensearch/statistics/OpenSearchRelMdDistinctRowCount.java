@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.opensearch.sql.opensearch.storage.scan.AbstractCalciteIndexScan;
+
+/**
+ * Distinct row count of index scans from the cardinality of their fields, used for example to
+ * estimate the number of groups of an aggregation or the output of a join.
+ */
+public class OpenSearchRelMdDistinctRowCount extends RelMdDistinctRowCount {
+  public static final RelMetadataProvider SOURCE =
+      ReflectiveRelMetadataProvider.reflectiveSource(
+          new OpenSearchRelMdDistinctRowCount(), BuiltInMetadata.DistinctRowCount.Handler.class);
+
+  protected OpenSearchRelMdDistinctRowCount() {}
+
+  public Double getDistinctRowCount(
+      AbstractCalciteIndexScan scan,
+      RelMetadataQuery mq,
+      ImmutableBitSet groupKey,
+      RexNode predicate) {
+    if (scan.getPushDownContext().isAggregatePushed() || groupKey.isEmpty()) {
+      return super.getDistinctRowCount((RelNode) scan, mq, groupKey, predicate);
+    }
+    List<String> fieldNames = scan.getRowType().getFieldNames();
+    double distinctCount = 1.0;
+    for (int key : groupKey) {
+      Optional<FieldStatistics> statistics =
+          scan.getOsIndex().getFieldStatistics(fieldNames.get(key));
+      if (statistics.isEmpty()) {
+        return super.getDistinctRowCount((RelNode) scan, mq, groupKey, predicate);
+      }
+      distinctCount *= Math.max(1, statistics.get().distinctCount());
+    }
+    Double rowCount = mq.getRowCount(scan);
+    return rowCount == null ? distinctCount : Math.min(distinctCount, rowCount);
+  }
+}
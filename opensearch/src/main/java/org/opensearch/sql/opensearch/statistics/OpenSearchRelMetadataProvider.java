@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.rel.metadata.ChainedRelMetadataProvider;
+import org.apache.calcite.rel.metadata.DefaultRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+
+/** Metadata provider with the OpenSearch statistics handlers ahead of the Calcite defaults. */
+public class OpenSearchRelMetadataProvider {
+  public static final RelMetadataProvider INSTANCE =
+      ChainedRelMetadataProvider.of(
+          ImmutableList.of(
+              OpenSearchRelMdDistinctRowCount.SOURCE, DefaultRelMetadataProvider.INSTANCE));
+
+  // prevent instantiation
+  private OpenSearchRelMetadataProvider() {}
+
+  /** Use the provider for the plans of a cluster, if not already. */
+  public static void register(RelOptCluster cluster) {
+    if (cluster.getMetadataProvider() != INSTANCE) {
+      cluster.setMetadataProvider(INSTANCE);
+      cluster.invalidateMetadataQuery();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Optional;
+import org.opensearch.sql.common.setting.Settings;
+
+/**
+ * Statistics observed on the scans run by the node, per shape of scan: the index, and the
+ * operations pushed down to it. Recurring queries, e.g. of dashboards, scan the same shapes again,
+ * so the rows they returned before replace the estimates of the cost based optimizer, which then
+ * chooses between pushing an operator down and running it on the coordinator, and picks the join
+ * order and strategy, from the actual sizes of the inputs. Only the {@link #MAX_SHAPES} recently
+ * scanned shapes are kept, for {@link #EXPIRE_AFTER_ACCESS} since they were last planned or run.
+ */
+public class ScanFeedback {
+
+  static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+  static final long MAX_SHAPES = 10_000;
+
+  private final Settings settings;
+
+  private final Cache<String, ScanStatistics> shapes;
+
+  public ScanFeedback(Settings settings) {
+    this.settings = settings;
+    this.shapes =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAX_SHAPES)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .build();
+  }
+
+  /**
+   * Record the statistics of a complete execution of a scan.
+   *
+   * @param shape index and pushed down operations of the scan
+   * @param execution statistics of the execution
+   */
+  public void record(String shape, ScanStatistics execution) {
+    if (isEnabled()) {
+      shapes.asMap().merge(shape, execution, ScanStatistics::merge);
+    }
+  }
+
+  /**
+   * Get the statistics observed on the scans of a shape.
+   *
+   * @param shape index and pushed down operations of the scan
+   * @return statistics, or empty if the shape wasn't scanned recently.
+   */
+  public Optional<ScanStatistics> get(String shape) {
+    return isEnabled() ? Optional.ofNullable(shapes.getIfPresent(shape)) : Optional.empty();
+  }
+
+  private boolean isEnabled() {
+    return Boolean.TRUE.equals(
+        settings.getSettingValue(Settings.Key.CALCITE_PUSHDOWN_FEEDBACK_ENABLED));
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+/**
+ * Statistics observed on the executions of scans of the same shape, averaged over the recent
+ * executions.
+ *
+ * @param executions number of executions observed.
+ * @param rows rows returned by the scan.
+ * @param bytes bytes of the sources of the documents returned.
+ * @param tookMillis time the searches took on the shards, in milliseconds.
+ * @param pages number of search requests, i.e. of pages fetched.
+ */
+public record ScanStatistics(
+    long executions, double rows, double bytes, double tookMillis, double pages) {
+
+  /**
+   * Executions weighing as much as the next one in the averages, so the statistics follow the
+   * changes of the index within a few executions.
+   */
+  static final long MAX_WEIGHT = 7;
+
+  /**
+   * Statistics of a single execution of a scan.
+   *
+   * @param rows rows returned by the scan.
+   * @param bytes bytes of the sources of the documents returned.
+   * @param tookMillis time the searches took on the shards, in milliseconds.
+   * @param pages number of search requests.
+   */
+  public static ScanStatistics of(long rows, long bytes, long tookMillis, int pages) {
+    return new ScanStatistics(1, rows, bytes, tookMillis, pages);
+  }
+
+  /** @return statistics including the executions of the given statistics. */
+  public ScanStatistics merge(ScanStatistics other) {
+    double weight = Math.min(executions, MAX_WEIGHT);
+    double otherWeight = Math.min(other.executions, MAX_WEIGHT);
+    double total = weight + otherWeight;
+    return new ScanStatistics(
+        executions + other.executions,
+        (rows * weight + other.rows * otherWeight) / total,
+        (bytes * weight + other.bytes * otherWeight) / total,
+        (tookMillis * weight + other.tookMillis * otherWeight) / total,
+        (pages * weight + other.pages * otherWeight) / total);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import lombok.experimental.UtilityClass;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+
+/**
+ * Estimates the selectivity of a filter from field statistics: equality with a literal selects
+ * one distinct value, and a comparison with a numeric literal selects the covered fraction of the
+ * [min, max] range, assuming values are uniformly distributed. Other predicates, or fields without
+ * statistics, fall back to {@link RelMdUtil#guessSelectivity(RexNode)}.
+ */
+@UtilityClass
+public class SelectivityEstimator {
+
+  /**
+   * Estimate the selectivity of a condition.
+   *
+   * @param condition filter condition
+   * @param statistics statistics of the field at an input index, empty if unknown.
+   * @return selectivity between 0 and 1.
+   */
+  public static double estimate(
+      RexNode condition, IntFunction<Optional<FieldStatistics>> statistics) {
+    return switch (condition.getKind()) {
+      case AND -> {
+        double selectivity = 1.0;
+        for (RexNode operand : ((RexCall) condition).getOperands()) {
+          selectivity *= estimate(operand, statistics);
+        }
+        yield selectivity;
+      }
+      case OR -> {
+        double unselected = 1.0;
+        for (RexNode operand : ((RexCall) condition).getOperands()) {
+          unselected *= 1.0 - estimate(operand, statistics);
+        }
+        yield 1.0 - unselected;
+      }
+      case NOT -> 1.0 - estimate(((RexCall) condition).getOperands().getFirst(), statistics);
+      case EQUALS, LESS_THAN, LESS_THAN_OR_EQUAL, GREATER_THAN, GREATER_THAN_OR_EQUAL ->
+          comparison((RexCall) condition, statistics)
+              .orElseGet(() -> RelMdUtil.guessSelectivity(condition));
+      default -> RelMdUtil.guessSelectivity(condition);
+    };
+  }
+
+  private static Optional<Double> comparison(
+      RexCall call, IntFunction<Optional<FieldStatistics>> statistics) {
+    RexNode left = call.getOperands().get(0);
+    RexNode right = call.getOperands().get(1);
+    SqlKind kind = call.getKind();
+    if (left instanceof RexLiteral && right instanceof RexInputRef) {
+      RexNode swapped = left;
+      left = right;
+      right = swapped;
+      kind = kind.reverse();
+    }
+    if (!(left instanceof RexInputRef ref) || !(right instanceof RexLiteral literal)) {
+      return Optional.empty();
+    }
+    Optional<FieldStatistics> field = statistics.apply(ref.getIndex());
+    if (field.isEmpty()) {
+      return Optional.empty();
+    }
+    FieldStatistics stats = field.get();
+    if (kind == SqlKind.EQUALS) {
+      return Optional.of(1.0 / Math.max(1, stats.distinctCount()));
+    }
+    if (!stats.hasRange() || !SqlTypeUtil.isNumeric(literal.getType())) {
+      return Optional.empty();
+    }
+    BigDecimal value = literal.getValueAs(BigDecimal.class);
+    if (value == null) {
+      return Optional.empty();
+    }
+    double range = stats.max() - stats.min();
+    if (range <= 0) {
+      return Optional.empty();
+    }
+    double below = (value.doubleValue() - stats.min()) / range;
+    double fraction =
+        switch (kind) {
+          case LESS_THAN, LESS_THAN_OR_EQUAL -> below;
+          default -> 1.0 - below;
+        };
+    return Optional.of(Math.min(1.0, Math.max(0.0, fraction)));
+  }
+}
@@ -5,15 +5,14 @@
 
 package org.opensearch.sql.opensearch.storage;
 
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.datasource.model.DataSource;
 import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.datasource.model.DataSourceType;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.storage.DataSourceFactory;
 
-@RequiredArgsConstructor
 public class OpenSearchDataSourceFactory implements DataSourceFactory {
 
   /** OpenSearch client connection. */
@@ -21,6 +20,20 @@ public class OpenSearchDataSourceFactory implements DataSourceFactory {
 
   private final Settings settings;
 
+  /** Tracker of the memory held by the storage engines across queries. */
+  private final MemoryTracker nodeMemoryTracker;
+
+  public OpenSearchDataSourceFactory(OpenSearchClient client, Settings settings) {
+    this(client, settings, MemoryTracker.NO_OP);
+  }
+
+  public OpenSearchDataSourceFactory(
+      OpenSearchClient client, Settings settings, MemoryTracker nodeMemoryTracker) {
+    this.client = client;
+    this.settings = settings;
+    this.nodeMemoryTracker = nodeMemoryTracker;
+  }
+
   @Override
   public DataSourceType getDataSourceType() {
     return DataSourceType.OPENSEARCH;
@@ -31,6 +44,6 @@ public class OpenSearchDataSourceFactory implements DataSourceFactory {
     return new DataSource(
         metadata.getName(),
         DataSourceType.OPENSEARCH,
-        new OpenSearchStorageEngine(client, settings));
+        new OpenSearchStorageEngine(client, settings, nodeMemoryTracker));
   }
 }
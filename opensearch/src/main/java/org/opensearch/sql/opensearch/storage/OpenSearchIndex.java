@@ -10,10 +10,12 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.rel.RelNode;
@@ -22,8 +24,10 @@ import org.opensearch.sql.calcite.plan.AbstractOpenSearchTable;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.executor.streaming.StreamingSource;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
@@ -34,9 +38,16 @@ import org.opensearch.sql.opensearch.planner.physical.OpenSearchEvalOperator;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
+import org.opensearch.sql.opensearch.statistics.FieldStatistics;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
+import org.opensearch.sql.opensearch.statistics.OpenSearchRelMetadataProvider;
+import org.opensearch.sql.opensearch.statistics.ScanFeedback;
+import org.opensearch.sql.opensearch.statistics.ScanStatistics;
+import org.opensearch.sql.opensearch.storage.lookup.LookupTableCache;
 import org.opensearch.sql.opensearch.storage.scan.CalciteLogicalIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
+import org.opensearch.sql.opensearch.storage.streaming.OpenSearchStreamingSource;
 import org.opensearch.sql.planner.DefaultImplementor;
 import org.opensearch.sql.planner.logical.LogicalAD;
 import org.opensearch.sql.planner.logical.LogicalEval;
@@ -77,6 +88,15 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
   /** {@link OpenSearchRequest.IndexName}. */
   private final OpenSearchRequest.IndexName indexName;
 
+  /** Statistics of the index for cost estimation. */
+  private final IndexStatistics statistics;
+
+  /** Rows of the index cached when it is used as a lookup table. */
+  private final LookupTableCache lookupTables;
+
+  /** Statistics observed on the previous scans of the index. */
+  private final ScanFeedback scanFeedback;
+
   /** The cached mapping of field and type in index. */
   private Map<String, OpenSearchDataType> cachedFieldOpenSearchTypes = null;
 
@@ -91,14 +111,45 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
 
   /** Constructor. */
   public OpenSearchIndex(OpenSearchClient client, Settings settings, String indexName) {
+    this(client, settings, indexName, new IndexStatistics(client));
+  }
+
+  /** Constructor with statistics shared among queries. */
+  public OpenSearchIndex(
+      OpenSearchClient client, Settings settings, String indexName, IndexStatistics statistics) {
+    this(client, settings, indexName, statistics, new LookupTableCache(client, settings));
+  }
+
+  /** Constructor with statistics and lookup tables shared among queries. */
+  public OpenSearchIndex(
+      OpenSearchClient client,
+      Settings settings,
+      String indexName,
+      IndexStatistics statistics,
+      LookupTableCache lookupTables) {
+    this(client, settings, indexName, statistics, lookupTables, new ScanFeedback(settings));
+  }
+
+  /** Constructor with statistics, lookup tables and scan feedback shared among queries. */
+  public OpenSearchIndex(
+      OpenSearchClient client,
+      Settings settings,
+      String indexName,
+      IndexStatistics statistics,
+      LookupTableCache lookupTables,
+      ScanFeedback scanFeedback) {
     this.client = client;
     this.settings = settings;
     this.indexName = new OpenSearchRequest.IndexName(indexName);
+    this.statistics = statistics;
+    this.lookupTables = lookupTables;
+    this.scanFeedback = scanFeedback;
   }
 
   @Override
   public RelNode toRel(RelOptTable.ToRelContext context, RelOptTable relOptTable) {
     final RelOptCluster cluster = context.getCluster();
+    OpenSearchRelMetadataProvider.register(cluster);
     return new CalciteLogicalIndexScan(cluster, relOptTable, this);
   }
 
@@ -190,6 +241,74 @@ public class OpenSearchIndex extends AbstractOpenSearchTable {
     return cachedMaxResultWindow;
   }
 
+  /** Get the number of documents of the index, empty if unknown. */
+  public Optional<Long> getDocCount() {
+    return statistics.docCount(indexName);
+  }
+
+  /**
+   * Scan the index as a lookup table, from the rows cached if the index is small and unchanged.
+   *
+   * @param key identifies the rows returned by the scan, i.e. its fields and pushed down operations
+   * @param scan scan reading the rows of the index
+   * @return rows of the index
+   */
+  public Enumerable<Object> scanLookupTable(String key, Enumerable<Object> scan) {
+    return lookupTables.scan(indexName, indexName + "/" + key, scan);
+  }
+
+  /**
+   * Get the statistics observed on the previous scans of the index of the same shape.
+   *
+   * @param shape identifies the scan, i.e. its pushed down operations
+   * @return scan statistics, empty if the shape wasn't scanned recently.
+   */
+  public Optional<ScanStatistics> getScanStatistics(String shape) {
+    return scanFeedback.get(indexName + "/" + shape);
+  }
+
+  /**
+   * Record the statistics of a complete scan of the index.
+   *
+   * @param shape identifies the scan, i.e. its pushed down operations
+   * @param execution statistics of the scan
+   */
+  public void recordScanStatistics(String shape, ScanStatistics execution) {
+    scanFeedback.record(indexName + "/" + shape, execution);
+  }
+
+  /**
+   * Get the statistics of a field. Text fields use their keyword sub-field, if any.
+   *
+   * @param field field name
+   * @return field statistics, empty if unknown or the field is not aggregatable.
+   */
+  public Optional<FieldStatistics> getFieldStatistics(String field) {
+    OpenSearchDataType type =
+        OpenSearchDataType.traverseAndFlatten(getFieldOpenSearchTypes()).get(field);
+    if (type == null
+        || type.getExprCoreType() == ExprCoreType.STRUCT
+        || type.getExprCoreType() == ExprCoreType.ARRAY) {
+      return Optional.empty();
+    }
+    String path = getAliasMapping().getOrDefault(field, field);
+    if (type instanceof OpenSearchTextType) {
+      String keyword = OpenSearchTextType.convertTextToKeyword(path, type);
+      return keyword.equals(path)
+          ? Optional.empty()
+          : statistics.fieldStatistics(indexName, keyword, false);
+    }
+    return statistics.fieldStatistics(
+        indexName, path, ExprCoreType.numberTypes().contains(type.getExprCoreType()));
+  }
+
+  /** The offsets of the source are the values of the time field, or of the field it aliases. */
+  @Override
+  public StreamingSource asStreamingSource(String timeField, long maxDelayMillis) {
+    return new OpenSearchStreamingSource(
+        client, indexName, getAliasMapping().getOrDefault(timeField, timeField), maxDelayMillis);
+  }
+
   /** TODO: Push down operations to index scan operator as much as possible in future. */
   @Override
   public PhysicalPlan implement(LogicalPlan plan) {
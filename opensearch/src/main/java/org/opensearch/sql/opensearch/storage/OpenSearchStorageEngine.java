@@ -8,16 +8,18 @@ package org.opensearch.sql.opensearch.storage;
 import static org.opensearch.sql.utils.SystemIndexUtils.isSystemIndex;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.DataSourceSchemaName;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
+import org.opensearch.sql.opensearch.statistics.ScanFeedback;
+import org.opensearch.sql.opensearch.storage.lookup.LookupTableCache;
 import org.opensearch.sql.opensearch.storage.system.OpenSearchSystemIndex;
 import org.opensearch.sql.storage.StorageEngine;
 import org.opensearch.sql.storage.Table;
 
 /** OpenSearch storage engine implementation. */
-@RequiredArgsConstructor
 public class OpenSearchStorageEngine implements StorageEngine {
 
   /** OpenSearch client connection. */
@@ -25,12 +27,36 @@ public class OpenSearchStorageEngine implements StorageEngine {
 
   @Getter private final Settings settings;
 
+  /** Index statistics, cached across queries. */
+  private final IndexStatistics statistics;
+
+  /** Rows of small lookup tables, cached across queries. */
+  private final LookupTableCache lookupTables;
+
+  /** Statistics of the scans run, kept across queries. */
+  private final ScanFeedback scanFeedback;
+
+  /** Constructor. */
+  public OpenSearchStorageEngine(OpenSearchClient client, Settings settings) {
+    this(client, settings, MemoryTracker.NO_OP);
+  }
+
+  /** Constructor with the tracker of the memory held by the caches of the engine. */
+  public OpenSearchStorageEngine(
+      OpenSearchClient client, Settings settings, MemoryTracker nodeMemoryTracker) {
+    this.client = client;
+    this.settings = settings;
+    this.statistics = new IndexStatistics(client);
+    this.lookupTables = new LookupTableCache(client, settings, nodeMemoryTracker);
+    this.scanFeedback = new ScanFeedback(settings);
+  }
+
   @Override
   public Table getTable(DataSourceSchemaName dataSourceSchemaName, String name) {
     if (isSystemIndex(name)) {
       return new OpenSearchSystemIndex(client, name);
     } else {
-      return new OpenSearchIndex(client, settings, name);
+      return new OpenSearchIndex(client, settings, name, statistics, lookupTables, scanFeedback);
     }
   }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.lookup;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.metrics.Stats;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+/**
+ * Version of the searchable content of an index, from the sequence numbers of its visible
+ * documents. Indexing, updating or deleting documents changes the version once a refresh makes the
+ * change visible: new documents change the count, updated documents get a higher sequence number
+ * and deleted documents decrease the count.
+ *
+ * @param docCount number of visible documents.
+ * @param maxSeqNo highest sequence number of the visible documents.
+ * @param seqNoSum sum of the sequence numbers of the visible documents.
+ */
+public record IndexVersion(long docCount, double maxSeqNo, double seqNoSum) {
+
+  private static final String SEQ_NO = "seq_no";
+
+  /** Build the search collecting the version of an index, it returns aggregations only. */
+  public static SearchSourceBuilder searchSource() {
+    return new SearchSourceBuilder()
+        .size(0)
+        .trackTotalHits(false)
+        .aggregation(AggregationBuilders.stats(SEQ_NO).field(SeqNoFieldMapper.NAME));
+  }
+
+  /** Read the version from the response of {@link #searchSource()}. */
+  public static IndexVersion of(SearchResponse response) {
+    Stats stats = response.getAggregations().get(SEQ_NO);
+    return new IndexVersion(stats.getCount(), stats.getMax(), stats.getSum());
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.lookup;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.ExprValueSizeEstimator;
+import org.opensearch.sql.monitor.MemoryTracker;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+/**
+ * Rows of the small indices used as PPL lookup tables, cached per node. A lookup table is read
+ * again for every query joining it, typically by dashboards refreshing the same lookup many times
+ * a minute, so the rows of indices with at most {@link Settings.Key#CALCITE_LOOKUP_CACHE_MAX_ROWS}
+ * documents are kept in memory. Cached rows are only used while the {@link IndexVersion} of the
+ * index is unchanged, which costs a search without hits instead of reading the whole table.
+ *
+ * <p>The documents and fields a user can read depend on its roles when the security plugin is
+ * installed, so cached rows are only returned to requests of the same security context as the
+ * request which read them. The estimated size of the cached rows is reserved on the memory tracker
+ * of the node until they are evicted, and tables which don't fit are not cached.
+ */
+public class LookupTableCache {
+  private static final Logger LOG = LogManager.getLogger(LookupTableCache.class);
+
+  static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+  private static final long MAX_CACHED_TABLES = 50;
+
+  private final OpenSearchClient client;
+
+  private final Settings settings;
+
+  /** Tracker of the memory of the cached rows. */
+  private final MemoryTracker memoryTracker;
+
+  private final Cache<String, CachedTable> tables;
+
+  public LookupTableCache(OpenSearchClient client, Settings settings) {
+    this(client, settings, MemoryTracker.NO_OP);
+  }
+
+  public LookupTableCache(OpenSearchClient client, Settings settings, MemoryTracker memoryTracker) {
+    this.client = client;
+    this.settings = settings;
+    this.memoryTracker = memoryTracker;
+    this.tables =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_TABLES)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .<String, CachedTable>removalListener(
+                removed -> memoryTracker.release(removed.getValue().bytes()))
+            .build();
+  }
+
+  /**
+   * Scan a lookup table, from the cache if the index didn't change since its rows were cached.
+   * Otherwise, the rows are read by the given scan and cached if the index is small enough.
+   *
+   * @param indexName index name of the lookup table
+   * @param key identifies the rows returned by the scan, i.e. its fields and pushed down operations
+   * @param scan scan reading the rows of the index
+   * @return rows of the lookup table
+   */
+  public Enumerable<Object> scan(
+      OpenSearchRequest.IndexName indexName, String key, Enumerable<Object> scan) {
+    int maxRows = settings.getSettingValue(Settings.Key.CALCITE_LOOKUP_CACHE_MAX_ROWS);
+    if (maxRows <= 0) {
+      return scan;
+    }
+    // Rows read by a user are only returned to requests with the same security context
+    String cacheKey = client.getSecurityContext().map(context -> context + "/").orElse("") + key;
+    IndexVersion version;
+    try {
+      version = client.getIndexVersion(indexName.getIndexNames());
+    } catch (Exception e) {
+      LOG.debug("Cannot read the version of lookup table {}", indexName, e);
+      return scan;
+    }
+    if (version.docCount() > maxRows) {
+      tables.invalidate(cacheKey);
+      return scan;
+    }
+    CachedTable cached = tables.getIfPresent(cacheKey);
+    if (cached == null || !cached.version().equals(version)) {
+      // The version is read before the rows, so rows of a newer version are read again later
+      List<Object> rows = Collections.unmodifiableList(scan.toList());
+      long bytes = 0;
+      for (Object row : rows) {
+        bytes += ExprValueSizeEstimator.estimateRow(row);
+      }
+      try {
+        memoryTracker.reserve(bytes, "lookup_table");
+      } catch (RuntimeException e) {
+        LOG.debug("Not enough memory to cache lookup table {}", indexName, e);
+        tables.invalidate(cacheKey);
+        return Linq4j.asEnumerable(rows);
+      }
+      cached = new CachedTable(version, rows, bytes);
+      tables.put(cacheKey, cached);
+    }
+    return Linq4j.asEnumerable(cached.rows());
+  }
+
+  private record CachedTable(IndexVersion version, List<Object> rows, long bytes) {}
+}
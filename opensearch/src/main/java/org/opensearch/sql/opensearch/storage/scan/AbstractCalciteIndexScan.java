@@ -10,20 +10,23 @@ import static org.opensearch.sql.common.setting.Settings.Key.CALCITE_PUSHDOWN_RO
 
 import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Optional;
 import lombok.Getter;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.hint.RelHint;
-import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.NumberUtil;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.statistics.ScanStatistics;
+import org.opensearch.sql.opensearch.statistics.SelectivityEstimator;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 
 /** An abstract relational operator representing a scan of an OpenSearchIndex type. */
@@ -69,6 +72,7 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public double estimateRowCount(RelMetadataQuery mq) {
     /*
      The impact factor to estimate the row count after push down an operator.
@@ -79,19 +83,47 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
     */
     double estimateRowCountFactor =
         osIndex.getSettings().getSettingValue(CALCITE_PUSHDOWN_ROWCOUNT_ESTIMATION_FACTOR);
-    return pushDownContext.stream()
-        .reduce(
-            osIndex.getMaxResultWindow().doubleValue(),
-            (rowCount, action) ->
-                switch (action.type) {
-                      case AGGREGATION -> mq.getRowCount((RelNode) action.digest);
-                      case PROJECT -> rowCount;
-                      case FILTER -> NumberUtil.multiply(
-                          rowCount, RelMdUtil.guessSelectivity((RexNode) action.digest));
-                      case LIMIT -> (Integer) action.digest;
-                    }
-                    * estimateRowCountFactor,
-            (a, b) -> null);
+    // Rows returned by the previous scans of the same shape replace the estimate.
+    Optional<ScanStatistics> observed = osIndex.getScanStatistics(getShape());
+    if (observed.isPresent()) {
+      return Math.max(1.0, observed.get().rows());
+    }
+    // Start from the document count of the index, or the max result window if it's unknown.
+    double rowCount =
+        osIndex
+            .getDocCount()
+            .map(count -> Math.max(1.0, count))
+            .orElseGet(() -> osIndex.getMaxResultWindow().doubleValue());
+    // Field names of the scan before each push down action, filter conditions refer to them.
+    List<String> fieldNames = table.getRowType().getFieldNames();
+    for (PushDownAction action : pushDownContext) {
+      List<String> inputFields = fieldNames;
+      rowCount =
+          switch (action.type) {
+                case AGGREGATION -> mq.getRowCount((RelNode) action.digest);
+                case PROJECT -> {
+                  fieldNames = (List<String>) action.digest;
+                  yield rowCount;
+                }
+                case FILTER -> NumberUtil.multiply(
+                    rowCount,
+                    SelectivityEstimator.estimate(
+                        (RexNode) action.digest,
+                        index -> osIndex.getFieldStatistics(inputFields.get(index))));
+                case LIMIT -> Math.min(rowCount, (Integer) action.digest);
+              }
+              * estimateRowCountFactor;
+    }
+    return rowCount;
+  }
+
+  /**
+   * Identifies the scans of the index which return the same rows, for the scan feedback. Unlike
+   * the digests of the push down actions, the shape doesn't include the ids of the rel nodes, so it
+   * is the same across queries.
+   */
+  protected String getShape() {
+    return pushDownContext.stream().map(PushDownAction::shape).toList().toString();
   }
 
   // TODO: should we consider equivalent among PushDownContexts with different push down sequence?
@@ -148,6 +180,18 @@ public abstract class AbstractCalciteIndexScan extends TableScan {
       return type + "->" + digest;
     }
 
+    /** The push down action without the ids of the rel nodes in its digest. */
+    String shape() {
+      if (digest instanceof Aggregate aggregate) {
+        return type
+            + "->"
+            + aggregate.getGroupSets()
+            + aggregate.getAggCallList()
+            + aggregate.getRowType().getFieldNames();
+      }
+      return toString();
+    }
+
     public void apply(OpenSearchRequestBuilder requestBuilder) {
       action.apply(requestBuilder);
     }
@@ -28,6 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.opensearch.sql.calcite.plan.OpenSearchRules;
+import org.opensearch.sql.calcite.utils.JoinAndLookupUtils;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 
@@ -92,19 +93,34 @@ public class CalciteEnumerableIndexScan extends AbstractCalciteIndexScan impleme
    * or SearchAfter recorded during previous search.
    */
   public Enumerable<@Nullable Object> scan() {
-    return new AbstractEnumerable<>() {
-      @Override
-      public Enumerator<Object> enumerator() {
-        OpenSearchRequestBuilder requestBuilder = osIndex.createRequestBuilder();
-        pushDownContext.forEach(action -> action.apply(requestBuilder));
-        return new OpenSearchIndexEnumerator(
-            osIndex.getClient(),
-            getFieldPath(),
-            requestBuilder.getMaxResponseSize(),
-            osIndex.buildRequest(requestBuilder),
-            osIndex.createOpenSearchResourceMonitor());
-      }
-    };
+    String shape = getShape();
+    Enumerable<@Nullable Object> scan =
+        new AbstractEnumerable<>() {
+          @Override
+          public Enumerator<Object> enumerator() {
+            OpenSearchRequestBuilder requestBuilder = osIndex.createRequestBuilder();
+            pushDownContext.forEach(action -> action.apply(requestBuilder));
+            return new OpenSearchIndexEnumerator(
+                osIndex.getClient(),
+                getFieldPath(),
+                requestBuilder.getMaxResponseSize(),
+                osIndex.buildRequest(requestBuilder),
+                osIndex.createOpenSearchResourceMonitor(),
+                statistics -> osIndex.recordScanStatistics(shape, statistics));
+          }
+        };
+    return isLookupTable() ? osIndex.scanLookupTable(getLookupTableKey(), scan) : scan;
+  }
+
+  /** @return true if this scan reads a PPL lookup table. */
+  private boolean isLookupTable() {
+    return getHints().stream()
+        .anyMatch(hint -> JoinAndLookupUtils.LOOKUP_TABLE_HINT.equals(hint.hintName));
+  }
+
+  /** Identifies the rows returned by this scan among the cached rows of the lookup table. */
+  private String getLookupTableKey() {
+    return getRowType().getFieldNames() + "/" + pushDownContext;
   }
 
   private List<String> getFieldPath() {
@@ -16,12 +16,14 @@ import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptRule;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.core.Filter;
 import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexNode;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -73,6 +75,12 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
         getCluster(), traitSet, hints, table, osIndex, schema, pushDownContext.clone());
   }
 
+  @Override
+  public RelNode withHints(List<RelHint> hintList) {
+    return new CalciteLogicalIndexScan(
+        getCluster(), traitSet, hintList, table, osIndex, schema, pushDownContext);
+  }
+
   @Override
   public void register(RelOptPlanner planner) {
     super.register(planner);
@@ -89,8 +97,9 @@ public class CalciteLogicalIndexScan extends AbstractCalciteIndexScan {
       CalciteLogicalIndexScan newScan = this.copyWithNewSchema(filter.getRowType());
       List<String> schema = this.getRowType().getFieldNames();
       Map<String, ExprType> filedTypes = this.osIndex.getFieldTypes();
-      QueryBuilder filterBuilder =
-          PredicateAnalyzer.analyze(filter.getCondition(), schema, filedTypes);
+      RexNode condition =
+          PredicateAnalyzer.expandRangeSearch(getCluster().getRexBuilder(), filter.getCondition());
+      QueryBuilder filterBuilder = PredicateAnalyzer.analyze(condition, schema, filedTypes);
       newScan.pushDownContext.add(
           PushDownAction.of(
               PushDownType.FILTER,
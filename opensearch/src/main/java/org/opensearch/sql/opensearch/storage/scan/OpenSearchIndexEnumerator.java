@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.storage.scan;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.apache.calcite.linq4j.Enumerator;
@@ -18,6 +19,7 @@ import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.ScanStatistics;
 
 /**
  * Supports a simple iteration over a collection for OpenSearch index
@@ -53,17 +55,43 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
 
   private ExprValue current;
 
+  /** Receives the statistics of the scan once all its rows are read. */
+  private final Consumer<ScanStatistics> feedback;
+
+  /** Bytes of the sources of the hits fetched. */
+  private long bytes;
+
+  /** Time the searches took on the shards, in milliseconds. */
+  private long tookMillis;
+
+  /** Number of search requests. */
+  private int pages;
+
+  /** Whether the statistics of the scan were recorded. */
+  private boolean recorded;
+
   public OpenSearchIndexEnumerator(
       OpenSearchClient client,
       List<String> fields,
       int maxResponseSize,
       OpenSearchRequest request,
       ResourceMonitor monitor) {
+    this(client, fields, maxResponseSize, request, monitor, statistics -> {});
+  }
+
+  public OpenSearchIndexEnumerator(
+      OpenSearchClient client,
+      List<String> fields,
+      int maxResponseSize,
+      OpenSearchRequest request,
+      ResourceMonitor monitor,
+      Consumer<ScanStatistics> feedback) {
     this.client = client;
     this.fields = fields;
     this.request = request;
     this.maxResponseSize = maxResponseSize;
     this.monitor = monitor;
+    this.feedback = feedback;
     this.queryCount = 0;
     this.current = null;
     if (!this.monitor.isHealthy()) {
@@ -73,6 +101,9 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
 
   private void fetchNextBatch() {
     OpenSearchResponse response = client.search(request);
+    pages++;
+    bytes += response.getSourceBytes();
+    tookMillis += response.getTookMillis();
     if (!response.isEmpty()) {
       iterator = response.iterator();
     } else if (iterator == null) {
@@ -98,6 +129,7 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
   @Override
   public boolean moveNext() {
     if (queryCount >= maxResponseSize) {
+      // The index may have more rows, the count would only be a lower bound of the scan.
       return false;
     }
 
@@ -114,14 +146,27 @@ public class OpenSearchIndexEnumerator implements Enumerator<Object> {
       queryCount++;
       return true;
     } else {
+      recordFeedback();
       return false;
     }
   }
 
+  /** Record the statistics of the scan once, when it returned all the rows of the index. */
+  private void recordFeedback() {
+    if (!recorded && pages > 0) {
+      feedback.accept(ScanStatistics.of(queryCount, bytes, tookMillis, pages));
+      recorded = true;
+    }
+  }
+
   @Override
   public void reset() {
     iterator = Collections.emptyIterator();
     queryCount = 0;
+    bytes = 0;
+    tookMillis = 0;
+    pages = 0;
+    recorded = false;
   }
 
   @Override
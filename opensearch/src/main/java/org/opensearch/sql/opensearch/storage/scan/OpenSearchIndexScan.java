@@ -15,6 +15,7 @@ import lombok.ToString;
 import org.jetbrains.annotations.TestOnly;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
@@ -23,8 +24,10 @@ import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.opensearch.storage.streaming.OpenSearchTimeRangeSplit;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.storage.split.Split;
 
 /** OpenSearch index scan operator. */
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
@@ -59,6 +62,18 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     this(client, Integer.MAX_VALUE, request);
   }
 
+  /** Only read the documents of an {@link OpenSearchTimeRangeSplit}, as a streaming batch does. */
+  @Override
+  public void add(Split split) {
+    if (split instanceof OpenSearchTimeRangeSplit timeRange) {
+      if (!(request instanceof OpenSearchQueryRequest queryRequest)) {
+        throw new UnsupportedOperationException("Only a query request can be split by time range");
+      }
+      SearchSourceBuilder sourceBuilder = queryRequest.getSourceBuilder();
+      sourceBuilder.query(timeRange.filter(sourceBuilder.query()));
+    }
+  }
+
   @Override
   public void open() {
     super.open();
@@ -15,6 +15,7 @@ import org.opensearch.script.FilterScript;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.codegen.ExpressionCompiler;
 import org.opensearch.sql.opensearch.storage.script.aggregation.ExpressionAggregationScriptFactory;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
@@ -39,6 +40,13 @@ public class ExpressionScriptEngine implements ScriptEngine {
   /** Expression serializer that (de-)serializes expression. */
   private final ExpressionSerializer serializer;
 
+  /** Compiler of the deserialized expression, which is cached by OpenSearch with the script. */
+  private final ExpressionCompiler compiler;
+
+  public ExpressionScriptEngine(ExpressionSerializer serializer) {
+    this(serializer, ExpressionCompiler.DISABLED);
+  }
+
   @Override
   public String getType() {
     return EXPRESSION_LANG_NAME;
@@ -52,7 +60,7 @@ public class ExpressionScriptEngine implements ScriptEngine {
      * The "code" is actually a serialized expression tree by our serializer.
      * Therefore the compilation here is simply to deserialize the expression tree.
      */
-    Expression expression = serializer.deserialize(scriptCode);
+    Expression expression = compiler.compile(serializer.deserialize(scriptCode));
 
     if (CONTEXTS.containsKey(context)) {
       return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
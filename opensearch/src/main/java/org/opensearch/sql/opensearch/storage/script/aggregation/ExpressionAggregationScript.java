@@ -28,19 +28,32 @@ public class ExpressionAggregationScript extends AggregationScript {
   /** Expression Script. */
   private final ExpressionScript expressionScript;
 
+  /** Evaluator of the expression on the documents of the leaf. */
+  @EqualsAndHashCode.Exclude private final ExpressionScript.Leaf leaf;
+
   /** Constructor of ExpressionAggregationScript. */
   public ExpressionAggregationScript(
       Expression expression,
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
+    this(new ExpressionScript(expression), lookup, context, params);
+  }
+
+  /** Constructor with the expression script shared by the leaves of a search. */
+  ExpressionAggregationScript(
+      ExpressionScript expressionScript,
+      SearchLookup lookup,
+      LeafReaderContext context,
+      Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
+    this.leaf = expressionScript.newLeaf(this::getDoc, this::evaluateExpression);
   }
 
   @Override
   public Object execute() {
-    var expr = expressionScript.execute(this::getDoc, this::evaluateExpression);
+    var expr = leaf.execute();
     if (expr.type() instanceof OpenSearchDataType) {
       return expr.value();
     }
@@ -10,12 +10,13 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /** Expression script leaf factory that produces script executor for each leaf. */
 public class ExpressionAggregationScriptLeafFactory implements AggregationScript.LeafFactory {
 
-  /** Expression to execute. */
-  private final Expression expression;
+  /** Expression script shared by the leaves, whose fields are resolved once. */
+  private final ExpressionScript expressionScript;
 
   /** Expression to execute. */
   private final Map<String, Object> params;
@@ -26,14 +27,14 @@ public class ExpressionAggregationScriptLeafFactory implements AggregationScript
   /** Constructor of ExpressionAggregationScriptLeafFactory. */
   public ExpressionAggregationScriptLeafFactory(
       Expression expression, Map<String, Object> params, SearchLookup lookup) {
-    this.expression = expression;
+    this.expressionScript = new ExpressionScript(expression);
     this.params = params;
     this.lookup = lookup;
   }
 
   @Override
   public AggregationScript newInstance(LeafReaderContext ctx) {
-    return new ExpressionAggregationScript(expression, lookup, ctx, params);
+    return new ExpressionAggregationScript(expressionScript, lookup, ctx, params);
   }
 
   @Override
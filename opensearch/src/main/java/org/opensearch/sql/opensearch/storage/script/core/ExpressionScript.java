@@ -14,6 +14,7 @@ import java.security.PrivilegedAction;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -34,6 +35,10 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 /**
  * Expression script executor that executes the expression on each document and determine if the
  * document is supposed to be filtered out or not.
+ *
+ * <p>The fields of the expression, their doc value names and the value factory are resolved once
+ * here and shared by the {@link Leaf} evaluators of all the segments, which in turn reuse their
+ * environment for every document.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
@@ -47,6 +52,9 @@ public class ExpressionScript {
   /** Reference Fields. */
   @EqualsAndHashCode.Exclude private final Set<ReferenceExpression> fields;
 
+  /** Reference fields with the names of their doc values. */
+  @EqualsAndHashCode.Exclude private final List<DocValueField> docValueFields;
+
   /** Expression constructor. */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
@@ -56,26 +64,73 @@ public class ExpressionScript {
     this.valueFactory =
         AccessController.doPrivileged(
             (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+    this.docValueFields = fields.stream().map(DocValueField::of).toList();
   }
 
   /**
-   * Evaluate on the doc generate by the doc provider.
+   * Create the evaluator of the expression on the documents of a leaf.
    *
-   * @param docProvider doc provider.
+   * @param docProvider doc provider of the leaf.
    * @param evaluator evaluator
-   * @return expr value
+   * @return leaf evaluator
    */
-  public ExprValue execute(
+  public Leaf newLeaf(
       Supplier<Map<String, ScriptDocValues<?>>> docProvider,
       BiFunction<Expression, Environment<Expression, ExprValue>, ExprValue> evaluator) {
-    return AccessController.doPrivileged(
-        (PrivilegedAction<ExprValue>)
-            () -> {
-              Environment<Expression, ExprValue> valueEnv =
-                  buildValueEnv(fields, valueFactory, docProvider);
-              ExprValue result = evaluator.apply(expression, valueEnv);
-              return result;
-            });
+    return new Leaf(docProvider, evaluator);
+  }
+
+  /**
+   * Evaluator of the expression on the documents of a leaf, which is not thread safe. The doc
+   * values are looked up once per leaf, and the value environment and the privileged action are
+   * reused for every document instead of being allocated per document.
+   */
+  public final class Leaf
+      implements Environment<Expression, ExprValue>, PrivilegedAction<ExprValue> {
+
+    private final Supplier<Map<String, ScriptDocValues<?>>> docProvider;
+
+    private final BiFunction<Expression, Environment<Expression, ExprValue>, ExprValue> evaluator;
+
+    /** Values of the fields on the current document. */
+    private final Map<Expression, ExprValue> values = new HashMap<>();
+
+    /** Doc values of the leaf, which are advanced to the current document by OpenSearch. */
+    private Map<String, ScriptDocValues<?>> docValues;
+
+    private Leaf(
+        Supplier<Map<String, ScriptDocValues<?>>> docProvider,
+        BiFunction<Expression, Environment<Expression, ExprValue>, ExprValue> evaluator) {
+      this.docProvider = docProvider;
+      this.evaluator = evaluator;
+    }
+
+    /**
+     * Evaluate on the current document.
+     *
+     * @return expr value
+     */
+    public ExprValue execute() {
+      return AccessController.doPrivileged(this);
+    }
+
+    @Override
+    public ExprValue run() {
+      if (docValues == null && !docValueFields.isEmpty()) {
+        docValues = docProvider.get();
+      }
+      for (DocValueField field : docValueFields) {
+        values.put(
+            field.field(),
+            valueFactory.construct(field.field().getAttr(), field.getDocValue(docValues), false));
+      }
+      return evaluator.apply(expression, this);
+    }
+
+    @Override
+    public ExprValue resolve(Expression var) {
+      return values.get(var);
+    }
   }
 
   public static Set<ReferenceExpression> extractFields(Expression expr) {
@@ -105,35 +160,26 @@ public class ExpressionScript {
     return new OpenSearchExprValueFactory(typeEnv, false);
   }
 
-  private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields,
-      OpenSearchExprValueFactory valueFactory,
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue =
-          valueFactory.construct(fieldName, getDocValue(field, docProvider), false);
-      valueEnv.put(field, exprValue);
-    }
-    // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
-  }
+  /** Reference field with the name of its doc value, e.g. the keyword subfield of a text. */
+  private record DocValueField(ReferenceExpression field, String docValueName) {
 
-  private Object getDocValue(
-      ReferenceExpression field, Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
-    if (docValue == null || docValue.isEmpty()) {
-      return null; // No way to differentiate null and missing from doc value
+    static DocValueField of(ReferenceExpression field) {
+      return new DocValueField(
+          field, OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type()));
     }
 
-    Object value = docValue.get(0);
-    if (value instanceof ChronoZonedDateTime) {
-      return ((ChronoZonedDateTime<?>) value).toInstant();
+    Object getDocValue(Map<String, ScriptDocValues<?>> docValues) {
+      ScriptDocValues<?> docValue = docValues.get(docValueName);
+      if (docValue == null || docValue.isEmpty()) {
+        return null; // No way to differentiate null and missing from doc value
+      }
+
+      Object value = docValue.get(0);
+      if (value instanceof ChronoZonedDateTime) {
+        return ((ChronoZonedDateTime<?>) value).toInstant();
+      }
+      return castNumberToFieldType(value, field.type());
     }
-    return castNumberToFieldType(value, field.type());
   }
 
   /**
@@ -141,7 +187,7 @@ public class ExpressionScript {
    * must be Long and Double for expr type Long/Integer and Double/Float respectively. Otherwise
    * there must be bugs in our engine that causes the mismatch.
    */
-  private Object castNumberToFieldType(Object value, ExprType type) {
+  private static Object castNumberToFieldType(Object value, ExprType type) {
     if (value == null) {
       return value;
     }
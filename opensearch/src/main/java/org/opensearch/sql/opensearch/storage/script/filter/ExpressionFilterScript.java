@@ -27,18 +27,31 @@ class ExpressionFilterScript extends FilterScript {
   /** Expression Script. */
   private final ExpressionScript expressionScript;
 
+  /** Evaluator of the expression on the documents of the leaf. */
+  @EqualsAndHashCode.Exclude private final ExpressionScript.Leaf leaf;
+
   public ExpressionFilterScript(
       Expression expression,
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
+    this(new ExpressionScript(expression), lookup, context, params);
+  }
+
+  /** Constructor with the expression script shared by the leaves of a search. */
+  ExpressionFilterScript(
+      ExpressionScript expressionScript,
+      SearchLookup lookup,
+      LeafReaderContext context,
+      Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
+    this.leaf = expressionScript.newLeaf(this::getDoc, this::evaluateExpression);
   }
 
   @Override
   public boolean execute() {
-    return expressionScript.execute(this::getDoc, this::evaluateExpression).booleanValue();
+    return leaf.execute().booleanValue();
   }
 
   private ExprValue evaluateExpression(
@@ -10,12 +10,13 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.script.FilterScript;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /** Expression script leaf factory that produces script executor for each leaf. */
 class ExpressionFilterScriptLeafFactory implements FilterScript.LeafFactory {
 
-  /** Expression to execute. */
-  private final Expression expression;
+  /** Expression script shared by the leaves, whose fields are resolved once. */
+  private final ExpressionScript expressionScript;
 
   /** Parameters for the expression. */
   private final Map<String, Object> params;
@@ -25,13 +26,13 @@ class ExpressionFilterScriptLeafFactory implements FilterScript.LeafFactory {
 
   public ExpressionFilterScriptLeafFactory(
       Expression expression, Map<String, Object> params, SearchLookup lookup) {
-    this.expression = expression;
+    this.expressionScript = new ExpressionScript(expression);
     this.params = params;
     this.lookup = lookup;
   }
 
   @Override
   public FilterScript newInstance(LeafReaderContext ctx) {
-    return new ExpressionFilterScript(expression, lookup, ctx, params);
+    return new ExpressionFilterScript(expressionScript, lookup, ctx, params);
   }
 }
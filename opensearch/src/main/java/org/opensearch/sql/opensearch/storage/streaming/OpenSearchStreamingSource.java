@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.streaming;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.executor.streaming.Batch;
+import org.opensearch.sql.executor.streaming.Offset;
+import org.opensearch.sql.executor.streaming.StreamingSource;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+/**
+ * Streaming source of an index to which documents are appended in the order of a timestamp field.
+ * The offset is the latest timestamp less the longest delay of a document, so a batch only reads
+ * the documents of which the timestamps are not expected to be appended anymore. Documents appended
+ * later than that are never read.
+ */
+@RequiredArgsConstructor
+@ToString(of = {"indexName", "timeField"})
+public class OpenSearchStreamingSource implements StreamingSource {
+
+  private final OpenSearchClient client;
+
+  private final OpenSearchRequest.IndexName indexName;
+
+  private final String timeField;
+
+  private final long maxDelayMillis;
+
+  @Override
+  public Optional<Offset> getLatestOffset() {
+    Double latest = client.getFieldStatistics(timeField, true, indexName.getIndexNames()).max();
+    return Optional.ofNullable(latest).map(max -> new Offset(max.longValue() - maxDelayMillis));
+  }
+
+  @Override
+  public Batch getBatch(Optional<Offset> start, Offset end) {
+    return new Batch(
+        new OpenSearchTimeRangeSplit(
+            timeField, start.map(Offset::getOffset).orElse(null), end.getOffset()));
+  }
+}
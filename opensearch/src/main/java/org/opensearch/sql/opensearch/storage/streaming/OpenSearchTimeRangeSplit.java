@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.streaming;
+
+import lombok.Data;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.sql.storage.split.Split;
+
+/** Split of the documents of an index of which the timestamp is in (from, to]. */
+@Data
+public class OpenSearchTimeRangeSplit implements Split {
+
+  private static final String EPOCH_MILLIS = "epoch_millis";
+
+  /** Timestamp field. */
+  private final String timeField;
+
+  /** Exclusive lower bound of the timestamps in millisecond, null if there is none. */
+  private final Long from;
+
+  /** Inclusive upper bound of the timestamps in millisecond. */
+  private final long to;
+
+  @Override
+  public String getSplitId() {
+    return String.format("%s:(%s,%d]", timeField, from == null ? "" : from, to);
+  }
+
+  /**
+   * Restrict a query to the documents of the split.
+   *
+   * @param query query of the documents, or null to match all of them
+   * @return query of the documents of the split which match the query
+   */
+  public QueryBuilder filter(QueryBuilder query) {
+    RangeQueryBuilder range = QueryBuilders.rangeQuery(timeField).lte(to).format(EPOCH_MILLIS);
+    if (from != null) {
+      range.gt(from);
+    }
+    BoolQueryBuilder filtered = QueryBuilders.boolQuery().filter(range);
+    return query == null ? filtered : filtered.must(query);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.apache.calcite.rel.type.RelDataType;
+import org.locationtech.jts.geom.Point;
+import org.opensearch.sql.calcite.type.ExprJavaType;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprGeoPointValue;
+
+/**
+ * This class is used to convert the values of Calcite rows to OpenSearch values. Values are in the
+ * internal representation of Calcite enumerables, e.g. the number of days since epoch for dates,
+ * and each column is converted by a function chosen once from its type.
+ */
+@UtilityClass
+public class CalciteExprValueConvertor {
+
+  /**
+   * Get the function converting the values of a column.
+   *
+   * @param fieldType type of the column
+   * @return function converting a value of the column, which may be null
+   */
+  public static Function<Object, ExprValue> getExprValueConvertor(RelDataType fieldType) {
+    Function<Object, ExprValue> convertor = getNonNullValueConvertor(fieldType);
+    return value -> value == null ? ExprNullValue.of() : convertor.apply(value);
+  }
+
+  private static Function<Object, ExprValue> getNonNullValueConvertor(RelDataType fieldType) {
+    if (fieldType instanceof ExprJavaType) {
+      return value ->
+          value instanceof ExprValue exprValue ? exprValue : ExprValueUtils.fromObjectValue(value);
+    }
+    return switch (fieldType.getSqlTypeName()) {
+      case GEOMETRY ->
+          value -> {
+            Point geoPoint = (Point) value;
+            return new OpenSearchExprGeoPointValue(geoPoint.getY(), geoPoint.getX());
+          };
+      case CHAR, VARCHAR -> value -> ExprValueUtils.stringValue(value.toString());
+      case INTEGER -> value -> ExprValueUtils.integerValue(((Number) value).intValue());
+      case BIGINT -> value -> ExprValueUtils.longValue(((Number) value).longValue());
+      case FLOAT, REAL -> value -> ExprValueUtils.fromObjectValue(((Number) value).floatValue());
+      case DECIMAL, DOUBLE ->
+          value -> ExprValueUtils.fromObjectValue(((Number) value).doubleValue());
+      case BOOLEAN -> value -> ExprValueUtils.booleanValue((Boolean) value);
+      case DATE ->
+          value -> ExprValueUtils.dateValue(LocalDate.ofEpochDay(((Number) value).intValue()));
+      case TIME ->
+          value ->
+              ExprValueUtils.timeValue(
+                  LocalTime.ofNanoOfDay(((Number) value).longValue() * 1_000_000L));
+      case TIMESTAMP ->
+          value ->
+              ExprValueUtils.timestampValue(Instant.ofEpochMilli(((Number) value).longValue()));
+      default -> ExprValueUtils::fromObjectValue;
+    };
+  }
+}
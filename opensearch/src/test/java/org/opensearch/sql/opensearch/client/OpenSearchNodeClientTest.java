@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.client;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -39,6 +40,7 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -285,6 +287,32 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows(indexName));
   }
 
+  @Test
+  void get_index_doc_count() {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(nodeClient.search(any()).actionGet()).thenReturn(searchResponse);
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(new SearchHit[0], new TotalHits(42, TotalHits.Relation.EQUAL_TO), 0F));
+
+    assertEquals(42, client.getIndexDocCount("logs-1", "logs-2"));
+    ArgumentCaptor<SearchRequest> request = ArgumentCaptor.forClass(SearchRequest.class);
+    verify(nodeClient, Mockito.atLeastOnce()).search(request.capture());
+    assertArrayEquals(new String[] {"logs-1", "logs-2"}, request.getValue().indices());
+    assertEquals(0, request.getValue().source().size());
+  }
+
+  @Test
+  void get_index_doc_count_with_exception() {
+    when(nodeClient.search(any())).thenThrow(RuntimeException.class);
+
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class, () -> client.getIndexDocCount("logs-1", "logs-2"));
+    assertEquals(
+        "Failed to read document count for index pattern [logs-1,logs-2]", exception.getMessage());
+  }
+
   /** Jacoco enforce this constant lambda be tested. */
   @Test
   void test_all_fields_predicate() {
@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+@ExtendWith(MockitoExtension.class)
+class CalciteCursorRegistryTest {
+
+  private static final String USER = "user|backend_role|role";
+
+  @Mock private CalciteRows rows;
+
+  @Mock private CalciteRows otherRows;
+
+  private final AtomicLong now = new AtomicLong();
+
+  private CalciteCursorRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new CalciteCursorRegistry(() -> TimeValue.timeValueMinutes(1), () -> 1, now::get);
+  }
+
+  @Test
+  void take_registered_rows() {
+    Cursor cursor = registry.register(rows, USER);
+
+    assertTrue(Cursor.isCalciteCursor(cursor.toString()));
+    assertSame(rows, registry.take(cursor, USER));
+    assertEquals(0, registry.size());
+    verify(rows, never()).close();
+  }
+
+  @Test
+  void take_rows_only_once() {
+    Cursor cursor = registry.register(rows, USER);
+    registry.take(cursor, USER);
+
+    assertThrows(IllegalArgumentException.class, () -> registry.take(cursor, USER));
+  }
+
+  @Test
+  void take_rows_of_other_user_is_rejected() {
+    Cursor cursor = registry.register(rows, USER);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> registry.take(cursor, "other|backend_role|role"));
+    assertThrows(IllegalArgumentException.class, () -> registry.take(cursor, null));
+    assertThrows(
+        IllegalArgumentException.class, () -> registry.close(cursor, "other|backend_role|role"));
+    verify(rows, never()).close();
+    assertSame(rows, registry.take(cursor, USER));
+  }
+
+  @Test
+  void take_rows_without_security() {
+    Cursor cursor = registry.register(rows, null);
+
+    assertSame(rows, registry.take(cursor, null));
+  }
+
+  @Test
+  void new_cursor_for_every_page() {
+    Cursor cursor = registry.register(rows, USER);
+    Cursor next = registry.register(registry.take(cursor, USER), USER);
+
+    assertNotEquals(cursor, next);
+    assertSame(rows, registry.take(next, USER));
+  }
+
+  @Test
+  void close_rows_after_keep_alive() {
+    Cursor cursor = registry.register(rows, USER);
+    now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+    assertThrows(IllegalArgumentException.class, () -> registry.take(cursor, USER));
+    verify(rows).close();
+  }
+
+  @Test
+  void close_expired_rows_without_other_query() {
+    registry.register(rows, USER);
+    registry.closeExpired();
+    verify(rows, never()).close();
+
+    now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+    registry.closeExpired();
+
+    verify(rows).close();
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  void close_least_recently_registered_rows_beyond_max_open() {
+    Cursor cursor = registry.register(rows, USER);
+    Cursor other = registry.register(otherRows, USER);
+
+    verify(rows).close();
+    assertThrows(IllegalArgumentException.class, () -> registry.take(cursor, USER));
+    assertSame(otherRows, registry.take(other, USER));
+  }
+
+  @Test
+  void close_rows_by_cursor() {
+    registry.close(registry.register(rows, USER), USER);
+
+    verify(rows).close();
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  void failure_of_closing_expired_rows_is_ignored() {
+    doThrow(new IllegalStateException("closed")).when(rows).close();
+    registry.register(rows, USER);
+    now.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+    registry.register(otherRows, USER);
+    assertEquals(1, registry.size());
+  }
+}
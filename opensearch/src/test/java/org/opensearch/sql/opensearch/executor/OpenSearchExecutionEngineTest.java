@@ -12,8 +12,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.common.setting.Settings.Key.SQL_CURSOR_KEEP_ALIVE;
@@ -44,9 +48,11 @@ import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
@@ -88,7 +94,7 @@ class OpenSearchExecutionEngineTest {
         Arrays.asList(
             tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
     FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
-    when(protector.protect(plan)).thenReturn(plan);
+    when(protector.protect(plan, MemoryTracker.NO_OP)).thenReturn(plan);
 
     OpenSearchExecutionEngine executor =
         new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
@@ -118,7 +124,7 @@ class OpenSearchExecutionEngineTest {
         Arrays.asList(
             tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
     var plan = new FakePhysicalPlan(expected.iterator());
-    when(protector.protect(plan)).thenReturn(plan);
+    when(protector.protect(plan, MemoryTracker.NO_OP)).thenReturn(plan);
 
     OpenSearchExecutionEngine executor =
         new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
@@ -146,7 +152,7 @@ class OpenSearchExecutionEngineTest {
     PhysicalPlan plan = mock(PhysicalPlan.class);
     RuntimeException expected = new RuntimeException("Execution error");
     when(plan.hasNext()).thenThrow(expected);
-    when(protector.protect(plan)).thenReturn(plan);
+    when(protector.protect(plan, MemoryTracker.NO_OP)).thenReturn(plan);
 
     OpenSearchExecutionEngine executor =
         new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
@@ -168,6 +174,67 @@ class OpenSearchExecutionEngineTest {
     verify(plan).close();
   }
 
+  @Test
+  void execute_accounts_results_on_query_memory_tracker() {
+    List<ExprValue> expected =
+        Arrays.asList(
+            tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    OpenSearchMemoryBreaker memoryBreaker = mock(OpenSearchMemoryBreaker.class);
+    MemoryTracker memoryTracker = mock(MemoryTracker.class);
+    when(memoryBreaker.newTracker()).thenReturn(memoryTracker);
+    when(protector.protect(plan, memoryTracker)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null), memoryBreaker);
+    List<ExprValue> actual = new ArrayList<>();
+    executor.execute(
+        plan,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            actual.addAll(response.getResults());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(expected, actual);
+    verify(memoryTracker, times(2)).reserve(anyLong(), eq("result"));
+    verify(memoryTracker).close();
+  }
+
+  @Test
+  void execute_rejected_by_memory_breaker() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    OpenSearchMemoryBreaker memoryBreaker = mock(OpenSearchMemoryBreaker.class);
+    RuntimeException expected = new RuntimeException("Too many queries in progress");
+    when(memoryBreaker.newTracker()).thenThrow(expected);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null), memoryBreaker);
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            fail("Expected error didn't happen");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+
+    assertEquals(expected, actual.get());
+    verify(plan, never()).open();
+  }
+
   @Test
   void explain_successfully() {
     OpenSearchExecutionEngine executor =
@@ -234,7 +301,7 @@ class OpenSearchExecutionEngineTest {
         Arrays.asList(
             tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
     FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
-    when(protector.protect(plan)).thenReturn(plan);
+    when(protector.protect(plan, MemoryTracker.NO_OP)).thenReturn(plan);
     when(executionContext.getSplit()).thenReturn(Optional.of(split));
     when(executionContext.getQuerySizeLimit()).thenReturn(null);
 
@@ -10,23 +10,29 @@ package org.opensearch.sql.opensearch.executor;
 
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.QueryType;
+import org.opensearch.sql.executor.ScheduledTask;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlan;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.node.NodeClient;
 
@@ -70,4 +76,23 @@ class OpenSearchQueryManagerTest {
 
     assertTrue(isRun.get());
   }
+
+  @Test
+  public void scheduleWithFixedDelay() {
+    NodeClient nodeClient = mock(NodeClient.class);
+    ThreadPool threadPool = mock(ThreadPool.class);
+    Scheduler.Cancellable cancellable = mock(Scheduler.Cancellable.class);
+    when(nodeClient.threadPool()).thenReturn(threadPool);
+    when(threadPool.scheduleWithFixedDelay(any(), any(), any())).thenReturn(cancellable);
+    when(cancellable.cancel()).thenReturn(true);
+
+    ScheduledTask task =
+        new OpenSearchQueryManager(nodeClient)
+            .scheduleWithFixedDelay(() -> {}, Duration.ofSeconds(5));
+
+    verify(threadPool)
+        .scheduleWithFixedDelay(any(), eq(TimeValue.timeValueSeconds(5)), eq("sql-worker"));
+    assertTrue(task.cancel());
+    verify(cancellable).cancel();
+  }
 }
@@ -7,6 +7,7 @@ package org.opensearch.sql.opensearch.executor.protector;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
@@ -53,6 +54,8 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.AvgAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.codegen.CompiledExpression;
+import org.opensearch.sql.expression.codegen.ExpressionCompiler;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.expression.window.ranking.RankFunction;
@@ -69,6 +72,8 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
+import org.opensearch.sql.planner.physical.EvalOperator;
+import org.opensearch.sql.planner.physical.FilterOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
@@ -226,6 +231,25 @@ class OpenSearchExecutionProtectorTest {
         executionProtector.protect(filter(filter(null, filterExpr), filterExpr)));
   }
 
+  @Test
+  void compile_expressions_of_filter_and_eval() {
+    OpenSearchExecutionProtector protector =
+        new OpenSearchExecutionProtector(resourceMonitor, new ExpressionCompiler(() -> true));
+    Expression condition = DSL.greater(ref("age", INTEGER), literal(20));
+    Expression next = DSL.add(ref("age", INTEGER), literal(1));
+
+    FilterOperator filter =
+        (FilterOperator) protector.protect(filter(values(emptyList()), condition));
+    EvalOperator eval =
+        (EvalOperator)
+            protector.protect(
+                PhysicalPlanDSL.eval(values(emptyList()), Pair.of(ref("next", INTEGER), next)));
+
+    assertInstanceOf(CompiledExpression.class, filter.getConditions());
+    assertEquals(condition, ((CompiledExpression) filter.getConditions()).getOriginal());
+    assertInstanceOf(CompiledExpression.class, eval.getExpressionList().get(0).getValue());
+  }
+
   @Test
   void test_visitMLcommons() {
     NodeClient nodeClient = mock(NodeClient.class);
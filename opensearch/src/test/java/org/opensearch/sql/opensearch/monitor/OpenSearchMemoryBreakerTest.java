@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker.RESERVATION_CHUNK;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.sql.monitor.MemoryTracker;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchMemoryBreakerTest {
+
+  private static final long LIMIT = 100 * RESERVATION_CHUNK;
+
+  @Mock private CircuitBreaker breaker;
+
+  private OpenSearchMemoryBreaker memoryBreaker;
+
+  @BeforeEach
+  void setUp() {
+    when(breaker.getLimit()).thenReturn(LIMIT);
+    memoryBreaker = new OpenSearchMemoryBreaker(breaker);
+  }
+
+  @Test
+  void reserveFromBreakerInChunks() {
+    MemoryTracker tracker = memoryBreaker.newTracker();
+    tracker.reserve(100, "sort");
+    tracker.reserve(100, "sort");
+
+    assertEquals(200, tracker.getReservedBytes());
+    verify(breaker).addEstimateBytesAndMaybeBreak(RESERVATION_CHUNK, "sql:sort");
+
+    tracker.close();
+    assertEquals(0, tracker.getReservedBytes());
+    verify(breaker).addWithoutBreaking(-RESERVATION_CHUNK);
+  }
+
+  @Test
+  void releaseExcessReservation() {
+    MemoryTracker tracker = memoryBreaker.newTracker();
+    tracker.reserve(3 * RESERVATION_CHUNK, "aggregation");
+    tracker.release(3 * RESERVATION_CHUNK);
+
+    assertEquals(0, tracker.getReservedBytes());
+    verify(breaker).addWithoutBreaking(-3 * RESERVATION_CHUNK);
+  }
+
+  @Test
+  void queryExceedingItsShareFails() {
+    MemoryTracker tracker = memoryBreaker.newTracker();
+
+    CircuitBreakingException exception =
+        assertThrows(CircuitBreakingException.class, () -> tracker.reserve(LIMIT / 2 + 1, "sort"));
+    assertEquals(
+        "[sql] Query memory limit exceeded by [sort], query would use [52428801] bytes which is"
+            + " above the limit of [52428800] bytes per query",
+        exception.getMessage());
+    verify(breaker, never()).addEstimateBytesAndMaybeBreak(anyLong(), anyString());
+  }
+
+  @Test
+  void breakerTripIsNotAccounted() {
+    when(breaker.addEstimateBytesAndMaybeBreak(anyLong(), anyString()))
+        .thenThrow(new CircuitBreakingException("tripped", CircuitBreaker.Durability.TRANSIENT));
+    MemoryTracker tracker = memoryBreaker.newTracker();
+
+    assertThrows(CircuitBreakingException.class, () -> tracker.reserve(100, "result"));
+    assertEquals(0, tracker.getReservedBytes());
+
+    tracker.close();
+    verify(breaker).addWithoutBreaking(0);
+  }
+
+  @Test
+  void rejectNewQueryWhenBreakerIsAlmostFull() {
+    when(breaker.getUsed()).thenReturn(LIMIT * 95 / 100);
+
+    CircuitBreakingException exception =
+        assertThrows(CircuitBreakingException.class, () -> memoryBreaker.newTracker());
+    assertEquals(
+        "[sql] Too many queries in progress, memory used by queries [99614720] is above [94371840]",
+        exception.getMessage());
+  }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.planner.physical;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -12,6 +13,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.utils.MLCommonsConstants.ACTION;
 import static org.opensearch.sql.utils.MLCommonsConstants.ALGO;
@@ -24,6 +27,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.runner.RunWith;
@@ -39,6 +43,7 @@ import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
@@ -144,6 +149,50 @@ public class MLOperatorTest {
     }
   }
 
+  @Test
+  public void testOpenPredictInBatches() {
+    setUpPredict();
+    int rows = MLCommonsOperatorActions.BATCH_SIZE + 1;
+    AtomicInteger rowsRead = new AtomicInteger();
+    when(input.hasNext()).thenAnswer(invocation -> rowsRead.get() < rows);
+    when(input.next())
+        .thenAnswer(
+            invocation -> {
+              rowsRead.incrementAndGet();
+              return ExprTupleValue.fromExprValueMap(
+                  ImmutableMap.of("k1", new ExprIntegerValue(2)));
+            });
+    when(machineLearningNodeClient.run(any(MLInput.class), any()))
+        .thenAnswer(
+            invocation -> {
+              MLInput mlInput = invocation.getArgument(0);
+              int batchSize =
+                  ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame().size();
+              PlainActionFuture<MLOutput> future = PlainActionFuture.newFuture();
+              future.onResponse(
+                  MLPredictionOutput.builder()
+                      .taskId("test_task_id")
+                      .status("test_status")
+                      .predictionResult(
+                          DataFrameBuilder.load(
+                              Collections.nCopies(batchSize, Map.<String, Object>of("result", 1))))
+                      .build());
+              return future;
+            });
+
+    try (MockedStatic<MLClient> mlClientMockedStatic = Mockito.mockStatic(MLClient.class)) {
+      when(MLClient.getMLClient(any(NodeClient.class))).thenReturn(machineLearningNodeClient);
+      mlOperator.open();
+      int results = 0;
+      while (mlOperator.hasNext()) {
+        assertNotNull(mlOperator.next());
+        results++;
+      }
+      assertEquals(rows, results);
+      verify(machineLearningNodeClient, times(2)).run(any(MLInput.class), any());
+    }
+  }
+
   @Test
   public void testOpenTrain() {
     setUpTrain();
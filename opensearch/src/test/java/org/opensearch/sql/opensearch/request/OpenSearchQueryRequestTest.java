@@ -21,9 +21,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.Version;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -68,7 +70,6 @@ public class OpenSearchQueryRequestTest {
   @Mock private StreamOutput streamOutput;
   @Mock private StreamInput streamInput;
   @Mock private OpenSearchStorageEngine engine;
-  @Mock private PointInTimeBuilder pointInTimeBuilder;
 
   private OpenSearchQueryRequest serializationRequest;
 
@@ -77,15 +78,15 @@ public class OpenSearchQueryRequestTest {
   @BeforeEach
   void setup() {
     sourceBuilderForSerializer = new SearchSourceBuilder();
-    sourceBuilderForSerializer.pointInTimeBuilder(pointInTimeBuilder);
+    sourceBuilderForSerializer.pointInTimeBuilder(new PointInTimeBuilder("samplePITId"));
     sourceBuilderForSerializer.timeout(TimeValue.timeValueSeconds(30));
   }
 
   @SneakyThrows
   @Test
   void testWriteTo() throws IOException {
-    when(pointInTimeBuilder.getId()).thenReturn("samplePITId");
     sourceBuilderForSerializer.searchAfter(new Object[] {"value1", 123});
+    sourceBuilderForSerializer.query(QueryBuilders.termQuery("name", "John"));
     List<String> includes = List.of("field1", "field2");
     serializationRequest =
         new OpenSearchQueryRequest(
@@ -100,24 +101,21 @@ public class OpenSearchQueryRequestTest {
     searchAfterField.setAccessible(true);
     searchAfterField.set(serializationRequest, new Object[] {"value1", 123});
 
-    serializationRequest.writeTo(streamOutput);
-
-    String expectedJson = "{\"timeout\":\"30s\",\"search_after\":[\"value1\",123]}";
-    verify(streamOutput).writeString(expectedJson);
-    verify(streamOutput).writeTimeValue(TimeValue.timeValueSeconds(30));
-    verify(streamOutput).writeString("samplePITId");
-    verify(streamOutput).writeStringCollection(includes);
-
-    verify(streamOutput).writeVInt(2);
-    verify(streamOutput).writeGenericValue("value1");
-    verify(streamOutput).writeGenericValue(123);
+    BytesStreamOutput output = new BytesStreamOutput();
+    serializationRequest.writeTo(output);
+
+    when(engine.getTable(null, "test")).thenReturn(mock(OpenSearchIndex.class));
+    OpenSearchQueryRequest deserialized =
+        new OpenSearchQueryRequest(output.bytes().streamInput(), engine);
+    assertEquals(sourceBuilderForSerializer, deserialized.getSourceBuilder());
+    assertEquals(TimeValue.timeValueSeconds(30), deserialized.getCursorKeepAlive());
+    assertEquals("samplePITId", deserialized.getPitId());
+    assertEquals(includes, deserialized.getIncludes());
+    assertArrayEquals(new Object[] {"value1", 123}, deserialized.getSearchAfter());
   }
 
   @Test
-  void testWriteToWithoutSearchAfter()
-      throws IOException, NoSuchFieldException, IllegalAccessException {
-    when(pointInTimeBuilder.getId()).thenReturn("samplePITId");
-
+  void testWriteToWithoutSearchAfter() throws IOException {
     List<String> includes = List.of("field1", "field2");
     serializationRequest =
         new OpenSearchQueryRequest(
@@ -128,13 +126,39 @@ public class OpenSearchQueryRequestTest {
             new TimeValue(1000),
             "samplePITId");
 
-    serializationRequest.writeTo(streamOutput);
-    verify(streamOutput).writeString("{\"timeout\":\"30s\"}");
-    verify(streamOutput).writeTimeValue(TimeValue.timeValueSeconds(30));
-    verify(streamOutput).writeString("samplePITId");
-    verify(streamOutput).writeStringCollection(includes);
-    verify(streamOutput, never()).writeVInt(anyInt());
-    verify(streamOutput, never()).writeGenericValue(any());
+    BytesStreamOutput output = new BytesStreamOutput();
+    serializationRequest.writeTo(output);
+
+    StreamInput input = output.bytes().streamInput();
+    assertEquals(Version.CURRENT, Version.readVersion(input));
+    assertEquals(sourceBuilderForSerializer, new SearchSourceBuilder(input));
+    assertEquals(TimeValue.timeValueSeconds(30), input.readTimeValue());
+    assertEquals("samplePITId", input.readString());
+    assertEquals(includes, input.readStringList());
+    assertArrayEquals(new String[] {"test"}, input.readStringArray());
+    assertEquals(0, input.available());
+  }
+
+  @Test
+  void testReadSourceWrittenForOtherVersion() throws IOException {
+    serializationRequest =
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            sourceBuilderForSerializer,
+            factory,
+            List.of("field1"),
+            new TimeValue(1000),
+            "samplePITId");
+
+    BytesStreamOutput output = new BytesStreamOutput();
+    output.setVersion(Version.CURRENT.minimumCompatibilityVersion());
+    serializationRequest.writeTo(output);
+
+    when(engine.getTable(null, "test")).thenReturn(mock(OpenSearchIndex.class));
+    StreamInput input = output.bytes().streamInput();
+    OpenSearchQueryRequest deserialized = new OpenSearchQueryRequest(input, engine);
+    assertEquals(sourceBuilderForSerializer, deserialized.getSourceBuilder());
+    assertEquals(Version.CURRENT, input.getVersion());
   }
 
   @Test
@@ -450,15 +474,20 @@ public class OpenSearchQueryRequestTest {
 
   @Test
   void constructor_serialized() throws IOException {
-    StreamInput stream = mock(StreamInput.class);
+    BytesStreamOutput output = new BytesStreamOutput();
+    Version.writeVersion(Version.CURRENT, output);
+    new SearchSourceBuilder().writeTo(output);
+    output.writeTimeValue(TimeValue.timeValueSeconds(30));
+    output.writeString("samplePITId");
+    output.writeStringCollection(List.of());
+    output.writeStringArray(new String[] {"sample"});
+    output.writeVInt(2);
+    output.writeGenericValue("sampleSearchAfter");
+    output.writeGenericValue("sampleSearchAfter");
     OpenSearchStorageEngine engine = mock(OpenSearchStorageEngine.class);
-    when(stream.readString()).thenReturn("{}");
-    when(stream.readStringArray()).thenReturn(new String[] {"sample"});
     OpenSearchIndex index = mock(OpenSearchIndex.class);
     when(engine.getTable(null, "sample")).thenReturn(index);
-    when(stream.readVInt()).thenReturn(2);
-    when(stream.readGenericValue()).thenReturn("sampleSearchAfter");
-    OpenSearchQueryRequest request = new OpenSearchQueryRequest(stream, engine);
+    OpenSearchQueryRequest request = new OpenSearchQueryRequest(output.bytes().streamInput(), engine);
     assertNotNull(request);
   }
 
@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -19,10 +21,12 @@ import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUnknownAs;
 import org.apache.calcite.sql.fun.SqlStdOperatorTable;
 import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
 import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.calcite.util.DateString;
+import org.apache.calcite.util.Sarg;
 import org.junit.jupiter.api.Test;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.ExistsQueryBuilder;
@@ -263,6 +267,79 @@ public class PredicateAnalyzerTest {
         result.toString());
   }
 
+  @Test
+  void searchOnRange_generatesRangeQueries() throws ExpressionNotAnalyzableException {
+    Sarg<BigDecimal> sarg =
+        Sarg.of(
+            RexUnknownAs.UNKNOWN,
+            ImmutableRangeSet.of(Range.open(new BigDecimal(12), new BigDecimal(14))));
+    RexNode search =
+        builder.makeCall(
+            SqlStdOperatorTable.SEARCH,
+            field1,
+            builder.makeSearchArgumentLiteral(sarg, field1.getType()));
+    RexNode call =
+        builder.makeCall(
+            SqlStdOperatorTable.AND,
+            search,
+            builder.makeCall(SqlStdOperatorTable.EQUALS, field2, stringLiteral));
+    QueryBuilder result =
+        PredicateAnalyzer.analyze(
+            PredicateAnalyzer.expandRangeSearch(builder, call), schema, fieldTypes);
+
+    assertInstanceOf(BoolQueryBuilder.class, result);
+    assertEquals(
+        """
+            {
+              "bool" : {
+                "filter" : [
+                  {
+                    "range" : {
+                      "a" : {
+                        "from" : 12,
+                        "to" : null,
+                        "include_lower" : false,
+                        "include_upper" : true,
+                        "boost" : 1.0
+                      }
+                    }
+                  },
+                  {
+                    "range" : {
+                      "a" : {
+                        "from" : null,
+                        "to" : 14,
+                        "include_lower" : true,
+                        "include_upper" : false,
+                        "boost" : 1.0
+                      }
+                    }
+                  },
+                  {
+                    "term" : {
+                      "b.keyword" : {
+                        "value" : "Hi",
+                        "boost" : 1.0
+                      }
+                    }
+                  }
+                ],
+                "adjust_pure_negative" : true,
+                "boost" : 1.0
+              }
+            }""",
+        result.toString());
+  }
+
+  @Test
+  void searchOnPoints_isNotExpanded() {
+    RexNode call =
+        builder.makeIn(
+            field1, ImmutableList.of(numericLiteral, builder.makeExactLiteral(new BigDecimal(13))));
+
+    assertEquals(call, PredicateAnalyzer.expandRangeSearch(builder, call));
+  }
+
   @Test
   void contains_generatesMatchQuery() throws ExpressionNotAnalyzableException {
     RexNode call = builder.makeCall(SqlStdOperatorTable.CONTAINS, field2, stringLiteral);
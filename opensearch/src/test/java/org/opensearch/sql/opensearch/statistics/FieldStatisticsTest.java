@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+class FieldStatisticsTest {
+
+  @Test
+  void searchIsBoundedByTimeout() {
+    SearchSourceBuilder source = FieldStatistics.searchSource("age", true);
+
+    assertEquals(FieldStatistics.TIMEOUT, source.timeout());
+    assertEquals(0, source.size());
+  }
+
+  @Test
+  void timedOutSearchHasNoStatistics() {
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.isTimedOut()).thenReturn(true);
+
+    assertThrows(IllegalStateException.class, () -> FieldStatistics.of(response));
+  }
+
+  @Test
+  void distinctCountOfAllDocumentsIsKept() {
+    assertEquals(20, FieldStatistics.estimateDistinctCount(20, 1000, 1000));
+    assertEquals(0, FieldStatistics.estimateDistinctCount(0, 0, 1000));
+  }
+
+  @Test
+  void distinctCountOfSampleIsScaledByItsShareOfDistinctValues() {
+    // few values keep about their count
+    assertEquals(10, FieldStatistics.estimateDistinctCount(10, 10_000, 1_000_000));
+    assertEquals(50_000, FieldStatistics.estimateDistinctCount(5_000, 10_000, 1_000_000));
+    // unique values are scaled up to the number of documents
+    assertEquals(1_000_000, FieldStatistics.estimateDistinctCount(10_000, 10_000, 1_000_000));
+    assertEquals(1_000_000, FieldStatistics.estimateDistinctCount(10_100, 10_000, 1_000_000));
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+@ExtendWith(MockitoExtension.class)
+class IndexStatisticsTest {
+
+  private static final OpenSearchRequest.IndexName INDEX =
+      new OpenSearchRequest.IndexName("logs-1,logs-2");
+
+  @Mock private OpenSearchClient client;
+
+  @Test
+  void docCountIsCached() {
+    when(client.getIndexDocCount("logs-1", "logs-2")).thenReturn(42L);
+    IndexStatistics statistics = new IndexStatistics(client);
+
+    assertEquals(Optional.of(42L), statistics.docCount(INDEX));
+    assertEquals(Optional.of(42L), statistics.docCount(INDEX));
+    verify(client, times(1)).getIndexDocCount("logs-1", "logs-2");
+  }
+
+  @Test
+  void fieldStatisticsAreCachedPerField() {
+    FieldStatistics age = new FieldStatistics(50, 1.0, 99.0);
+    FieldStatistics name = new FieldStatistics(1000, null, null);
+    when(client.getFieldStatistics("age", true, "logs-1", "logs-2")).thenReturn(age);
+    when(client.getFieldStatistics("name", false, "logs-1", "logs-2")).thenReturn(name);
+    IndexStatistics statistics = new IndexStatistics(client);
+
+    assertEquals(Optional.of(age), statistics.fieldStatistics(INDEX, "age", true));
+    assertEquals(Optional.of(name), statistics.fieldStatistics(INDEX, "name", false));
+    assertEquals(Optional.of(age), statistics.fieldStatistics(INDEX, "age", true));
+    verify(client, times(1)).getFieldStatistics("age", true, "logs-1", "logs-2");
+  }
+
+  @Test
+  void failureIsCachedAsUnknown() {
+    when(client.getFieldStatistics("message", false, "logs-1", "logs-2"))
+        .thenThrow(new IllegalStateException("Failed to read statistics of field [message]"));
+    IndexStatistics statistics = new IndexStatistics(client);
+
+    assertEquals(Optional.empty(), statistics.fieldStatistics(INDEX, "message", false));
+    assertEquals(Optional.empty(), statistics.fieldStatistics(INDEX, "message", false));
+    verify(client, times(1)).getFieldStatistics("message", false, "logs-1", "logs-2");
+  }
+}
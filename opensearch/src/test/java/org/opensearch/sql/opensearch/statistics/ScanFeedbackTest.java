@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.setting.Settings;
+
+@ExtendWith(MockitoExtension.class)
+class ScanFeedbackTest {
+
+  private static final String SHAPE = "logs/[FILTER->=($0, 200)]";
+
+  @Mock private Settings settings;
+
+  @Test
+  void statisticsAreAveragedPerShape() {
+    when(settings.getSettingValue(Settings.Key.CALCITE_PUSHDOWN_FEEDBACK_ENABLED)).thenReturn(true);
+    ScanFeedback feedback = new ScanFeedback(settings);
+
+    feedback.record(SHAPE, ScanStatistics.of(100, 1000, 10, 1));
+    feedback.record(SHAPE, ScanStatistics.of(300, 3000, 30, 3));
+
+    assertEquals(Optional.of(new ScanStatistics(2, 200, 2000, 20, 2)), feedback.get(SHAPE));
+    assertEquals(Optional.empty(), feedback.get("logs/[]"));
+  }
+
+  @Test
+  void recentExecutionsWeighMore() {
+    ScanStatistics statistics = ScanStatistics.of(0, 0, 0, 1);
+    for (int i = 0; i < 100; i++) {
+      statistics = statistics.merge(ScanStatistics.of(0, 0, 0, 1));
+    }
+
+    ScanStatistics merged = statistics.merge(ScanStatistics.of(800, 0, 0, 1));
+
+    assertEquals(102, merged.executions());
+    assertEquals(100, merged.rows());
+  }
+
+  @Test
+  void noFeedbackIfDisabled() {
+    when(settings.getSettingValue(Settings.Key.CALCITE_PUSHDOWN_FEEDBACK_ENABLED))
+        .thenReturn(false);
+    ScanFeedback feedback = new ScanFeedback(settings);
+
+    feedback.record(SHAPE, ScanStatistics.of(100, 1000, 10, 1));
+
+    assertEquals(Optional.empty(), feedback.get(SHAPE));
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTORY;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.Test;
+
+class SelectivityEstimatorTest {
+
+  private static final double DELTA = 1e-9;
+
+  private final RexBuilder rexBuilder = new RexBuilder(TYPE_FACTORY);
+
+  /** Field 0 has 10 distinct values between 0 and 100, field 1 has no statistics. */
+  private final IntFunction<Optional<FieldStatistics>> statistics =
+      index -> Optional.ofNullable(Map.of(0, new FieldStatistics(10, 0.0, 100.0)).get(index));
+
+  @Test
+  void equalitySelectsOneDistinctValue() {
+    assertEquals(0.1, estimate(compare(SqlStdOperatorTable.EQUALS, 0, 5)), DELTA);
+  }
+
+  @Test
+  void rangeSelectsFractionOfMinMax() {
+    assertEquals(0.25, estimate(compare(SqlStdOperatorTable.LESS_THAN, 0, 25)), DELTA);
+    assertEquals(0.75, estimate(compare(SqlStdOperatorTable.GREATER_THAN, 0, 25)), DELTA);
+    assertEquals(0.0, estimate(compare(SqlStdOperatorTable.GREATER_THAN, 0, 200)), DELTA);
+  }
+
+  @Test
+  void literalOnTheLeftIsSwapped() {
+    RexNode condition =
+        rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, literal(25), field(0));
+    assertEquals(0.25, estimate(condition), DELTA);
+  }
+
+  @Test
+  void combineConjunctionAndDisjunction() {
+    RexNode equal = compare(SqlStdOperatorTable.EQUALS, 0, 5);
+    RexNode less = compare(SqlStdOperatorTable.LESS_THAN, 0, 50);
+    assertEquals(0.05, estimate(rexBuilder.makeCall(SqlStdOperatorTable.AND, equal, less)), DELTA);
+    assertEquals(0.55, estimate(rexBuilder.makeCall(SqlStdOperatorTable.OR, equal, less)), DELTA);
+    assertEquals(0.9, estimate(rexBuilder.makeCall(SqlStdOperatorTable.NOT, equal)), DELTA);
+  }
+
+  @Test
+  void fallBackToGuessWithoutStatistics() {
+    RexNode condition = compare(SqlStdOperatorTable.EQUALS, 1, 5);
+    assertEquals(RelMdUtil.guessSelectivity(condition), estimate(condition), DELTA);
+  }
+
+  private double estimate(RexNode condition) {
+    return SelectivityEstimator.estimate(condition, statistics);
+  }
+
+  private RexNode compare(SqlOperator operator, int field, int value) {
+    return rexBuilder.makeCall(operator, field(field), literal(value));
+  }
+
+  private RexNode field(int index) {
+    return rexBuilder.makeInputRef(TYPE_FACTORY.createSqlType(SqlTypeName.INTEGER), index);
+  }
+
+  private RexNode literal(int value) {
+    return rexBuilder.makeExactLiteral(BigDecimal.valueOf(value));
+  }
+}
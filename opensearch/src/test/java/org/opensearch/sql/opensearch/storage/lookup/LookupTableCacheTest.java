@@ -0,0 +1,172 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.lookup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.ExprValueSizeEstimator;
+import org.opensearch.sql.monitor.MemoryTracker;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+@ExtendWith(MockitoExtension.class)
+class LookupTableCacheTest {
+
+  private static final OpenSearchRequest.IndexName INDEX =
+      new OpenSearchRequest.IndexName("hosts");
+
+  private static final List<Object> ROWS =
+      List.of(new Object[] {"host-1", "us"}, new Object[] {"host-2", "eu"});
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private Settings settings;
+
+  private LookupTableCache cache;
+
+  private final AtomicInteger scans = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    cache = new LookupTableCache(client, settings);
+  }
+
+  @Test
+  void unchangedTableIsReadOnce() {
+    maxRows(10);
+    when(client.getIndexVersion("hosts")).thenReturn(new IndexVersion(2, 5, 9));
+
+    assertEquals(ROWS, cache.scan(INDEX, "key", scan()).toList());
+    assertEquals(ROWS, cache.scan(INDEX, "key", scan()).toList());
+    assertEquals(1, scans.get());
+  }
+
+  @Test
+  void changedTableIsReadAgain() {
+    maxRows(10);
+    when(client.getIndexVersion("hosts"))
+        .thenReturn(new IndexVersion(2, 5, 9), new IndexVersion(2, 6, 10));
+
+    cache.scan(INDEX, "key", scan()).toList();
+    cache.scan(INDEX, "key", scan()).toList();
+    assertEquals(2, scans.get());
+  }
+
+  @Test
+  void rowsAreCachedPerKey() {
+    maxRows(10);
+    when(client.getIndexVersion("hosts")).thenReturn(new IndexVersion(2, 5, 9));
+
+    cache.scan(INDEX, "[host, region]", scan()).toList();
+    cache.scan(INDEX, "[host]", scan()).toList();
+    assertEquals(2, scans.get());
+  }
+
+  @Test
+  void largeTableIsNotCached() {
+    maxRows(1);
+    when(client.getIndexVersion("hosts")).thenReturn(new IndexVersion(2, 5, 9));
+
+    assertEquals(ROWS, cache.scan(INDEX, "key", scan()).toList());
+    assertEquals(ROWS, cache.scan(INDEX, "key", scan()).toList());
+    assertEquals(2, scans.get());
+  }
+
+  @Test
+  void disabledCacheDoesNotReadVersion() {
+    maxRows(0);
+
+    cache.scan(INDEX, "key", scan()).toList();
+    verify(client, never()).getIndexVersion("hosts");
+  }
+
+  @Test
+  void failureToReadVersionFallsBackToScan() {
+    maxRows(10);
+    when(client.getIndexVersion("hosts")).thenThrow(new IllegalStateException("no seq_no"));
+
+    assertEquals(ROWS, cache.scan(INDEX, "key", scan()).toList());
+    assertEquals(ROWS, cache.scan(INDEX, "key", scan()).toList());
+    assertEquals(2, scans.get());
+  }
+
+  @Test
+  void rowsAreCachedPerSecurityContext() {
+    maxRows(10);
+    when(client.getIndexVersion("hosts")).thenReturn(new IndexVersion(2, 5, 9));
+    when(client.getSecurityContext())
+        .thenReturn(Optional.of("alice||all_access|"), Optional.of("bob||region_us|"));
+
+    cache.scan(INDEX, "key", scan()).toList();
+    cache.scan(INDEX, "key", scan()).toList();
+    assertEquals(2, scans.get());
+  }
+
+  @Test
+  void cachedRowsAreReservedUntilEvicted() {
+    MemoryTracker memoryTracker = mock(MemoryTracker.class);
+    cache = new LookupTableCache(client, settings, memoryTracker);
+    maxRows(10);
+    when(client.getIndexVersion("hosts"))
+        .thenReturn(new IndexVersion(2, 5, 9), new IndexVersion(2, 6, 10));
+    long bytes = ROWS.stream().mapToLong(ExprValueSizeEstimator::estimateRow).sum();
+
+    cache.scan(INDEX, "key", scan()).toList();
+    verify(memoryTracker).reserve(bytes, "lookup_table");
+    cache.scan(INDEX, "key", scan()).toList();
+    verify(memoryTracker).release(bytes);
+  }
+
+  @Test
+  void tableIsNotCachedWithoutMemory() {
+    MemoryTracker memoryTracker = mock(MemoryTracker.class);
+    doThrow(new IllegalStateException("breaker"))
+        .when(memoryTracker)
+        .reserve(anyLong(), eq("lookup_table"));
+    cache = new LookupTableCache(client, settings, memoryTracker);
+    maxRows(10);
+    when(client.getIndexVersion("hosts")).thenReturn(new IndexVersion(2, 5, 9));
+
+    assertEquals(ROWS, cache.scan(INDEX, "key", scan()).toList());
+    assertEquals(ROWS, cache.scan(INDEX, "key", scan()).toList());
+    assertEquals(2, scans.get());
+  }
+
+  private void maxRows(int maxRows) {
+    when(settings.getSettingValue(Settings.Key.CALCITE_LOOKUP_CACHE_MAX_ROWS)).thenReturn(maxRows);
+  }
+
+  /** Scan of the table counting how many times it is read. */
+  private Enumerable<Object> scan() {
+    return new AbstractEnumerable<>() {
+      @Override
+      public Enumerator<Object> enumerator() {
+        scans.incrementAndGet();
+        return Linq4j.enumerator(ROWS);
+      }
+    };
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.monitor.ResourceMonitor;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.ScanStatistics;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchIndexEnumeratorTest {
+
+  @Mock private OpenSearchClient client;
+
+  @Mock private OpenSearchRequest request;
+
+  @Mock private ResourceMonitor monitor;
+
+  @Mock private OpenSearchResponse page;
+
+  @Mock private OpenSearchResponse lastPage;
+
+  @Mock private Consumer<ScanStatistics> feedback;
+
+  @BeforeEach
+  void setUp() {
+    List<ExprValue> rows =
+        List.of(
+            ExprValueUtils.tupleValue(Map.of("name", "a")),
+            ExprValueUtils.tupleValue(Map.of("name", "b")));
+    when(monitor.isHealthy()).thenReturn(true);
+    when(client.search(request)).thenReturn(page, lastPage);
+    when(page.isEmpty()).thenReturn(false);
+    when(page.iterator()).thenReturn(rows.iterator());
+    when(page.getSourceBytes()).thenReturn(100L);
+    when(page.getTookMillis()).thenReturn(5L);
+  }
+
+  @Test
+  void recordStatisticsOnceAllRowsAreRead() {
+    when(lastPage.isEmpty()).thenReturn(true);
+    when(lastPage.getTookMillis()).thenReturn(1L);
+    OpenSearchIndexEnumerator enumerator =
+        new OpenSearchIndexEnumerator(client, List.of("name"), 10, request, monitor, feedback);
+
+    assertTrue(enumerator.moveNext());
+    assertTrue(enumerator.moveNext());
+    verifyNoInteractions(feedback);
+    assertFalse(enumerator.moveNext());
+    assertFalse(enumerator.moveNext());
+
+    verify(feedback).accept(ScanStatistics.of(2, 100, 6, 2));
+  }
+
+  @Test
+  void noStatisticsOfScanStoppedAtMaxResponseSize() {
+    OpenSearchIndexEnumerator enumerator =
+        new OpenSearchIndexEnumerator(client, List.of("name"), 1, request, monitor, feedback);
+
+    assertTrue(enumerator.moveNext());
+    assertFalse(enumerator.moveNext());
+
+    verifyNoInteractions(feedback);
+  }
+
+  @Test
+  void noStatisticsOfScanClosedEarly() {
+    OpenSearchIndexEnumerator enumerator =
+        new OpenSearchIndexEnumerator(client, List.of("name"), 10, request, monitor, feedback);
+
+    assertTrue(enumerator.moveNext());
+    enumerator.close();
+
+    verifyNoInteractions(feedback);
+    verify(client).cleanup(request);
+  }
+}
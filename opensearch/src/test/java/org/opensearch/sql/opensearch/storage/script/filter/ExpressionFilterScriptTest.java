@@ -9,10 +9,14 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
@@ -25,6 +29,7 @@ import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableMap;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -155,6 +160,24 @@ class ExpressionFilterScriptTest {
         .shouldMatch();
   }
 
+  @Test
+  void can_execute_expression_on_every_document_of_leaf() {
+    List<Long> ages = new ArrayList<>(List.of(30L));
+    LeafDocLookup leafDocLookup = mock(LeafDocLookup.class);
+    when(leafDocLookup.get("age")).thenReturn(new FakeScriptDocValues<>(ages));
+    when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+    when(leafLookup.doc()).thenReturn(leafDocLookup);
+
+    ExpressionFilterScript script =
+        new ExpressionFilterScript(
+            DSL.greater(ref("age", INTEGER), literal(20)), lookup, context, emptyMap());
+    assertTrue(script.execute());
+    ages.set(0, 10L);
+    assertFalse(script.execute());
+
+    verify(leafLookup, times(1)).doc();
+  }
+
   @Test
   void cannot_execute_non_predicate_expression() {
     assertThrow(
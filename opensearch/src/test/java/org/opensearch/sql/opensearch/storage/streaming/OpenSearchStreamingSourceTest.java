@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.sql.executor.streaming.Batch;
+import org.opensearch.sql.executor.streaming.Offset;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.statistics.FieldStatistics;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchStreamingSourceTest {
+
+  private static final String TIME_FIELD = "@timestamp";
+
+  @Mock private OpenSearchClient client;
+
+  private OpenSearchStreamingSource source;
+
+  @BeforeEach
+  void setUp() {
+    source =
+        new OpenSearchStreamingSource(
+            client, new OpenSearchRequest.IndexName("logs"), TIME_FIELD, 1000L);
+  }
+
+  @Test
+  void latest_offset_is_latest_timestamp_less_delay() {
+    when(client.getFieldStatistics(TIME_FIELD, true, "logs"))
+        .thenReturn(new FieldStatistics(10, 0.0, 5000.0));
+
+    assertEquals(Optional.of(new Offset(4000L)), source.getLatestOffset());
+  }
+
+  @Test
+  void no_offset_of_empty_index() {
+    when(client.getFieldStatistics(TIME_FIELD, true, "logs"))
+        .thenReturn(new FieldStatistics(0, null, null));
+
+    assertEquals(Optional.empty(), source.getLatestOffset());
+  }
+
+  @Test
+  void batch_reads_documents_after_start_offset() {
+    Batch batch = source.getBatch(Optional.of(new Offset(1000L)), new Offset(4000L));
+
+    OpenSearchTimeRangeSplit split = (OpenSearchTimeRangeSplit) batch.getSplit();
+    assertEquals(new OpenSearchTimeRangeSplit(TIME_FIELD, 1000L, 4000L), split);
+    assertEquals(
+        QueryBuilders.boolQuery()
+            .filter(
+                QueryBuilders.rangeQuery(TIME_FIELD).gt(1000L).lte(4000L).format("epoch_millis"))
+            .must(QueryBuilders.termQuery("status", 500)),
+        split.filter(QueryBuilders.termQuery("status", 500)));
+  }
+
+  @Test
+  void first_batch_reads_documents_until_end_offset() {
+    OpenSearchTimeRangeSplit split =
+        (OpenSearchTimeRangeSplit) source.getBatch(Optional.empty(), new Offset(4000L)).getSplit();
+
+    assertEquals(
+        QueryBuilders.boolQuery()
+            .filter(QueryBuilders.rangeQuery(TIME_FIELD).lte(4000L).format("epoch_millis")),
+        split.filter(null));
+  }
+}
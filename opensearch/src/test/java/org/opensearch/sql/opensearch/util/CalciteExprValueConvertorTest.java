@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.calcite.utils.OpenSearchTypeFactory.TYPE_FACTORY;
+import static org.opensearch.sql.opensearch.util.CalciteExprValueConvertor.getExprValueConvertor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+class CalciteExprValueConvertorTest {
+
+  @Test
+  void convertNumbers() {
+    assertEquals(ExprValueUtils.integerValue(1), convert(SqlTypeName.INTEGER, 1));
+    assertEquals(ExprValueUtils.longValue(1L), convert(SqlTypeName.BIGINT, 1L));
+    assertEquals(ExprValueUtils.floatValue(1.5f), convert(SqlTypeName.REAL, 1.5f));
+    assertEquals(ExprValueUtils.doubleValue(1.5), convert(SqlTypeName.DOUBLE, 1.5));
+    assertEquals(
+        ExprValueUtils.doubleValue(1.5), convert(SqlTypeName.DECIMAL, new BigDecimal("1.5")));
+    assertEquals(ExprNullValue.of(), convert(SqlTypeName.DOUBLE, Double.NaN));
+  }
+
+  @Test
+  void convertStringAndBoolean() {
+    assertEquals(ExprValueUtils.stringValue("a"), convert(SqlTypeName.VARCHAR, "a"));
+    assertEquals(ExprValueUtils.booleanValue(true), convert(SqlTypeName.BOOLEAN, true));
+  }
+
+  @Test
+  void convertDatetimeFromInternalRepresentation() {
+    assertEquals(
+        ExprValueUtils.dateValue(LocalDate.of(2024, 1, 2)),
+        convert(SqlTypeName.DATE, (int) LocalDate.of(2024, 1, 2).toEpochDay()));
+    assertEquals(
+        ExprValueUtils.timeValue(LocalTime.of(10, 20, 30)),
+        convert(SqlTypeName.TIME, LocalTime.of(10, 20, 30).toSecondOfDay() * 1000));
+    assertEquals(
+        ExprValueUtils.timestampValue(Instant.parse("2024-01-02T10:20:30Z")),
+        convert(SqlTypeName.TIMESTAMP, Instant.parse("2024-01-02T10:20:30Z").toEpochMilli()));
+  }
+
+  @Test
+  void convertArray() {
+    ExprValue value =
+        getExprValueConvertor(
+                TYPE_FACTORY.createArrayType(TYPE_FACTORY.createSqlType(SqlTypeName.INTEGER), -1))
+            .apply(List.of(1, 2));
+    assertEquals(ExprValueUtils.collectionValue(List.<Object>of(1, 2)), value);
+  }
+
+  @Test
+  void convertNull() {
+    assertSame(ExprNullValue.of(), convert(SqlTypeName.INTEGER, null));
+  }
+
+  private ExprValue convert(SqlTypeName type, Object value) {
+    return getExprValueConvertor(TYPE_FACTORY.createSqlType(type)).apply(value);
+  }
+}
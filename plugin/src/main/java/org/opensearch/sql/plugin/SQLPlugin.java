@@ -35,15 +35,18 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.indices.SystemIndexDescriptor;
+import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.jobscheduler.spi.JobSchedulerExtension;
 import org.opensearch.jobscheduler.spi.ScheduledJobParser;
 import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
 import org.opensearch.plugins.ActionPlugin;
+import org.opensearch.plugins.CircuitBreakerPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.ScriptPlugin;
 import org.opensearch.plugins.SystemIndexPlugin;
@@ -61,7 +64,7 @@ import org.opensearch.sql.datasources.glue.GlueDataSourceFactory;
 import org.opensearch.sql.datasources.glue.SecurityLakeDataSourceFactory;
 import org.opensearch.sql.datasources.model.transport.*;
 import org.opensearch.sql.datasources.rest.RestDataSourceQueryAction;
-import org.opensearch.sql.datasources.service.DataSourceMetadataStorage;
+import org.opensearch.sql.datasources.service.CachedDataSourceMetadataStorage;
 import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
 import org.opensearch.sql.datasources.storage.OpenSearchDataSourceMetadataStorage;
 import org.opensearch.sql.datasources.transport.TransportCreateDataSourceAction;
@@ -69,12 +72,15 @@ import org.opensearch.sql.datasources.transport.TransportDeleteDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportGetDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportPatchDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportUpdateDataSourceAction;
+import org.opensearch.sql.expression.codegen.ExpressionCompiler;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
 import org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine;
@@ -111,7 +117,11 @@ import org.opensearch.transport.client.node.NodeClient;
 import org.opensearch.watcher.ResourceWatcherService;
 
 public class SQLPlugin extends Plugin
-    implements ActionPlugin, ScriptPlugin, SystemIndexPlugin, JobSchedulerExtension {
+    implements ActionPlugin,
+        ScriptPlugin,
+        SystemIndexPlugin,
+        JobSchedulerExtension,
+        CircuitBreakerPlugin {
 
   private static final Logger LOGGER = LogManager.getLogger(SQLPlugin.class);
 
@@ -125,6 +135,19 @@ public class SQLPlugin extends Plugin
   private OpenSearchAsyncQueryScheduler asyncQueryScheduler;
   private Injector injector;
 
+  /** Breaker accounting the memory buffered by queries, set before the components are created. */
+  private CircuitBreaker memoryBreaker;
+
+  /**
+   * Compiler of expressions, shared by the script engine, which is created before the settings.
+   */
+  private final ExpressionCompiler expressionCompiler =
+      new ExpressionCompiler(
+          () ->
+              pluginSettings != null
+                  && pluginSettings.<Boolean>getSettingValue(
+                      org.opensearch.sql.common.setting.Settings.Key.EXPRESSION_COMPILE_ENABLED));
+
   public String name() {
     return "sql";
   }
@@ -226,6 +249,9 @@ public class SQLPlugin extends Plugin
           b.bind(org.opensearch.sql.common.setting.Settings.class).toInstance(pluginSettings);
           b.bind(DataSourceService.class).toInstance(dataSourceService);
           b.bind(ClusterService.class).toInstance(clusterService);
+          b.bind(ExpressionCompiler.class).toInstance(expressionCompiler);
+          b.bind(OpenSearchMemoryBreaker.class)
+              .toInstance(new OpenSearchMemoryBreaker(memoryBreaker));
         });
     modules.add(new AsyncExecutorServiceModule());
     injector = modules.createInjector();
@@ -291,9 +317,31 @@ public class SQLPlugin extends Plugin
         .build();
   }
 
+  @Override
+  public BreakerSettings getCircuitBreaker(Settings settings) {
+    return new BreakerSettings(
+        OpenSearchMemoryBreaker.NAME,
+        OpenSearchSettings.QUERY_MEMORY_BREAKER_LIMIT_SETTING.get(settings).getBytes(),
+        1.0,
+        CircuitBreaker.Type.MEMORY,
+        CircuitBreaker.Durability.TRANSIENT);
+  }
+
+  @Override
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.memoryBreaker = circuitBreaker;
+  }
+
   @Override
   public ScriptEngine getScriptEngine(Settings settings, Collection<ScriptContext<?>> contexts) {
-    return new ExpressionScriptEngine(new DefaultExpressionSerializer());
+    return new ExpressionScriptEngine(new DefaultExpressionSerializer(), expressionCompiler);
+  }
+
+  /** Tracker of the memory held by the node, e.g. by caches, on the sql circuit breaker. */
+  private MemoryTracker newNodeMemoryTracker() {
+    return memoryBreaker == null
+        ? MemoryTracker.NO_OP
+        : new OpenSearchMemoryBreaker(memoryBreaker).newNodeTracker();
   }
 
   private DataSourceServiceImpl createDataSourceService() {
@@ -308,20 +356,21 @@ public class SQLPlugin extends Plugin
               + "https://github.com/opensearch-project/sql/blob/main/docs/user/ppl/"
               + "admin/datasources.rst#master-key-config-for-encrypting-credential-information");
     }
-    DataSourceMetadataStorage dataSourceMetadataStorage =
-        new OpenSearchDataSourceMetadataStorage(
-            client,
-            clusterService,
-            new EncryptorImpl(masterKey),
-            (OpenSearchSettings) pluginSettings);
+    CachedDataSourceMetadataStorage dataSourceMetadataStorage =
+        new CachedDataSourceMetadataStorage(
+            new OpenSearchDataSourceMetadataStorage(
+                client,
+                clusterService,
+                new EncryptorImpl(masterKey),
+                (OpenSearchSettings) pluginSettings));
     DataSourceUserAuthorizationHelper dataSourceUserAuthorizationHelper =
         new DataSourceUserAuthorizationHelperImpl(client);
     return new DataSourceServiceImpl(
         new ImmutableSet.Builder<DataSourceFactory>()
             .add(
                 new OpenSearchDataSourceFactory(
-                    new OpenSearchNodeClient(this.client), pluginSettings))
-            .add(new PrometheusStorageFactory(pluginSettings))
+                    new OpenSearchNodeClient(this.client), pluginSettings, newNodeMemoryTracker()))
+            .add(new PrometheusStorageFactory(pluginSettings, newNodeMemoryTracker()))
             .add(new GlueDataSourceFactory(pluginSettings))
             .add(new SecurityLakeDataSourceFactory(pluginSettings))
             .build(),
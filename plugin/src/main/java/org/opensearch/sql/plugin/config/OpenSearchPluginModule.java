@@ -18,14 +18,18 @@ import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.QueryService;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.expression.codegen.ExpressionCompiler;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.executor.CalciteCursorRegistry;
 import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
 import org.opensearch.sql.opensearch.executor.OpenSearchQueryManager;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryBreaker;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
@@ -59,8 +63,26 @@ public class OpenSearchPluginModule extends AbstractModule {
 
   @Provides
   public ExecutionEngine executionEngine(
-      OpenSearchClient client, ExecutionProtector protector, PlanSerializer planSerializer) {
-    return new OpenSearchExecutionEngine(client, protector, planSerializer);
+      OpenSearchClient client,
+      ExecutionProtector protector,
+      PlanSerializer planSerializer,
+      OpenSearchMemoryBreaker memoryBreaker,
+      CalciteCursorRegistry cursorRegistry) {
+    return new OpenSearchExecutionEngine(
+        client, protector, planSerializer, memoryBreaker, cursorRegistry);
+  }
+
+  @Provides
+  @Singleton
+  public CalciteCursorRegistry cursorRegistry(NodeClient nodeClient, Settings settings) {
+    CalciteCursorRegistry cursorRegistry = new CalciteCursorRegistry(settings);
+    nodeClient
+        .threadPool()
+        .scheduleWithFixedDelay(
+            cursorRegistry::closeExpired,
+            CalciteCursorRegistry.REAP_INTERVAL,
+            AsyncRestExecutor.SQL_WORKER_THREAD_POOL_NAME);
+    return cursorRegistry;
   }
 
   @Provides
@@ -69,8 +91,9 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public ExecutionProtector protector(ResourceMonitor resourceMonitor) {
-    return new OpenSearchExecutionProtector(resourceMonitor);
+  public ExecutionProtector protector(
+      ResourceMonitor resourceMonitor, ExpressionCompiler expressionCompiler) {
+    return new OpenSearchExecutionProtector(resourceMonitor, expressionCompiler);
   }
 
   @Provides
@@ -18,6 +18,7 @@ import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 public class PPLQueryRequestFactory {
   private static final String PPL_URL_PARAM_KEY = "ppl";
   private static final String PPL_FIELD_NAME = "query";
+  private static final String PPL_CURSOR_FIELD_NAME = "cursor";
   private static final String QUERY_PARAMS_FORMAT = "format";
   private static final String QUERY_PARAMS_SANITIZE = "sanitize";
   private static final String DEFAULT_RESPONSE_FORMAT = "jdbc";
@@ -62,9 +63,14 @@ public class PPLQueryRequestFactory {
     } catch (JSONException e) {
       throw new IllegalArgumentException("Failed to parse request payload", e);
     }
+    // A request fetching the next page by its cursor has no query
+    String ppl =
+        jsonContent.has(PPL_CURSOR_FIELD_NAME)
+            ? jsonContent.optString(PPL_FIELD_NAME)
+            : jsonContent.getString(PPL_FIELD_NAME);
     PPLQueryRequest pplRequest =
         new PPLQueryRequest(
-            jsonContent.getString(PPL_FIELD_NAME),
+            ppl,
             jsonContent,
             restRequest.path(),
             format.getFormatName());
@@ -10,6 +10,7 @@ import static org.opensearch.core.rest.RestStatus.INTERNAL_SERVER_ERROR;
 import static org.opensearch.core.rest.RestStatus.OK;
 
 import com.google.common.collect.ImmutableList;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.IndexNotFoundException;
@@ -93,7 +95,11 @@ public class RestPPLQueryAction extends BaseRestHandler {
             new ActionListener<>() {
               @Override
               public void onResponse(TransportPPLQueryResponse response) {
-                sendResponse(channel, OK, response.getResult());
+                try {
+                  sendResponse(channel, OK, response);
+                } catch (Exception e) {
+                  onFailure(e);
+                }
               }
 
               @Override
@@ -129,8 +135,17 @@ public class RestPPLQueryAction extends BaseRestHandler {
             });
   }
 
-  private void sendResponse(RestChannel channel, RestStatus status, String content) {
-    channel.sendResponse(new BytesRestResponse(status, "application/json; charset=UTF-8", content));
+  /** Write the response content into the channel buffer as it is formatted. */
+  private void sendResponse(
+      RestChannel channel, RestStatus status, TransportPPLQueryResponse response)
+      throws IOException {
+    BytesStreamOutput output = new BytesStreamOutput();
+    response.writeResult(output);
+    String contentType =
+        response.getContentType() != null
+            ? response.getContentType()
+            : "application/json; charset=UTF-8";
+    channel.sendResponse(new BytesRestResponse(status, contentType, output.bytes()));
   }
 
   private void reportError(final RestChannel channel, final Exception e, final RestStatus status) {
@@ -34,6 +34,7 @@ import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
 import org.opensearch.sql.ppl.PPLService;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.ArrowResponseFormatter;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
 import org.opensearch.sql.protocol.response.format.Format;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
@@ -155,18 +156,21 @@ public class TransportPPLQueryAction
       formatter = new RawResponseFormatter();
     } else if (format.equals(Format.VIZ)) {
       formatter = new VisualizationResponseFormatter(pplRequest.style());
+    } else if (format.equals(Format.ARROW)) {
+      formatter = new ArrowResponseFormatter();
     } else {
       formatter = new SimpleJsonResponseFormatter(JsonResponseFormatter.Style.PRETTY);
     }
+    // text formats keep the JSON content type the endpoint has always returned
+    String contentType = format.equals(Format.ARROW) ? formatter.contentType() : null;
 
     return new ResponseListener<ExecutionEngine.QueryResponse>() {
       @Override
       public void onResponse(ExecutionEngine.QueryResponse response) {
-        String responseContent =
-            formatter.format(
-                new QueryResult(
-                    response.getSchema(), response.getResults(), response.getCursor(), PPL_SPEC));
-        listener.onResponse(new TransportPPLQueryResponse(responseContent));
+        QueryResult result =
+            new QueryResult(
+                response.getSchema(), response.getResults(), response.getCursor(), PPL_SPEC);
+        listener.onResponse(new TransportPPLQueryResponse(result, formatter, contentType));
       }
 
       @Override
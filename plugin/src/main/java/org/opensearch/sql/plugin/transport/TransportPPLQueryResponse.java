@@ -8,27 +8,114 @@ package org.opensearch.sql.plugin.transport;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.ResponseFormatter;
 
-@RequiredArgsConstructor
+/**
+ * PPL query response. A response created on the coordinating node may hold the query result and
+ * its formatter instead of the content, so that a REST handler on the same node can write the
+ * formatted rows straight into the channel without building them as a string first.
+ *
+ * <p>The response is serialized as its content type and the bytes of its content, so a binary
+ * content, e.g. an Arrow stream, is transported as is rather than as text.
+ */
 public class TransportPPLQueryResponse extends ActionResponse {
-  @Getter private final String result;
+  private String result;
+
+  /** Bytes of the content, of a response read from a stream. */
+  private final byte[] content;
+
+  private final QueryResult queryResult;
+
+  private final ResponseFormatter<QueryResult> formatter;
+
+  /**
+   * Content type of the result, or null for the default JSON content type. Only binary content has
+   * a content type.
+   */
+  @Getter private final String contentType;
+
+  public TransportPPLQueryResponse(String result) {
+    this.result = result;
+    this.content = null;
+    this.queryResult = null;
+    this.formatter = null;
+    this.contentType = null;
+  }
+
+  /**
+   * Create a response which is formatted when it is written.
+   *
+   * @param queryResult query result
+   * @param formatter formatter of the result
+   * @param contentType content type of the formatted result, or null for the default.
+   */
+  public TransportPPLQueryResponse(
+      QueryResult queryResult, ResponseFormatter<QueryResult> formatter, String contentType) {
+    this.result = null;
+    this.content = null;
+    this.queryResult = queryResult;
+    this.formatter = formatter;
+    this.contentType = contentType;
+  }
 
   public TransportPPLQueryResponse(StreamInput in) throws IOException {
     super(in);
-    result = in.readString();
+    contentType = in.readOptionalString();
+    content = in.readByteArray();
+    result = null;
+    queryResult = null;
+    formatter = null;
+  }
+
+  /**
+   * @return the content, formatted as a string if it has not been yet. Binary content is encoded in
+   *     base64, like by its formatter.
+   */
+  public String getResult() {
+    if (result == null) {
+      if (content == null) {
+        result = formatter.format(queryResult);
+      } else if (contentType == null) {
+        result = new String(content, StandardCharsets.UTF_8);
+      } else {
+        result = Base64.getEncoder().encodeToString(content);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Write the content to the output, streaming it if it has not been formatted as a string.
+   *
+   * @param output output
+   */
+  public void writeResult(OutputStream output) throws IOException {
+    if (content != null) {
+      output.write(content);
+    } else if (result != null) {
+      output.write(result.getBytes(StandardCharsets.UTF_8));
+    } else {
+      formatter.format(queryResult, output);
+    }
   }
 
   @Override
   public void writeTo(StreamOutput out) throws IOException {
-    out.writeString(result);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    writeResult(bytes);
+    out.writeOptionalString(contentType);
+    out.writeByteArray(bytes.toByteArray());
   }
 
   public static TransportPPLQueryResponse fromActionResponse(ActionResponse actionResponse) {
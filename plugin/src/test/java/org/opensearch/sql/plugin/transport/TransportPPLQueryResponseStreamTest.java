@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.plugin.transport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.ArrowResponseFormatter;
+
+/** Unit tests of the serialization of {@link TransportPPLQueryResponse} between nodes. */
+public class TransportPPLQueryResponseStreamTest {
+
+  @Test
+  public void testArrowContentIsTransportedAsBytes() throws IOException {
+    QueryResult result =
+        new QueryResult(
+            new ExecutionEngine.Schema(
+                List.of(
+                    new ExecutionEngine.Schema.Column("age", null, INTEGER),
+                    new ExecutionEngine.Schema.Column("name", null, STRING))),
+            List.of(tupleValue(Map.of("age", 20, "name", "John"))));
+    ArrowResponseFormatter formatter = new ArrowResponseFormatter();
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    formatter.format(result, expected);
+
+    TransportPPLQueryResponse response =
+        roundTrip(new TransportPPLQueryResponse(result, formatter, formatter.contentType()));
+
+    assertEquals(ArrowResponseFormatter.CONTENT_TYPE, response.getContentType());
+    ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    response.writeResult(actual);
+    assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    assertEquals(Base64.getEncoder().encodeToString(expected.toByteArray()), response.getResult());
+  }
+
+  @Test
+  public void testTextContentIsTransportedWithDefaultContentType() throws IOException {
+    TransportPPLQueryResponse response =
+        roundTrip(new TransportPPLQueryResponse("{\"total\": 0}"));
+
+    assertNull(response.getContentType());
+    assertEquals("{\"total\": 0}", response.getResult());
+  }
+
+  private static TransportPPLQueryResponse roundTrip(TransportPPLQueryResponse response)
+      throws IOException {
+    try (BytesStreamOutput output = new BytesStreamOutput()) {
+      response.writeTo(output);
+      return new TransportPPLQueryResponse(output.bytes().streamInput());
+    }
+  }
+}
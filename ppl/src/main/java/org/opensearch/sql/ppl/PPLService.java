@@ -89,6 +89,20 @@ public class PPLService {
       PPLQueryRequest request,
       ResponseListener<QueryResponse> queryListener,
       ResponseListener<ExplainResponse> explainListener) {
+    if (request.getCursor().isPresent()) {
+      if (request.isExplainRequest()) {
+        throw new UnsupportedOperationException(
+            "Explain of a paged query continuation "
+                + "is not supported. Use `explain` for the initial query request.");
+      }
+      return queryExecutionFactory.create(
+          request.getCursor().get(),
+          request.isExplainRequest(),
+          PPL_QUERY,
+          request.getFormat(),
+          queryListener,
+          explainListener);
+    }
     // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
     ParseTree cst = parser.parse(request.getRequest());
     Statement statement =
@@ -97,6 +111,7 @@ public class PPLService {
                 new AstBuilder(request.getRequest(), settings),
                 AstStatementBuilder.StatementBuilderContext.builder()
                     .isExplain(request.isExplainRequest())
+                    .fetchSize(request.getFetchSize())
                     .format(request.getFormat())
                     .build()));
 
@@ -60,6 +60,18 @@ public class PPLQueryRequest {
     return path.endsWith("/_explain");
   }
 
+  /** @return number of rows in a page of the query, or 0 if the query is not paginated. */
+  public int getFetchSize() {
+    return jsonContent == null ? 0 : jsonContent.optInt("fetch_size");
+  }
+
+  /** @return cursor of the next page of a paginated query, if the request fetches it. */
+  public Optional<String> getCursor() {
+    return jsonContent == null
+        ? Optional.empty()
+        : Optional.ofNullable(jsonContent.optString("cursor", null));
+  }
+
   /** Decide on the formatter by the requested format. */
   public Format format() {
     Optional<Format> optionalFormat = Format.of(format);
@@ -0,0 +1,232 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.ppl.calcite;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.config.CalciteConnectionConfig;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelTraitDef;
+import org.apache.calcite.rel.RelRoot;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.runtime.Hook;
+import org.apache.calcite.schema.ScannableTable;
+import org.apache.calcite.schema.Schema;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Statistics;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParser;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.test.CalciteAssert;
+import org.apache.calcite.tools.Frameworks;
+import org.apache.calcite.tools.Program;
+import org.apache.calcite.tools.Programs;
+import org.apache.calcite.tools.RelRunners;
+import org.apache.calcite.util.Holder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.After;
+import org.junit.Test;
+import org.opensearch.sql.calcite.plan.HashExchangeProgram;
+import org.opensearch.sql.monitor.MemoryTracker;
+
+/** Unit tests of joins and aggregations run on partitions by {@link HashExchangeProgram}. */
+public class CalcitePPLHashExchangeTest extends CalcitePPLAbstractTest {
+
+  private static final int EVENT_COUNT = 1000;
+
+  private static final int KEY_COUNT = 13;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+  public CalcitePPLHashExchangeTest() {
+    super(CalciteAssert.SchemaSpec.SCOTT_WITH_TEMPORAL);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Override
+  protected Frameworks.ConfigBuilder config(CalciteAssert.SchemaSpec... schemaSpecs) {
+    final SchemaPlus rootSchema = Frameworks.createRootSchema(true);
+    final SchemaPlus schema = CalciteAssert.addSchema(rootSchema, schemaSpecs);
+    ImmutableList.Builder<Object[]> events = ImmutableList.builder();
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      events.add(new Object[] {i, i % KEY_COUNT, i % 7});
+    }
+    ImmutableList.Builder<Object[]> keys = ImmutableList.builder();
+    for (int i = 0; i < KEY_COUNT; i++) {
+      keys.add(new Object[] {i, "key-" + i});
+    }
+    schema.add("EVENTS", new RowsTable(events.build(), "ID", "KEY", "VALUE"));
+    schema.add("KEYS", new RowsTable(keys.build(), "KEY", "LABEL"));
+    return Frameworks.newConfigBuilder()
+        .parserConfig(SqlParser.Config.DEFAULT)
+        .defaultSchema(schema)
+        .traitDefs((List<RelTraitDef>) null)
+        .programs(Programs.heuristicJoinOrder(Programs.RULE_SET, true, 2));
+  }
+
+  @Test
+  public void testAggregateOnPartitions() {
+    String ppl = "source=EVENTS | stats count() as c, sum(VALUE) as s by KEY";
+    List<String> expected = execute(ppl);
+
+    AtomicReference<String> plan = new AtomicReference<>();
+    List<String> actual = executeOnPartitions(ppl, 100, plan);
+
+    assertThat(plan.get(), containsString("EnumerableHashExchange"));
+    assertThat(plan.get(), containsString("parallelism=[4]"));
+    assertThat(actual.size(), is(KEY_COUNT));
+    assertThat(actual, is(expected));
+  }
+
+  @Test
+  public void testJoinOnPartitions() {
+    String ppl = "source=EVENTS | join left=e right=k on e.KEY = k.KEY KEYS";
+    List<String> expected = execute(ppl);
+
+    AtomicReference<String> plan = new AtomicReference<>();
+    List<String> actual = executeOnPartitions(ppl, 100, plan);
+
+    assertThat(plan.get(), containsString("EnumerableHashExchange"));
+    assertThat(actual.size(), is(EVENT_COUNT));
+    assertThat(actual, is(expected));
+  }
+
+  @Test
+  public void testLimitOfJoinOnPartitions() {
+    String ppl = "source=EVENTS | join left=e right=k on e.KEY = k.KEY KEYS | head 5";
+    MemoryTracker memoryTracker = mock(MemoryTracker.class);
+
+    AtomicReference<String> plan = new AtomicReference<>();
+    List<String> actual = executeOnPartitions(ppl, 100, memoryTracker, plan);
+
+    assertThat(plan.get(), containsString("EnumerableHashExchange"));
+    assertThat(actual.size(), is(5));
+    // The rows of the partitions are released once the rows of the exchange are closed
+    verify(memoryTracker, atLeastOnce()).reserve(anyLong(), eq("hash_exchange"));
+    verify(memoryTracker).release(longThat(bytes -> bytes > 0));
+  }
+
+  @Test
+  public void testNoPartitionOfSmallInput() {
+    String ppl = "source=EVENTS | stats count() as c by KEY";
+
+    AtomicReference<String> plan = new AtomicReference<>();
+    List<String> actual =
+        executeOnPartitions(ppl, HashExchangeProgram.DEFAULT_MIN_PARTITION_ROWS, plan);
+
+    assertThat(plan.get(), not(containsString("EnumerableHashExchange")));
+    assertThat(actual, is(execute(ppl)));
+  }
+
+  private List<String> executeOnPartitions(
+      String ppl, double minPartitionRows, AtomicReference<String> plan) {
+    return executeOnPartitions(ppl, minPartitionRows, MemoryTracker.NO_OP, plan);
+  }
+
+  private List<String> executeOnPartitions(
+      String ppl,
+      double minPartitionRows,
+      MemoryTracker memoryTracker,
+      AtomicReference<String> plan) {
+    Program program =
+        Programs.sequence(
+            Programs.standard(),
+            new HashExchangeProgram(4, minPartitionRows, executor, memoryTracker));
+    try (Hook.Closeable programHook =
+            Hook.PROGRAM.addThread((Consumer<Holder<Program>>) holder -> holder.set(program));
+        Hook.Closeable planHook =
+            Hook.PLAN_BEFORE_IMPLEMENTATION.addThread(
+                (Consumer<RelRoot>) root -> plan.set(RelOptUtil.toString(root.rel)))) {
+      return execute(ppl);
+    }
+  }
+
+  /** @return rows of the query, sorted since partitions don't keep the order of the rows */
+  private List<String> execute(String ppl) {
+    try (PreparedStatement statement = RelRunners.run(getRelNode(ppl))) {
+      return CalciteAssert.toString(statement.executeQuery()).lines().sorted().toList();
+    } catch (SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /** Table of integer and string fields, typed by the values of its first row. */
+  private static class RowsTable implements ScannableTable {
+    private final ImmutableList<Object[]> rows;
+    private final List<String> fields;
+
+    RowsTable(ImmutableList<Object[]> rows, String... fields) {
+      this.rows = rows;
+      this.fields = List.of(fields);
+    }
+
+    @Override
+    public Enumerable<@Nullable Object[]> scan(DataContext root) {
+      return Linq4j.asEnumerable(rows);
+    }
+
+    @Override
+    public RelDataType getRowType(RelDataTypeFactory typeFactory) {
+      RelDataTypeFactory.Builder builder = typeFactory.builder();
+      for (int i = 0; i < fields.size(); i++) {
+        boolean isString = !rows.isEmpty() && rows.getFirst()[i] instanceof String;
+        builder.add(fields.get(i), isString ? SqlTypeName.VARCHAR : SqlTypeName.INTEGER);
+      }
+      return builder.build();
+    }
+
+    @Override
+    public Statistic getStatistic() {
+      return Statistics.of(rows.size(), ImmutableList.of());
+    }
+
+    @Override
+    public Schema.TableType getJdbcTableType() {
+      return Schema.TableType.TABLE;
+    }
+
+    @Override
+    public boolean isRolledUp(String column) {
+      return false;
+    }
+
+    @Override
+    public boolean rolledUpColumnValidInsideAgg(
+        String column,
+        SqlCall call,
+        @Nullable SqlNode parent,
+        @Nullable CalciteConnectionConfig config) {
+      return false;
+    }
+  }
+}
@@ -8,6 +8,8 @@ package org.opensearch.sql.ppl.domain;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Optional;
+import org.json.JSONObject;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -55,4 +57,24 @@ public class PPLQueryRequestTest {
     exceptionRule.expectMessage("response in " + format + " format is not supported.");
     request.format();
   }
+
+  @Test
+  public void testFetchSizeAndCursor() {
+    PPLQueryRequest request =
+        new PPLQueryRequest(
+            "source=test", new JSONObject("{\"fetch_size\": 10}"), "/_plugins/_ppl");
+    assertEquals(10, request.getFetchSize());
+    assertEquals(Optional.empty(), request.getCursor());
+
+    request = new PPLQueryRequest("", new JSONObject("{\"cursor\": \"c:id\"}"), "/_plugins/_ppl");
+    assertEquals(0, request.getFetchSize());
+    assertEquals(Optional.of("c:id"), request.getCursor());
+  }
+
+  @Test
+  public void testNoFetchSizeWithoutContent() {
+    PPLQueryRequest request = new PPLQueryRequest("source=test", null, "/_plugins/_ppl");
+    assertEquals(0, request.getFetchSize());
+    assertEquals(Optional.empty(), request.getCursor());
+  }
 }
@@ -10,12 +10,36 @@ import java.util.List;
 import java.util.Map;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.prometheus.request.system.model.MetricMetadata;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
 
 public interface PrometheusClient {
 
   JSONObject queryRange(String query, Long start, Long end, String step) throws IOException;
 
+  /**
+   * Execute a range query and decode the response while it is read from the connection. The
+   * returned reader must be closed to release the connection, and the memory of the results held
+   * for it.
+   *
+   * @param memoryTracker memory tracker of the query, charged with the results held in memory.
+   */
+  PrometheusSeriesReader queryRangeStream(
+      String query, Long start, Long end, String step, MemoryTracker memoryTracker)
+      throws IOException;
+
+  /**
+   * Execute a range query as {@link #queryRangeStream(String, Long, Long, String, MemoryTracker)},
+   * except that the results of long ranges are returned as soon as they are fetched, so the series
+   * of the reader may be returned more than once, each time with the next samples of the series.
+   *
+   * @param memoryTracker memory tracker of the query, charged with the results held in memory.
+   */
+  PrometheusSeriesReader queryRangeWindowStream(
+      String query, Long start, Long end, String step, MemoryTracker memoryTracker)
+      throws IOException;
+
   List<String> getLabels(String metricName) throws IOException;
 
   Map<String, List<MetricMetadata>> getAllMetrics() throws IOException;
@@ -7,15 +7,27 @@ package org.opensearch.sql.prometheus.client;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -24,24 +36,177 @@ import org.apache.logging.log4j.Logger;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.opensearch.sql.monitor.MemoryTracker;
+import org.opensearch.sql.prometheus.client.QueryRangeWindowFetcher.FetchedWindow;
+import org.opensearch.sql.prometheus.client.QueryRangeWindowFetcher.WindowRequest;
 import org.opensearch.sql.prometheus.exceptions.PrometheusClientException;
 import org.opensearch.sql.prometheus.request.system.model.MetricMetadata;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesBlock;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
 
 public class PrometheusClientImpl implements PrometheusClient {
 
   private static final Logger logger = LogManager.getLogger(PrometheusClientImpl.class);
 
+  /** Windows ending less than this long ago may still receive samples and are not cached. */
+  private static final long CACHE_WINDOWS_OLDER_THAN_SECONDS = 600;
+
+  private static final long METADATA_TTL_SECONDS = 60;
+
+  private static final String ALL_METRICS_KEY = "metadata";
+
+  private static final String LABELS_KEY_PREFIX = "labels:";
+
   private final OkHttpClient okHttpClient;
 
   private final URI uri;
 
-  public PrometheusClientImpl(OkHttpClient okHttpClient, URI uri) {
+  /** Completed windows of range queries, keyed by client, query, step and window. */
+  private final PrometheusWindowCache windowCache;
+
+  /**
+   * Prefix of the keys of the windows of this client. Data sources of the same URI may have
+   * different credentials, so windows are not shared between clients.
+   */
+  private final String windowCacheScope = UUID.randomUUID().toString();
+
+  /** Metric metadata and label names, keyed by metric name. */
+  private final Cache<String, Object> metadataCache =
+      CacheBuilder.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(METADATA_TTL_SECONDS, TimeUnit.SECONDS)
+          .build();
+
+  public PrometheusClientImpl(
+      OkHttpClient okHttpClient, URI uri, PrometheusWindowCache windowCache) {
     this.okHttpClient = okHttpClient;
     this.uri = uri;
+    this.windowCache = windowCache;
   }
 
   @Override
   public JSONObject queryRange(String query, Long start, Long end, String step) throws IOException {
+    Request request = new Request.Builder().url(queryRangeUrl(query, start, end, step)).build();
+    Response response = this.okHttpClient.newCall(request).execute();
+    JSONObject jsonObject = readResponse(response);
+    return jsonObject.getJSONObject("data");
+  }
+
+  /**
+   * {@inheritDoc} Long ranges are split into step-aligned windows by {@link QueryRangeWindows},
+   * which are fetched a few at a time, or served from the window cache once they are complete and
+   * old enough not to change anymore, and stitched back in order.
+   */
+  @Override
+  public PrometheusSeriesReader queryRangeStream(
+      String query, Long start, Long end, String step, MemoryTracker memoryTracker)
+      throws IOException {
+    List<QueryRangeWindows.Window> windows = QueryRangeWindows.split(start, end, step);
+    if (windows.isEmpty()) {
+      return queryRangeOnce(query, start, end, step);
+    }
+    QueryRangeWindowFetcher fetcher = fetchWindows(query, step, windows, memoryTracker);
+    try {
+      List<PrometheusSeriesBlock> blocks = new ArrayList<>(windows.size());
+      for (PrometheusSeriesBlock block = fetcher.next(); block != null; block = fetcher.next()) {
+        blocks.add(block);
+      }
+      return PrometheusSeriesBlock.concat(blocks, fetcher);
+    } catch (IOException | RuntimeException e) {
+      fetcher.close();
+      throw e;
+    }
+  }
+
+  /**
+   * {@inheritDoc} Long ranges are split into windows as by {@link #queryRangeStream(String, Long,
+   * Long, String, MemoryTracker)}, and each window is read as soon as it is fetched.
+   */
+  @Override
+  public PrometheusSeriesReader queryRangeWindowStream(
+      String query, Long start, Long end, String step, MemoryTracker memoryTracker)
+      throws IOException {
+    List<QueryRangeWindows.Window> windows = QueryRangeWindows.split(start, end, step);
+    if (windows.isEmpty()) {
+      return queryRangeOnce(query, start, end, step);
+    }
+    return fetchWindows(query, step, windows, memoryTracker).stream();
+  }
+
+  private PrometheusSeriesReader queryRangeOnce(String query, Long start, Long end, String step)
+      throws IOException {
+    Request request = new Request.Builder().url(queryRangeUrl(query, start, end, step)).build();
+    return openQueryRange(this.okHttpClient.newCall(request).execute());
+  }
+
+  private QueryRangeWindowFetcher fetchWindows(
+      String query,
+      String step,
+      List<QueryRangeWindows.Window> windows,
+      MemoryTracker memoryTracker) {
+    long cacheableBefore = System.currentTimeMillis() / 1000 - CACHE_WINDOWS_OLDER_THAN_SECONDS;
+    return new QueryRangeWindowFetcher(
+        windows, window -> requestWindow(query, step, window, cacheableBefore), memoryTracker);
+  }
+
+  private WindowRequest requestWindow(
+      String query, String step, QueryRangeWindows.Window window, long cacheableBefore) {
+    String key =
+        String.join("|", windowCacheScope, query, step, window.start() + "-" + window.end());
+    boolean cacheable = window.complete() && window.end() < cacheableBefore;
+    PrometheusSeriesBlock cached = cacheable ? windowCache.get(key).orElse(null) : null;
+    if (cached != null) {
+      return new WindowRequest(
+          CompletableFuture.completedFuture(new FetchedWindow(cached, true)), null);
+    }
+    String url = queryRangeUrl(query, window.start(), window.end(), step);
+    Call call = this.okHttpClient.newCall(new Request.Builder().url(url).build());
+    return new WindowRequest(
+        enqueue(call)
+            .thenApply(block -> new FetchedWindow(block, cacheable && windowCache.put(key, block))),
+        call);
+  }
+
+  private CompletableFuture<PrometheusSeriesBlock> enqueue(Call call) {
+    CompletableFuture<PrometheusSeriesBlock> future = new CompletableFuture<>();
+    call.enqueue(
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException e) {
+            future.completeExceptionally(e);
+          }
+
+          @Override
+          public void onResponse(Call call, Response response) {
+            try (PrometheusSeriesReader reader = openQueryRange(response)) {
+              future.complete(PrometheusSeriesBlock.read(reader));
+            } catch (Throwable e) {
+              future.completeExceptionally(e);
+            }
+          }
+        });
+    return future;
+  }
+
+  private PrometheusSeriesReader openQueryRange(Response response) throws IOException {
+    if (!response.isSuccessful()) {
+      response.close();
+      throw new PrometheusClientException(
+          String.format("Request to Prometheus is Unsuccessful with code : %s", response.code()));
+    }
+    PrometheusSeriesReader reader =
+        PrometheusSeriesReader.fromResponse(
+            Objects.requireNonNull(response.body()).byteStream(), response);
+    try {
+      reader.start();
+      return reader;
+    } catch (IOException | RuntimeException e) {
+      reader.close();
+      throw e;
+    }
+  }
+
+  private String queryRangeUrl(String query, Long start, Long end, String step) {
     String queryUrl =
         String.format(
             "%s/api/v1/query_range?query=%s&start=%s&end=%s&step=%s",
@@ -51,14 +216,17 @@ public class PrometheusClientImpl implements PrometheusClient {
             end,
             step);
     logger.debug("queryUrl: " + queryUrl);
-    Request request = new Request.Builder().url(queryUrl).build();
-    Response response = this.okHttpClient.newCall(request).execute();
-    JSONObject jsonObject = readResponse(response);
-    return jsonObject.getJSONObject("data");
+    return queryUrl;
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public List<String> getLabels(String metricName) throws IOException {
+    return (List<String>)
+        cachedMetadata(LABELS_KEY_PREFIX + metricName, () -> fetchLabels(metricName));
+  }
+
+  private List<String> fetchLabels(String metricName) throws IOException {
     String queryUrl =
         String.format(
             "%s/api/v1/labels?%s=%s",
@@ -69,18 +237,25 @@ public class PrometheusClientImpl implements PrometheusClient {
     Request request = new Request.Builder().url(queryUrl).build();
     Response response = this.okHttpClient.newCall(request).execute();
     JSONObject jsonObject = readResponse(response);
-    return toListOfLabels(jsonObject.getJSONArray("data"));
+    return Collections.unmodifiableList(toListOfLabels(jsonObject.getJSONArray("data")));
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public Map<String, List<MetricMetadata>> getAllMetrics() throws IOException {
+    return (Map<String, List<MetricMetadata>>)
+        cachedMetadata(ALL_METRICS_KEY, this::fetchAllMetrics);
+  }
+
+  private Map<String, List<MetricMetadata>> fetchAllMetrics() throws IOException {
     String queryUrl = String.format("%s/api/v1/metadata", uri.toString().replaceAll("/$", ""));
     logger.debug("queryUrl: " + queryUrl);
     Request request = new Request.Builder().url(queryUrl).build();
     Response response = this.okHttpClient.newCall(request).execute();
     JSONObject jsonObject = readResponse(response);
     TypeReference<HashMap<String, List<MetricMetadata>>> typeRef = new TypeReference<>() {};
-    return new ObjectMapper().readValue(jsonObject.getJSONObject("data").toString(), typeRef);
+    return Collections.unmodifiableMap(
+        new ObjectMapper().readValue(jsonObject.getJSONObject("data").toString(), typeRef));
   }
 
   @Override
@@ -99,6 +274,16 @@ public class PrometheusClientImpl implements PrometheusClient {
     return jsonObject.getJSONArray("data");
   }
 
+  private Object cachedMetadata(String key, Callable<Object> loader) throws IOException {
+    try {
+      return metadataCache.get(key, loader);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IOException(e.getCause());
+    }
+  }
+
   private List<String> toListOfLabels(JSONArray array) {
     List<String> result = new ArrayList<>();
     for (int i = 0; i < array.length(); i++) {
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.MemoryTracker;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesBlock;
+
+/**
+ * Completed windows of the range queries of all the Prometheus data sources of the node, see
+ * {@link QueryRangeWindows}. The cache holds at most {@link
+ * Settings.Key#DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES} samples, and the estimated size of
+ * the cached windows is reserved on the memory tracker of the node until they are evicted. Windows
+ * which don't fit are not cached.
+ */
+public class PrometheusWindowCache {
+  private static final Logger LOG = LogManager.getLogger(PrometheusWindowCache.class);
+
+  static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+  private final Settings settings;
+
+  /** Tracker of the memory of the cached windows. */
+  private final MemoryTracker memoryTracker;
+
+  /** Windows, built again when the largest number of samples changes, null if disabled. */
+  private Cache<String, PrometheusSeriesBlock> windows;
+
+  private int maxSamples;
+
+  public PrometheusWindowCache(Settings settings, MemoryTracker memoryTracker) {
+    this.settings = settings;
+    this.memoryTracker = memoryTracker;
+  }
+
+  /**
+   * Get a cached window.
+   *
+   * @param key data source, query, step and window
+   * @return window, or empty if it isn't cached
+   */
+  public Optional<PrometheusSeriesBlock> get(String key) {
+    Cache<String, PrometheusSeriesBlock> cache = windows();
+    return cache == null ? Optional.empty() : Optional.ofNullable(cache.getIfPresent(key));
+  }
+
+  /**
+   * Cache a window, unless the memory of the node is not available.
+   *
+   * @param key data source, query, step and window
+   * @param block samples of the window
+   * @return true if the window is cached and its memory is reserved on the memory tracker of the
+   *     node
+   */
+  public boolean put(String key, PrometheusSeriesBlock block) {
+    Cache<String, PrometheusSeriesBlock> cache = windows();
+    if (cache == null) {
+      return false;
+    }
+    try {
+      memoryTracker.reserve(block.getEstimatedBytes(), "prometheus_window");
+    } catch (RuntimeException e) {
+      LOG.debug("Not enough memory to cache prometheus window {}", key, e);
+      return false;
+    }
+    cache.put(key, block);
+    return true;
+  }
+
+  private synchronized Cache<String, PrometheusSeriesBlock> windows() {
+    int samples =
+        settings.getSettingValue(Settings.Key.DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES);
+    if (samples != maxSamples) {
+      if (windows != null) {
+        windows.invalidateAll();
+      }
+      maxSamples = samples;
+      windows =
+          samples <= 0
+              ? null
+              : CacheBuilder.newBuilder()
+                  .maximumWeight(samples)
+                  .weigher((String key, PrometheusSeriesBlock block) -> block.getSampleCount() + 1)
+                  .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                  .<String, PrometheusSeriesBlock>removalListener(
+                      removed -> memoryTracker.release(removed.getValue().getEstimatedBytes()))
+                  .build();
+    }
+    return windows;
+  }
+}
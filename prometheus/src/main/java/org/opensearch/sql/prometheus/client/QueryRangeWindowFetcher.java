@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import com.google.common.base.Throwables;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import okhttp3.Call;
+import org.opensearch.sql.monitor.MemoryTracker;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesBlock;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
+
+/**
+ * Fetches the windows of a range query, see {@link QueryRangeWindows}, and returns their blocks in
+ * window order. At most {@link #MAX_WINDOWS_IN_FLIGHT} windows are requested ahead of the window
+ * being read, so a long range doesn't open a connection per window at once. The blocks which are
+ * not held by the window cache are charged to the memory tracker of the query until they are
+ * released, or the fetcher is closed.
+ */
+class QueryRangeWindowFetcher implements Closeable {
+
+  /** Largest number of windows requested and not read yet. */
+  static final int MAX_WINDOWS_IN_FLIGHT = 4;
+
+  /**
+   * Block of a window.
+   *
+   * @param block samples of the window.
+   * @param cached true if the block is held by the window cache, which accounts for its memory.
+   */
+  record FetchedWindow(PrometheusSeriesBlock block, boolean cached) {}
+
+  /**
+   * Request of a window.
+   *
+   * @param window block of the window, once it is fetched.
+   * @param call http call of the request, null if the window is served from the cache.
+   */
+  record WindowRequest(CompletableFuture<FetchedWindow> window, Call call) {}
+
+  private final Function<QueryRangeWindows.Window, WindowRequest> request;
+
+  private final MemoryTracker memoryTracker;
+
+  private final Deque<WindowRequest> inFlight = new ArrayDeque<>();
+
+  /** Blocks returned and charged to the memory tracker, not released yet. */
+  private final Set<PrometheusSeriesBlock> charged =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private Iterator<QueryRangeWindows.Window> windows;
+
+  /**
+   * Start fetching the first windows.
+   *
+   * @param windows windows in time order.
+   * @param request sends the request of a window.
+   * @param memoryTracker memory tracker of the query.
+   */
+  QueryRangeWindowFetcher(
+      List<QueryRangeWindows.Window> windows,
+      Function<QueryRangeWindows.Window, WindowRequest> request,
+      MemoryTracker memoryTracker) {
+    this.windows = windows.iterator();
+    this.request = request;
+    this.memoryTracker = memoryTracker;
+    requestWindows();
+  }
+
+  /**
+   * Wait for the block of the next window, and request the following windows.
+   *
+   * @return block, or null if all the windows have been returned.
+   * @throws IOException if the window could not be fetched, the fetcher is closed then.
+   */
+  PrometheusSeriesBlock next() throws IOException {
+    WindowRequest next = inFlight.poll();
+    if (next == null) {
+      return null;
+    }
+    requestWindows();
+    try {
+      FetchedWindow fetched = next.window().get();
+      if (!fetched.cached()) {
+        memoryTracker.reserve(fetched.block().getEstimatedBytes(), "prometheus_window");
+        charged.add(fetched.block());
+      }
+      return fetched.block();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new IOException("Interrupted while fetching data from prometheus", e);
+    } catch (ExecutionException e) {
+      close();
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IOException(e.getCause());
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Release the memory of a block returned by {@link #next()} once it isn't used anymore.
+   *
+   * @param block block
+   */
+  void release(PrometheusSeriesBlock block) {
+    if (charged.remove(block)) {
+      memoryTracker.release(block.getEstimatedBytes());
+    }
+  }
+
+  /**
+   * @return reader over the series of each window in turn. A series is returned once for every
+   *     window it has samples in, and the block of a window is released once it is read.
+   */
+  PrometheusSeriesReader stream() {
+    return new WindowStreamReader();
+  }
+
+  /** Cancel the requests in flight and release the memory of the blocks returned. */
+  @Override
+  public void close() {
+    windows = Collections.emptyIterator();
+    for (WindowRequest windowRequest : inFlight) {
+      if (windowRequest.call() != null) {
+        windowRequest.call().cancel();
+      }
+    }
+    inFlight.clear();
+    for (PrometheusSeriesBlock block : charged) {
+      memoryTracker.release(block.getEstimatedBytes());
+    }
+    charged.clear();
+  }
+
+  private void requestWindows() {
+    while (inFlight.size() < MAX_WINDOWS_IN_FLIGHT && windows.hasNext()) {
+      inFlight.add(request.apply(windows.next()));
+    }
+  }
+
+  /** Reader over the blocks of the windows, each read as soon as it is fetched. */
+  private class WindowStreamReader implements PrometheusSeriesReader {
+    private PrometheusSeriesBlock block;
+    private PrometheusSeriesReader blockReader;
+
+    @Override
+    public void start() {}
+
+    @Override
+    public boolean nextSeries() throws IOException {
+      while (blockReader == null || !blockReader.nextSeries()) {
+        if (block != null) {
+          release(block);
+        }
+        block = next();
+        if (block == null) {
+          blockReader = null;
+          return false;
+        }
+        blockReader = block.reader();
+      }
+      return true;
+    }
+
+    @Override
+    public boolean nextSample() throws IOException {
+      return blockReader != null && blockReader.nextSample();
+    }
+
+    @Override
+    public Map<String, String> getLabels() {
+      return blockReader.getLabels();
+    }
+
+    @Override
+    public double getTimestamp() {
+      return blockReader.getTimestamp();
+    }
+
+    @Override
+    public String getValue() {
+      return blockReader.getValue();
+    }
+
+    @Override
+    public void close() {
+      QueryRangeWindowFetcher.this.close();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Splits a long range query into windows which are evaluated independently and stitched back in
+ * order. Prometheus evaluates a range query at start + k * step, so the windows start and end on
+ * these points, and return the same samples as the whole query. Windows are aligned to multiples of
+ * their own length since the epoch, shifted by the offset of the start from a multiple of the step,
+ * so the same query refreshed later by whole steps produces the same inner windows and their
+ * results can be cached.
+ */
+@UtilityClass
+public class QueryRangeWindows {
+
+  /** Maximum number of points per series requested in one window. */
+  public static final long MAX_POINTS_PER_WINDOW = 2000;
+
+  private static final Pattern DURATION = Pattern.compile("^(\\d+)(ms|s|m|h|d|w|y)?$");
+
+  private static final Map<String, Long> UNIT_SECONDS =
+      Map.of("s", 1L, "m", 60L, "h", 3600L, "d", 86400L, "w", 604800L, "y", 31536000L);
+
+  /**
+   * A window [start, end] of a range query, both ends inclusive and evaluation points of the query.
+   *
+   * @param start start time in seconds.
+   * @param end end time in seconds.
+   * @param complete true if the window covers its whole aligned span.
+   */
+  public record Window(long start, long end, boolean complete) {}
+
+  /**
+   * Split a range query.
+   *
+   * @param start start time in seconds.
+   * @param end end time in seconds.
+   * @param step step of the query, e.g. 30, 30s or 1m.
+   * @return the windows in time order, or an empty list if the query is small enough, or its step
+   *     cannot be aligned, to be sent as is.
+   */
+  public static List<Window> split(long start, long end, String step) {
+    long stepSeconds = stepSeconds(step);
+    if (stepSeconds <= 0 || end <= start || (end - start) / stepSeconds < MAX_POINTS_PER_WINDOW) {
+      return Collections.emptyList();
+    }
+    long span = stepSeconds * MAX_POINTS_PER_WINDOW;
+    long offset = Math.floorMod(start, stepSeconds);
+    long lastPoint = start + (end - start) / stepSeconds * stepSeconds;
+    List<Window> windows = new ArrayList<>();
+    long windowStart = Math.floorDiv(start - offset, span) * span + offset;
+    while (windowStart <= lastPoint) {
+      long windowEnd = windowStart + span - stepSeconds;
+      long from = Math.max(windowStart, start);
+      long to = Math.min(windowEnd, lastPoint);
+      windows.add(new Window(from, to, from == windowStart && to == windowEnd));
+      windowStart += span;
+    }
+    return windows;
+  }
+
+  /**
+   * Parse a Prometheus step.
+   *
+   * @return the step in whole seconds, or -1 if it is not a whole number of seconds.
+   */
+  static long stepSeconds(String step) {
+    if (step == null) {
+      return -1;
+    }
+    Matcher matcher = DURATION.matcher(step.trim());
+    if (!matcher.matches()) {
+      return -1;
+    }
+    long amount = Long.parseLong(matcher.group(1));
+    String unit = matcher.group(2);
+    if (unit == null) {
+      return amount;
+    }
+    if ("ms".equals(unit)) {
+      return amount % 1000 == 0 ? amount / 1000 : -1;
+    }
+    return amount * UNIT_SECONDS.get(unit);
+  }
+}
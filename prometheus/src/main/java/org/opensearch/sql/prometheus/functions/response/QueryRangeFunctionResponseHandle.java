@@ -6,21 +6,17 @@
 package org.opensearch.sql.prometheus.functions.response;
 
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.LABELS;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.MATRIX_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_TYPE_KEY;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUES_KEY;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDoubleValue;
 import org.opensearch.sql.data.model.ExprStringValue;
@@ -29,55 +25,50 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
 
-/** Default implementation of QueryRangeFunctionResponseHandle. */
+/**
+ * Default implementation of QueryRangeFunctionResponseHandle. Each series is decoded into one row
+ * when it is requested, so only the current series is held in memory.
+ */
 public class QueryRangeFunctionResponseHandle implements PrometheusFunctionResponseHandle {
 
-  private final JSONObject responseObject;
-  private Iterator<ExprValue> responseIterator;
+  private final PrometheusSeriesReader reader;
+  private final Map<String, ExprValue> labelValues = new HashMap<>();
   private ExecutionEngine.Schema schema;
+  private Boolean hasNextSeries;
 
   /**
    * Constructor.
    *
-   * @param responseObject Prometheus responseObject.
+   * @param reader Prometheus response reader.
    */
-  public QueryRangeFunctionResponseHandle(JSONObject responseObject) {
-    this.responseObject = responseObject;
+  public QueryRangeFunctionResponseHandle(PrometheusSeriesReader reader) {
+    this.reader = reader;
     constructSchema();
-    constructIterator();
-  }
-
-  private void constructIterator() {
-    List<ExprValue> result = new ArrayList<>();
-    if (MATRIX_KEY.equals(responseObject.getString(RESULT_TYPE_KEY))) {
-      JSONArray itemArray = responseObject.getJSONArray(RESULT_KEY);
-      for (int i = 0; i < itemArray.length(); i++) {
-        LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
-        JSONObject item = itemArray.getJSONObject(i);
-        linkedHashMap.put(LABELS, extractLabels(item.getJSONObject(METRIC_KEY)));
-        extractTimestampAndValues(item.getJSONArray(VALUES_KEY), linkedHashMap);
-        result.add(new ExprTupleValue(linkedHashMap));
-      }
-    } else {
+    try {
+      reader.start();
+    } catch (IOException e) {
       throw new RuntimeException(
-          String.format(
-              "Unexpected Result Type: %s during Prometheus "
-                  + "Response Parsing. 'matrix' resultType is expected",
-              responseObject.getString("resultType")));
+          String.format("Error fetching data from prometheus server: %s", e.getMessage()), e);
     }
-    this.responseIterator = result.iterator();
   }
 
-  private static void extractTimestampAndValues(
-      JSONArray values, LinkedHashMap<String, ExprValue> linkedHashMap) {
+  private ExprValue constructRow() throws IOException {
+    LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
+    linkedHashMap.put(LABELS, extractLabels(reader.getLabels()));
+    extractTimestampAndValues(linkedHashMap);
+    return new ExprTupleValue(linkedHashMap);
+  }
+
+  private void extractTimestampAndValues(LinkedHashMap<String, ExprValue> linkedHashMap)
+      throws IOException {
     List<ExprValue> timestampList = new ArrayList<>();
     List<ExprValue> valueList = new ArrayList<>();
-    for (int j = 0; j < values.length(); j++) {
-      JSONArray value = values.getJSONArray(j);
+    while (reader.nextSample()) {
       timestampList.add(
-          new ExprTimestampValue(Instant.ofEpochMilli((long) (value.getDouble(0) * 1000))));
-      valueList.add(new ExprDoubleValue(value.getDouble(1)));
+          new ExprTimestampValue(Instant.ofEpochMilli((long) (reader.getTimestamp() * 1000))));
+      valueList.add(new ExprDoubleValue(Double.parseDouble(reader.getValue())));
     }
     linkedHashMap.put(TIMESTAMP, new ExprCollectionValue(timestampList));
     linkedHashMap.put(VALUE, new ExprCollectionValue(valueList));
@@ -87,9 +78,11 @@ public class QueryRangeFunctionResponseHandle implements PrometheusFunctionRespo
     this.schema = new ExecutionEngine.Schema(getColumnList());
   }
 
-  private ExprValue extractLabels(JSONObject metric) {
+  private ExprValue extractLabels(Map<String, String> metric) {
     LinkedHashMap<String, ExprValue> labelsMap = new LinkedHashMap<>();
-    metric.keySet().forEach(key -> labelsMap.put(key, new ExprStringValue(metric.getString(key))));
+    metric.forEach(
+        (key, value) ->
+            labelsMap.put(key, labelValues.computeIfAbsent(value, ExprStringValue::new)));
     return new ExprTupleValue(labelsMap);
   }
 
@@ -103,12 +96,29 @@ public class QueryRangeFunctionResponseHandle implements PrometheusFunctionRespo
 
   @Override
   public boolean hasNext() {
-    return responseIterator.hasNext();
+    if (hasNextSeries == null) {
+      try {
+        hasNextSeries = reader.nextSeries();
+      } catch (IOException e) {
+        throw new RuntimeException(
+            String.format("Error fetching data from prometheus server: %s", e.getMessage()), e);
+      }
+    }
+    return hasNextSeries;
   }
 
   @Override
   public ExprValue next() {
-    return responseIterator.next();
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    hasNextSeries = null;
+    try {
+      return constructRow();
+    } catch (IOException e) {
+      throw new RuntimeException(
+          String.format("Error fetching data from prometheus server: %s", e.getMessage()), e);
+    }
   }
 
   @Override
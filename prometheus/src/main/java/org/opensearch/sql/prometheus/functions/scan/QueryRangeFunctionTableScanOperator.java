@@ -12,15 +12,17 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Locale;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONObject;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.functions.response.PrometheusFunctionResponseHandle;
 import org.opensearch.sql.prometheus.functions.response.QueryRangeFunctionResponseHandle;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** This a table scan operator to handle Query Range table function. */
@@ -31,6 +33,8 @@ public class QueryRangeFunctionTableScanOperator extends TableScanOperator {
 
   private final PrometheusQueryRequest request;
   private PrometheusFunctionResponseHandle prometheusResponseHandle;
+  private PrometheusSeriesReader reader;
+  @Setter private MemoryTracker memoryTracker = MemoryTracker.NO_OP;
 
   private static final Logger LOG = LogManager.getLogger();
 
@@ -42,13 +46,14 @@ public class QueryRangeFunctionTableScanOperator extends TableScanOperator {
             (PrivilegedAction<PrometheusFunctionResponseHandle>)
                 () -> {
                   try {
-                    JSONObject responseObject =
-                        prometheusClient.queryRange(
+                    this.reader =
+                        prometheusClient.queryRangeStream(
                             request.getPromQl(),
                             request.getStartTime(),
                             request.getEndTime(),
-                            request.getStep());
-                    return new QueryRangeFunctionResponseHandle(responseObject);
+                            request.getStep(),
+                            memoryTracker);
+                    return new QueryRangeFunctionResponseHandle(reader);
                   } catch (IOException e) {
                     LOG.error(e.getMessage());
                     throw new RuntimeException(
@@ -61,6 +66,14 @@ public class QueryRangeFunctionTableScanOperator extends TableScanOperator {
   @Override
   public void close() {
     super.close();
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        LOG.error("Failed to close prometheus response", e);
+      }
+      reader = null;
+    }
   }
 
   @Override
@@ -0,0 +1,285 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.MATRIX_KEY;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC_KEY;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_KEY;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_TYPE_KEY;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUES_KEY;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import org.opensearch.sql.prometheus.exceptions.PrometheusClientException;
+
+/**
+ * Streaming decoder of a Prometheus range query response. Series are decoded one at a time from
+ * the underlying stream and the samples of the current series are decoded on demand, so the
+ * response is never held in memory as a whole.
+ *
+ * <p>Label names and values are interned per response, so series sharing a label (job, instance,
+ * __name__...) share the same strings, and the labels of a series are decoded once for all of its
+ * samples.
+ */
+public class PrometheusJsonSeriesReader implements PrometheusSeriesReader {
+
+  private static final String STATUS_KEY = "status";
+  private static final String SUCCESS_STATUS = "success";
+  private static final String ERROR_KEY = "error";
+  private static final String DATA_KEY = "data";
+
+  private final JsonParser parser;
+
+  private final Closeable resource;
+
+  /** Whether the stream holds the full API response or only its "data" object. */
+  private final boolean envelope;
+
+  private final Map<String, String> internTable = new HashMap<>();
+
+  private boolean started;
+
+  private boolean exhausted;
+
+  /** Labels of the current series, in response order. */
+  @Getter private Map<String, String> labels;
+
+  /** True while the parser is inside the values array of the current series. */
+  private boolean inValues;
+
+  /** Samples of the current series buffered when they precede the metric labels. */
+  private List<Double> bufferedTimestamps;
+
+  private List<String> bufferedValues;
+
+  private int bufferedIndex;
+
+  /** Timestamp of the current sample in seconds. */
+  @Getter private double timestamp;
+
+  /** Value of the current sample, as returned by Prometheus. */
+  @Getter private String value;
+
+  PrometheusJsonSeriesReader(JsonParser parser, Closeable resource, boolean envelope) {
+    this.parser = parser;
+    this.resource = resource;
+    this.envelope = envelope;
+  }
+
+  @Override
+  public void start() throws IOException {
+    if (started) {
+      return;
+    }
+    started = true;
+    try {
+      if (envelope) {
+        readEnvelope();
+      } else {
+        readData();
+      }
+    } catch (JsonParseException e) {
+      throw new PrometheusClientException(
+          "Prometheus returned unexpected body, please verify your prometheus server setup.");
+    }
+  }
+
+  @Override
+  public boolean nextSeries() throws IOException {
+    start();
+    while (nextSample()) {
+      // skip the remaining samples of the current series.
+    }
+    labels = null;
+    bufferedTimestamps = null;
+    bufferedValues = null;
+    bufferedIndex = 0;
+    if (exhausted) {
+      return false;
+    }
+    JsonToken token = parser.nextToken();
+    if (token != JsonToken.START_OBJECT) {
+      exhausted = true;
+      return false;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      if (METRIC_KEY.equals(name) && labels == null) {
+        labels = readLabels();
+      } else if (VALUES_KEY.equals(name) && labels != null) {
+        inValues = parser.currentToken() == JsonToken.START_ARRAY;
+        if (inValues) {
+          return true;
+        }
+      } else if (VALUES_KEY.equals(name) && bufferedTimestamps == null) {
+        bufferSamples();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (labels == null) {
+      labels = Collections.emptyMap();
+    }
+    return true;
+  }
+
+  @Override
+  public boolean nextSample() throws IOException {
+    if (inValues) {
+      if (readSample()) {
+        return true;
+      }
+      inValues = false;
+      finishSeries();
+      return false;
+    }
+    if (bufferedTimestamps != null && bufferedIndex < bufferedTimestamps.size()) {
+      timestamp = bufferedTimestamps.get(bufferedIndex);
+      value = bufferedValues.get(bufferedIndex);
+      bufferedIndex++;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      parser.close();
+    } finally {
+      if (resource != null) {
+        resource.close();
+      }
+    }
+  }
+
+  private void readEnvelope() throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Prometheus response is not a json object");
+    }
+    String status = null;
+    String error = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      if (STATUS_KEY.equals(name)) {
+        status = parser.getValueAsString();
+      } else if (ERROR_KEY.equals(name)) {
+        error = parser.getValueAsString();
+      } else if (DATA_KEY.equals(name) && SUCCESS_STATUS.equals(status)) {
+        readData();
+        return;
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (SUCCESS_STATUS.equals(status)) {
+      // successful response without data.
+      exhausted = true;
+      return;
+    }
+    throw new PrometheusClientException(error);
+  }
+
+  private void readData() throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT
+        && parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new JsonParseException(parser, "Prometheus data is not a json object");
+    }
+    String resultType = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      if (RESULT_TYPE_KEY.equals(name)) {
+        resultType = parser.getValueAsString();
+      } else if (RESULT_KEY.equals(name)) {
+        if (!MATRIX_KEY.equals(resultType)) {
+          throw new RuntimeException(
+              String.format(
+                  "Unexpected Result Type: %s during Prometheus "
+                      + "Response Parsing. 'matrix' resultType is expected",
+                  resultType));
+        }
+        exhausted = parser.currentToken() != JsonToken.START_ARRAY;
+        return;
+      } else {
+        parser.skipChildren();
+      }
+    }
+    exhausted = true;
+  }
+
+  private Map<String, String> readLabels() throws IOException {
+    Map<String, String> result = new LinkedHashMap<>();
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return result;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = intern(parser.currentName());
+      parser.nextToken();
+      result.put(name, intern(parser.getValueAsString()));
+    }
+    return result;
+  }
+
+  /** Read the values array of a series whose metric labels come after its values. */
+  private void bufferSamples() throws IOException {
+    bufferedTimestamps = new ArrayList<>();
+    bufferedValues = new ArrayList<>();
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return;
+    }
+    while (readSample()) {
+      bufferedTimestamps.add(timestamp);
+      bufferedValues.add(value);
+    }
+  }
+
+  /** Read one [timestamp, "value"] pair of a values array. */
+  private boolean readSample() throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token != JsonToken.START_ARRAY) {
+      return false;
+    }
+    parser.nextToken();
+    timestamp = parser.getDoubleValue();
+    parser.nextToken();
+    value = parser.getValueAsString();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      parser.skipChildren();
+    }
+    return true;
+  }
+
+  /** Consume the remaining fields of the current series object. */
+  private void finishSeries() throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+  }
+
+  private String intern(String text) {
+    if (text == null) {
+      return null;
+    }
+    String interned = internTable.putIfAbsent(text, text);
+    return interned == null ? text : interned;
+  }
+}
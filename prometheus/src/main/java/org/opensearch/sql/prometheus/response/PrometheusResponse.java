@@ -7,20 +7,17 @@ package org.opensearch.sql.prometheus.response;
 
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.MATRIX_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.RESULT_TYPE_KEY;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUES_KEY;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import lombok.NonNull;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.opensearch.sql.data.model.ExprDoubleValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprLongValue;
@@ -33,84 +30,129 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.prometheus.storage.model.PrometheusResponseFieldNames;
 
+/**
+ * Rows of a Prometheus range query, one per sample. Rows are decoded lazily from a {@link
+ * PrometheusSeriesReader}; the label columns of a series are built once and shared by all of its
+ * samples.
+ */
 public class PrometheusResponse implements Iterable<ExprValue> {
 
-  private final JSONObject responseObject;
+  private final PrometheusSeriesReader reader;
 
   private final PrometheusResponseFieldNames prometheusResponseFieldNames;
 
+  /** Label name to output column name, resolved from the group by list once per response. */
+  private final Map<String, String> labelColumnNames;
+
+  /** Label values shared across series. */
+  private final Map<String, ExprValue> labelValues = new HashMap<>();
+
   /**
    * Constructor.
    *
-   * @param responseObject Prometheus responseObject.
+   * @param reader Prometheus response reader.
    * @param prometheusResponseFieldNames data model which contains field names for the metric
    *     measurement and timestamp fieldName.
    */
   public PrometheusResponse(
-      JSONObject responseObject, PrometheusResponseFieldNames prometheusResponseFieldNames) {
-    this.responseObject = responseObject;
+      PrometheusSeriesReader reader, PrometheusResponseFieldNames prometheusResponseFieldNames) {
+    this.reader = reader;
     this.prometheusResponseFieldNames = prometheusResponseFieldNames;
+    this.labelColumnNames = resolveLabelColumnNames(prometheusResponseFieldNames);
   }
 
   @NonNull
   @Override
   public Iterator<ExprValue> iterator() {
-    List<ExprValue> result = new ArrayList<>();
-    if (MATRIX_KEY.equals(responseObject.getString(RESULT_TYPE_KEY))) {
-      JSONArray itemArray = responseObject.getJSONArray(RESULT_KEY);
-      for (int i = 0; i < itemArray.length(); i++) {
-        JSONObject item = itemArray.getJSONObject(i);
-        JSONObject metric = item.getJSONObject(METRIC_KEY);
-        JSONArray values = item.getJSONArray(VALUES_KEY);
-        for (int j = 0; j < values.length(); j++) {
-          LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
-          JSONArray val = values.getJSONArray(j);
-          linkedHashMap.put(
-              prometheusResponseFieldNames.getTimestampFieldName(),
-              new ExprTimestampValue(Instant.ofEpochMilli((long) (val.getDouble(0) * 1000))));
-          linkedHashMap.put(
-              prometheusResponseFieldNames.getValueFieldName(),
-              getValue(val, 1, prometheusResponseFieldNames.getValueType()));
-          insertLabels(linkedHashMap, metric);
-          result.add(new ExprTupleValue(linkedHashMap));
-        }
-      }
-    } else {
+    try {
+      reader.start();
+    } catch (IOException e) {
       throw new RuntimeException(
-          String.format(
-              "Unexpected Result Type: %s during Prometheus "
-                  + "Response Parsing. 'matrix' resultType is expected",
-              responseObject.getString(RESULT_TYPE_KEY)));
+          "Error fetching data from prometheus server. " + e.getMessage(), e);
     }
-    return result.iterator();
+    return new Iterator<>() {
+      private List<Map.Entry<String, ExprValue>> seriesLabels;
+      private boolean hasSample;
+
+      @Override
+      public boolean hasNext() {
+        try {
+          while (!hasSample) {
+            if (seriesLabels != null && reader.nextSample()) {
+              hasSample = true;
+            } else if (reader.nextSeries()) {
+              seriesLabels = labelColumns(reader.getLabels());
+            } else {
+              return false;
+            }
+          }
+          return true;
+        } catch (IOException e) {
+          throw new RuntimeException(
+              "Error fetching data from prometheus server. " + e.getMessage(), e);
+        }
+      }
+
+      @Override
+      public ExprValue next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        hasSample = false;
+        LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
+        linkedHashMap.put(
+            prometheusResponseFieldNames.getTimestampFieldName(),
+            new ExprTimestampValue(Instant.ofEpochMilli((long) (reader.getTimestamp() * 1000))));
+        linkedHashMap.put(
+            prometheusResponseFieldNames.getValueFieldName(),
+            getValue(reader.getValue(), prometheusResponseFieldNames.getValueType()));
+        for (Map.Entry<String, ExprValue> label : seriesLabels) {
+          linkedHashMap.put(label.getKey(), label.getValue());
+        }
+        return new ExprTupleValue(linkedHashMap);
+      }
+    };
   }
 
-  private void insertLabels(LinkedHashMap<String, ExprValue> linkedHashMap, JSONObject metric) {
-    for (String key : metric.keySet()) {
-      linkedHashMap.put(getKey(key), new ExprStringValue(metric.getString(key)));
+  private List<Map.Entry<String, ExprValue>> labelColumns(Map<String, String> labels) {
+    List<Map.Entry<String, ExprValue>> columns = new ArrayList<>(labels.size());
+    for (Map.Entry<String, String> label : labels.entrySet()) {
+      columns.add(
+          Map.entry(
+              labelColumnNames.getOrDefault(label.getKey(), label.getKey()),
+              labelValues.computeIfAbsent(label.getValue(), ExprStringValue::new)));
     }
+    return columns;
   }
 
-  private ExprValue getValue(JSONArray jsonArray, Integer index, ExprType exprType) {
+  private static ExprValue getValue(String value, ExprType exprType) {
     if (INTEGER.equals(exprType)) {
-      return new ExprIntegerValue(jsonArray.getInt(index));
+      return new ExprIntegerValue((int) parseLong(value));
     } else if (LONG.equals(exprType)) {
-      return new ExprLongValue(jsonArray.getLong(index));
+      return new ExprLongValue(parseLong(value));
+    }
+    return new ExprDoubleValue(Double.parseDouble(value));
+  }
+
+  private static long parseLong(String value) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      return (long) Double.parseDouble(value);
     }
-    return new ExprDoubleValue(jsonArray.getDouble(index));
   }
 
-  private String getKey(String key) {
-    if (this.prometheusResponseFieldNames.getGroupByList() == null) {
-      return key;
-    } else {
-      return this.prometheusResponseFieldNames.getGroupByList().stream()
-          .filter(expression -> expression.getDelegated() instanceof ReferenceExpression)
-          .filter(
-              expression -> ((ReferenceExpression) expression.getDelegated()).getAttr().equals(key))
-          .findFirst()
-          .map(NamedExpression::getName)
-          .orElse(key);
+  private static Map<String, String> resolveLabelColumnNames(
+      PrometheusResponseFieldNames prometheusResponseFieldNames) {
+    Map<String, String> columnNames = new HashMap<>();
+    if (prometheusResponseFieldNames.getGroupByList() != null) {
+      for (NamedExpression expression : prometheusResponseFieldNames.getGroupByList()) {
+        if (expression.getDelegated() instanceof ReferenceExpression) {
+          columnNames.putIfAbsent(
+              ((ReferenceExpression) expression.getDelegated()).getAttr(), expression.getName());
+        }
+      }
     }
+    return columnNames;
   }
 }
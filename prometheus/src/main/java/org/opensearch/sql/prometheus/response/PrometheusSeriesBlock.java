@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Decoded, immutable result of a range query over one time window. Blocks of consecutive windows
+ * are stitched back into a single result by {@link #concat(List, Closeable)}.
+ */
+public class PrometheusSeriesBlock {
+
+  /** Estimated bytes of a series, besides its labels and samples. */
+  private static final long SERIES_OVERHEAD = 64;
+
+  /** Estimated bytes of a string, besides its characters. */
+  private static final long STRING_OVERHEAD = 40;
+
+  private final List<Series> series;
+
+  /** Number of samples in the block, used to weigh the block in caches. */
+  @Getter private final int sampleCount;
+
+  /** Estimated size of the block in memory. */
+  @Getter private final long estimatedBytes;
+
+  private PrometheusSeriesBlock(List<Series> series) {
+    this.series = series;
+    this.sampleCount = series.stream().mapToInt(s -> s.timestamps.length).sum();
+    this.estimatedBytes = series.stream().mapToLong(Series::estimatedBytes).sum();
+  }
+
+  /**
+   * Drain a reader into a block.
+   *
+   * @param reader started or unstarted reader, it is not closed.
+   * @return block.
+   */
+  public static PrometheusSeriesBlock read(PrometheusSeriesReader reader) throws IOException {
+    List<Series> series = new ArrayList<>();
+    while (reader.nextSeries()) {
+      Map<String, String> labels = reader.getLabels();
+      double[] timestamps = new double[16];
+      String[] values = new String[16];
+      int size = 0;
+      while (reader.nextSample()) {
+        if (size == timestamps.length) {
+          timestamps = Arrays.copyOf(timestamps, size * 2);
+          values = Arrays.copyOf(values, size * 2);
+        }
+        timestamps[size] = reader.getTimestamp();
+        values[size] = reader.getValue();
+        size++;
+      }
+      series.add(new Series(labels, Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size)));
+    }
+    return new PrometheusSeriesBlock(series);
+  }
+
+  /**
+   * Stitch blocks of consecutive, non-overlapping windows. Series with the same labels are merged
+   * with their samples in block order; series are returned in order of first appearance. The
+   * samples are read from the blocks, so the stitched result isn't copied.
+   *
+   * @param blocks blocks ordered by window.
+   * @param resource resource released when the reader is closed, e.g. the memory of the blocks.
+   * @return reader over the stitched result.
+   */
+  public static PrometheusSeriesReader concat(
+      List<PrometheusSeriesBlock> blocks, Closeable resource) {
+    Map<Map<String, String>, List<Series>> merged = new LinkedHashMap<>();
+    for (PrometheusSeriesBlock block : blocks) {
+      for (Series s : block.series) {
+        merged.computeIfAbsent(s.labels, k -> new ArrayList<>()).add(s);
+      }
+    }
+    return new BlockReader(new ArrayList<>(merged.values()), resource);
+  }
+
+  /** @return reader over this block. */
+  public PrometheusSeriesReader reader() {
+    return new BlockReader(series.stream().map(List::of).toList(), null);
+  }
+
+  private record Series(Map<String, String> labels, double[] timestamps, String[] values) {
+    private long estimatedBytes() {
+      long bytes = SERIES_OVERHEAD;
+      for (Map.Entry<String, String> label : labels.entrySet()) {
+        bytes += 2 * STRING_OVERHEAD + label.getKey().length() + label.getValue().length();
+      }
+      for (String value : values) {
+        bytes += Double.BYTES + STRING_OVERHEAD + value.length();
+      }
+      return bytes;
+    }
+  }
+
+  /** Reader over series, each made of parts of consecutive windows. */
+  private static class BlockReader implements PrometheusSeriesReader {
+    private final List<List<Series>> series;
+    private final Closeable resource;
+    private int seriesIndex = -1;
+    private int partIndex;
+    private int sampleIndex = -1;
+
+    private BlockReader(List<List<Series>> series, Closeable resource) {
+      this.series = series;
+      this.resource = resource;
+    }
+
+    @Override
+    public void start() {}
+
+    @Override
+    public boolean nextSeries() {
+      if (seriesIndex + 1 >= series.size()) {
+        seriesIndex = series.size();
+        return false;
+      }
+      seriesIndex++;
+      partIndex = 0;
+      sampleIndex = -1;
+      return true;
+    }
+
+    @Override
+    public boolean nextSample() {
+      if (seriesIndex < 0 || seriesIndex >= series.size()) {
+        return false;
+      }
+      List<Series> parts = series.get(seriesIndex);
+      while (sampleIndex + 1 >= parts.get(partIndex).timestamps.length) {
+        if (partIndex + 1 >= parts.size()) {
+          return false;
+        }
+        partIndex++;
+        sampleIndex = -1;
+      }
+      sampleIndex++;
+      return true;
+    }
+
+    @Override
+    public Map<String, String> getLabels() {
+      return current().labels;
+    }
+
+    @Override
+    public double getTimestamp() {
+      return current().timestamps[sampleIndex];
+    }
+
+    @Override
+    public String getValue() {
+      return current().values[sampleIndex];
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (resource != null) {
+        resource.close();
+      }
+    }
+
+    private Series current() {
+      return series.get(seriesIndex).get(partIndex);
+    }
+  }
+}
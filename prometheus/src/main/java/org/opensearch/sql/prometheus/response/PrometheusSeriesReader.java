@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import org.opensearch.sql.prometheus.exceptions.PrometheusClientException;
+
+/**
+ * Cursor over the series of a Prometheus range query result. The reader is positioned on a series
+ * by {@link #nextSeries()} and on a sample of that series by {@link #nextSample()}.
+ */
+public interface PrometheusSeriesReader extends Closeable {
+
+  JsonFactory JSON_FACTORY = new JsonFactory();
+
+  /**
+   * Create a reader decoding a full Prometheus API response, e.g. {"status": "success", "data":
+   * ...}, while it is read from the stream.
+   *
+   * @param inputStream response body stream.
+   * @param resource resource released when the reader is closed, e.g. the http response.
+   * @return reader.
+   */
+  static PrometheusSeriesReader fromResponse(InputStream inputStream, Closeable resource)
+      throws IOException {
+    return new PrometheusJsonSeriesReader(JSON_FACTORY.createParser(inputStream), resource, true);
+  }
+
+  /**
+   * Create a reader over the "data" object of a Prometheus range query response.
+   *
+   * @param data json of the data object, e.g. {"resultType": "matrix", "result": [...]}.
+   * @return reader.
+   */
+  static PrometheusSeriesReader fromData(String data) throws IOException {
+    return new PrometheusJsonSeriesReader(JSON_FACTORY.createParser(data), null, false);
+  }
+
+  /**
+   * Validate the response and position the reader before the first series. Calling it more than
+   * once has no effect.
+   *
+   * @throws PrometheusClientException if Prometheus reports an error or the body is not json.
+   * @throws RuntimeException if the result is not a matrix.
+   */
+  void start() throws IOException;
+
+  /**
+   * Advance to the next series. Unread samples of the current series are skipped.
+   *
+   * @return false if there are no more series.
+   */
+  boolean nextSeries() throws IOException;
+
+  /**
+   * Advance to the next sample of the current series.
+   *
+   * @return false if the current series has no more samples.
+   */
+  boolean nextSample() throws IOException;
+
+  /** Labels of the current series, in response order. */
+  Map<String, String> getLabels();
+
+  /** Timestamp of the current sample in seconds. */
+  double getTimestamp();
+
+  /** Value of the current sample, as returned by Prometheus. */
+  String getValue();
+}
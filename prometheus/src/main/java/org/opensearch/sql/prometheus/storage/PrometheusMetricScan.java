@@ -15,11 +15,12 @@ import lombok.Setter;
 import lombok.ToString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONObject;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
 import org.opensearch.sql.prometheus.response.PrometheusResponse;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
 import org.opensearch.sql.prometheus.storage.model.PrometheusResponseFieldNames;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -33,10 +34,14 @@ public class PrometheusMetricScan extends TableScanOperator {
   @EqualsAndHashCode.Include @Getter @Setter @ToString.Include
   private PrometheusQueryRequest request;
 
+  private PrometheusSeriesReader reader;
+
   private Iterator<ExprValue> iterator;
 
   @Setter private PrometheusResponseFieldNames prometheusResponseFieldNames;
 
+  @Setter private MemoryTracker memoryTracker = MemoryTracker.NO_OP;
+
   private static final Logger LOG = LogManager.getLogger();
 
   /**
@@ -58,14 +63,14 @@ public class PrometheusMetricScan extends TableScanOperator {
             (PrivilegedAction<Iterator<ExprValue>>)
                 () -> {
                   try {
-                    JSONObject responseObject =
-                        prometheusClient.queryRange(
+                    this.reader =
+                        prometheusClient.queryRangeWindowStream(
                             request.getPromQl(),
                             request.getStartTime(),
                             request.getEndTime(),
-                            request.getStep());
-                    return new PrometheusResponse(responseObject, prometheusResponseFieldNames)
-                        .iterator();
+                            request.getStep(),
+                            memoryTracker);
+                    return new PrometheusResponse(reader, prometheusResponseFieldNames).iterator();
                   } catch (IOException e) {
                     LOG.error(e.getMessage());
                     throw new RuntimeException(
@@ -74,6 +79,19 @@ public class PrometheusMetricScan extends TableScanOperator {
                 });
   }
 
+  @Override
+  public void close() {
+    super.close();
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        LOG.error("Failed to close prometheus response", e);
+      }
+      reader = null;
+    }
+  }
+
   @Override
   public boolean hasNext() {
     return iterator.hasNext();
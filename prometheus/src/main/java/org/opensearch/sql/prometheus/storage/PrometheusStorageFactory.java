@@ -17,7 +17,6 @@ import java.security.PrivilegedAction;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
 import okhttp3.OkHttpClient;
 import org.opensearch.sql.common.interceptors.AwsSigningInterceptor;
 import org.opensearch.sql.common.interceptors.BasicAuthenticationInterceptor;
@@ -28,12 +27,13 @@ import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.datasource.model.DataSourceType;
 import org.opensearch.sql.datasources.auth.AuthenticationType;
 import org.opensearch.sql.datasources.utils.DatasourceValidationUtils;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.client.PrometheusClientImpl;
+import org.opensearch.sql.prometheus.client.PrometheusWindowCache;
 import org.opensearch.sql.storage.DataSourceFactory;
 import org.opensearch.sql.storage.StorageEngine;
 
-@RequiredArgsConstructor
 public class PrometheusStorageFactory implements DataSourceFactory {
 
   public static final String URI = "prometheus.uri";
@@ -46,6 +46,18 @@ public class PrometheusStorageFactory implements DataSourceFactory {
 
   private final Settings settings;
 
+  /** Windows of range queries cached for all the Prometheus data sources of the node. */
+  private final PrometheusWindowCache windowCache;
+
+  public PrometheusStorageFactory(Settings settings) {
+    this(settings, MemoryTracker.NO_OP);
+  }
+
+  public PrometheusStorageFactory(Settings settings, MemoryTracker nodeMemoryTracker) {
+    this.settings = settings;
+    this.windowCache = new PrometheusWindowCache(settings, nodeMemoryTracker);
+  }
+
   @Override
   public DataSourceType getDataSourceType() {
     return DataSourceType.PROMETHEUS;
@@ -88,7 +100,9 @@ public class PrometheusStorageFactory implements DataSourceFactory {
                   try {
                     validateDataSourceConfigProperties(requiredConfig);
                     return new PrometheusClientImpl(
-                        getHttpClient(requiredConfig), new URI(requiredConfig.get(URI)));
+                        getHttpClient(requiredConfig),
+                        new URI(requiredConfig.get(URI)),
+                        windowCache);
                   } catch (URISyntaxException | UnknownHostException e) {
                     throw new IllegalArgumentException(
                         String.format("Invalid URI in prometheus properties: %s", e.getMessage()));
@@ -6,9 +6,16 @@
 package org.opensearch.sql.prometheus.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.sql.prometheus.constants.TestConstants.ENDTIME;
 import static org.opensearch.sql.prometheus.constants.TestConstants.METRIC_NAME;
 import static org.opensearch.sql.prometheus.constants.TestConstants.QUERY;
@@ -25,6 +32,7 @@ import java.util.Map;
 import lombok.SneakyThrows;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -34,13 +42,24 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.prometheus.exceptions.PrometheusClientException;
 import org.opensearch.sql.prometheus.request.system.model.MetricMetadata;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
 
 @ExtendWith(MockitoExtension.class)
 public class PrometheusClientImplTest {
 
+  private static final Long START_SECONDS = 1664767694L;
+  private static final Long END_SECONDS = 1664771294L;
+
+  @Mock private Settings settings;
+  @Mock private MemoryTracker memoryTracker;
+  @Mock private MemoryTracker queryMemoryTracker;
+
   private MockWebServer mockWebServer;
   private PrometheusClient prometheusClient;
 
@@ -49,7 +68,10 @@ public class PrometheusClientImplTest {
     this.mockWebServer = new MockWebServer();
     this.mockWebServer.start();
     this.prometheusClient =
-        new PrometheusClientImpl(new OkHttpClient(), mockWebServer.url("").uri().normalize());
+        new PrometheusClientImpl(
+            new OkHttpClient(),
+            mockWebServer.url("").uri().normalize(),
+            new PrometheusWindowCache(settings, memoryTracker));
   }
 
   @Test
@@ -121,6 +143,147 @@ public class PrometheusClientImplTest {
     verifyQueryRangeCall(recordedRequest);
   }
 
+  @Test
+  @SneakyThrows
+  void testQueryRangeStream() {
+    MockResponse mockResponse =
+        new MockResponse()
+            .addHeader("Content-Type", "application/json; charset=utf-8")
+            .setBody(getJson("query_range_response.json"));
+    mockWebServer.enqueue(mockResponse);
+    try (PrometheusSeriesReader reader =
+        prometheusClient.queryRangeStream(
+            QUERY, START_SECONDS, END_SECONDS, STEP, queryMemoryTracker)) {
+      assertTrue(reader.nextSeries());
+      assertEquals(
+          List.of("__name__", "job", "instance"), new ArrayList<>(reader.getLabels().keySet()));
+      assertEquals("prometheus", reader.getLabels().get("job"));
+      String metricName = reader.getLabels().get("__name__");
+      assertTrue(reader.nextSample());
+      assertEquals(1435781430.781, reader.getTimestamp());
+      assertEquals("1", reader.getValue());
+      assertFalse(reader.nextSample());
+      assertTrue(reader.nextSeries());
+      assertEquals("node", reader.getLabels().get("job"));
+      assertSame(metricName, reader.getLabels().get("__name__"));
+      assertFalse(reader.nextSeries());
+    }
+    HttpUrl httpUrl = mockWebServer.takeRequest().getRequestUrl();
+    assertNotNull(httpUrl);
+    assertEquals("/api/v1/query_range", httpUrl.encodedPath());
+    assertEquals(START_SECONDS.toString(), httpUrl.queryParameter("start"));
+    assertEquals(END_SECONDS.toString(), httpUrl.queryParameter("end"));
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeStreamSplitsLongRangeIntoCachedWindows() {
+    long step = 60;
+    long span = step * QueryRangeWindows.MAX_POINTS_PER_WINDOW;
+    long start = 1435000000L / span * span + 30;
+    long end = start + 3 * span;
+    when(settings.getSettingValue(Settings.Key.DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES))
+        .thenReturn(1000);
+    Dispatcher dispatcher =
+        new Dispatcher() {
+          @Override
+          public MockResponse dispatch(RecordedRequest request) {
+            long windowStart = Long.parseLong(request.getRequestUrl().queryParameter("start"));
+            return new MockResponse()
+                .setBody(
+                    String.format(
+                        "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\","
+                            + "\"result\":[{\"metric\":{\"job\":\"a\"},"
+                            + "\"values\":[[%d,\"%d\"]]}]}}",
+                        windowStart,
+                        windowStart));
+          }
+        };
+    mockWebServer.setDispatcher(dispatcher);
+
+    List<Double> timestamps = new ArrayList<>();
+    try (PrometheusSeriesReader reader =
+        prometheusClient.queryRangeStream(QUERY, start, end, step + "s", queryMemoryTracker)) {
+      assertTrue(reader.nextSeries());
+      assertEquals(Map.of("job", "a"), reader.getLabels());
+      while (reader.nextSample()) {
+        timestamps.add(reader.getTimestamp());
+      }
+      assertFalse(reader.nextSeries());
+    }
+    assertEquals(4, mockWebServer.getRequestCount());
+    // windows start on the points of the query, the last window holds the single point at the end.
+    assertEquals(
+        List.of(
+            (double) start,
+            (double) start + span,
+            (double) start + 2 * span,
+            (double) start + 3 * span),
+        timestamps);
+    verify(memoryTracker, times(3)).reserve(anyLong(), eq("prometheus_window"));
+    // the incomplete last window is not cached, it is held for the query until the reader closes.
+    verify(queryMemoryTracker).reserve(anyLong(), eq("prometheus_window"));
+    verify(queryMemoryTracker).release(anyLong());
+
+    // complete windows in the past are served from the cache.
+    try (PrometheusSeriesReader reader =
+        prometheusClient.queryRangeStream(QUERY, start, end, step + "s", queryMemoryTracker)) {
+      assertTrue(reader.nextSeries());
+    }
+    assertEquals(5, mockWebServer.getRequestCount());
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeStreamWith2xxStatusAndError() {
+    MockResponse mockResponse =
+        new MockResponse()
+            .addHeader("Content-Type", "application/json; charset=utf-8")
+            .setBody(getJson("error_response.json"));
+    mockWebServer.enqueue(mockResponse);
+    PrometheusClientException prometheusClientException =
+        assertThrows(
+            PrometheusClientException.class,
+            () ->
+                prometheusClient.queryRangeStream(
+                    QUERY, START_SECONDS, END_SECONDS, STEP, queryMemoryTracker));
+    assertEquals("Error", prometheusClientException.getMessage());
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeStreamWithNonJsonResponse() {
+    MockResponse mockResponse =
+        new MockResponse()
+            .addHeader("Content-Type", "application/json; charset=utf-8")
+            .setBody(getJson("non_json_response.json"));
+    mockWebServer.enqueue(mockResponse);
+    PrometheusClientException prometheusClientException =
+        assertThrows(
+            PrometheusClientException.class,
+            () ->
+                prometheusClient.queryRangeStream(
+                    QUERY, START_SECONDS, END_SECONDS, STEP, queryMemoryTracker));
+    assertEquals(
+        "Prometheus returned unexpected body, " + "please verify your prometheus server setup.",
+        prometheusClientException.getMessage());
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeStreamWithNon2xxError() {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(400));
+    PrometheusClientException prometheusClientException =
+        assertThrows(
+            PrometheusClientException.class,
+            () ->
+                prometheusClient.queryRangeStream(
+                    QUERY, START_SECONDS, END_SECONDS, STEP, queryMemoryTracker));
+    assertEquals(
+        "Request to Prometheus is Unsuccessful with code : 400",
+        prometheusClientException.getMessage());
+  }
+
   @Test
   @SneakyThrows
   void testGetLabel() {
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.monitor.MemoryTracker;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesBlock;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
+
+@ExtendWith(MockitoExtension.class)
+class PrometheusWindowCacheTest {
+
+  @Mock private Settings settings;
+
+  @Mock private MemoryTracker memoryTracker;
+
+  private PrometheusWindowCache cache;
+
+  private PrometheusSeriesBlock block;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    cache = new PrometheusWindowCache(settings, memoryTracker);
+    block =
+        PrometheusSeriesBlock.read(
+            PrometheusSeriesReader.fromData(
+                "{\"resultType\":\"matrix\",\"result\":[{\"metric\":{\"job\":\"a\"},"
+                    + "\"values\":[[1,\"1\"],[2,\"2\"]]}]}"));
+  }
+
+  @Test
+  void windowIsReservedUntilEvicted() {
+    maxSamples(10);
+
+    cache.put("a", block);
+    assertEquals(Optional.of(block), cache.get("a"));
+    verify(memoryTracker).reserve(block.getEstimatedBytes(), "prometheus_window");
+
+    // the cache is built again when the setting changes
+    maxSamples(20);
+    assertEquals(Optional.empty(), cache.get("a"));
+    verify(memoryTracker).release(block.getEstimatedBytes());
+  }
+
+  @Test
+  void windowIsNotCachedWithoutMemory() {
+    maxSamples(10);
+    doThrow(new IllegalStateException("breaker"))
+        .when(memoryTracker)
+        .reserve(anyLong(), eq("prometheus_window"));
+
+    cache.put("a", block);
+
+    assertEquals(Optional.empty(), cache.get("a"));
+  }
+
+  @Test
+  void disabledCacheDoesNotReserveMemory() {
+    maxSamples(0);
+
+    cache.put("a", block);
+
+    assertTrue(cache.get("a").isEmpty());
+    verifyNoInteractions(memoryTracker);
+  }
+
+  private void maxSamples(int maxSamples) {
+    when(settings.getSettingValue(Settings.Key.DATASOURCES_PROMETHEUS_WINDOW_CACHE_MAX_SAMPLES))
+        .thenReturn(maxSamples);
+  }
+}
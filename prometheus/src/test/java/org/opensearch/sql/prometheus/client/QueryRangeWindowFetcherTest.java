@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import okhttp3.Call;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.monitor.MemoryTracker;
+import org.opensearch.sql.prometheus.client.QueryRangeWindowFetcher.FetchedWindow;
+import org.opensearch.sql.prometheus.client.QueryRangeWindowFetcher.WindowRequest;
+import org.opensearch.sql.prometheus.client.QueryRangeWindows.Window;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesBlock;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
+
+@ExtendWith(MockitoExtension.class)
+class QueryRangeWindowFetcherTest {
+
+  @Mock private MemoryTracker memoryTracker;
+
+  @Mock private Call call;
+
+  private final List<Window> windows =
+      IntStream.range(0, 6).mapToObj(i -> new Window(i * 10, i * 10 + 9, true)).toList();
+
+  private final List<CompletableFuture<FetchedWindow>> requested = new ArrayList<>();
+
+  private WindowRequest request(Window window) {
+    CompletableFuture<FetchedWindow> future = new CompletableFuture<>();
+    requested.add(future);
+    return new WindowRequest(future, call);
+  }
+
+  @Test
+  @SneakyThrows
+  void testWindowsInFlightAreBounded() {
+    QueryRangeWindowFetcher fetcher =
+        new QueryRangeWindowFetcher(windows, this::request, memoryTracker);
+    assertEquals(QueryRangeWindowFetcher.MAX_WINDOWS_IN_FLIGHT, requested.size());
+
+    requested.get(0).complete(new FetchedWindow(block(0), false));
+    fetcher.next();
+    assertEquals(QueryRangeWindowFetcher.MAX_WINDOWS_IN_FLIGHT + 1, requested.size());
+  }
+
+  @Test
+  @SneakyThrows
+  void testStreamReadsWindowsInOrderAndReleasesThem() {
+    QueryRangeWindowFetcher fetcher =
+        new QueryRangeWindowFetcher(windows.subList(0, 2), this::request, memoryTracker);
+    requested.get(1).complete(new FetchedWindow(block(10), true));
+    requested.get(0).complete(new FetchedWindow(block(0), false));
+
+    List<Double> timestamps = new ArrayList<>();
+    try (PrometheusSeriesReader reader = fetcher.stream()) {
+      while (reader.nextSeries()) {
+        while (reader.nextSample()) {
+          timestamps.add(reader.getTimestamp());
+        }
+      }
+      assertFalse(reader.nextSeries());
+    }
+    assertEquals(List.of(0.0, 10.0), timestamps);
+    // only the window which is not cached is charged to the query.
+    verify(memoryTracker).reserve(anyLong(), eq("prometheus_window"));
+    verify(memoryTracker).release(anyLong());
+  }
+
+  @Test
+  void testFailedWindowCancelsRequestsInFlight() {
+    QueryRangeWindowFetcher fetcher =
+        new QueryRangeWindowFetcher(windows, this::request, memoryTracker);
+    requested.get(0).completeExceptionally(new IOException("failed"));
+
+    IOException exception = assertThrows(IOException.class, fetcher::next);
+    assertEquals("failed", exception.getMessage());
+    verify(call, times(QueryRangeWindowFetcher.MAX_WINDOWS_IN_FLIGHT)).cancel();
+    verify(memoryTracker, never()).reserve(anyLong(), eq("prometheus_window"));
+  }
+
+  @Test
+  @SneakyThrows
+  void testCloseReleasesWindowsRead() {
+    QueryRangeWindowFetcher fetcher =
+        new QueryRangeWindowFetcher(windows.subList(0, 1), this::request, memoryTracker);
+    requested.get(0).complete(new FetchedWindow(block(0), false));
+
+    assertNotNull(fetcher.next());
+    fetcher.close();
+    verify(memoryTracker).release(anyLong());
+  }
+
+  @SneakyThrows
+  private static PrometheusSeriesBlock block(long timestamp) {
+    return PrometheusSeriesBlock.read(
+        PrometheusSeriesReader.fromData(
+            String.format(
+                "{\"resultType\":\"matrix\",\"result\":[{\"metric\":{\"job\":\"a\"},"
+                    + "\"values\":[[%d,\"1\"]]}]}",
+                timestamp)));
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.prometheus.client.QueryRangeWindows.Window;
+
+class QueryRangeWindowsTest {
+
+  @Test
+  void testSmallRangeIsNotSplit() {
+    assertTrue(QueryRangeWindows.split(0, 1999 * 14, "14").isEmpty());
+    assertTrue(QueryRangeWindows.split(100, 50, "1").isEmpty());
+  }
+
+  @Test
+  void testUnalignedStepIsNotSplit() {
+    assertTrue(QueryRangeWindows.split(0, 1_000_000, "1500ms").isEmpty());
+    assertTrue(QueryRangeWindows.split(0, 1_000_000, "1m30s").isEmpty());
+  }
+
+  @Test
+  void testSplitIntoAlignedWindows() {
+    long span = 10 * QueryRangeWindows.MAX_POINTS_PER_WINDOW;
+    List<Window> windows = QueryRangeWindows.split(span - 30, 3 * span + 37, "10s");
+    assertEquals(
+        List.of(
+            new Window(span - 30, span - 10, false),
+            new Window(span, 2 * span - 10, true),
+            new Window(2 * span, 3 * span - 10, true),
+            new Window(3 * span, 3 * span + 30, false)),
+        windows);
+  }
+
+  @Test
+  void testWindowsStartOnPointsOfTheQuery() {
+    long span = 10 * QueryRangeWindows.MAX_POINTS_PER_WINDOW;
+    List<Window> windows = QueryRangeWindows.split(span - 25, 3 * span + 37, "10s");
+    assertEquals(
+        List.of(
+            new Window(span - 25, span - 5, false),
+            new Window(span + 5, 2 * span - 5, true),
+            new Window(2 * span + 5, 3 * span - 5, true),
+            new Window(3 * span + 5, 3 * span + 35, false)),
+        windows);
+  }
+
+  @Test
+  void testStepSeconds() {
+    assertEquals(14, QueryRangeWindows.stepSeconds("14"));
+    assertEquals(30, QueryRangeWindows.stepSeconds("30s"));
+    assertEquals(120, QueryRangeWindows.stepSeconds("2m"));
+    assertEquals(86400, QueryRangeWindows.stepSeconds("1d"));
+    assertEquals(2, QueryRangeWindows.stepSeconds("2000ms"));
+    assertEquals(-1, QueryRangeWindows.stepSeconds("0.5"));
+    assertEquals(-1, QueryRangeWindows.stepSeconds(null));
+  }
+}
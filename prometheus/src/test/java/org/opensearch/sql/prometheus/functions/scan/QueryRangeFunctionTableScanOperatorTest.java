@@ -26,7 +26,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import lombok.SneakyThrows;
-import org.json.JSONObject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,6 +41,7 @@ import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
 
 @ExtendWith(MockitoExtension.class)
 class QueryRangeFunctionTableScanOperatorTest {
@@ -60,16 +60,16 @@ class QueryRangeFunctionTableScanOperatorTest {
     QueryRangeFunctionTableScanOperator queryRangeFunctionTableScanOperator =
         new QueryRangeFunctionTableScanOperator(prometheusClient, prometheusQueryRequest);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any(), any()))
+        .thenReturn(PrometheusSeriesReader.fromData(getJson("query_range_result.json")));
     queryRangeFunctionTableScanOperator.open();
     Assertions.assertTrue(queryRangeFunctionTableScanOperator.hasNext());
     LinkedHashMap<String, ExprValue> labelsMap =
         new LinkedHashMap<>() {
           {
-            put("instance", new ExprStringValue("localhost:9090"));
             put("__name__", new ExprStringValue("up"));
             put("job", new ExprStringValue("prometheus"));
+            put("instance", new ExprStringValue("localhost:9090"));
           }
         };
     ExprTupleValue firstRow =
@@ -94,9 +94,9 @@ class QueryRangeFunctionTableScanOperatorTest {
     LinkedHashMap<String, ExprValue> labelsMap2 =
         new LinkedHashMap<>() {
           {
-            put("instance", new ExprStringValue("localhost:9091"));
             put("__name__", new ExprStringValue("up"));
             put("job", new ExprStringValue("node"));
+            put("instance", new ExprStringValue("localhost:9091"));
           }
         };
     ExprTupleValue secondRow =
@@ -130,8 +130,8 @@ class QueryRangeFunctionTableScanOperatorTest {
     QueryRangeFunctionTableScanOperator queryRangeFunctionTableScanOperator =
         new QueryRangeFunctionTableScanOperator(prometheusClient, prometheusQueryRequest);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("no_matrix_query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any(), any()))
+        .thenReturn(PrometheusSeriesReader.fromData(getJson("no_matrix_query_range_result.json")));
     RuntimeException runtimeException =
         assertThrows(RuntimeException.class, queryRangeFunctionTableScanOperator::open);
     assertEquals(
@@ -152,8 +152,8 @@ class QueryRangeFunctionTableScanOperatorTest {
     QueryRangeFunctionTableScanOperator queryRangeFunctionTableScanOperator =
         new QueryRangeFunctionTableScanOperator(prometheusClient, prometheusQueryRequest);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any(), any()))
+        .thenReturn(PrometheusSeriesReader.fromData(getJson("query_range_result.json")));
     queryRangeFunctionTableScanOperator.open();
     ArrayList<ExecutionEngine.Schema.Column> columns = new ArrayList<>();
     columns.add(new ExecutionEngine.Schema.Column(LABELS, LABELS, ExprCoreType.STRUCT));
@@ -175,7 +175,7 @@ class QueryRangeFunctionTableScanOperatorTest {
     QueryRangeFunctionTableScanOperator queryRangeFunctionTableScanOperator =
         new QueryRangeFunctionTableScanOperator(prometheusClient, prometheusQueryRequest);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
+    when(prometheusClient.queryRangeStream(any(), any(), any(), any(), any()))
         .thenThrow(new IOException("Error Message"));
     RuntimeException runtimeException =
         assertThrows(RuntimeException.class, queryRangeFunctionTableScanOperator::open);
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+class PrometheusSeriesReaderTest {
+
+  @Test
+  @SneakyThrows
+  void testValuesBeforeMetric() {
+    String data =
+        "{\"resultType\": \"matrix\", \"result\": ["
+            + "{\"values\": [[1.5, \"1\"], [2.5, \"2\"]], \"metric\": {\"job\": \"a\"}},"
+            + "{\"metric\": {\"job\": \"b\"}, \"values\": [[3, \"3\"]]}]}";
+    try (PrometheusSeriesReader reader = PrometheusSeriesReader.fromData(data)) {
+      assertTrue(reader.nextSeries());
+      assertEquals(Map.of("job", "a"), reader.getLabels());
+      assertTrue(reader.nextSample());
+      assertEquals(1.5, reader.getTimestamp());
+      assertEquals("1", reader.getValue());
+      assertTrue(reader.nextSample());
+      assertEquals(2.5, reader.getTimestamp());
+      assertFalse(reader.nextSample());
+
+      assertTrue(reader.nextSeries());
+      assertEquals(Map.of("job", "b"), reader.getLabels());
+      assertTrue(reader.nextSample());
+      assertEquals(3.0, reader.getTimestamp());
+      assertEquals("3", reader.getValue());
+      assertFalse(reader.nextSample());
+      assertFalse(reader.nextSeries());
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void testUnreadSamplesAreSkipped() {
+    String data =
+        "{\"resultType\": \"matrix\", \"result\": ["
+            + "{\"metric\": {\"job\": \"a\"}, \"values\": [[1, \"1\"], [2, \"2\"]], \"x\": {}},"
+            + "{\"metric\": {\"job\": \"b\"}, \"values\": [[3, \"3\"]]}]}";
+    try (PrometheusSeriesReader reader = PrometheusSeriesReader.fromData(data)) {
+      assertTrue(reader.nextSeries());
+      assertTrue(reader.nextSeries());
+      assertEquals(Map.of("job", "b"), reader.getLabels());
+      assertTrue(reader.nextSample());
+      assertEquals("3", reader.getValue());
+      assertFalse(reader.nextSeries());
+    }
+  }
+}
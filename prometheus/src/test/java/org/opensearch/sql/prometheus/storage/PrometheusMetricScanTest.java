@@ -25,7 +25,6 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import lombok.SneakyThrows;
-import org.json.JSONObject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +38,7 @@ import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
+import org.opensearch.sql.prometheus.response.PrometheusSeriesReader;
 import org.opensearch.sql.prometheus.storage.model.PrometheusResponseFieldNames;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,8 +55,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeWindowStream(any(), any(), any(), any(), any()))
+        .thenReturn(PrometheusSeriesReader.fromData(getJson("query_range_result.json")));
     prometheusMetricScan.open();
     Assertions.assertTrue(prometheusMetricScan.hasNext());
     ExprTupleValue firstRow =
@@ -65,9 +65,9 @@ public class PrometheusMetricScanTest {
               {
                 put(TIMESTAMP, new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
                 put(VALUE, new ExprDoubleValue(1));
-                put("instance", new ExprStringValue("localhost:9090"));
                 put("__name__", new ExprStringValue("up"));
                 put("job", new ExprStringValue("prometheus"));
+                put("instance", new ExprStringValue("localhost:9090"));
               }
             });
     assertEquals(firstRow, prometheusMetricScan.next());
@@ -78,9 +78,9 @@ public class PrometheusMetricScanTest {
               {
                 put("@timestamp", new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
                 put("@value", new ExprDoubleValue(0));
-                put("instance", new ExprStringValue("localhost:9091"));
                 put("__name__", new ExprStringValue("up"));
                 put("job", new ExprStringValue("node"));
+                put("instance", new ExprStringValue("localhost:9091"));
               }
             });
     assertEquals(secondRow, prometheusMetricScan.next());
@@ -101,8 +101,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeWindowStream(any(), any(), any(), any(), any()))
+        .thenReturn(PrometheusSeriesReader.fromData(getJson("query_range_result.json")));
     prometheusMetricScan.open();
     Assertions.assertTrue(prometheusMetricScan.hasNext());
     ExprTupleValue firstRow =
@@ -111,9 +111,9 @@ public class PrometheusMetricScanTest {
               {
                 put(TIMESTAMP, new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
                 put("count()", new ExprIntegerValue(1));
-                put("instance", new ExprStringValue("localhost:9090"));
                 put("__name__", new ExprStringValue("up"));
                 put("job", new ExprStringValue("prometheus"));
+                put("instance", new ExprStringValue("localhost:9090"));
               }
             });
     assertEquals(firstRow, prometheusMetricScan.next());
@@ -124,9 +124,9 @@ public class PrometheusMetricScanTest {
               {
                 put(TIMESTAMP, new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
                 put("count()", new ExprIntegerValue(0));
-                put("instance", new ExprStringValue("localhost:9091"));
                 put("__name__", new ExprStringValue("up"));
                 put("job", new ExprStringValue("node"));
+                put("instance", new ExprStringValue("localhost:9091"));
               }
             });
     assertEquals(secondRow, prometheusMetricScan.next());
@@ -147,8 +147,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeWindowStream(any(), any(), any(), any(), any()))
+        .thenReturn(PrometheusSeriesReader.fromData(getJson("query_range_result.json")));
     prometheusMetricScan.open();
     Assertions.assertTrue(prometheusMetricScan.hasNext());
     ExprTupleValue firstRow =
@@ -157,9 +157,9 @@ public class PrometheusMetricScanTest {
               {
                 put(TIMESTAMP, new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
                 put("testAgg", new ExprLongValue(1));
-                put("instance", new ExprStringValue("localhost:9090"));
                 put("__name__", new ExprStringValue("up"));
                 put("job", new ExprStringValue("prometheus"));
+                put("instance", new ExprStringValue("localhost:9090"));
               }
             });
     assertEquals(firstRow, prometheusMetricScan.next());
@@ -170,9 +170,9 @@ public class PrometheusMetricScanTest {
               {
                 put(TIMESTAMP, new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
                 put("testAgg", new ExprLongValue(0));
-                put("instance", new ExprStringValue("localhost:9091"));
                 put("__name__", new ExprStringValue("up"));
                 put("job", new ExprStringValue("node"));
+                put("instance", new ExprStringValue("localhost:9091"));
               }
             });
     assertEquals(secondRow, prometheusMetricScan.next());
@@ -195,8 +195,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRangeWindowStream(any(), any(), any(), any(), any()))
+        .thenReturn(PrometheusSeriesReader.fromData(getJson("query_range_result.json")));
     prometheusMetricScan.open();
     Assertions.assertTrue(prometheusMetricScan.hasNext());
     ExprTupleValue firstRow =
@@ -205,9 +205,9 @@ public class PrometheusMetricScanTest {
               {
                 put(TIMESTAMP, new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
                 put("testAgg", new ExprLongValue(1));
-                put("`instance`", new ExprStringValue("localhost:9090"));
                 put("__name__", new ExprStringValue("up"));
                 put("job", new ExprStringValue("prometheus"));
+                put("`instance`", new ExprStringValue("localhost:9090"));
               }
             });
     assertEquals(firstRow, prometheusMetricScan.next());
@@ -218,9 +218,9 @@ public class PrometheusMetricScanTest {
               {
                 put(TIMESTAMP, new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
                 put("testAgg", new ExprLongValue(0));
-                put("`instance`", new ExprStringValue("localhost:9091"));
                 put("__name__", new ExprStringValue("up"));
                 put("job", new ExprStringValue("node"));
+                put("`instance`", new ExprStringValue("localhost:9091"));
               }
             });
     assertEquals(secondRow, prometheusMetricScan.next());
@@ -236,8 +236,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("empty_query_range_result.json")));
+    when(prometheusClient.queryRangeWindowStream(any(), any(), any(), any(), any()))
+        .thenReturn(PrometheusSeriesReader.fromData(getJson("empty_query_range_result.json")));
     prometheusMetricScan.open();
     Assertions.assertFalse(prometheusMetricScan.hasNext());
   }
@@ -251,8 +251,8 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("no_matrix_query_range_result.json")));
+    when(prometheusClient.queryRangeWindowStream(any(), any(), any(), any(), any()))
+        .thenReturn(PrometheusSeriesReader.fromData(getJson("no_matrix_query_range_result.json")));
     RuntimeException runtimeException =
         Assertions.assertThrows(RuntimeException.class, prometheusMetricScan::open);
     assertEquals(
@@ -270,7 +270,7 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
 
-    when(prometheusClient.queryRange(any(), any(), any(), any()))
+    when(prometheusClient.queryRangeWindowStream(any(), any(), any(), any(), any()))
         .thenThrow(new IOException("Error Message"));
     RuntimeException runtimeException =
         assertThrows(RuntimeException.class, prometheusMetricScan::open);
@@ -90,7 +90,22 @@ public class QueryResult implements Iterable<Object[]> {
         .iterator();
   }
 
-  private String getColumnName(Column column) {
+  /**
+   * Iterate rows as expression values, in schema order, for formatters which write typed values.
+   *
+   * @return iterator of rows
+   */
+  public Iterator<Collection<ExprValue>> exprValueIterator() {
+    return exprValues.stream().map(ExprValueUtils::getTupleValue).map(Map::values).iterator();
+  }
+
+  /**
+   * Column name or its alias if any.
+   *
+   * @param column column
+   * @return name of the column in the response
+   */
+  public static String getColumnName(Column column) {
     return (column.getAlias() != null) ? column.getAlias() : column.getName();
   }
 
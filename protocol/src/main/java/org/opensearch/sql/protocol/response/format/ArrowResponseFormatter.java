@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.ArrowStreamWriter.ArrowType;
+
+/**
+ * Response formatter writing the result as an Arrow IPC stream, which analytics clients such as
+ * pyarrow, pandas or DuckDB read without parsing. Rows are written in record batches of {@link
+ * #BATCH_SIZE} rows. Struct, array and other types without a flat Arrow counterpart are written as
+ * JSON strings. The cursor of a paginated response, if any, is in the "cursor" schema metadata.
+ */
+public class ArrowResponseFormatter implements ResponseFormatter<QueryResult> {
+  public static final String CONTENT_TYPE = "application/vnd.apache.arrow.stream";
+
+  static final int BATCH_SIZE = 8192;
+
+  private final JdbcResponseFormatter errorFormatter =
+      new JdbcResponseFormatter(JsonResponseFormatter.Style.PRETTY);
+
+  /** The Arrow stream is binary, so it is encoded in base64 when a string is required. */
+  @Override
+  public String format(QueryResult response) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try {
+      format(response, output);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Base64.getEncoder().encodeToString(output.toByteArray());
+  }
+
+  @Override
+  public void format(QueryResult response, OutputStream output) throws IOException {
+    List<Column> schema = response.getSchema().getColumns();
+    List<String> names = new ArrayList<>(schema.size());
+    List<ArrowType> types = new ArrayList<>(schema.size());
+    List<ArrowStreamWriter.Column> columns = new ArrayList<>(schema.size());
+    for (Column column : schema) {
+      ArrowType type = arrowType(column.getExprType());
+      names.add(QueryResult.getColumnName(column));
+      types.add(type);
+      columns.add(new ArrowStreamWriter.Column(type));
+    }
+
+    ArrowStreamWriter writer = new ArrowStreamWriter(output);
+    writer.writeSchema(
+        names,
+        types,
+        response.getCursor() == null || response.getCursor().equals(Cursor.None)
+            ? Map.of()
+            : Map.of("cursor", response.getCursor().toString()));
+    Iterator<Collection<ExprValue>> rows = response.exprValueIterator();
+    int batchRows = 0;
+    while (rows.hasNext()) {
+      int i = 0;
+      for (ExprValue value : rows.next()) {
+        add(columns.get(i), types.get(i), value);
+        i++;
+      }
+      if (++batchRows == BATCH_SIZE) {
+        writeBatch(writer, columns);
+        batchRows = 0;
+      }
+    }
+    if (batchRows > 0) {
+      writeBatch(writer, columns);
+    }
+    writer.writeEndOfStream();
+    output.flush();
+  }
+
+  @Override
+  public String format(Throwable t) {
+    return errorFormatter.format(t);
+  }
+
+  @Override
+  public String contentType() {
+    return CONTENT_TYPE;
+  }
+
+  private static void writeBatch(ArrowStreamWriter writer, List<ArrowStreamWriter.Column> columns)
+      throws IOException {
+    writer.writeRecordBatch(columns);
+    columns.forEach(ArrowStreamWriter.Column::reset);
+  }
+
+  private static ArrowType arrowType(ExprType exprType) {
+    ExprType type =
+        exprType instanceof OpenSearchDataType openSearchType
+            ? openSearchType.getExprCoreType()
+            : exprType;
+    if (!(type instanceof ExprCoreType coreType)) {
+      return ArrowType.UTF8;
+    }
+    return switch (coreType) {
+      case BYTE -> ArrowType.INT8;
+      case SHORT -> ArrowType.INT16;
+      case INTEGER -> ArrowType.INT32;
+      case LONG -> ArrowType.INT64;
+      case FLOAT -> ArrowType.FLOAT32;
+      case DOUBLE -> ArrowType.FLOAT64;
+      case BOOLEAN -> ArrowType.BOOL;
+      case DATE -> ArrowType.DATE_DAY;
+      case TIME -> ArrowType.TIME_MICRO;
+      case TIMESTAMP -> ArrowType.TIMESTAMP_MICRO;
+      default -> ArrowType.UTF8;
+    };
+  }
+
+  private static void add(ArrowStreamWriter.Column column, ArrowType type, ExprValue value) {
+    if (value.isNull() || value.isMissing()) {
+      column.addNull();
+      return;
+    }
+    switch (type) {
+      case INT8, INT16, INT32, INT64 -> column.addLong(value.longValue());
+      case FLOAT32, FLOAT64 -> column.addDouble(value.doubleValue());
+      case BOOL -> column.addBoolean(value.booleanValue());
+      case DATE_DAY -> column.addLong(value.dateValue().toEpochDay());
+      case TIME_MICRO -> column.addLong(value.timeValue().toNanoOfDay() / 1_000);
+      case TIMESTAMP_MICRO -> column.addLong(ArrowStreamWriter.epochMicros(value.timestampValue()));
+      case UTF8 ->
+          column.addString(
+              value.value() instanceof String string
+                  ? string
+                  : ErrorFormatter.compactJsonify(value.value()));
+    }
+  }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.protocol.response.format.FlatBuffers.Node;
+import org.opensearch.sql.protocol.response.format.FlatBuffers.Table;
+
+/**
+ * Writer of the Arrow IPC streaming format: a schema message, record batch messages and an end of
+ * stream marker. Only the flat types needed for query results are supported, values of any other
+ * type are written as UTF-8 strings by the caller.
+ *
+ * @see <a href="https://arrow.apache.org/docs/format/Columnar.html#ipc-streaming-format">IPC
+ *     streaming format</a>
+ */
+final class ArrowStreamWriter {
+
+  private static final int CONTINUATION = 0xFFFFFFFF;
+
+  private static final short METADATA_VERSION_V5 = 4;
+
+  private static final byte HEADER_SCHEMA = 1;
+
+  private static final byte HEADER_RECORD_BATCH = 3;
+
+  private static final byte[] PADDING = new byte[8];
+
+  /** Arrow types of result columns, with their Type union id. */
+  @RequiredArgsConstructor
+  enum ArrowType {
+    INT8(2, 1),
+    INT16(2, 2),
+    INT32(2, 4),
+    INT64(2, 8),
+    FLOAT32(3, 4),
+    FLOAT64(3, 8),
+    UTF8(5, 0),
+    BOOL(6, 0),
+    DATE_DAY(8, 4),
+    TIME_MICRO(9, 8),
+    TIMESTAMP_MICRO(10, 8);
+
+    private final int typeId;
+
+    /** Width in bytes of fixed width values, 0 for bit packed and variable width values. */
+    private final int width;
+
+    private Table typeTable() {
+      return switch (this) {
+        case INT8, INT16, INT32, INT64 ->
+            new Table().scalar(0, 4, width * 8L).scalar(1, 1, 1); // bitWidth, is_signed
+        case FLOAT32 -> new Table().scalar(0, 2, 1); // precision SINGLE
+        case FLOAT64 -> new Table().scalar(0, 2, 2); // precision DOUBLE
+        case DATE_DAY -> new Table().scalar(0, 2, 0); // unit DAY
+        case TIME_MICRO -> new Table().scalar(0, 2, 2).scalar(1, 4, 64); // unit, bitWidth
+        case TIMESTAMP_MICRO -> new Table().scalar(0, 2, 2); // unit, no timezone
+        case UTF8, BOOL -> new Table();
+      };
+    }
+  }
+
+  private final OutputStream output;
+
+  ArrowStreamWriter(OutputStream output) {
+    this.output = output;
+  }
+
+  /**
+   * Write the schema message.
+   *
+   * @param names column names
+   * @param types column types
+   * @param metadata schema metadata
+   */
+  void writeSchema(List<String> names, List<ArrowType> types, Map<String, String> metadata)
+      throws IOException {
+    List<Table> fields = new ArrayList<>(names.size());
+    for (int i = 0; i < names.size(); i++) {
+      fields.add(
+          new Table()
+              .offset(0, FlatBuffers.string(names.get(i)))
+              .scalar(1, 1, 1) // nullable
+              .scalar(2, 1, types.get(i).typeId)
+              .offset(3, types.get(i).typeTable())
+              .offset(5, FlatBuffers.vector(List.of()))); // children
+    }
+    List<Table> keyValues = new ArrayList<>();
+    metadata.forEach(
+        (key, value) ->
+            keyValues.add(
+                new Table()
+                    .offset(0, FlatBuffers.string(key))
+                    .offset(1, FlatBuffers.string(value))));
+    Table schema =
+        new Table()
+            .scalar(0, 2, 0) // little endian
+            .offset(1, FlatBuffers.vector(fields))
+            .offset(2, FlatBuffers.vector(keyValues));
+    writeMessage(HEADER_SCHEMA, schema, 0);
+  }
+
+  /**
+   * Write a record batch message.
+   *
+   * @param columns columns of the batch, all of the same length.
+   */
+  void writeRecordBatch(List<Column> columns) throws IOException {
+    int rowCount = columns.isEmpty() ? 0 : columns.getFirst().size;
+    List<byte[]> buffers = new ArrayList<>();
+    List<Integer> lengths = new ArrayList<>();
+    long[] nodes = new long[columns.size() * 2];
+    for (int i = 0; i < columns.size(); i++) {
+      Column column = columns.get(i);
+      nodes[2 * i] = column.size;
+      nodes[2 * i + 1] = column.nullCount;
+      column.buffers(buffers, lengths);
+    }
+    long[] bufferLayout = new long[buffers.size() * 2];
+    long bodyLength = 0;
+    for (int i = 0; i < buffers.size(); i++) {
+      bufferLayout[2 * i] = bodyLength;
+      bufferLayout[2 * i + 1] = lengths.get(i);
+      bodyLength += padded(lengths.get(i));
+    }
+    Table recordBatch =
+        new Table()
+            .scalar(0, 8, rowCount)
+            .offset(1, FlatBuffers.longPairVector(nodes))
+            .offset(2, FlatBuffers.longPairVector(bufferLayout));
+    writeMessage(HEADER_RECORD_BATCH, recordBatch, bodyLength);
+    for (int i = 0; i < buffers.size(); i++) {
+      output.write(buffers.get(i), 0, lengths.get(i));
+      output.write(PADDING, 0, padded(lengths.get(i)) - lengths.get(i));
+    }
+  }
+
+  /** Write the end of stream marker. */
+  void writeEndOfStream() throws IOException {
+    writeInt(CONTINUATION);
+    writeInt(0);
+  }
+
+  private void writeMessage(byte headerType, Table header, long bodyLength) throws IOException {
+    Table message =
+        new Table()
+            .scalar(0, 2, METADATA_VERSION_V5)
+            .scalar(1, 1, headerType)
+            .offset(2, header)
+            .scalar(3, 8, bodyLength);
+    byte[] metadata = FlatBuffers.encode(message);
+    writeInt(CONTINUATION);
+    writeInt(metadata.length);
+    output.write(metadata);
+  }
+
+  private void writeInt(int value) throws IOException {
+    output.write(value);
+    output.write(value >>> 8);
+    output.write(value >>> 16);
+    output.write(value >>> 24);
+  }
+
+  private static int padded(int length) {
+    return (length + 7) & ~7;
+  }
+
+  /** Values of a column in the current batch. */
+  static final class Column {
+    private final ArrowType type;
+    private int size;
+    private int nullCount;
+    private byte[] validity = new byte[8];
+    private byte[] values = new byte[64];
+    private int valuesLength;
+    private int[] offsets;
+
+    Column(ArrowType type) {
+      this.type = type;
+      this.offsets = type == ArrowType.UTF8 ? new int[16] : null;
+    }
+
+    int size() {
+      return size;
+    }
+
+    void addNull() {
+      ensureBits(size + 1);
+      nullCount++;
+      switch (type) {
+        case UTF8 -> addOffset();
+        case BOOL -> {}
+        default -> reserve(type.width);
+      }
+      size++;
+    }
+
+    void addLong(long value) {
+      ensureBits(size + 1);
+      setBit(validity, size);
+      int pos = reserve(type.width);
+      for (int i = 0; i < type.width; i++) {
+        values[pos + i] = (byte) (value >>> (8 * i));
+      }
+      size++;
+    }
+
+    void addDouble(double value) {
+      if (type == ArrowType.FLOAT32) {
+        addLong(Float.floatToIntBits((float) value));
+      } else {
+        addLong(Double.doubleToLongBits(value));
+      }
+    }
+
+    void addBoolean(boolean value) {
+      ensureBits(size + 1);
+      setBit(validity, size);
+      if (value) {
+        setBit(values, size);
+      }
+      size++;
+    }
+
+    void addString(String value) {
+      ensureBits(size + 1);
+      setBit(validity, size);
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      int pos = reserve(bytes.length);
+      System.arraycopy(bytes, 0, values, pos, bytes.length);
+      addOffset();
+      size++;
+    }
+
+    /** Clear values for the next batch. */
+    void reset() {
+      Arrays.fill(validity, (byte) 0);
+      Arrays.fill(values, 0, type == ArrowType.BOOL ? values.length : valuesLength, (byte) 0);
+      size = 0;
+      nullCount = 0;
+      valuesLength = 0;
+    }
+
+    private void buffers(List<byte[]> buffers, List<Integer> lengths) {
+      int bitmapLength = (size + 7) / 8;
+      buffers.add(validity);
+      lengths.add(nullCount == 0 ? 0 : bitmapLength);
+      if (type == ArrowType.UTF8) {
+        byte[] offsetBytes = new byte[(size + 1) * 4];
+        for (int i = 0; i < size; i++) {
+          int offset = offsets[i + 1];
+          for (int b = 0; b < 4; b++) {
+            offsetBytes[4 * (i + 1) + b] = (byte) (offset >>> (8 * b));
+          }
+        }
+        buffers.add(offsetBytes);
+        lengths.add(offsetBytes.length);
+      }
+      buffers.add(values);
+      lengths.add(type == ArrowType.BOOL ? bitmapLength : valuesLength);
+    }
+
+    private void addOffset() {
+      if (size + 2 > offsets.length) {
+        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+      }
+      offsets[size + 1] = valuesLength;
+    }
+
+    private int reserve(int length) {
+      if (valuesLength + length > values.length) {
+        values = Arrays.copyOf(values, Math.max(valuesLength + length, values.length * 2));
+      }
+      int pos = valuesLength;
+      valuesLength += length;
+      return pos;
+    }
+
+    private void ensureBits(int bits) {
+      int bytes = (bits + 7) / 8;
+      if (bytes > validity.length) {
+        validity = Arrays.copyOf(validity, validity.length * 2);
+      }
+      if (type == ArrowType.BOOL && bytes > values.length) {
+        values = Arrays.copyOf(values, values.length * 2);
+      }
+    }
+
+    private static void setBit(byte[] bitmap, int index) {
+      bitmap[index >> 3] |= (byte) (1 << (index & 7));
+    }
+  }
+
+  /** @return the timestamp in microseconds since the epoch. */
+  static long epochMicros(Instant instant) {
+    return Math.addExact(
+        Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+  }
+}
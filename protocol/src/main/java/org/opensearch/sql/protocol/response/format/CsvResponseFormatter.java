@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.io.IOException;
+import java.io.Writer;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Response formatter to format response to csv format. */
@@ -28,13 +30,20 @@ public class CsvResponseFormatter implements ResponseFormatter<QueryResult> {
 
   @Override
   public String format(QueryResult response) {
-    FlatResponseBase flatResponse;
+    return flatResponse(response).format();
+  }
+
+  @Override
+  public void format(QueryResult response, Writer writer) throws IOException {
+    flatResponse(response).format(writer);
+  }
+
+  private FlatResponseBase flatResponse(QueryResult response) {
     if (sanitize) {
-      flatResponse = new FlatResponseWithSanitizer(response, separator);
+      return new FlatResponseWithSanitizer(response, separator);
     } else {
-      flatResponse = new FlatResponseBase(response, separator);
+      return new FlatResponseBase(response, separator);
     }
-    return flatResponse.format();
   }
 
   @Override
@@ -6,6 +6,9 @@
 package org.opensearch.sql.protocol.response.format;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import lombok.Getter;
@@ -50,6 +53,22 @@ public class ErrorFormatter {
         (PrivilegedAction<String>) () -> PRETTY_PRINT_GSON.toJson(jsonObject));
   }
 
+  /** Util method to create a JSON writer with the same style as the jsonify methods. */
+  public static JsonWriter newJsonWriter(Writer writer, boolean pretty) throws IOException {
+    return (pretty ? PRETTY_PRINT_GSON : GSON).newJsonWriter(writer);
+  }
+
+  /** Util method to write {@link Object} as a JSON value to a JSON writer. */
+  public static void jsonify(Object jsonObject, JsonWriter writer, boolean pretty) {
+    Gson gson = pretty ? PRETTY_PRINT_GSON : GSON;
+    AccessController.doPrivileged(
+        (PrivilegedAction<Void>)
+            () -> {
+              gson.toJson(jsonObject, jsonObject.getClass(), writer);
+              return null;
+            });
+  }
+
   @RequiredArgsConstructor
   @Getter
   public static class JsonError {
@@ -0,0 +1,221 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Minimal FlatBuffers encoder, enough for the Arrow IPC metadata written by {@link
+ * ArrowStreamWriter}. Objects are laid out front to back: a table is followed by the objects it
+ * references, so all offsets point forward as the format requires.
+ */
+final class FlatBuffers {
+
+  private FlatBuffers() {}
+
+  /**
+   * Encode a root table.
+   *
+   * @param root root table
+   * @return encoded buffer, its size is a multiple of 8.
+   */
+  static byte[] encode(Table root) {
+    Output out = new Output();
+    out.putInt(0);
+    int rootPos = root.write(out);
+    out.putIntAt(0, rootPos);
+    out.align(8);
+    return out.toByteArray();
+  }
+
+  /** Object which can be referenced by an offset. */
+  abstract static class Node {
+    /**
+     * Write the object and the objects it references.
+     *
+     * @return position of the object, where offsets referencing it point to.
+     */
+    abstract int write(Output out);
+  }
+
+  /** Table with scalar and offset fields, identified by their id in the schema. */
+  static final class Table extends Node {
+    private final List<Slot> slots = new ArrayList<>();
+
+    /** Add a scalar field of 1, 2, 4 or 8 bytes. */
+    Table scalar(int id, int size, long value) {
+      slots.add(new Slot(id, size, value, null));
+      return this;
+    }
+
+    /** Add a field referencing another object. */
+    Table offset(int id, Node child) {
+      slots.add(new Slot(id, 4, 0, child));
+      return this;
+    }
+
+    @Override
+    int write(Output out) {
+      int fieldCount = slots.stream().mapToInt(slot -> slot.id + 1).max().orElse(0);
+      int[] fieldOffsets = new int[fieldCount];
+      int alignment = 4;
+      int tableSize = 4;
+      List<Slot> bySize = new ArrayList<>(slots);
+      bySize.sort(Comparator.comparingInt((Slot slot) -> slot.size).reversed());
+      for (Slot slot : bySize) {
+        tableSize = alignUp(tableSize, slot.size);
+        fieldOffsets[slot.id] = tableSize;
+        tableSize += slot.size;
+        alignment = Math.max(alignment, slot.size);
+      }
+
+      out.align(2);
+      int vtablePos = out.position();
+      out.putShort(4 + 2 * fieldCount);
+      out.putShort(tableSize);
+      Arrays.stream(fieldOffsets).forEach(out::putShort);
+
+      out.align(alignment);
+      int tablePos = out.position();
+      out.putInt(tablePos - vtablePos);
+      out.skip(tableSize - 4);
+      for (Slot slot : slots) {
+        if (slot.child == null) {
+          out.putAt(tablePos + fieldOffsets[slot.id], slot.size, slot.value);
+        }
+      }
+      for (Slot slot : slots) {
+        if (slot.child != null) {
+          int fieldPos = tablePos + fieldOffsets[slot.id];
+          out.putIntAt(fieldPos, slot.child.write(out) - fieldPos);
+        }
+      }
+      return tablePos;
+    }
+
+    private record Slot(int id, int size, long value, Node child) {}
+  }
+
+  /** Null terminated UTF-8 string. */
+  static Node string(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    return new Node() {
+      @Override
+      int write(Output out) {
+        out.align(4);
+        int pos = out.position();
+        out.putInt(bytes.length);
+        out.putBytes(bytes);
+        out.putAt(out.position(), 1, 0);
+        return pos;
+      }
+    };
+  }
+
+  /** Vector of tables or strings. */
+  static Node vector(List<? extends Node> elements) {
+    return new Node() {
+      @Override
+      int write(Output out) {
+        out.align(4);
+        int pos = out.position();
+        out.putInt(elements.size());
+        out.skip(4 * elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+          int elementPos = pos + 4 + 4 * i;
+          out.putIntAt(elementPos, elements.get(i).write(out) - elementPos);
+        }
+        return pos;
+      }
+    };
+  }
+
+  /**
+   * Vector of structs made of two longs, e.g. Arrow FieldNode and Buffer.
+   *
+   * @param values the fields of all structs, two per struct.
+   */
+  static Node longPairVector(long[] values) {
+    return new Node() {
+      @Override
+      int write(Output out) {
+        // the elements after the length must be 8 bytes aligned.
+        out.align(4);
+        if (out.position() % 8 == 0) {
+          out.skip(4);
+        }
+        int pos = out.position();
+        out.putInt(values.length / 2);
+        Arrays.stream(values).forEach(value -> out.putAt(out.position(), 8, value));
+        return pos;
+      }
+    };
+  }
+
+  private static int alignUp(int position, int alignment) {
+    return (position + alignment - 1) / alignment * alignment;
+  }
+
+  /** Little endian output which can patch the bytes it has written. */
+  static final class Output {
+    private byte[] buffer = new byte[256];
+    private int size;
+
+    int position() {
+      return size;
+    }
+
+    void align(int alignment) {
+      skip(alignUp(size, alignment) - size);
+    }
+
+    void skip(int length) {
+      ensureCapacity(size + length);
+      size += length;
+    }
+
+    void putShort(int value) {
+      putAt(size, 2, value);
+    }
+
+    void putInt(int value) {
+      putAt(size, 4, value);
+    }
+
+    void putIntAt(int pos, int value) {
+      putAt(pos, 4, value);
+    }
+
+    void putBytes(byte[] bytes) {
+      ensureCapacity(size + bytes.length);
+      System.arraycopy(bytes, 0, buffer, size, bytes.length);
+      size += bytes.length;
+    }
+
+    /** Write a value at a position, the output is extended if the position is at its end. */
+    void putAt(int pos, int width, long value) {
+      ensureCapacity(pos + width);
+      for (int i = 0; i < width; i++) {
+        buffer[pos + i] = (byte) (value >>> (8 * i));
+      }
+      size = Math.max(size, pos + width);
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+      if (capacity > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+      }
+    }
+  }
+}
@@ -5,14 +5,19 @@
 
 package org.opensearch.sql.protocol.response.format;
 
-import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 import org.opensearch.sql.protocol.response.QueryResult;
 
+/**
+ * Flat response with one line per row and cells joined by a separator. Rows are formatted and
+ * written one at a time, so the response never exists as both a list of cells and a string.
+ */
 @Getter
 public class FlatResponseBase {
   protected static final String INTERLINE_SEPARATOR = System.lineSeparator();
@@ -21,74 +26,94 @@ public class FlatResponseBase {
   protected final String separator;
 
   private final List<String> headers;
-  private final List<List<String>> data;
 
   FlatResponseBase(QueryResult response, String separator) {
     this.response = response;
     this.separator = separator;
     this.headers = getOriginalHeaders(response);
-    this.data = getOriginalData(response);
   }
 
   public String format() {
-    List<String> headersAndData = new ArrayList<>();
-    headersAndData.add(getHeaderLine());
-    headersAndData.addAll(getDataLines());
-    return String.join(INTERLINE_SEPARATOR, headersAndData);
+    StringWriter writer = new StringWriter();
+    try {
+      format(writer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return writer.toString();
   }
 
-  protected String getHeaderLine() {
-    return String.join(separator, headers);
+  /**
+   * Write the header line followed by the data lines.
+   *
+   * @param writer output
+   */
+  public void format(Writer writer) throws IOException {
+    writeLine(writer, headers);
+    for (Object[] row : response) {
+      writer.write(INTERLINE_SEPARATOR);
+      for (int i = 0; i < row.length; i++) {
+        if (i > 0) {
+          writer.write(separator);
+        }
+        writer.write(formatCell(cellValue(row[i])));
+      }
+    }
   }
 
-  private List<String> getOriginalHeaders(QueryResult response) {
-    ImmutableList.Builder<String> headers = ImmutableList.builder();
-    response.columnNameTypes().forEach((column, type) -> headers.add(column));
-    List<String> result = headers.build();
-    return formatHeaders(result);
+  /**
+   * Formatted data lines. They are all kept in memory, only use it when the whole data is required
+   * before the first line is written.
+   */
+  protected List<List<String>> getData() {
+    List<List<String>> data = new ArrayList<>(response.size());
+    for (Object[] row : response) {
+      List<String> line = new ArrayList<>(row.length);
+      for (Object value : row) {
+        line.add(formatCell(cellValue(value)));
+      }
+      data.add(line);
+    }
+    return data;
   }
 
-  protected List<String> getDataLines() {
-    return data.stream().map(v -> String.join(separator, v)).collect(Collectors.toList());
+  protected void writeLine(Writer writer, List<String> line) throws IOException {
+    for (int i = 0; i < line.size(); i++) {
+      if (i > 0) {
+        writer.write(separator);
+      }
+      writer.write(line.get(i));
+    }
   }
 
-  private List<List<String>> getOriginalData(QueryResult response) {
-    ImmutableList.Builder<List<String>> dataLines = new ImmutableList.Builder<>();
-    response
-        .iterator()
-        .forEachRemaining(
-            row -> {
-              ImmutableList.Builder<String> line = new ImmutableList.Builder<>();
-              // replace null values with empty string
-              Arrays.asList(row).forEach(val -> line.add(val == null ? "" : val.toString()));
-              dataLines.add(line.build());
-            });
-    List<List<String>> result = dataLines.build();
-    return formatData(result);
+  private List<String> getOriginalHeaders(QueryResult response) {
+    List<String> result = new ArrayList<>();
+    response.columnNameTypes().forEach((column, type) -> result.add(formatCell(column)));
+    return result;
   }
 
-  protected List<String> formatHeaders(List<String> headers) {
-    return headers.stream()
-        .map(cell -> quoteIfRequired(separator, cell))
-        .collect(Collectors.toList());
+  /** replace null values with empty string. */
+  private static String cellValue(Object value) {
+    return value == null ? "" : value.toString();
   }
 
-  protected List<List<String>> formatData(List<List<String>> lines) {
-    List<List<String>> result = new ArrayList<>();
-    for (List<String> line : lines) {
-      result.add(
-          line.stream().map(cell -> quoteIfRequired(separator, cell)).collect(Collectors.toList()));
-    }
-    return result;
+  /**
+   * Format a header or data cell.
+   *
+   * @param cell raw cell
+   * @return cell as written in the response
+   */
+  protected String formatCell(String cell) {
+    return quoteIfRequired(separator, cell);
   }
 
   protected String quoteIfRequired(String separator, String cell) {
     final String quote = "\"";
     if (cell.contains(separator)
-        || cell.contains(quote)
-        || cell.contains("\r")
-        || cell.contains("\n")) {
-      return quote + cell.replaceAll(quote, quote + quote) + quote;
+        || cell.indexOf('"') >= 0
+        || cell.indexOf('\r') >= 0
+        || cell.indexOf('\n') >= 0) {
+      return quote + cell.replace(quote, quote + quote) + quote;
     } else {
       return cell;
     }
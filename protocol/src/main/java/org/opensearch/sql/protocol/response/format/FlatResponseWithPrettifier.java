@@ -5,49 +5,54 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import org.opensearch.sql.protocol.response.QueryResult;
 
+/** Flat response with columns padded to their widest cell, so all data is formatted up front. */
 public class FlatResponseWithPrettifier extends FlatResponseBase {
-  private int[] maxWidths;
 
   FlatResponseWithPrettifier(QueryResult response, String inlineSeparator) {
     super(response, inlineSeparator);
-    calculateMaxWidths();
   }
 
-  private void calculateMaxWidths() {
+  @Override
+  public void format(Writer writer) throws IOException {
+    List<List<String>> data = getData();
+    int[] maxWidths = calculateMaxWidths(data);
+    prettyFormatLine(writer, getHeaders(), maxWidths);
+    for (List<String> row : data) {
+      writer.write(INTERLINE_SEPARATOR);
+      prettyFormatLine(writer, row, maxWidths);
+    }
+  }
+
+  private int[] calculateMaxWidths(List<List<String>> data) {
     int columns = getHeaders().size();
-    maxWidths = new int[columns];
+    int[] maxWidths = new int[columns];
 
     for (int i = 0; i < columns; i++) {
       int maxWidth = getHeaders().get(i).length();
-      for (List<String> row : getData()) {
+      for (List<String> row : data) {
         maxWidth = Math.max(maxWidth, row.get(i).length());
       }
       maxWidths[i] = maxWidth;
     }
+    return maxWidths;
   }
 
-  @Override
-  protected List<String> getDataLines() {
-    return getData().stream().map(this::prettyFormatLine).collect(Collectors.toList());
-  }
-
-  @Override
-  protected String getHeaderLine() {
-    return prettyFormatLine(getHeaders());
-  }
-
-  private String prettyFormatLine(List<String> line) {
-    return IntStream.range(0, line.size())
-        .mapToObj(i -> padRight(line.get(i), maxWidths[i]))
-        .collect(Collectors.joining(separator));
-  }
-
-  private String padRight(String s, int n) {
-    return String.format("%-" + n + "s", s);
+  private void prettyFormatLine(Writer writer, List<String> line, int[] maxWidths)
+      throws IOException {
+    for (int i = 0; i < line.size(); i++) {
+      if (i > 0) {
+        writer.write(separator);
+      }
+      String cell = line.get(i);
+      writer.write(cell);
+      for (int pad = cell.length(); pad < maxWidths[i]; pad++) {
+        writer.write(' ');
+      }
+    }
   }
 }
@@ -1,10 +1,7 @@
 package org.opensearch.sql.protocol.response.format;
 
 import com.google.common.collect.ImmutableSet;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /**
@@ -18,26 +15,13 @@ public class FlatResponseWithSanitizer extends FlatResponseBase {
     super(response, inlineSeparator);
   }
 
-  /** Sanitize headers because OpenSearch allows special character present in field names. */
+  /**
+   * Sanitize headers because OpenSearch allows special character present in field names, and data
+   * cells.
+   */
   @Override
-  protected List<String> formatHeaders(List<String> headers) {
-    return headers.stream()
-        .map(this::sanitizeCell)
-        .map(cell -> quoteIfRequired(separator, cell))
-        .collect(Collectors.toList());
-  }
-
-  @Override
-  protected List<List<String>> formatData(List<List<String>> lines) {
-    List<List<String>> result = new ArrayList<>();
-    for (List<String> line : lines) {
-      result.add(
-          line.stream()
-              .map(this::sanitizeCell)
-              .map(cell -> quoteIfRequired(separator, cell))
-              .collect(Collectors.toList()));
-    }
-    return result;
+  protected String formatCell(String cell) {
+    return quoteIfRequired(separator, sanitizeCell(cell));
   }
 
   private String sanitizeCell(String cell) {
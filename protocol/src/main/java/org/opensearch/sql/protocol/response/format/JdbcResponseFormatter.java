@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -47,6 +49,26 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
     return json.build();
   }
 
+  /** Same JSON as {@link #buildJsonObject(QueryResult)}, with data rows written one by one. */
+  @Override
+  protected void writeJson(QueryResult response, JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("schema");
+    jsonify(response.getSchema().getColumns().stream().map(this::fetchColumn).toList(), writer);
+    writer.name("datarows").beginArray();
+    for (Object[] values : response) {
+      jsonify(values, writer);
+    }
+    writer.endArray();
+    writer.name("total").value(response.size());
+    writer.name("size").value(response.size());
+    writer.name("status").value(200);
+    if (!response.getCursor().equals(Cursor.None)) {
+      writer.name("cursor").value(response.getCursor().toString());
+    }
+    writer.endObject();
+  }
+
   @Override
   public String format(Throwable t) {
     int status = getStatus(t);
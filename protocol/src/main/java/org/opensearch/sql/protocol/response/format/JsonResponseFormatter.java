@@ -11,6 +11,9 @@ import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyF
 import static org.opensearch.sql.protocol.response.format.ErrorFormatter.prettyJsonify;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +42,13 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
     return jsonify(buildJsonObject(response));
   }
 
+  @Override
+  public void format(R response, Writer writer) throws IOException {
+    JsonWriter jsonWriter = ErrorFormatter.newJsonWriter(writer, style == PRETTY);
+    writeJson(response, jsonWriter);
+    jsonWriter.flush();
+  }
+
   @Override
   public String format(Throwable t) {
     return AccessController.doPrivileged(
@@ -57,6 +67,21 @@ public abstract class JsonResponseFormatter<R> implements ResponseFormatter<R> {
    */
   protected abstract Object buildJsonObject(R response);
 
+  /**
+   * Write the JSON object of the response. Subclasses override it to write large parts of the
+   * response, such as data rows, one element at a time instead of building the JSON object.
+   *
+   * @param response response
+   * @param writer JSON writer
+   */
+  protected void writeJson(R response, JsonWriter writer) throws IOException {
+    jsonify(buildJsonObject(response), writer);
+  }
+
+  protected void jsonify(Object jsonObject, JsonWriter writer) {
+    ErrorFormatter.jsonify(jsonObject, writer, style == PRETTY);
+  }
+
   protected String jsonify(Object jsonObject) {
     return AccessController.doPrivileged(
         (PrivilegedAction<String>)
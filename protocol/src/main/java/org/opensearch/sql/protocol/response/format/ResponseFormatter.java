@@ -5,6 +5,12 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 /** Response formatter to format response to different formats. */
 public interface ResponseFormatter<R> {
 
@@ -16,6 +22,29 @@ public interface ResponseFormatter<R> {
    */
   String format(R response);
 
+  /**
+   * Format response and write it to the writer. Formatters that can produce their content
+   * incrementally override it to avoid building the whole response as one string.
+   *
+   * @param response response
+   * @param writer output
+   */
+  default void format(R response, Writer writer) throws IOException {
+    writer.write(format(response));
+  }
+
+  /**
+   * Format response and write it to the output, UTF-8 encoded for text formats.
+   *
+   * @param response response
+   * @param output output
+   */
+  default void format(R response, OutputStream output) throws IOException {
+    Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    format(response, writer);
+    writer.flush();
+  }
+
   /**
    * Format an exception into string.
    *
@@ -5,11 +5,15 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Singular;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /**
@@ -47,9 +51,39 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
     response.columnNameTypes().forEach((name, type) -> json.column(new Column(name, type)));
 
     json.datarows(fetchDataRows(response));
+    if (hasCursor(response)) {
+      json.cursor(response.getCursor().toString());
+    }
     return json.build();
   }
 
+  /** Same JSON as {@link #buildJsonObject(QueryResult)}, with data rows written one by one. */
+  @Override
+  protected void writeJson(QueryResult response, JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name("schema").beginArray();
+    for (Map.Entry<String, String> column : response.columnNameTypes().entrySet()) {
+      jsonify(new Column(column.getKey(), column.getValue()), writer);
+    }
+    writer.endArray();
+    writer.name("datarows").beginArray();
+    for (Object[] values : response) {
+      jsonify(values, writer);
+    }
+    writer.endArray();
+    writer.name("total").value(response.size());
+    writer.name("size").value(response.size());
+    if (hasCursor(response)) {
+      writer.name("cursor").value(response.getCursor().toString());
+    }
+    writer.endObject();
+  }
+
+  /** @return true if the response is a page of a paginated query with more pages. */
+  private static boolean hasCursor(QueryResult response) {
+    return response.getCursor() != null && !response.getCursor().equals(Cursor.None);
+  }
+
   private Object[][] fetchDataRows(QueryResult response) {
     Object[][] rows = new Object[response.size()][];
     int i = 0;
@@ -70,6 +104,7 @@ public class SimpleJsonResponseFormatter extends JsonResponseFormatter<QueryResu
 
     private long total;
     private long size;
+    private final String cursor;
   }
 
   @RequiredArgsConstructor
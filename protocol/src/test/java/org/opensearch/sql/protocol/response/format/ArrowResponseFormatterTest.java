@@ -0,0 +1,255 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.protocol.response.QueryResult;
+
+class ArrowResponseFormatterTest {
+
+  private final ArrowResponseFormatter formatter = new ArrowResponseFormatter();
+
+  private final ExecutionEngine.Schema schema =
+      new ExecutionEngine.Schema(
+          ImmutableList.of(
+              new ExecutionEngine.Schema.Column("age", null, INTEGER),
+              new ExecutionEngine.Schema.Column("name", "n", STRING),
+              new ExecutionEngine.Schema.Column("address", null, STRUCT)));
+
+  @Test
+  void formatSchemaAndRecordBatch() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            schema,
+            List.of(
+                tupleValue(
+                    ImmutableMap.of("age", 20, "name", "John", "address", ImmutableMap.of("c", 1))),
+                ExprTupleValue.fromExprValueMap(
+                    ImmutableMap.of(
+                        "age", LITERAL_NULL, "name", stringValue("Ann"), "address", LITERAL_NULL))),
+            new Cursor("test_cursor"));
+
+    List<Message> messages = read(format(response));
+    assertEquals(2, messages.size());
+
+    Table schemaTable = messages.get(0).header;
+    List<Table> fields = schemaTable.tables(1);
+    assertEquals(3, fields.size());
+    assertEquals("age", fields.get(0).string(0));
+    assertEquals(2, fields.get(0).uint8(2)); // Int
+    assertEquals(32, fields.get(0).table(3).int32(0));
+    assertEquals("n", fields.get(1).string(0));
+    assertEquals(5, fields.get(1).uint8(2)); // Utf8
+    assertEquals("address", fields.get(2).string(0));
+    assertEquals(5, fields.get(2).uint8(2));
+    Table cursor = schemaTable.tables(2).get(0);
+    assertEquals("cursor", cursor.string(0));
+    assertEquals("test_cursor", cursor.string(1));
+
+    Message batch = messages.get(1);
+    assertEquals(2, batch.header.int64(0));
+    long[] buffers = batch.header.longPairs(2);
+    // age: validity, values; n: validity, offsets, data; address: validity, offsets, data
+    assertEquals(16, buffers.length);
+    ByteBuffer body = ByteBuffer.wrap(batch.body).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(0b01, body.get((int) buffers[0]));
+    assertEquals(20, body.getInt((int) buffers[2]));
+    assertEquals("JohnAnn", utf8(batch.body, buffers[8], buffers[9]));
+    assertEquals("{\"c\":1}", utf8(batch.body, buffers[14], buffers[15]));
+  }
+
+  @Test
+  void readByArrowStreamReader() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            schema,
+            List.of(
+                tupleValue(
+                    ImmutableMap.of("age", 20, "name", "John", "address", ImmutableMap.of("c", 1))),
+                ExprTupleValue.fromExprValueMap(
+                    ImmutableMap.of(
+                        "age", LITERAL_NULL, "name", stringValue("Ann"), "address", LITERAL_NULL))),
+            new Cursor("test_cursor"));
+
+    try (BufferAllocator allocator = new RootAllocator();
+        ArrowStreamReader reader =
+            new ArrowStreamReader(new ByteArrayInputStream(format(response)), allocator)) {
+      VectorSchemaRoot root = reader.getVectorSchemaRoot();
+      assertEquals(
+          List.of("age", "n", "address"),
+          root.getSchema().getFields().stream().map(Field::getName).toList());
+      assertEquals("test_cursor", root.getSchema().getCustomMetadata().get("cursor"));
+
+      assertTrue(reader.loadNextBatch());
+      assertEquals(2, root.getRowCount());
+      IntVector age = (IntVector) root.getVector("age");
+      assertEquals(20, age.get(0));
+      assertTrue(age.isNull(1));
+      VarCharVector name = (VarCharVector) root.getVector("n");
+      assertEquals("John", new String(name.get(0), StandardCharsets.UTF_8));
+      assertEquals("Ann", new String(name.get(1), StandardCharsets.UTF_8));
+      VarCharVector address = (VarCharVector) root.getVector("address");
+      assertEquals("{\"c\":1}", new String(address.get(0), StandardCharsets.UTF_8));
+      assertTrue(address.isNull(1));
+      assertFalse(reader.loadNextBatch());
+    }
+  }
+
+  @Test
+  void formatInBatches() throws IOException {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < ArrowResponseFormatter.BATCH_SIZE + 1; i++) {
+      rows.add(
+          ExprTupleValue.fromExprValueMap(
+              ImmutableMap.of(
+                  "age", integerValue(i), "name", stringValue("a"), "address", LITERAL_NULL)));
+    }
+    List<Message> messages = read(format(new QueryResult(schema, rows)));
+    assertEquals(3, messages.size());
+    assertEquals(ArrowResponseFormatter.BATCH_SIZE, messages.get(1).header.int64(0));
+    assertEquals(1, messages.get(2).header.int64(0));
+    long[] buffers = messages.get(2).header.longPairs(2);
+    ByteBuffer body = ByteBuffer.wrap(messages.get(2).body).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(ArrowResponseFormatter.BATCH_SIZE, body.getInt((int) buffers[2]));
+  }
+
+  @Test
+  void formatAsString() throws IOException {
+    QueryResult response = new QueryResult(schema, List.of());
+    assertArrayEquals(format(response), Base64.getDecoder().decode(formatter.format(response)));
+  }
+
+  private byte[] format(QueryResult response) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    formatter.format(response, output);
+    return output.toByteArray();
+  }
+
+  private static String utf8(byte[] body, long offset, long length) {
+    return new String(body, (int) offset, (int) length, StandardCharsets.UTF_8);
+  }
+
+  /** Read the messages of an Arrow IPC stream, up to the end of stream marker. */
+  private static List<Message> read(byte[] stream) {
+    ByteBuffer buffer = ByteBuffer.wrap(stream).order(ByteOrder.LITTLE_ENDIAN);
+    List<Message> messages = new ArrayList<>();
+    while (true) {
+      assertEquals(0xFFFFFFFF, buffer.getInt());
+      int length = buffer.getInt();
+      if (length == 0) {
+        assertEquals(stream.length, buffer.position());
+        return messages;
+      }
+      assertEquals(0, (buffer.position() + length) % 8);
+      ByteBuffer metadata = buffer.slice(buffer.position(), length).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.position(buffer.position() + length);
+      Table message = new Table(metadata, metadata.getInt(0));
+      assertEquals(4, message.int16(0)); // V5
+      byte[] body = new byte[(int) message.int64(3)];
+      buffer.get(body);
+      messages.add(new Message(message.table(2), body));
+    }
+  }
+
+  private record Message(Table header, byte[] body) {}
+
+  /** FlatBuffers table reader. */
+  private record Table(ByteBuffer buffer, int position) {
+    private int field(int id) {
+      int vtable = position - buffer.getInt(position);
+      int offset = 4 + 2 * id < buffer.getShort(vtable) ? buffer.getShort(vtable + 4 + 2 * id) : 0;
+      return offset == 0 ? -1 : position + offset;
+    }
+
+    private int deref(int id) {
+      int field = field(id);
+      return field + buffer.getInt(field);
+    }
+
+    int uint8(int id) {
+      return buffer.get(field(id)) & 0xFF;
+    }
+
+    int int16(int id) {
+      return buffer.getShort(field(id));
+    }
+
+    int int32(int id) {
+      return buffer.getInt(field(id));
+    }
+
+    long int64(int id) {
+      int field = field(id);
+      assertEquals(0, field % 8);
+      return buffer.getLong(field);
+    }
+
+    Table table(int id) {
+      return new Table(buffer, deref(id));
+    }
+
+    String string(int id) {
+      int string = deref(id);
+      byte[] bytes = new byte[buffer.getInt(string)];
+      buffer.get(string + 4, bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    List<Table> tables(int id) {
+      int vector = deref(id);
+      List<Table> tables = new ArrayList<>();
+      for (int i = 0; i < buffer.getInt(vector); i++) {
+        int element = vector + 4 + 4 * i;
+        tables.add(new Table(buffer, element + buffer.getInt(element)));
+      }
+      return tables;
+    }
+
+    long[] longPairs(int id) {
+      int vector = deref(id);
+      assertEquals(0, (vector + 4) % 8);
+      long[] values = new long[buffer.getInt(vector) * 2];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = buffer.getLong(vector + 4 + 8 * i);
+      }
+      return values;
+    }
+  }
+}
@@ -17,6 +17,8 @@ import static org.opensearch.sql.protocol.response.format.CsvResponseFormatter.C
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -166,4 +168,23 @@ public class CsvResponseFormatterTest {
   void testContentType() {
     assertEquals(formatter.contentType(), CONTENT_TYPE);
   }
+
+  @Test
+  void formatResponseToWriter() throws IOException {
+    ExecutionEngine.Schema schema =
+        new ExecutionEngine.Schema(
+            ImmutableList.of(
+                new ExecutionEngine.Schema.Column("=name", "=name", STRING),
+                new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    QueryResult response =
+        new QueryResult(
+            schema,
+            Arrays.asList(
+                tupleValue(ImmutableMap.of("=name", "John,\"Jr\"", "age", 20)),
+                tupleValue(ImmutableMap.of("=name", "@Smith", "age", 30))));
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    String expected = "'=name,age%n\"John,\"\"Jr\"\"\",20%n'@Smith,30";
+    assertEquals(format(expected), writer.toString());
+  }
 }
@@ -21,6 +21,8 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -210,4 +212,24 @@ class JdbcResponseFormatterTest {
   private static void assertJsonEquals(String expected, String actual) {
     assertEquals(JsonParser.parseString(expected), JsonParser.parseString(actual));
   }
+
+  @Test
+  void format_response_to_writer_matches_format() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            new Schema(
+                ImmutableList.of(
+                    new Column("name", "name", STRING), new Column("age", "age", INTEGER))),
+            Arrays.asList(
+                tupleValue(ImmutableMap.of("name", "John", "age", 20)),
+                ExprTupleValue.fromExprValueMap(
+                    ImmutableMap.of("name", stringValue("Smith"), "age", LITERAL_NULL))),
+            new Cursor("test_cursor"));
+    for (JsonResponseFormatter.Style style : JsonResponseFormatter.Style.values()) {
+      JdbcResponseFormatter jdbcFormatter = new JdbcResponseFormatter(style);
+      StringWriter writer = new StringWriter();
+      jdbcFormatter.format(response, writer);
+      assertEquals(jdbcFormatter.format(response), writer.toString());
+    }
+  }
 }
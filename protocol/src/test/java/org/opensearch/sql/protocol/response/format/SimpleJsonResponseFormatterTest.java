@@ -16,10 +16,13 @@ import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 class SimpleJsonResponseFormatterTest {
@@ -178,4 +181,38 @@ class SimpleJsonResponseFormatterTest {
             + "}",
         formatter.format(new RuntimeException("This is an exception")));
   }
+
+  @Test
+  void formatResponseToWriter() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            schema,
+            Arrays.asList(
+                tupleValue(ImmutableMap.of("firstname", "John", "age", 20)),
+                tupleValue(ImmutableMap.of("firstname", "Smith", "age", 30))));
+    for (JsonResponseFormatter.Style style : JsonResponseFormatter.Style.values()) {
+      SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(style);
+      StringWriter writer = new StringWriter();
+      formatter.format(response, writer);
+      assertEquals(formatter.format(response), writer.toString());
+    }
+  }
+
+  @Test
+  void formatResponseWithCursor() throws IOException {
+    QueryResult response =
+        new QueryResult(
+            schema,
+            Arrays.asList(tupleValue(ImmutableMap.of("firstname", "John", "age", 20))),
+            new Cursor("c:id"));
+    SimpleJsonResponseFormatter formatter = new SimpleJsonResponseFormatter(COMPACT);
+    assertEquals(
+        "{\"schema\":[{\"name\":\"firstname\",\"type\":\"string\"},"
+            + "{\"name\":\"age\",\"type\":\"integer\"}],\"datarows\":"
+            + "[[\"John\",20]],\"total\":1,\"size\":1,\"cursor\":\"c:id\"}",
+        formatter.format(response));
+    StringWriter writer = new StringWriter();
+    formatter.format(response, writer);
+    assertEquals(formatter.format(response), writer.toString());
+  }
 }